@@ -6,6 +6,7 @@ import com.dongkuk.weighing.audit.dto.AuditLogResponse;
 import com.dongkuk.weighing.audit.dto.AuditSearchCondition;
 import com.dongkuk.weighing.audit.service.AuditLogService;
 import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +54,25 @@ public class AuditLogController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /** 감사 로그 목록을 커서(키셋) 방식으로 조회한다. 전체 건수는 includeTotal 지정 시 근사값으로만 제공한다. */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<AuditLogResponse>>> scrollAuditLogs(
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) AuditActionType actionType,
+            @RequestParam(required = false) AuditEntityType entityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        AuditSearchCondition condition = new AuditSearchCondition(
+                actorId, actionType, entityType, startDate, endDate
+        );
+        CursorSlice<AuditLogResponse> response = auditLogService.scrollAuditLogs(condition, after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /** 특정 감사 로그의 상세 정보를 조회한다. */
     @GetMapping("/{auditLogId}")
     public ResponseEntity<ApiResponse<AuditLogResponse>> getAuditLog(
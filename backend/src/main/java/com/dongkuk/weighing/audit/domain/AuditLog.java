@@ -20,7 +20,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_audit_actor", columnList = "actor_id"),
         @Index(name = "idx_audit_action", columnList = "action_type"),
         @Index(name = "idx_audit_entity", columnList = "entity_type"),
-        @Index(name = "idx_audit_created", columnList = "created_at")
+        @Index(name = "idx_audit_created_id", columnList = "created_at, audit_log_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
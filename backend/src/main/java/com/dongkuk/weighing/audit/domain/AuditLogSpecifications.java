@@ -0,0 +1,56 @@
+package com.dongkuk.weighing.audit.domain;
+
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchSpecifications;
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 검색 조건
+ *
+ * 감사 로그 목록 검색에 사용하는 Specification을 조합한다.
+ * 값이 지정된 필터에 대해서만 조건이 생성된다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class AuditLogSpecifications {
+
+    /** 기본 정렬 (생성일시 DESC) */
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    /** 키셋 페이징 정렬 (생성일시 DESC, ID DESC) */
+    public static final Sort KEYSET_SORT = SearchSpecifications.keysetSort("createdAt", "auditLogId");
+
+    /** 인스턴스 생성 방지 */
+    private AuditLogSpecifications() {}
+
+    /** 복합 조건(수행자, 작업유형, 대상엔티티, 기간) 검색 조건을 생성한다. 모든 조건은 선택적(nullable)이다. */
+    public static Specification<AuditLog> search(Long actorId, AuditActionType actionType, AuditEntityType entityType,
+                                                 LocalDateTime startDate, LocalDateTime endDate) {
+        return Specification.<AuditLog>where(SearchSpecifications.equalTo("actorId", actorId))
+                .and(SearchSpecifications.equalTo("actionType", actionType))
+                .and(SearchSpecifications.equalTo("entityType", entityType))
+                .and(SearchSpecifications.greaterThanOrEqualTo("createdAt", startDate))
+                .and(SearchSpecifications.lessThanOrEqualTo("createdAt", endDate));
+    }
+
+    /** {@link #search}와 같은 조건의 네이티브 SQL(tb_audit_log) 조건을 생성한다. */
+    public static SqlFilter searchSql(Long actorId, AuditActionType actionType, AuditEntityType entityType,
+                                      LocalDateTime startDate, LocalDateTime endDate) {
+        return SqlFilter.where()
+                .equalTo("actor_id", actorId)
+                .equalTo("action_type", actionType)
+                .equalTo("entity_type", entityType)
+                .greaterThanOrEqualTo("created_at", startDate)
+                .lessThanOrEqualTo("created_at", endDate);
+    }
+
+    /** 키셋 커서 이후 행 조건을 생성한다. 커서가 없으면 null을 반환한다. */
+    public static Specification<AuditLog> after(KeysetCursor cursor) {
+        return SearchSpecifications.keysetBefore("createdAt", "auditLogId", cursor);
+    }
+}
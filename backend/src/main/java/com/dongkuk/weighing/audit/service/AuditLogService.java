@@ -4,13 +4,19 @@ import com.dongkuk.weighing.audit.domain.AuditActionType;
 import com.dongkuk.weighing.audit.domain.AuditEntityType;
 import com.dongkuk.weighing.audit.domain.AuditLog;
 import com.dongkuk.weighing.audit.domain.AuditLogRepository;
+import com.dongkuk.weighing.audit.domain.AuditLogSpecifications;
 import com.dongkuk.weighing.audit.dto.AuditLogResponse;
 import com.dongkuk.weighing.audit.dto.AuditSearchCondition;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -18,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 /**
  * 감사 로그 서비스
@@ -36,6 +43,8 @@ import java.time.LocalTime;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
+    private final ApproximateRowCounter approximateRowCounter;
+    private final SearchQueryExecutor searchQueryExecutor;
 
     /**
      * 감사 로그를 비동기로 기록한다.
@@ -101,16 +110,62 @@ public class AuditLogService {
                 ? condition.endDate().atTime(LocalTime.MAX)
                 : null;
 
-        return auditLogRepository.findByConditions(
-                condition.actorId(),
-                condition.actionType(),
-                condition.entityType(),
-                startDateTime,
-                endDateTime,
-                pageable
+        // 정렬 미지정 시 최신순 (생성일시 DESC)
+        Pageable sortedPageable = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), AuditLogSpecifications.DEFAULT_SORT);
+
+        return auditLogRepository.findAll(
+                AuditLogSpecifications.search(
+                        condition.actorId(),
+                        condition.actionType(),
+                        condition.entityType(),
+                        startDateTime,
+                        endDateTime),
+                sortedPageable
         ).map(AuditLogResponse::from);
     }
 
+    /**
+     * 감사 로그 목록을 키셋(커서) 방식으로 조회한다.
+     * (생성일시, ID) 역순으로 정렬하며, OFFSET 및 COUNT 쿼리 없이 after 커서 다음 행부터 조회한다.
+     * includeTotal이 true이면 플래너 통계 기반 근사 전체 건수를 함께 반환한다.
+     */
+    public CursorSlice<AuditLogResponse> scrollAuditLogs(AuditSearchCondition condition, String after,
+                                                         int size, boolean includeTotal) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = CursorSlice.normalizeSize(size);
+        LocalDateTime startDateTime = condition.startDate() != null
+                ? condition.startDate().atStartOfDay()
+                : null;
+        LocalDateTime endDateTime = condition.endDate() != null
+                ? condition.endDate().atTime(LocalTime.MAX)
+                : null;
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<AuditLog> rows = searchQueryExecutor.findLimited(
+                AuditLog.class,
+                AuditLogSpecifications.search(
+                        condition.actorId(),
+                        condition.actionType(),
+                        condition.entityType(),
+                        startDateTime,
+                        endDateTime)
+                        .and(AuditLogSpecifications.after(cursor)),
+                AuditLogSpecifications.KEYSET_SORT,
+                pageSize + 1
+        );
+
+        Long approximateTotal = null;
+        if (includeTotal) {
+            approximateTotal = approximateRowCounter.estimate("tb_audit_log", AuditLogSpecifications.searchSql(
+                    condition.actorId(), condition.actionType(), condition.entityType(), startDateTime, endDateTime));
+        }
+
+        return CursorSlice.of(rows, pageSize, AuditLog::getCreatedAt, AuditLog::getAuditLogId,
+                AuditLogResponse::from, approximateTotal);
+    }
+
     /** 특정 감사 로그의 상세 정보를 조회한다. */
     public AuditLogResponse getAuditLog(Long auditLogId) {
         AuditLog log = auditLogRepository.findById(auditLogId)
@@ -6,8 +6,10 @@ import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
 import com.dongkuk.weighing.dispatch.domain.DispatchStatus;
 import com.dongkuk.weighing.gatepass.domain.GatePassRepository;
 import com.dongkuk.weighing.gatepass.domain.GatePassStatus;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import com.dongkuk.weighing.master.domain.Company;
 import com.dongkuk.weighing.master.domain.CompanyRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
 import com.dongkuk.weighing.weighing.domain.WeighingRepository;
 import com.dongkuk.weighing.weighing.domain.WeighingStatus;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -43,6 +44,7 @@ public class DashboardService {
     private final GatePassRepository gatePassRepository;
     private final WeighingRepository weighingRepository;
     private final CompanyRepository companyRepository;
+    private final WeighingDailyAggJdbcRepository dailyAggRepository;
 
     /**
      * 당일 배차/출문/계량 현황 요약 정보를 조회한다.
@@ -83,22 +85,20 @@ public class DashboardService {
     public List<CompanyStatistics> getCompanyStatistics() {
         LocalDate today = LocalDate.now();
         LocalDate monthStart = today.withDayOfMonth(1);
-        LocalDateTime monthStartDt = monthStart.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
 
         // 활성 운송사 목록 조회
         List<Company> companies = companyRepository.findByIsActiveTrue();
         Map<Long, String> companyNames = companies.stream()
                 .collect(Collectors.toMap(Company::getCompanyId, Company::getCompanyName));
 
-        // 운송사별 계량 통계 집계
-        List<Object[]> stats = weighingRepository.countGroupByCompany(monthStartDt, todayEnd);
+        // 운송사별 계량 통계 (일별 집계 롤업 기준)
+        List<WeighingDailyAggJdbcRepository.CompanyRow> stats = dailyAggRepository.sumByCompany(monthStart, today);
 
         List<CompanyStatistics> result = new ArrayList<>();
-        for (Object[] row : stats) {
-            Long companyId = (Long) row[0];
-            Long count = (Long) row[1];
-            BigDecimal totalWeight = (BigDecimal) row[2];
+        for (WeighingDailyAggJdbcRepository.CompanyRow row : stats) {
+            Long companyId = row.companyId();
+            Long count = row.count();
+            Weight totalWeight = row.netWeight();
             String companyName = companyNames.getOrDefault(companyId, "알 수 없음");
 
             // kg 단위를 톤(ton) 단위로 변환
@@ -106,7 +106,7 @@ public class DashboardService {
                     companyId,
                     companyName,
                     count,
-                    totalWeight != null ? totalWeight.doubleValue() / 1000.0 : 0.0
+                    totalWeight != null ? totalWeight.tons() : 0.0
             ));
         }
 
@@ -0,0 +1,39 @@
+package com.dongkuk.weighing.dispatch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배차 도메인 속성 설정
+ *
+ * application.yml의 dispatch 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * LPR 배차 자동 매칭에 쓰이는 당일 배차 인덱스의 동작을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "dispatch")
+public class DispatchProperties {
+
+    /** 당일 배차 인덱스 설정 */
+    private final TodayIndex todayIndex = new TodayIndex();
+
+    /**
+     * 당일 배차 인덱스 설정
+     */
+    @Getter
+    @Setter
+    public static class TodayIndex {
+
+        /** 메모리 인덱스를 사용하지 않고 항상 차량/일자/상태 조건으로 DB를 조회할지 여부 */
+        private boolean forceDbLookup = false;
+
+        /** 인덱스 재구성 주기 (cron, 기본: 매일 자정 1초) */
+        private String rebuildCron = "1 0 0 * * *";
+    }
+}
@@ -6,6 +6,7 @@ import com.dongkuk.weighing.dispatch.domain.ItemType;
 import com.dongkuk.weighing.dispatch.dto.*;
 import com.dongkuk.weighing.dispatch.service.DispatchService;
 import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -107,6 +108,35 @@ public class DispatchController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 검색 조건에 따라 배차 목록을 커서(키셋) 방식으로 조회한다.
+     *
+     * <p>전체 건수를 계산하지 않으며, 응답의 {@code next_cursor}를 다음 요청의
+     * {@code after}로 전달하여 다음 페이지를 조회한다.</p>
+     *
+     * @param dateFrom 검색 시작일 (선택)
+     * @param dateTo 검색 종료일 (선택)
+     * @param itemType 품목 유형 필터 (선택)
+     * @param status 배차 상태 필터 (선택)
+     * @param after 이전 페이지의 다음 커서 (첫 페이지이면 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @param includeTotal 근사 전체 건수 포함 여부 (기본 false)
+     * @return 배차 키셋 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<DispatchResponse>>> scrollDispatches(
+            @RequestParam(value = "date_from", required = false) LocalDate dateFrom,
+            @RequestParam(value = "date_to", required = false) LocalDate dateTo,
+            @RequestParam(value = "item_type", required = false) ItemType itemType,
+            @RequestParam(required = false) DispatchStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "include_total", defaultValue = "false") boolean includeTotal) {
+        DispatchSearchCondition condition = new DispatchSearchCondition(dateFrom, dateTo, itemType, status);
+        CursorSlice<DispatchResponse> response = dispatchService.scrollDispatches(condition, after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * 배차 정보를 수정한다.
      *
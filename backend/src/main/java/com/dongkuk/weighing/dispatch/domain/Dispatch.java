@@ -26,7 +26,9 @@ import java.time.LocalDate;
 @Table(name = "tb_dispatch", indexes = {
         @Index(name = "idx_dispatch_date", columnList = "dispatch_date"),
         @Index(name = "idx_dispatch_vehicle", columnList = "vehicle_id"),
-        @Index(name = "idx_dispatch_status", columnList = "dispatch_status")
+        @Index(name = "idx_dispatch_status", columnList = "dispatch_status"),
+        @Index(name = "idx_dispatch_vehicle_date_status", columnList = "vehicle_id, dispatch_date, dispatch_status"),
+        @Index(name = "idx_dispatch_created_id", columnList = "created_at, dispatch_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -3,6 +3,7 @@ package com.dongkuk.weighing.dispatch.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,10 +18,12 @@ import java.time.LocalDate;
  * <p>주요 기능:</p>
  * <ul>
  *   <li>배차일자 범위 기반 조회</li>
- *   <li>다중 조건 동적 검색 (기간, 품목 유형, 배차 상태)</li>
+ *   <li>다중 조건 동적 검색 ({@link DispatchSpecifications} 조합)</li>
  *   <li>업체/차량 존재 여부 확인</li>
  *   <li>차량 ID 목록 기반 활성 배차 조회</li>
  *   <li>특정 일자 및 상태별 배차 건수 집계</li>
+ *   <li>배차 ID 목록의 업체 ID 일괄 조회 (WebSocket 업체 토픽 전송)</li>
+ *   <li>차량/일자/상태 기반 당일 유효 배차 조회 (LPR 배차 매칭, 당일 배차 인덱스)</li>
  * </ul>
  *
  * @author 시스템
@@ -29,24 +32,12 @@ import java.time.LocalDate;
  * @see DispatchStatus
  * @see ItemType
  */
-public interface DispatchRepository extends JpaRepository<Dispatch, Long> {
+public interface DispatchRepository extends JpaRepository<Dispatch, Long>,
+        JpaSpecificationExecutor<Dispatch> {
 
     /** 특정 기간(from~to) 내 배차 목록을 페이징 조회합니다 */
     Page<Dispatch> findByDispatchDateBetween(LocalDate from, LocalDate to, Pageable pageable);
 
-    /** 다중 조건으로 배차를 페이징 검색합니다 (기간, 품목 유형, 배차 상태) */
-    @Query("SELECT d FROM Dispatch d WHERE " +
-            "(:dateFrom IS NULL OR d.dispatchDate >= :dateFrom) AND " +
-            "(:dateTo IS NULL OR d.dispatchDate <= :dateTo) AND " +
-            "(:itemType IS NULL OR d.itemType = :itemType) AND " +
-            "(:status IS NULL OR d.dispatchStatus = :status)")
-    Page<Dispatch> findByConditions(
-            @Param("dateFrom") LocalDate dateFrom,
-            @Param("dateTo") LocalDate dateTo,
-            @Param("itemType") ItemType itemType,
-            @Param("status") DispatchStatus status,
-            Pageable pageable);
-
     /** 특정 업체 ID로 등록된 배차가 존재하는지 확인합니다 */
     boolean existsByCompanyId(Long companyId);
 
@@ -59,6 +50,14 @@ public interface DispatchRepository extends JpaRepository<Dispatch, Long> {
             "ORDER BY d.dispatchDate DESC")
     java.util.List<Dispatch> findActiveByVehicleIds(@Param("vehicleIds") java.util.List<Long> vehicleIds);
 
+    /** 특정 차량의 해당 일자 배차 중 주어진 상태의 배차를 조회합니다 (idx_dispatch_vehicle_date_status 사용) */
+    java.util.List<Dispatch> findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+            Long vehicleId, LocalDate dispatchDate, java.util.Collection<DispatchStatus> statuses);
+
+    /** 해당 일자 배차 중 주어진 상태의 배차를 조회합니다 (당일 배차 인덱스 재구성) */
+    java.util.List<Dispatch> findByDispatchDateAndDispatchStatusIn(
+            LocalDate dispatchDate, java.util.Collection<DispatchStatus> statuses);
+
     /** 특정 배차일자와 상태에 해당하는 배차 건수를 조회합니다 */
     long countByDispatchDateAndDispatchStatus(LocalDate dispatchDate, DispatchStatus status);
 
@@ -73,4 +72,11 @@ public interface DispatchRepository extends JpaRepository<Dispatch, Long> {
             "WHERE d.dispatch_id = :dispatchId",
             nativeQuery = true)
     java.util.List<Object[]> findSlipInfoByDispatchId(@Param("dispatchId") Long dispatchId);
+
+    /**
+     * 배차 ID 목록에 해당하는 업체 ID를 한 번에 조회합니다.
+     * 결과: [dispatchId, companyId]
+     */
+    @Query("SELECT d.dispatchId, d.companyId FROM Dispatch d WHERE d.dispatchId IN :dispatchIds")
+    java.util.List<Object[]> findCompanyIdsByDispatchIds(@Param("dispatchIds") java.util.Collection<Long> dispatchIds);
 }
@@ -0,0 +1,73 @@
+package com.dongkuk.weighing.dispatch.domain;
+
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchSpecifications;
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * 배차 검색 조건
+ *
+ * 배차 목록 검색에 사용하는 {@link Specification}을 조합한다.
+ * 값이 지정된 필터에 대해서만 조건이 생성된다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchSpecifications
+ */
+public final class DispatchSpecifications {
+
+    /** 키셋 페이징 정렬 (생성일시 DESC, ID DESC) */
+    public static final Sort KEYSET_SORT = SearchSpecifications.keysetSort("createdAt", "dispatchId");
+
+    /** 인스턴스 생성 방지 */
+    private DispatchSpecifications() {}
+
+    /**
+     * 다중 조건 검색 조건을 생성한다 (배차일자 기간, 품목 유형, 배차 상태).
+     *
+     * @param dateFrom 배차일자 하한 (nullable)
+     * @param dateTo   배차일자 상한 (nullable)
+     * @param itemType 품목 유형 (nullable)
+     * @param status   배차 상태 (nullable)
+     * @return 검색 조건
+     */
+    public static Specification<Dispatch> search(LocalDate dateFrom, LocalDate dateTo,
+                                                 ItemType itemType, DispatchStatus status) {
+        return Specification.<Dispatch>where(SearchSpecifications.greaterThanOrEqualTo("dispatchDate", dateFrom))
+                .and(SearchSpecifications.lessThanOrEqualTo("dispatchDate", dateTo))
+                .and(SearchSpecifications.equalTo("itemType", itemType))
+                .and(SearchSpecifications.equalTo("dispatchStatus", status));
+    }
+
+    /**
+     * {@link #search}와 같은 조건의 네이티브 SQL(tb_dispatch) 조건을 생성한다.
+     *
+     * @param dateFrom 배차일자 하한 (nullable)
+     * @param dateTo   배차일자 상한 (nullable)
+     * @param itemType 품목 유형 (nullable)
+     * @param status   배차 상태 (nullable)
+     * @return SQL 검색 조건
+     */
+    public static SqlFilter searchSql(LocalDate dateFrom, LocalDate dateTo,
+                                      ItemType itemType, DispatchStatus status) {
+        return SqlFilter.where()
+                .greaterThanOrEqualTo("dispatch_date", dateFrom)
+                .lessThanOrEqualTo("dispatch_date", dateTo)
+                .equalTo("item_type", itemType)
+                .equalTo("dispatch_status", status);
+    }
+
+    /**
+     * 키셋 커서 이후 행 조건을 생성한다.
+     *
+     * @param cursor 이전 페이지의 마지막 행 커서 (null이면 조건 없음)
+     * @return 키셋 조건 (커서가 없으면 null)
+     */
+    public static Specification<Dispatch> after(KeysetCursor cursor) {
+        return SearchSpecifications.keysetBefore("createdAt", "dispatchId", cursor);
+    }
+}
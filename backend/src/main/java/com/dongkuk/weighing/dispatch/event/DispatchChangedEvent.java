@@ -0,0 +1,30 @@
+package com.dongkuk.weighing.dispatch.event;
+
+import com.dongkuk.weighing.dispatch.dto.DispatchResponse;
+
+/**
+ * 배차 변경 이벤트
+ *
+ * 배차가 등록/수정/삭제되거나 상태가 변경될 때 발행되는 애플리케이션 이벤트이다.
+ * 변경 직후의 배차 스냅샷을 담으며, 트랜잭션 커밋 이후 당일 배차 인덱스 갱신에 사용된다.
+ *
+ * @param dispatch 변경 직후의 배차 스냅샷 (삭제 시 삭제 직전 스냅샷)
+ * @param deleted  삭제 여부
+ * @author 시스템
+ * @since 1.0
+ */
+public record DispatchChangedEvent(
+        DispatchResponse dispatch,
+        boolean deleted
+) {
+
+    /** 등록/수정/상태 변경 */
+    public static DispatchChangedEvent changed(DispatchResponse dispatch) {
+        return new DispatchChangedEvent(dispatch, false);
+    }
+
+    /** 삭제 */
+    public static DispatchChangedEvent deleted(DispatchResponse dispatch) {
+        return new DispatchChangedEvent(dispatch, true);
+    }
+}
@@ -2,15 +2,22 @@ package com.dongkuk.weighing.dispatch.service;
 
 import com.dongkuk.weighing.dispatch.domain.Dispatch;
 import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.dispatch.domain.DispatchSpecifications;
 import com.dongkuk.weighing.dispatch.dto.*;
+import com.dongkuk.weighing.dispatch.event.DispatchChangedEvent;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
 import com.dongkuk.weighing.master.domain.Vehicle;
 import com.dongkuk.weighing.master.domain.VehicleRepository;
 import com.dongkuk.weighing.user.domain.User;
 import com.dongkuk.weighing.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +34,9 @@ import java.util.List;
  * <p>운전자(모바일 사용자)는 자신의 소속 업체에 등록된 차량의
  * 활성 배차 목록을 조회할 수 있다.</p>
  *
+ * <p>배차가 등록/수정/삭제되거나 상태가 변경되면 {@link DispatchChangedEvent}를 발행하여
+ * LPR 배차 매칭에 쓰이는 {@link TodayDispatchIndex}를 갱신한다.</p>
+ *
  * @author 시스템
  * @since 1.0
  * @see Dispatch
@@ -41,6 +51,9 @@ public class DispatchService {
     private final DispatchRepository dispatchRepository;
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final ApproximateRowCounter approximateRowCounter;
+    private final SearchQueryExecutor searchQueryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ─── 배차 CRUD ───
 
@@ -72,7 +85,7 @@ public class DispatchService {
         log.info("배차 등록: dispatchId={}, vehicleId={}, date={}",
                 saved.getDispatchId(), saved.getVehicleId(), saved.getDispatchDate());
 
-        return DispatchResponse.from(saved);
+        return publishChanged(saved);
     }
 
     /**
@@ -95,15 +108,56 @@ public class DispatchService {
      * @return 조건에 맞는 배차 페이지
      */
     public Page<DispatchResponse> searchDispatches(DispatchSearchCondition condition, Pageable pageable) {
-        return dispatchRepository.findByConditions(
-                condition.dateFrom(),
-                condition.dateTo(),
-                condition.itemType(),
-                condition.status(),
+        return dispatchRepository.findAll(
+                DispatchSpecifications.search(
+                        condition.dateFrom(),
+                        condition.dateTo(),
+                        condition.itemType(),
+                        condition.status()),
                 pageable
         ).map(DispatchResponse::from);
     }
 
+    /**
+     * 검색 조건에 따라 배차 목록을 키셋(커서) 방식으로 조회한다.
+     *
+     * <p>(생성일시, ID) 역순으로 정렬하며, OFFSET 및 COUNT 쿼리 없이
+     * {@code after} 커서 다음 행부터 조회한다.</p>
+     *
+     * @param condition    검색 조건 (기간, 품목유형, 상태)
+     * @param after        이전 페이지의 다음 커서 (첫 페이지이면 null)
+     * @param size         페이지 크기
+     * @param includeTotal 플래너 통계 기반 근사 전체 건수 포함 여부
+     * @return 배차 키셋 페이지
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public CursorSlice<DispatchResponse> scrollDispatches(DispatchSearchCondition condition, String after,
+                                                          int size, boolean includeTotal) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = CursorSlice.normalizeSize(size);
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<Dispatch> rows = searchQueryExecutor.findLimited(
+                Dispatch.class,
+                DispatchSpecifications.search(
+                        condition.dateFrom(),
+                        condition.dateTo(),
+                        condition.itemType(),
+                        condition.status())
+                        .and(DispatchSpecifications.after(cursor)),
+                DispatchSpecifications.KEYSET_SORT,
+                pageSize + 1);
+
+        Long approximateTotal = null;
+        if (includeTotal) {
+            approximateTotal = approximateRowCounter.estimate("tb_dispatch", DispatchSpecifications.searchSql(
+                    condition.dateFrom(), condition.dateTo(), condition.itemType(), condition.status()));
+        }
+
+        return CursorSlice.of(rows, pageSize, Dispatch::getCreatedAt, Dispatch::getDispatchId,
+                DispatchResponse::from, approximateTotal);
+    }
+
     /**
      * 배차 정보를 수정한다.
      *
@@ -128,7 +182,7 @@ public class DispatchService {
         );
 
         log.info("배차 수정: dispatchId={}", dispatchId);
-        return DispatchResponse.from(dispatch);
+        return publishChanged(dispatch);
     }
 
     /**
@@ -150,6 +204,7 @@ public class DispatchService {
         }
 
         dispatchRepository.delete(dispatch);
+        eventPublisher.publishEvent(DispatchChangedEvent.deleted(DispatchResponse.from(dispatch)));
         log.info("배차 삭제: dispatchId={}", dispatchId);
     }
 
@@ -183,7 +238,7 @@ public class DispatchService {
         }
 
         log.info("배차 상태 변경: dispatchId={}, newStatus={}", dispatchId, dispatch.getDispatchStatus());
-        return DispatchResponse.from(dispatch);
+        return publishChanged(dispatch);
     }
 
     // ─── 운전자(모바일) 전용 조회 ───
@@ -235,4 +290,11 @@ public class DispatchService {
         return dispatchRepository.findById(dispatchId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DISPATCH_001));
     }
+
+    /** 배차 스냅샷을 만들어 변경 이벤트로 발행한다. */
+    private DispatchResponse publishChanged(Dispatch dispatch) {
+        DispatchResponse response = DispatchResponse.from(dispatch);
+        eventPublisher.publishEvent(DispatchChangedEvent.changed(response));
+        return response;
+    }
 }
@@ -0,0 +1,198 @@
+package com.dongkuk.weighing.dispatch.service;
+
+import com.dongkuk.weighing.dispatch.config.DispatchProperties;
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.dispatch.domain.DispatchStatus;
+import com.dongkuk.weighing.dispatch.dto.DispatchResponse;
+import com.dongkuk.weighing.dispatch.event.DispatchChangedEvent;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 당일 배차 인덱스
+ *
+ * <p>당일 유효 배차(등록/진행중)를 차량 ID별로 메모리에 보관한다.
+ * LPR 배차 자동 매칭은 차량이 계량대에 진입할 때마다 수행되므로,
+ * 당일 전체 배차를 읽지 않고 차량 ID로 바로 찾기 위해 사용된다.</p>
+ *
+ * <p>갱신 규칙:
+ * <ul>
+ *   <li>애플리케이션 기동 완료 시와 매일 자정에 당일 유효 배차로 재구성한다.</li>
+ *   <li>{@link DispatchChangedEvent}를 트랜잭션 커밋 이후에 반영한다. 차량/일자 변경을 고려하여
+ *       기존 항목을 제거한 뒤, 당일 유효 배차이면 다시 등록한다.</li>
+ *   <li>재구성 전이거나 인덱스 일자가 오늘이 아니면(자정 재구성 전) 차량/일자/상태 복합 인덱스
+ *       ({@code idx_dispatch_vehicle_date_status})로 DB를 조회한다.</li>
+ *   <li>{@code dispatch.today-index.force-db-lookup=true}이면 인덱스를 사용하지 않고 항상 DB를 조회한다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>여러 인스턴스로 운영할 때({@code websocket.relay.enabled=true}):
+ * <ul>
+ *   <li>커밋된 변경의 배차 ID를 {@link ClusterInvalidationRelay}로 다른 인스턴스에 알리고,
+ *       받은 인스턴스는 해당 배차를 DB에서 다시 읽어 반영한다.</li>
+ *   <li>pub/sub 메시지는 유실될 수 있으므로, 인덱스에 차량의 배차가 없으면 DB를 조회하여 확인한다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see DispatchService
+ * @see com.dongkuk.weighing.lpr.service.LprService#matchDispatch(Long)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayDispatchIndex {
+
+    /** 매칭 대상 배차 상태 */
+    static final Set<DispatchStatus> ACTIVE_STATUSES = Set.of(DispatchStatus.REGISTERED, DispatchStatus.IN_PROGRESS);
+
+    /** 무효화 중계 인덱스 이름 */
+    static final String CACHE_NAME = "today-dispatch";
+
+    /** 배차 ID 순 정렬 (등록 순서) */
+    private static final Comparator<DispatchResponse> BY_ID = Comparator.comparing(DispatchResponse::dispatchId);
+
+    private final DispatchRepository dispatchRepository;
+    private final ClusterInvalidationRelay invalidationRelay;
+    private final DispatchProperties dispatchProperties;
+
+    /** 차량 ID → (배차 ID → 배차 스냅샷) */
+    private final Map<Long, Map<Long, DispatchResponse>> byVehicle = new ConcurrentHashMap<>();
+
+    /** 배차 ID → 차량 ID (차량 변경 시 기존 항목 제거용) */
+    private final Map<Long, Long> vehicleByDispatch = new ConcurrentHashMap<>();
+
+    /** 인덱스 기준 일자 (재구성 전에는 null) */
+    private volatile LocalDate indexDate;
+
+    /** 다른 인스턴스의 배차 변경을 받도록 무효화 처리기를 등록한다. */
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationRelay.subscribe(CACHE_NAME, this::reload);
+    }
+
+    /**
+     * 차량의 당일 유효 배차를 배차 ID 순으로 반환한다.
+     *
+     * @param vehicleId 차량 ID
+     * @return 당일 등록/진행중 배차 목록 (없으면 빈 목록)
+     */
+    public List<DispatchResponse> findActive(Long vehicleId) {
+        LocalDate today = LocalDate.now();
+        if (dispatchProperties.getTodayIndex().isForceDbLookup() || !today.equals(indexDate)) {
+            return findActiveFromDb(vehicleId, today);
+        }
+        Map<Long, DispatchResponse> entries = byVehicle.get(vehicleId);
+        if (entries == null || entries.isEmpty()) {
+            // 다른 인스턴스에서 등록된 배차의 무효화가 유실되었을 수 있으므로 DB로 확인한다
+            return invalidationRelay.isEnabled() ? findActiveFromDb(vehicleId, today) : List.of();
+        }
+        return entries.values().stream()
+                .sorted(BY_ID)
+                .toList();
+    }
+
+    /**
+     * 배차 변경 이벤트를 커밋 이후에 반영한다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 반영한다.
+     *
+     * @param event 배차 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDispatchChanged(DispatchChangedEvent event) {
+        DispatchResponse dispatch = event.dispatch();
+        synchronized (this) {
+            remove(dispatch.dispatchId());
+            if (!event.deleted() && isActiveOn(dispatch, indexDate)) {
+                put(dispatch);
+            }
+        }
+        invalidationRelay.publish(CACHE_NAME, dispatch.dispatchId());
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 배차를 DB에서 다시 읽어 반영한다.
+     * 삭제되었거나 당일 유효 배차가 아니면 인덱스에서 제거한다.
+     *
+     * @param dispatchId 변경된 배차 ID
+     */
+    synchronized void reload(Long dispatchId) {
+        remove(dispatchId);
+        dispatchRepository.findById(dispatchId)
+                .map(DispatchResponse::from)
+                .filter(dispatch -> isActiveOn(dispatch, indexDate))
+                .ifPresent(this::put);
+    }
+
+    /**
+     * 당일 유효 배차로 인덱스를 재구성한다.
+     * 애플리케이션 기동 완료 시와 매일 자정 직후에 실행된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dispatch.today-index.rebuild-cron:1 0 0 * * *}")
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<DispatchResponse> active = dispatchRepository
+                .findByDispatchDateAndDispatchStatusIn(today, ACTIVE_STATUSES).stream()
+                .map(DispatchResponse::from)
+                .toList();
+        // 이벤트 반영과 같은 잠금으로 보호되므로, 조회 이후 커밋된 변경은 재구성 뒤에 반영된다
+        indexDate = null;
+        byVehicle.clear();
+        vehicleByDispatch.clear();
+        for (DispatchResponse dispatch : active) {
+            put(dispatch);
+        }
+        indexDate = today;
+        log.info("당일 배차 인덱스 재구성: date={}, dispatches={}, vehicles={}",
+                today, active.size(), byVehicle.size());
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private List<DispatchResponse> findActiveFromDb(Long vehicleId, LocalDate today) {
+        return dispatchRepository
+                .findByVehicleIdAndDispatchDateAndDispatchStatusIn(vehicleId, today, ACTIVE_STATUSES).stream()
+                .map(DispatchResponse::from)
+                .sorted(BY_ID)
+                .toList();
+    }
+
+    private static boolean isActiveOn(DispatchResponse dispatch, LocalDate date) {
+        return date != null && date.equals(dispatch.dispatchDate())
+                && ACTIVE_STATUSES.contains(DispatchStatus.valueOf(dispatch.dispatchStatus()));
+    }
+
+    private void put(DispatchResponse dispatch) {
+        byVehicle.computeIfAbsent(dispatch.vehicleId(), id -> new ConcurrentHashMap<>())
+                .put(dispatch.dispatchId(), dispatch);
+        vehicleByDispatch.put(dispatch.dispatchId(), dispatch.vehicleId());
+    }
+
+    private void remove(Long dispatchId) {
+        Long vehicleId = vehicleByDispatch.remove(dispatchId);
+        if (vehicleId == null) {
+            return;
+        }
+        Map<Long, DispatchResponse> entries = byVehicle.get(vehicleId);
+        if (entries != null) {
+            entries.remove(dispatchId);
+        }
+    }
+}
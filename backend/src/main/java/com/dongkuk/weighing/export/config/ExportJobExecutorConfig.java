@@ -0,0 +1,33 @@
+package com.dongkuk.weighing.export.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 내보내기 작업 실행기 설정
+ *
+ * 내보내기 파일 생성을 요청 스레드와 분리된 고정 크기 작업자 풀에서 실행한다.
+ * 대기열이 가득 차면 작업 접수를 거절하여 파일 생성이 서버 자원을 무한정 점유하지 않도록 한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+public class ExportJobExecutorConfig {
+
+    /** 내보내기 작업 실행기 빈 이름 */
+    public static final String EXPORT_JOB_EXECUTOR = "exportJobExecutor";
+
+    @Bean(name = EXPORT_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor exportJobExecutor(ExportProperties exportProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportProperties.getWorkers());
+        executor.setMaxPoolSize(exportProperties.getWorkers());
+        executor.setQueueCapacity(exportProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("export-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
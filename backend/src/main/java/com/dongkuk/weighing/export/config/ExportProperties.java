@@ -0,0 +1,39 @@
+package com.dongkuk.weighing.export.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 내보내기 작업 속성 설정
+ *
+ * application.yml의 export 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 비동기 내보내기 작업의 작업자 수, 대기열 크기, 결과 파일 보관 위치와 기간을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    /** 동시에 파일을 생성하는 작업자 스레드 수 */
+    private int workers = 2;
+
+    /** 작업자가 모두 사용 중일 때 대기할 수 있는 작업 수 (초과 시 접수 거절) */
+    private int queueCapacity = 20;
+
+    /** 결과 파일을 기록할 스풀 디렉토리 */
+    private String spoolDir = System.getProperty("java.io.tmpdir") + "/weighing-export";
+
+    /** 완료/실패 작업과 결과 파일 보관 기간 */
+    private Duration retention = Duration.ofHours(1);
+
+    /** 만료 작업 정리 주기 (밀리초) */
+    private long cleanupIntervalMs = 600_000;
+}
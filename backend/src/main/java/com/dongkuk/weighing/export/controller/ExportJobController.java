@@ -0,0 +1,90 @@
+package com.dongkuk.weighing.export.controller;
+
+import com.dongkuk.weighing.auth.security.UserPrincipal;
+import com.dongkuk.weighing.export.domain.ExportJob;
+import com.dongkuk.weighing.export.dto.ExportJobRequest;
+import com.dongkuk.weighing.export.dto.ExportJobResponse;
+import com.dongkuk.weighing.export.service.ExportJobService;
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.util.FileTransferUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 내보내기 작업 컨트롤러
+ *
+ * 대용량 내보내기를 비동기 작업으로 접수하고, 진행률 조회와 결과 파일 다운로드 API를 제공한다.
+ * 작업 조회와 다운로드는 요청자 본인 또는 관리자만 가능하다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    /** 내보내기 작업을 접수한다. 작업 ID를 즉시 반환하며 파일은 백그라운드에서 생성된다. */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ExportJobResponse>> submit(
+            @Valid @RequestBody ExportJobRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        ExportJob job = exportJobService.submit(request.type(), request.params(), principal.getUserId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok(ExportJobResponse.from(job), "내보내기 작업이 접수되었습니다"));
+    }
+
+    /** 본인의 내보내기 작업 목록을 최신순으로 조회한다. */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ExportJobResponse>>> getJobs(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        List<ExportJobResponse> response = exportJobService.getJobs(principal.getUserId()).stream()
+                .map(ExportJobResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /** 내보내기 작업의 상태와 진행률을 조회한다. */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> getJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        ExportJob job = exportJobService.getJob(jobId, principal.getUserId(), principal.getRole());
+        return ResponseEntity.ok(ApiResponse.ok(ExportJobResponse.from(job)));
+    }
+
+    /**
+     * 완료된 내보내기 결과 파일을 내려받는다.
+     *
+     * <p>{@link FileTransferUtil#sendFile}로 sendfile 또는 {@code FileChannel.transferTo}를 사용하여
+     * 파일 내용을 힙 버퍼로 읽어 들이지 않고 전송한다.</p>
+     */
+    @GetMapping("/{jobId}/download")
+    public void download(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ExportJob job = exportJobService.getCompletedJob(jobId, principal.getUserId(), principal.getRole());
+        response.setContentType(job.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(job.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        FileTransferUtil.sendFile(job.getFile(), job.getFileSize(), request, response);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dongkuk.weighing.export.domain;
+
+import com.dongkuk.weighing.export.service.ExportProgress;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 작업
+ *
+ * <p>비동기 내보내기 작업 한 건의 상태를 메모리에 보관한다. 접수 스레드, 작업자 스레드,
+ * 조회 스레드가 함께 접근하므로 변경 가능한 필드는 volatile로 선언하고
+ * 상태 전이 메서드는 작업자 스레드에서만 호출한다.</p>
+ *
+ * <p>결과 파일은 스풀 디렉토리에 있으며, 보관 기간이 지나면 작업과 함께 정리된다.
+ * 애플리케이션 재시작 시 작업 목록은 유지되지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+public class ExportJob {
+
+    private final String jobId;
+    private final String type;
+    private final Long ownerId;
+    private final String fileName;
+    private final String contentType;
+    private final Path file;
+    private final ExportProgress progress = new ExportProgress();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long fileSize;
+    private volatile String errorMessage;
+
+    public ExportJob(String jobId, String type, Long ownerId, String fileName, String contentType, Path file) {
+        this.jobId = jobId;
+        this.type = type;
+        this.ownerId = ownerId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.file = file;
+    }
+
+    /** 작업자가 작업을 시작한다. */
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.RUNNING;
+    }
+
+    /**
+     * 결과 파일 생성을 완료한다.
+     *
+     * @param fileSize 결과 파일 크기 (바이트)
+     */
+    public void complete(long fileSize) {
+        this.fileSize = fileSize;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    /**
+     * 작업을 실패 처리한다.
+     *
+     * @param errorMessage 실패 사유
+     */
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업인지 판단한다.
+     *
+     * @param threshold 이 시각 이전에 종료된 작업을 만료로 본다
+     * @return 만료 여부
+     */
+    public boolean isExpired(LocalDateTime threshold) {
+        return status.isFinished() && finishedAt != null && finishedAt.isBefore(threshold);
+    }
+}
@@ -0,0 +1,26 @@
+package com.dongkuk.weighing.export.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 작업 상태
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportJobStatus {
+    QUEUED("대기"),
+    RUNNING("생성 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    /** 더 이상 상태가 바뀌지 않는 종료 상태인지 여부 */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
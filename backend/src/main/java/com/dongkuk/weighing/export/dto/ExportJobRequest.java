@@ -0,0 +1,22 @@
+package com.dongkuk.weighing.export.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+/**
+ * 내보내기 작업 접수 요청 DTO
+ *
+ * @param type   내보내기 유형 (예: statistics)
+ * @param params 유형별 파라미터 (예: date_from, date_to)
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record ExportJobRequest(
+        @NotBlank(message = "내보내기 유형은 필수입니다")
+        String type,
+
+        Map<String, String> params
+) {
+}
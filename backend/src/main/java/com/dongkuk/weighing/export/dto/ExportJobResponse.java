@@ -0,0 +1,59 @@
+package com.dongkuk.weighing.export.dto;
+
+import com.dongkuk.weighing.export.domain.ExportJob;
+import com.dongkuk.weighing.export.domain.ExportJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 작업 응답 DTO
+ *
+ * @param jobId         작업 ID
+ * @param type          내보내기 유형
+ * @param status        작업 상태
+ * @param fileName      결과 파일명
+ * @param processedRows 처리 행 수
+ * @param totalRows     전체 행 수 (알 수 없으면 null)
+ * @param percent       진행률 백분율 (알 수 없으면 null)
+ * @param fileSize      결과 파일 크기 (완료 시, 바이트)
+ * @param errorMessage  실패 사유 (실패 시)
+ * @param createdAt     접수 일시
+ * @param startedAt     시작 일시
+ * @param finishedAt    종료 일시
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record ExportJobResponse(
+        String jobId,
+        String type,
+        ExportJobStatus status,
+        String fileName,
+        long processedRows,
+        Long totalRows,
+        Integer percent,
+        Long fileSize,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static ExportJobResponse from(ExportJob job) {
+        ExportJobStatus status = job.getStatus();
+        return new ExportJobResponse(
+                job.getJobId(),
+                job.getType(),
+                status,
+                job.getFileName(),
+                job.getProgress().getProcessed(),
+                job.getProgress().getTotal(),
+                status == ExportJobStatus.COMPLETED ? Integer.valueOf(100) : job.getProgress().getPercent(),
+                status == ExportJobStatus.COMPLETED ? job.getFileSize() : null,
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
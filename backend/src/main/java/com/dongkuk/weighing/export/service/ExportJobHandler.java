@@ -0,0 +1,32 @@
+package com.dongkuk.weighing.export.service;
+
+import java.util.Map;
+
+/**
+ * 내보내기 유형별 처리기
+ *
+ * <p>새 내보내기 유형(통계, 계량 목록, 계량표 등)은 이 인터페이스를 구현한 빈을 등록하면
+ * {@link ExportJobService}의 비동기 작업으로 실행된다. 유형 이름은 요청의 {@code type}과
+ * 매칭되므로 애플리케이션 전체에서 고유해야 한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public interface ExportJobHandler {
+
+    /**
+     * 내보내기 유형 이름을 반환한다 (예: {@code statistics}).
+     *
+     * @return 유형 이름
+     */
+    String type();
+
+    /**
+     * 요청 파라미터를 검증하고 실행할 작업을 준비한다.
+     * 파라미터가 잘못되면 접수 시점에 {@code BusinessException}을 던진다.
+     *
+     * @param params 요청 파라미터 (snake_case 키)
+     * @return 실행할 내보내기 작업
+     */
+    ExportTask prepare(Map<String, String> params);
+}
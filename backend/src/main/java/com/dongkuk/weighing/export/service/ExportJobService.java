@@ -0,0 +1,232 @@
+package com.dongkuk.weighing.export.service;
+
+import com.dongkuk.weighing.export.config.ExportJobExecutorConfig;
+import com.dongkuk.weighing.export.config.ExportProperties;
+import com.dongkuk.weighing.export.domain.ExportJob;
+import com.dongkuk.weighing.export.domain.ExportJobStatus;
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.user.domain.UserRole;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 내보내기 작업 서비스
+ *
+ * <p>대용량 내보내기를 요청 스레드에서 분리하여 비동기 작업으로 실행한다.
+ * 접수 시 작업 ID를 즉시 반환하고, 제한된 작업자 풀이 결과를 스풀 디렉토리의 파일로 생성한다.
+ * 클라이언트는 진행률을 조회하다가 완료되면 결과 파일을 내려받는다.</p>
+ *
+ * <p>처리 규칙:
+ * <ul>
+ *   <li>내보내기 유형은 {@link ExportJobHandler} 빈으로 등록되며, 파라미터 검증은 접수 시점에 수행한다.</li>
+ *   <li>작업자와 대기열이 모두 찼으면 접수를 거절한다.</li>
+ *   <li>결과는 임시 파일({@code .part})에 기록한 뒤 완료 시 최종 파일로 이동하므로
+ *       생성 중인 파일이 다운로드되지 않는다.</li>
+ *   <li>작업 조회와 다운로드는 요청자 본인 또는 관리자만 가능하다.</li>
+ *   <li>보관 기간이 지난 종료 작업과 결과 파일은 주기적으로 정리한다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see ExportJobHandler
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    /** 스풀 파일 이름 ({@code <작업 ID(UUID)>} 또는 {@code <작업 ID>.part}) */
+    private static final Pattern SPOOL_FILE_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.part)?");
+
+    private final Map<String, ExportJobHandler> handlers;
+    private final ThreadPoolTaskExecutor executor;
+    private final ExportProperties exportProperties;
+
+    /** 작업 ID → 작업 */
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    private Path spoolDir;
+
+    public ExportJobService(List<ExportJobHandler> handlers,
+                            @Qualifier(ExportJobExecutorConfig.EXPORT_JOB_EXECUTOR) ThreadPoolTaskExecutor executor,
+                            ExportProperties exportProperties) {
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(ExportJobHandler::type, Function.identity()));
+        this.executor = executor;
+        this.exportProperties = exportProperties;
+    }
+
+    /**
+     * 스풀 디렉토리를 준비한다.
+     * 작업 목록은 재시작 시 유지되지 않으므로 이전 실행에서 남은 스풀 파일을 삭제한다.
+     * 스풀 디렉토리가 다른 용도와 공유되더라도 작업 ID 형식의 파일만 삭제한다.
+     */
+    @PostConstruct
+    void initSpoolDir() throws IOException {
+        spoolDir = Paths.get(exportProperties.getSpoolDir()).toAbsolutePath();
+        Files.createDirectories(spoolDir);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(spoolDir)) {
+            for (Path leftover : leftovers) {
+                if (Files.isRegularFile(leftover)
+                        && SPOOL_FILE_NAME.matcher(leftover.getFileName().toString()).matches()) {
+                    deleteQuietly(leftover);
+                }
+            }
+        }
+        log.info("내보내기 스풀 디렉토리: {}, 유형: {}", spoolDir, handlers.keySet());
+    }
+
+    /**
+     * 내보내기 작업을 접수한다.
+     *
+     * @param type    내보내기 유형
+     * @param params  유형별 파라미터
+     * @param ownerId 요청자 ID
+     * @return 접수된 작업
+     */
+    public ExportJob submit(String type, Map<String, String> params, Long ownerId) {
+        ExportJobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new BusinessException(ErrorCode.EXPORT_002, "type=" + type);
+        }
+        ExportTask task = handler.prepare(params != null ? params : Map.of());
+
+        String jobId = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(jobId, type, ownerId, task.fileName(), task.contentType(),
+                spoolDir.resolve(jobId));
+        jobs.put(jobId, job);
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (TaskRejectedException e) {
+            jobs.remove(jobId);
+            throw new BusinessException(ErrorCode.EXPORT_004);
+        }
+        log.info("내보내기 작업 접수: jobId={}, type={}, ownerId={}", jobId, type, ownerId);
+        return job;
+    }
+
+    /**
+     * 작업을 조회한다.
+     *
+     * @param jobId  작업 ID
+     * @param userId 요청자 ID
+     * @param role   요청자 역할
+     * @return 작업
+     */
+    public ExportJob getJob(String jobId, Long userId, UserRole role) {
+        ExportJob job = jobs.get(jobId);
+        // 다른 사용자의 작업은 존재 여부도 노출하지 않는다
+        if (job == null || (role != UserRole.ADMIN && !job.getOwnerId().equals(userId))) {
+            throw new BusinessException(ErrorCode.EXPORT_001);
+        }
+        return job;
+    }
+
+    /**
+     * 다운로드 가능한(완료된) 작업을 조회한다.
+     *
+     * @param jobId  작업 ID
+     * @param userId 요청자 ID
+     * @param role   요청자 역할
+     * @return 완료된 작업
+     */
+    public ExportJob getCompletedJob(String jobId, Long userId, UserRole role) {
+        ExportJob job = getJob(jobId, userId, role);
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.EXPORT_003, "status=" + job.getStatus());
+        }
+        if (!Files.isReadable(job.getFile())) {
+            throw new BusinessException(ErrorCode.EXPORT_001);
+        }
+        return job;
+    }
+
+    /**
+     * 요청자의 작업 목록을 최신순으로 조회한다.
+     *
+     * @param userId 요청자 ID
+     * @return 작업 목록
+     */
+    public List<ExportJob> getJobs(Long userId) {
+        return jobs.values().stream()
+                .filter(job -> job.getOwnerId().equals(userId))
+                .sorted(Comparator.comparing(ExportJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업과 결과 파일을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${export.cleanup-interval-ms:600000}")
+    public void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(exportProperties.getRetention());
+        int removed = 0;
+        for (ExportJob job : jobs.values()) {
+            if (job.isExpired(threshold) && jobs.remove(job.getJobId(), job)) {
+                deleteQuietly(job.getFile());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("만료된 내보내기 작업 정리: removed={}, remaining={}", removed, jobs.size());
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 작업자 스레드에서 결과 파일을 생성한다. */
+    private void run(ExportJob job, ExportTask task) {
+        job.start();
+        Path part = job.getFile().resolveSibling(job.getJobId() + PART_SUFFIX);
+        long start = System.currentTimeMillis();
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 64 * 1024)) {
+                task.writer().write(out, job.getProgress());
+            }
+            Files.move(part, job.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(Files.size(job.getFile()));
+            log.info("내보내기 작업 완료: jobId={}, rows={}, bytes={}, elapsedMs={}",
+                    job.getJobId(), job.getProgress().getProcessed(), job.getFileSize(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패: jobId={}, type={}", job.getJobId(), job.getType(), e);
+            deleteQuietly(part);
+            job.fail(ErrorCode.EXPORT_005.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: path={}, error={}", path, e.getMessage());
+        }
+    }
+}
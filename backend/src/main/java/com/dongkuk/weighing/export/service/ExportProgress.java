@@ -0,0 +1,68 @@
+package com.dongkuk.weighing.export.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내보내기 진행률
+ *
+ * <p>작업자 스레드가 기록한 행 수를 갱신하고, 조회 요청 스레드가 이를 읽는다.
+ * 전체 행 수를 미리 알 수 있는 내보내기는 {@link #setTotal(long)}으로 지정하여
+ * 백분율을 제공하고, 알 수 없으면 처리 행 수만 제공한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public class ExportProgress {
+
+    /** 진행률을 기록하지 않는 인스턴스 (동기 내보내기용) */
+    public static final ExportProgress NONE = new ExportProgress() {
+        @Override
+        public void advance(long rows) {
+            // 기록하지 않음
+        }
+    };
+
+    private final AtomicLong processed = new AtomicLong();
+    private volatile long total = -1;
+
+    /**
+     * 전체 처리 예정 행 수를 지정한다.
+     *
+     * @param total 전체 행 수
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * 처리 행 수를 증가시킨다.
+     *
+     * @param rows 추가로 처리한 행 수
+     */
+    public void advance(long rows) {
+        processed.addAndGet(rows);
+    }
+
+    /** 처리 행 수 */
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    /** 전체 행 수 (알 수 없으면 null) */
+    public Long getTotal() {
+        long value = total;
+        return value >= 0 ? value : null;
+    }
+
+    /** 진행률 백분율 (전체 행 수를 알 수 없으면 null) */
+    public Integer getPercent() {
+        long value = total;
+        if (value < 0) {
+            return null;
+        }
+        if (value == 0) {
+            return 100;
+        }
+        return (int) Math.min(100, processed.get() * 100 / value);
+    }
+}
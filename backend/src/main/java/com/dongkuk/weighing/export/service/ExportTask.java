@@ -0,0 +1,36 @@
+package com.dongkuk.weighing.export.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 접수가 확정된 내보내기 작업의 실행 단위
+ *
+ * <p>{@link ExportJobHandler#prepare}가 요청 파라미터 검증을 마친 뒤 반환하며,
+ * 작업자 스레드가 {@link Writer#write}를 호출하여 스풀 파일에 결과를 기록한다.</p>
+ *
+ * @param fileName    다운로드 파일명 (확장자 포함)
+ * @param contentType 다운로드 Content-Type
+ * @param writer      결과 기록 함수
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record ExportTask(String fileName, String contentType, Writer writer) {
+
+    /**
+     * 내보내기 결과 기록 함수
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+        /**
+         * 결과를 출력 스트림에 기록한다.
+         *
+         * @param out      결과 파일 출력 스트림 (호출 측에서 닫는다)
+         * @param progress 진행률 갱신 대상
+         * @throws IOException 기록 실패 시
+         */
+        void write(OutputStream out, ExportProgress progress) throws IOException;
+    }
+}
@@ -7,8 +7,10 @@ import com.dongkuk.weighing.gatepass.dto.GatePassCreateRequest;
 import com.dongkuk.weighing.gatepass.dto.GatePassResponse;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class GatePassService {
 
     private final GatePassRepository gatePassRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ─── 출문증 발급 ───
 
@@ -100,6 +103,8 @@ public class GatePassService {
         GatePass gatePass = findById(gatePassId);
         gatePass.pass(processedBy);
         log.info("출문 승인: gatePassId={}, processedBy={}", gatePassId, processedBy);
+        eventPublisher.publishEvent(WeighingLifecycleEvent.gatePassed(
+                gatePass.getWeighingId(), gatePass.getDispatchId(), gatePass.getPassedAt()));
         return GatePassResponse.from(gatePass);
     }
 
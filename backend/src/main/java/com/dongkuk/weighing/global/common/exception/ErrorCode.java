@@ -48,6 +48,7 @@ public enum ErrorCode {
     WEIGHING_002(400, "순중량이 음수입니다. 공차/적재 순서를 확인하세요"),
     WEIGHING_003(400, "이미 완료된 계량입니다"),
     WEIGHING_004(400, "유효하지 않은 계량 상태 변경입니다"),
+    WEIGHING_005(500, "계량 실적 저장에 실패했습니다"),
 
     // Master Data (기준정보 관련 에러)
     MASTER_001(404, "기준정보를 찾을 수 없습니다"),
@@ -98,8 +99,24 @@ public enum ErrorCode {
     // Help (도움말 관련 에러)
     HELP_001(404, "FAQ를 찾을 수 없습니다"),
 
+    // Export (내보내기 작업 관련 에러)
+    EXPORT_001(404, "내보내기 작업을 찾을 수 없습니다"),
+    EXPORT_002(400, "지원하지 않는 내보내기 유형입니다"),
+    EXPORT_003(409, "내보내기 파일이 아직 준비되지 않았습니다"),
+    EXPORT_004(503, "내보내기 작업이 많습니다. 잠시 후 다시 시도하세요"),
+    EXPORT_005(500, "내보내기 파일 생성에 실패했습니다"),
+
+    // LPR (차량번호인식 이미지 관련 에러)
+    LPR_001(404, "LPR 이미지를 찾을 수 없습니다"),
+    LPR_002(400, "지원하지 않는 이미지 형식입니다 (JPEG, PNG만 가능)"),
+    LPR_003(413, "이미지 크기가 허용 한도를 초과했습니다"),
+    LPR_004(500, "LPR 이미지 저장에 실패했습니다"),
+    LPR_005(400, "이미지 해상도가 허용 한도를 초과했습니다"),
+
     // Common (공통 에러)
     VALIDATION_ERROR(400, "입력값 검증 오류"),
+    INVALID_CURSOR(400, "유효하지 않은 페이지 커서입니다"),
+    PAYLOAD_TOO_LARGE(413, "요청 크기가 허용 한도를 초과했습니다"),
     INTERNAL_ERROR(500, "서버 내부 오류가 발생했습니다");
 
     /** HTTP 상태 코드 */
@@ -0,0 +1,59 @@
+package com.dongkuk.weighing.global.common.pagination;
+
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 근사 건수 추정기
+ *
+ * <p>{@code COUNT(*)} 대신 PostgreSQL 쿼리 플래너의 행 수 추정치를 사용하여
+ * 검색 결과의 근사 전체 건수를 반환한다. {@code EXPLAIN (FORMAT JSON)}의
+ * 최상위 노드 {@code Plan Rows} 값을 사용하므로 테이블을 스캔하지 않으며,
+ * 정확도는 ANALYZE 통계의 최신성에 따른다.</p>
+ *
+ * <p>플래너 통계를 제공하지 않는 데이터베이스(H2 등 개발/테스트 환경)이거나
+ * 추정에 실패한 경우 null을 반환한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see CursorSlice#approximateTotal()
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApproximateRowCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * 주어진 조건의 근사 행 수를 추정한다.
+     *
+     * @param table  대상 테이블명
+     * @param filter 검색 조건 (목록 조회와 같은 Specifications 클래스에서 생성한 조건)
+     * @return 근사 행 수 (추정 불가 시 null)
+     */
+    public Long estimate(String table, SqlFilter filter) {
+        if (!databaseDialect.isPostgres()) {
+            return null;
+        }
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + filter.toSql();
+        try {
+            String plan = jdbcTemplate.queryForObject(sql, String.class, filter.args().toArray());
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? rows.asLong() : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("근사 건수 추정 실패: table={}, error={}", table, e.getMessage());
+            return null;
+        }
+    }
+}
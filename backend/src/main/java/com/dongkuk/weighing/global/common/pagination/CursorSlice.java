@@ -0,0 +1,84 @@
+package com.dongkuk.weighing.global.common.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답
+ *
+ * 커서 기반 목록 조회 결과를 담는 응답 객체이다.
+ * OFFSET 페이징과 달리 전체 건수(COUNT) 쿼리를 수행하지 않으며,
+ * 다음 페이지 존재 여부와 다음 페이지 커서만 반환한다.
+ * 전체 건수가 필요한 경우 요청 시 선택적으로 근사 건수를 포함할 수 있다.
+ *
+ * @param content           조회 결과 목록
+ * @param size              요청 페이지 크기
+ * @param hasNext           다음 페이지 존재 여부
+ * @param nextCursor        다음 페이지 조회용 {@code after} 토큰 (마지막 페이지이면 null)
+ * @param approximateTotal  플래너 통계 기반 근사 전체 건수 (요청하지 않았거나 추정 불가 시 null)
+ * @param <T> 결과 항목 타입
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see KeysetCursor
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorSlice<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long approximateTotal
+) {
+
+    /** 기본 페이지 크기 */
+    public static final int DEFAULT_SIZE = 20;
+
+    /** 최대 페이지 크기 */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 허용 범위(1 ~ {@value #MAX_SIZE})로 보정한다.
+     *
+     * @param size 요청 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    public static int normalizeSize(int size) {
+        if (size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 페이지 크기 + 1건으로 조회한 결과로 키셋 페이지를 만든다.
+     * 초과분 1건이 있으면 다음 페이지가 있는 것으로 판단하고 잘라낸다.
+     *
+     * @param rows             (페이지 크기 + 1)건 한도로 조회한 엔티티 목록
+     * @param size             페이지 크기
+     * @param createdAtOf      엔티티의 생성일시 추출 함수
+     * @param idOf             엔티티의 ID 추출 함수
+     * @param mapper           엔티티 → 응답 DTO 변환 함수
+     * @param approximateTotal 근사 전체 건수 (nullable)
+     * @param <E> 엔티티 타입
+     * @param <T> 응답 DTO 타입
+     * @return 키셋 페이지
+     */
+    public static <E, T> CursorSlice<T> of(List<E> rows, int size,
+                                           Function<E, LocalDateTime> createdAtOf,
+                                           Function<E, Long> idOf,
+                                           Function<E, T> mapper,
+                                           Long approximateTotal) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(createdAtOf.apply(last), idOf.apply(last)).encode();
+        }
+        return new CursorSlice<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor, approximateTotal);
+    }
+}
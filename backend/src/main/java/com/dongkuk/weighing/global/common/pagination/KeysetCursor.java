@@ -0,0 +1,68 @@
+package com.dongkuk.weighing.global.common.pagination;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지 커서
+ *
+ * 정렬 키인 (생성일시, ID) 쌍을 담는 커서이다.
+ * 클라이언트에는 Base64 URL-safe 문자열로 인코딩된 불투명 토큰으로 전달되며,
+ * 다음 페이지 요청 시 {@code after} 파라미터로 되돌려 받는다.
+ *
+ * <p>목록은 (생성일시 DESC, ID DESC) 순으로 정렬되며, 다음 페이지는
+ * 커서보다 엄격히 작은 행부터 시작한다.</p>
+ *
+ * @param createdAt 마지막 행의 생성일시
+ * @param id        마지막 행의 ID
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see CursorSlice
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    /** 생성일시와 ID 구분자 */
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩한다.
+     *
+     * @return Base64 URL-safe 토큰
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 디코딩한다.
+     *
+     * @param token 클라이언트가 전달한 {@code after} 토큰 (nullable)
+     * @return 디코딩된 커서 (토큰이 비어 있으면 null, 즉 첫 페이지)
+     * @throws BusinessException 토큰 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.dongkuk.weighing.global.common.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Specification 한도 조회 실행기
+ *
+ * <p>{@code JpaSpecificationExecutor#findAll(Specification, Pageable)}은 항상 COUNT 쿼리를
+ * 함께 수행한다. 키셋 페이징처럼 전체 건수가 필요 없는 조회를 위해
+ * 정렬과 최대 건수(LIMIT)만 적용하여 목록을 조회한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchSpecifications
+ */
+@Component
+public class SearchQueryExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 엔티티를 정렬 순서대로 최대 limit건 조회한다.
+     *
+     * @param domainClass 엔티티 클래스
+     * @param spec        검색 조건 (null 가능, 조건 없음)
+     * @param sort        정렬 조건
+     * @param limit       최대 조회 건수
+     * @param <T> 엔티티 타입
+     * @return 조회 결과 (COUNT 쿼리 없음)
+     */
+    public <T> List<T> findLimited(Class<T> domainClass, Specification<T> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query.select(root))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,169 @@
+package com.dongkuk.weighing.global.common.search;
+
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 조건 Specification 팩토리
+ *
+ * <p>목록 검색 저장소에서 공통으로 사용하는 조건 조각을 생성한다.
+ * 모든 팩토리 메서드는 검색 값이 없으면(null 또는 공백) null을 반환하며,
+ * {@link Specification#where}/{@link Specification#and}는 null 조각을 무시하므로
+ * 실제로 지정된 필터에 대한 조건만 SQL에 포함된다.</p>
+ *
+ * <p>{@code (:param IS NULL OR col = :param)} 형태의 범용 JPQL은 PostgreSQL에서
+ * 모든 필터 조합이 하나의 일반 실행 계획을 공유하여 알맞은 인덱스를 사용하지 못한다.
+ * 이 팩토리로 조합한 조건은 필터 조합마다 서로 다른 SQL이 되어 각자의 실행 계획을 갖는다.</p>
+ *
+ * <p>인스턴스 생성을 방지하는 유틸리티 클래스이다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchQueryExecutor
+ */
+public final class SearchSpecifications {
+
+    /** LIKE 패턴 이스케이프 문자 */
+    static final char LIKE_ESCAPE = '\\';
+
+    /** 인스턴스 생성 방지 */
+    private SearchSpecifications() {}
+
+    /**
+     * 속성 값 일치 조건 (attribute = value)
+     *
+     * @param attribute 엔티티 속성명
+     * @param value     비교 값 (null이면 조건 없음)
+     * @param <T> 엔티티 타입
+     * @return 조건 Specification (값이 없으면 null)
+     */
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * 하한 조건 (attribute &gt;= value)
+     *
+     * @param attribute 엔티티 속성명
+     * @param value     하한 값 (null이면 조건 없음)
+     * @param <T> 엔티티 타입
+     * @param <Y> 비교 값 타입
+     * @return 조건 Specification (값이 없으면 null)
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> greaterThanOrEqualTo(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), value);
+    }
+
+    /**
+     * 상한 조건 (attribute &lt;= value)
+     *
+     * @param attribute 엔티티 속성명
+     * @param value     상한 값 (null이면 조건 없음)
+     * @param <T> 엔티티 타입
+     * @param <Y> 비교 값 타입
+     * @return 조건 Specification (값이 없으면 null)
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> lessThanOrEqualTo(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), value);
+    }
+
+    /**
+     * 부분 일치 조건 (attribute LIKE %keyword%)
+     * 검색어의 {@code %}, {@code _}는 와일드카드가 아닌 문자로 취급한다.
+     *
+     * @param attribute 엔티티 속성명
+     * @param keyword   검색어 (null 또는 공백이면 조건 없음, 앞뒤 공백 제거)
+     * @param <T> 엔티티 타입
+     * @return 조건 Specification (검색어가 없으면 null)
+     */
+    public static <T> Specification<T> contains(String attribute, String keyword) {
+        String pattern = containsPattern(keyword);
+        if (pattern == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(root.get(attribute), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴 ({@code %이스케이프된 검색어%})을 생성한다.
+     * {@link #contains}와 {@link SqlFilter#contains}가 같은 패턴을 사용하도록 한 곳에서 만든다.
+     *
+     * @param keyword 검색어 (null 또는 공백이면 null, 앞뒤 공백 제거)
+     * @return LIKE 패턴 (검색어가 없으면 null)
+     */
+    public static String containsPattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return "%" + escapeLike(keyword.trim()) + "%";
+    }
+
+    /**
+     * 키셋 페이징 조건: (createdAt, id) &lt; (cursor.createdAt, cursor.id)
+     *
+     * <p>인덱스 범위 검색이 가능하도록 {@code createdAt <= :c AND (createdAt < :c OR id < :id)}
+     * 형태로 전개한다.</p>
+     *
+     * @param createdAtAttribute 생성일시 속성명
+     * @param idAttribute        ID 속성명
+     * @param cursor             이전 페이지의 마지막 행 커서 (null이면 첫 페이지, 조건 없음)
+     * @param <T> 엔티티 타입
+     * @return 조건 Specification (커서가 없으면 null)
+     */
+    public static <T> Specification<T> keysetBefore(String createdAtAttribute, String idAttribute, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get(createdAtAttribute);
+            Path<Long> id = root.get(idAttribute);
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                    cb.or(
+                            cb.lessThan(createdAt, cursor.createdAt()),
+                            cb.lessThan(id, cursor.id())));
+        };
+    }
+
+    /**
+     * 키셋 페이징 정렬: createdAt DESC, id DESC
+     *
+     * @param createdAtAttribute 생성일시 속성명
+     * @param idAttribute        ID 속성명
+     * @return 정렬 조건
+     */
+    public static Sort keysetSort(String createdAtAttribute, String idAttribute) {
+        return Sort.by(Sort.Order.desc(createdAtAttribute), Sort.Order.desc(idAttribute));
+    }
+
+    /**
+     * LIKE 패턴의 와일드카드 문자({@code %}, {@code _})와 이스케이프 문자를 이스케이프한다.
+     * 네이티브 SQL에서 사용할 때는 {@code ESCAPE '\'} 절을 함께 지정해야 한다.
+     *
+     * @param keyword 검색어
+     * @return 이스케이프된 검색어
+     */
+    public static String escapeLike(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 4);
+        for (char c : keyword.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
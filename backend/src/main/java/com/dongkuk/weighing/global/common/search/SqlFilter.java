@@ -0,0 +1,107 @@
+package com.dongkuk.weighing.global.common.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 네이티브 SQL 검색 조건 빌더
+ *
+ * <p>{@link SearchSpecifications}와 같은 규칙으로 네이티브 SQL WHERE 절을 조합한다.
+ * 값이 없으면(null 또는 공백) 조건을 추가하지 않고, 부분 일치 조건은
+ * {@link SearchSpecifications#containsPattern}으로 같은 이스케이프 패턴을 사용한다.
+ * 근사 건수 추정이나 JDBC 스트리밍처럼 JPA를 거치지 않는 조회가
+ * 목록 검색과 같은 조건을 사용하도록 각 도메인의 Specifications 클래스에서 함께 정의한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchSpecifications
+ */
+public final class SqlFilter {
+
+    private final List<String> predicates = new ArrayList<>();
+    private final List<Object> args = new ArrayList<>();
+
+    private SqlFilter() {}
+
+    /**
+     * 빈 조건으로 시작한다.
+     *
+     * @return 조건 빌더
+     */
+    public static SqlFilter where() {
+        return new SqlFilter();
+    }
+
+    /**
+     * 컬럼 값 일치 조건 (column = ?). 열거형은 이름으로 바인딩한다.
+     *
+     * @param column 컬럼명
+     * @param value  비교 값 (null이면 조건 없음)
+     * @return 조건 빌더
+     */
+    public SqlFilter equalTo(String column, Object value) {
+        return add(column + " = ?", value);
+    }
+
+    /**
+     * 하한 조건 (column &gt;= ?)
+     *
+     * @param column 컬럼명
+     * @param value  하한 값 (null이면 조건 없음)
+     * @return 조건 빌더
+     */
+    public SqlFilter greaterThanOrEqualTo(String column, Object value) {
+        return add(column + " >= ?", value);
+    }
+
+    /**
+     * 상한 조건 (column &lt;= ?)
+     *
+     * @param column 컬럼명
+     * @param value  상한 값 (null이면 조건 없음)
+     * @return 조건 빌더
+     */
+    public SqlFilter lessThanOrEqualTo(String column, Object value) {
+        return add(column + " <= ?", value);
+    }
+
+    /**
+     * 부분 일치 조건 (column LIKE ? ESCAPE '\')
+     * 검색어의 {@code %}, {@code _}는 와일드카드가 아닌 문자로 취급한다.
+     *
+     * @param column  컬럼명
+     * @param keyword 검색어 (null 또는 공백이면 조건 없음, 앞뒤 공백 제거)
+     * @return 조건 빌더
+     */
+    public SqlFilter contains(String column, String keyword) {
+        return add(column + " LIKE ? ESCAPE '" + SearchSpecifications.LIKE_ESCAPE + "'",
+                SearchSpecifications.containsPattern(keyword));
+    }
+
+    /**
+     * WHERE 절을 반환한다.
+     *
+     * @return 앞에 공백을 둔 WHERE 절 (조건이 없으면 빈 문자열)
+     */
+    public String toSql() {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    /**
+     * 바인딩 파라미터 값을 반환한다.
+     *
+     * @return 파라미터 값 목록 (WHERE 절의 ? 순서)
+     */
+    public List<Object> args() {
+        return Collections.unmodifiableList(args);
+    }
+
+    private SqlFilter add(String predicate, Object value) {
+        if (value != null) {
+            predicates.add(predicate);
+            args.add(value instanceof Enum<?> e ? e.name() : value);
+        }
+        return this;
+    }
+}
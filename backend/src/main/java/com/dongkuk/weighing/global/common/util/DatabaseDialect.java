@@ -0,0 +1,40 @@
+package com.dongkuk.weighing.global.common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터베이스 종류 판별기
+ *
+ * 운영(PostgreSQL)과 개발/테스트(H2) 환경에서 SQL을 달리 실행하는 JDBC 저장소가
+ * 공통으로 사용한다. 최초 호출 시 커넥션 메타데이터로 한 번만 판별하고 결과를 재사용한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** PostgreSQL 여부 (최초 호출 시 판별) */
+    private volatile Boolean postgres;
+
+    /**
+     * 연결된 데이터베이스가 PostgreSQL인지 확인한다.
+     *
+     * @return PostgreSQL이면 true
+     */
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName())));
+            postgres = result;
+        }
+        return result;
+    }
+}
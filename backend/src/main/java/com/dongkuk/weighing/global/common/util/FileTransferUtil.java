@@ -0,0 +1,64 @@
+package com.dongkuk.weighing.global.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 응답 전송 유틸리티
+ *
+ * Tomcat이 sendfile을 지원하면 파일 경로만 넘겨 커널이 파일을 소켓으로 직접 전송하게 하고,
+ * 지원하지 않으면 {@link FileChannel#transferTo}로 전송한다. 어느 경우에도 파일 내용을
+ * 힙 버퍼로 읽어 들이지 않는다.
+ * 인스턴스 생성을 방지하는 유틸리티 클래스이다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class FileTransferUtil {
+
+    /** Tomcat이 sendfile 사용 가능 여부를 알려주는 요청 속성 */
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /** 인스턴스 생성 방지 */
+    private FileTransferUtil() {}
+
+    /**
+     * 파일 전체를 응답 본문으로 전송한다.
+     * Content-Type 등 다른 헤더는 호출 전에 설정해야 하며, Content-Length는 여기서 설정한다.
+     *
+     * @param file     전송할 파일
+     * @param size     파일 크기 (바이트)
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 파일 읽기 또는 응답 쓰기 실패 시
+     */
+    public static void sendFile(Path file, long size, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+}
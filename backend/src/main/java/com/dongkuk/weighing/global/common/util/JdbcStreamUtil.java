@@ -0,0 +1,46 @@
+package com.dongkuk.weighing.global.common.util;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC 스트리밍 조회 유틸리티
+ *
+ * 조회 결과를 전체 목록으로 만들지 않고 fetch size 단위로 읽으면서 한 행씩 전달한다.
+ * PostgreSQL 드라이버는 트랜잭션(autocommit 해제) 안에서만 커서 방식으로 읽으므로
+ * 호출 측은 읽기 전용 트랜잭션 안에서 호출해야 메모리 사용이 일정하게 유지된다.
+ * 인스턴스 생성을 방지하는 유틸리티 클래스이다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class JdbcStreamUtil {
+
+    /** 인스턴스 생성 방지 */
+    private JdbcStreamUtil() {}
+
+    /**
+     * SQL을 실행하고 결과를 한 행씩 변환하여 전달한다.
+     *
+     * @param jdbcTemplate JDBC 템플릿
+     * @param sql          조회 SQL
+     * @param args         바인딩 파라미터 (SQL의 ? 순서)
+     * @param fetchSize    한 번에 가져올 행 수
+     * @param mapper       행 변환기
+     * @param consumer     행 처리기
+     * @param <T>          변환 결과 타입
+     */
+    public static <T> void stream(JdbcTemplate jdbcTemplate, String sql, List<Object> args, int fetchSize,
+                                  RowMapper<T> mapper, Consumer<T> consumer) {
+        ArgumentPreparedStatementSetter argsSetter = new ArgumentPreparedStatementSetter(args.toArray());
+        jdbcTemplate.query(sql, ps -> {
+            ps.setFetchSize(fetchSize);
+            argsSetter.setValues(ps);
+        }, (RowCallbackHandler) rs -> consumer.accept(mapper.mapRow(rs, rs.getRow())));
+    }
+}
@@ -0,0 +1,35 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 최소 중량 검증
+ *
+ * <p>{@link Weight} 값이 지정한 kg 값 이상인지 검증한다. {@code @DecimalMin}의 {@code Weight} 버전이며,
+ * null은 유효로 처리하므로 필수 값은 {@code @NotNull}과 함께 사용한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Documented
+@Constraint(validatedBy = MinWeightValidator.class)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MinWeight {
+
+    /** 최소 중량 (kg 단위 10진 문자열, 포함) */
+    String value();
+
+    String message() default "중량은 {value}kg 이상이어야 합니다";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,25 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link MinWeight} 검증기
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public class MinWeightValidator implements ConstraintValidator<MinWeight, Weight> {
+
+    private Weight min;
+
+    @Override
+    public void initialize(MinWeight annotation) {
+        this.min = Weight.parseKg(annotation.value());
+    }
+
+    @Override
+    public boolean isValid(Weight value, ConstraintValidatorContext context) {
+        return value == null || value.compareTo(min) >= 0;
+    }
+}
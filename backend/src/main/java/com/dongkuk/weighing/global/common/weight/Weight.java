@@ -0,0 +1,218 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정 소수점 중량 값
+ *
+ * <p>중량을 그램 단위 {@code long} 하나로 보관하는 불변 값 타입이다. 계량 기록, 일별 집계, 통계,
+ * WebSocket 메시지에서 {@link BigDecimal} 대신 사용하여 집계 루프의 객체 할당과 scale 처리를 없앤다.
+ * 그램 단위 정수 연산이므로 합계/차이는 정확하며, 표현 범위는 ±9.2 × 10¹² 톤이다.</p>
+ *
+ * <ul>
+ *   <li>DB: {@link WeightConverter}가 기존 kg 단위 NUMERIC 컬럼과 변환한다. (스키마 변경 없음)</li>
+ *   <li>JSON: kg 단위 숫자로 직렬화한다. (예: {@code 25300.00}, 그램 단위가 있으면 {@code 25300.125})</li>
+ *   <li>입력: kg 단위 숫자/문자열을 소수 넷째 자리에서 반올림(HALF_UP)하여 그램으로 변환한다.</li>
+ * </ul>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@JsonSerialize(using = WeightJsonSerializer.class)
+@JsonDeserialize(using = WeightJsonDeserializer.class)
+public final class Weight implements Comparable<Weight> {
+
+    /** 0kg */
+    public static final Weight ZERO = new Weight(0);
+
+    private static final long GRAMS_PER_KG = 1_000;
+    private static final double GRAMS_PER_TON = 1_000_000.0;
+
+    private final long grams;
+
+    private Weight(long grams) {
+        this.grams = grams;
+    }
+
+    // ─── 생성 ───
+
+    /** 그램 단위 값으로 생성한다. */
+    public static Weight ofGrams(long grams) {
+        return grams == 0 ? ZERO : new Weight(grams);
+    }
+
+    /** kg 단위 정수로 생성한다. */
+    public static Weight ofKg(long kg) {
+        return ofGrams(Math.multiplyExact(kg, GRAMS_PER_KG));
+    }
+
+    /** kg 단위 실수로 생성한다. (그램 미만 반올림) */
+    public static Weight ofKg(double kg) {
+        return ofGrams(Math.round(kg * GRAMS_PER_KG));
+    }
+
+    /**
+     * kg 단위 {@link BigDecimal}로 생성한다. (그램 미만 HALF_UP 반올림)
+     *
+     * @param kg 중량 (kg, null이면 null 반환)
+     */
+    public static Weight ofKg(BigDecimal kg) {
+        if (kg == null) {
+            return null;
+        }
+        return ofGrams(kg.movePointRight(3).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    /**
+     * kg 단위 10진 문자열을 해석한다. (예: "25300", "25300.5", "-12.3456")
+     * 그램 미만은 HALF_UP으로 반올림하며, 지수 표기는 {@link BigDecimal}로 해석한다.
+     *
+     * @param text kg 단위 문자열
+     * @return 중량
+     * @throws NumberFormatException 숫자 형식이 아닌 경우
+     */
+    public static Weight parseKg(String text) {
+        int length = text.length();
+        int pos = 0;
+        boolean negative = false;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative = text.charAt(pos) == '-';
+            pos++;
+        }
+        long kg = 0;
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        boolean digits = false;
+        boolean inFraction = false;
+        for (; pos < length; pos++) {
+            char c = text.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (!inFraction) {
+                    kg = Math.addExact(Math.multiplyExact(kg, 10), c - '0');
+                } else if (fractionDigits < 3) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionDigits++;
+                } else if (fractionDigits == 3) {
+                    roundUp = c >= '5';
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c == 'e' || c == 'E') {
+                return ofKg(new BigDecimal(text));
+            } else {
+                throw new NumberFormatException("중량 형식이 아닙니다: " + text);
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("중량 형식이 아닙니다: " + text);
+        }
+        for (int i = Math.min(fractionDigits, 3); i < 3; i++) {
+            fraction *= 10;
+        }
+        long grams = Math.addExact(Math.multiplyExact(kg, GRAMS_PER_KG), fraction) + (roundUp ? 1 : 0);
+        return ofGrams(negative ? -grams : grams);
+    }
+
+    // ─── 값 조회 ───
+
+    /** 그램 단위 값 */
+    public long grams() {
+        return grams;
+    }
+
+    /** kg 단위 실수 값 (통계/엑셀 출력용) */
+    public double kg() {
+        return grams / (double) GRAMS_PER_KG;
+    }
+
+    /** 톤 단위 실수 값 (통계/대시보드 출력용) */
+    public double tons() {
+        return grams / GRAMS_PER_TON;
+    }
+
+    /** kg 단위 {@link BigDecimal} (scale 3, JDBC 바인딩용) */
+    public BigDecimal toBigDecimalKg() {
+        return BigDecimal.valueOf(grams, 3);
+    }
+
+    // ─── 연산 ───
+
+    public Weight plus(Weight other) {
+        return ofGrams(Math.addExact(grams, other.grams));
+    }
+
+    public Weight minus(Weight other) {
+        return ofGrams(Math.subtractExact(grams, other.grams));
+    }
+
+    public Weight negate() {
+        return ofGrams(Math.negateExact(grams));
+    }
+
+    public boolean isNegative() {
+        return grams < 0;
+    }
+
+    public boolean isZero() {
+        return grams == 0;
+    }
+
+    // ─── 표현 ───
+
+    /**
+     * kg 단위 10진 문자열. 소수 둘째 자리까지 표시하고, 그램 단위 값이 있으면 셋째 자리까지 표시한다.
+     * 기존 NUMERIC(10, 2) 컬럼의 {@code toPlainString()} 출력과 같다. (예: 25300.00, 12.345)
+     */
+    public String toPlainString() {
+        StringBuilder sb = new StringBuilder(24);
+        long abs = Math.abs(grams);
+        if (grams < 0) {
+            sb.append('-');
+        }
+        sb.append(abs / GRAMS_PER_KG).append('.');
+        int fraction = (int) (abs % GRAMS_PER_KG);
+        if (fraction % 10 == 0) {
+            int hundredths = fraction / 10;
+            if (hundredths < 10) {
+                sb.append('0');
+            }
+            sb.append(hundredths);
+        } else {
+            if (fraction < 100) {
+                sb.append('0');
+            }
+            if (fraction < 10) {
+                sb.append('0');
+            }
+            sb.append(fraction);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int compareTo(Weight other) {
+        return Long.compare(grams, other.grams);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Weight other && grams == other.grams;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(grams);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+}
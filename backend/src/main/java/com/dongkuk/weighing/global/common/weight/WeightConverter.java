@@ -0,0 +1,29 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * 중량 JPA 변환기
+ *
+ * <p>{@link Weight} 필드를 kg 단위 NUMERIC 컬럼과 변환한다. 모든 엔티티의 {@code Weight} 필드에
+ * 자동 적용되며, 컬럼 정밀도({@code precision}, {@code scale})는 필드의 {@code @Column} 선언을 따른다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Converter(autoApply = true)
+public class WeightConverter implements AttributeConverter<Weight, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Weight attribute) {
+        return attribute != null ? attribute.toBigDecimalKg() : null;
+    }
+
+    @Override
+    public Weight convertToEntityAttribute(BigDecimal dbData) {
+        return Weight.ofKg(dbData);
+    }
+}
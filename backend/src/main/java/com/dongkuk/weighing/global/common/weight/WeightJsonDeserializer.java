@@ -0,0 +1,45 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * 중량 JSON 역직렬화기
+ *
+ * <p>kg 단위 숫자 또는 숫자 문자열을 {@link Weight}로 읽는다. 실수 토큰은 {@code double}을 거치지 않고
+ * 원문 10진 표기를 그램으로 해석하므로 {@code 0.1 + 0.2} 같은 이진 오차가 생기지 않는다.
+ * 빈 문자열은 null로 읽는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public class WeightJsonDeserializer extends StdDeserializer<Weight> {
+
+    public WeightJsonDeserializer() {
+        super(Weight.class);
+    }
+
+    @Override
+    public Weight deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_NUMBER_INT:
+                return Weight.ofKg(p.getLongValue());
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_STRING:
+                String text = p.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Weight.parseKg(text);
+                } catch (NumberFormatException | ArithmeticException e) {
+                    return (Weight) ctxt.handleWeirdStringValue(Weight.class, text, "kg 단위 숫자가 아닙니다");
+                }
+            default:
+                return (Weight) ctxt.handleUnexpectedToken(Weight.class, p);
+        }
+    }
+}
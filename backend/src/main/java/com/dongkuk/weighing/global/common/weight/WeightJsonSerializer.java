@@ -0,0 +1,28 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * 중량 JSON 직렬화기
+ *
+ * <p>{@link Weight}를 kg 단위 숫자로 기록한다. {@link Weight#toPlainString()} 표현을 그대로 숫자 토큰으로
+ * 쓰므로 {@link java.math.BigDecimal} 직렬화와 같은 출력(예: {@code 25300.00})을 만든다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public class WeightJsonSerializer extends StdSerializer<Weight> {
+
+    public WeightJsonSerializer() {
+        super(Weight.class);
+    }
+
+    @Override
+    public void serialize(Weight value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(value.toPlainString());
+    }
+}
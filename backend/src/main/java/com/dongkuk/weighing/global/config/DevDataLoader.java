@@ -5,6 +5,7 @@ import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
 import com.dongkuk.weighing.dispatch.domain.ItemType;
 import com.dongkuk.weighing.gatepass.domain.GatePass;
 import com.dongkuk.weighing.gatepass.domain.GatePassRepository;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import com.dongkuk.weighing.help.domain.Faq;
 import com.dongkuk.weighing.help.domain.FaqCategory;
 import com.dongkuk.weighing.help.domain.FaqRepository;
@@ -500,20 +501,20 @@ public class DevDataLoader {
             WeighingRecord w1 = weighingRepository.save(WeighingRecord.builder()
                     .dispatchId(d4.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.LPR_AUTO).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("25300.00"))
+                    .grossWeight(Weight.ofKg(25300))
                     .lprPlateNumber("부산34나5678").aiConfidence(new BigDecimal("0.9650"))
                     .build());
 
             WeighingRecord w2 = weighingRepository.save(WeighingRecord.builder()
                     .dispatchId(d5.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.MOBILE_OTP).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("18500.00"))
+                    .grossWeight(Weight.ofKg(18500))
                     .build());
 
             WeighingRecord w3 = weighingRepository.save(WeighingRecord.builder()
                     .dispatchId(d6.getDispatchId()).scaleId(scale2.getScaleId())
                     .weighingMode(WeighingMode.LPR_AUTO).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("32100.00"))
+                    .grossWeight(Weight.ofKg(32100))
                     .lprPlateNumber("경남90마5678").aiConfidence(new BigDecimal("0.9820"))
                     .build());
 
@@ -521,75 +522,75 @@ public class DevDataLoader {
             WeighingRecord w4 = WeighingRecord.builder()
                     .dispatchId(d8.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.LPR_AUTO).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("27500.00"))
+                    .grossWeight(Weight.ofKg(27500))
                     .lprPlateNumber("부산12가3456").aiConfidence(new BigDecimal("0.9510"))
                     .build();
-            w4.recordTareWeight(new BigDecimal("8500.00"));
+            w4.recordTareWeight(Weight.ofKg(8500));
             w4.complete();
             w4 = weighingRepository.save(w4);
 
             WeighingRecord w5 = WeighingRecord.builder()
                     .dispatchId(d9.getDispatchId()).scaleId(scale2.getScaleId())
                     .weighingMode(WeighingMode.LPR_AUTO).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("23800.00"))
+                    .grossWeight(Weight.ofKg(23800))
                     .lprPlateNumber("부산34나5678").aiConfidence(new BigDecimal("0.9380"))
                     .build();
-            w5.recordTareWeight(new BigDecimal("12000.00"));
+            w5.recordTareWeight(Weight.ofKg(12000));
             w5.complete();
             w5 = weighingRepository.save(w5);
 
             WeighingRecord w6 = WeighingRecord.builder()
                     .dispatchId(d10.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.MOBILE_OTP).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("28200.00"))
+                    .grossWeight(Weight.ofKg(28200))
                     .build();
-            w6.recordTareWeight(new BigDecimal("10000.00"));
+            w6.recordTareWeight(Weight.ofKg(10000));
             w6.complete();
             w6 = weighingRepository.save(w6);
 
             WeighingRecord w7 = WeighingRecord.builder()
                     .dispatchId(d11.getDispatchId()).scaleId(scale2.getScaleId())
                     .weighingMode(WeighingMode.MANUAL).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("35600.00"))
+                    .grossWeight(Weight.ofKg(35600))
                     .build();
-            w7.recordTareWeight(new BigDecimal("9000.00"));
+            w7.recordTareWeight(Weight.ofKg(9000));
             w7.complete();
             w7 = weighingRepository.save(w7);
 
             WeighingRecord w8 = WeighingRecord.builder()
                     .dispatchId(d12.getDispatchId()).scaleId(scale3.getScaleId())
                     .weighingMode(WeighingMode.LPR_AUTO).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("38200.00"))
+                    .grossWeight(Weight.ofKg(38200))
                     .lprPlateNumber("부산11바9012").aiConfidence(new BigDecimal("0.8920"))
                     .build();
-            w8.recordTareWeight(new BigDecimal("13000.00"));
+            w8.recordTareWeight(Weight.ofKg(13000));
             w8.complete();
             w8 = weighingRepository.save(w8);
 
             WeighingRecord w9 = WeighingRecord.builder()
                     .dispatchId(d13.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.MOBILE_OTP).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("19800.00"))
+                    .grossWeight(Weight.ofKg(19800))
                     .build();
-            w9.recordTareWeight(new BigDecimal("7500.00"));
+            w9.recordTareWeight(Weight.ofKg(7500));
             w9.complete();
             w9 = weighingRepository.save(w9);
 
             WeighingRecord w10 = WeighingRecord.builder()
                     .dispatchId(d8.getDispatchId()).scaleId(scale2.getScaleId())
                     .weighingMode(WeighingMode.MANUAL).weighingStep(WeighingStep.SECOND)
-                    .grossWeight(new BigDecimal("27200.00"))
+                    .grossWeight(Weight.ofKg(27200))
                     .build();
-            w10.recordTareWeight(new BigDecimal("8500.00"));
+            w10.recordTareWeight(Weight.ofKg(8500));
             w10.complete();
             w10 = weighingRepository.save(w10);
 
             WeighingRecord w11 = WeighingRecord.builder()
                     .dispatchId(d9.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.MANUAL).weighingStep(WeighingStep.SECOND)
-                    .grossWeight(new BigDecimal("24100.00"))
+                    .grossWeight(Weight.ofKg(24100))
                     .build();
-            w11.recordTareWeight(new BigDecimal("12000.00"));
+            w11.recordTareWeight(Weight.ofKg(12000));
             w11.complete();
             w11 = weighingRepository.save(w11);
 
@@ -597,7 +598,7 @@ public class DevDataLoader {
             WeighingRecord w12 = WeighingRecord.builder()
                     .dispatchId(d7.getDispatchId()).scaleId(scale1.getScaleId())
                     .weighingMode(WeighingMode.RE_WEIGH).weighingStep(WeighingStep.FIRST)
-                    .grossWeight(new BigDecimal("33500.00"))
+                    .grossWeight(Weight.ofKg(33500))
                     .build();
             w12.markReWeighing("초기 계량값 이상 - 재계량 요청");
             w12 = weighingRepository.save(w12);
@@ -651,8 +652,8 @@ public class DevDataLoader {
                     histDispatch = dispatchRepository.save(histDispatch);
 
                     // 중량 랜덤 생성 (15000 ~ 40000 kg)
-                    BigDecimal grossWeight = new BigDecimal(15000 + random.nextInt(25000));
-                    BigDecimal tareWeight = new BigDecimal(7000 + random.nextInt(6000));
+                    Weight grossWeight = Weight.ofKg(15000 + random.nextInt(25000));
+                    Weight tareWeight = Weight.ofKg(7000 + random.nextInt(6000));
 
                     // 계량 레코드 생성
                     WeighingRecord histWeighing = WeighingRecord.builder()
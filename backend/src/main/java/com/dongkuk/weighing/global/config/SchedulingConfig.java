@@ -0,0 +1,17 @@
+package com.dongkuk.weighing.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * {@code @Scheduled} 기반 주기 작업(내보내기 결과 정리 등)을 활성화한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,14 @@
 package com.dongkuk.weighing.global.config;
 
+import com.dongkuk.weighing.websocket.config.WebSocketBrokerProperties;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 실시간 양방향 통신 설정
@@ -13,13 +17,20 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * 계량 실시간 업데이트, 계근대 상태 변경, 장비 상태 모니터링 등
  * 서버에서 클라이언트로의 실시간 데이터 전송에 사용된다.
  *
+ * <p>계량 업데이트와 계근대 상태는 계량대/업체별 토픽으로도 전송되므로 계량대 PC는 자기 계량대 토픽만
+ * 구독하여 다른 계량대의 메시지를 받지 않는다. 채널 스레드 풀 크기와 세션별 송신 제한은
+ * {@link WebSocketBrokerProperties}({@code websocket.broker})로 설정한다.</p>
+ *
  * @author 시스템
  * @since 1.0
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketBrokerProperties brokerProperties;
+
     /**
      * 메시지 브로커를 설정한다.
      * - /topic: 구독 경로 접두사 (서버 → 클라이언트 브로드캐스트)
@@ -29,7 +40,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 클라이언트가 구독할 경로 접두사 (예: /topic/weighing-updates)
+        // 클라이언트가 구독할 경로 접두사 (예: /topic/scale/{scaleId}/weighing, 패턴 구독 /topic/scale/*/weighing)
         config.enableSimpleBroker("/topic");
         // 클라이언트가 메시지를 보낼 경로 접두사
         config.setApplicationDestinationPrefixes("/app");
@@ -48,4 +59,45 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    /**
+     * 클라이언트 수신 채널 스레드 풀을 설정한다.
+     *
+     * @param registration 채널 등록 정보
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configurePool(registration, brokerProperties.getInbound());
+    }
+
+    /**
+     * 클라이언트 송신 채널 스레드 풀을 설정한다.
+     *
+     * @param registration 채널 등록 정보
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configurePool(registration, brokerProperties.getOutbound());
+    }
+
+    /**
+     * 세션별 송신 제한(백프레셔)을 설정한다.
+     * 송신 시간 또는 송신 버퍼가 제한을 넘는 느린 클라이언트는 세션이 종료된다.
+     *
+     * @param registration WebSocket 전송 설정
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(brokerProperties.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(brokerProperties.getSendBufferSizeLimit())
+                .setMessageSizeLimit(brokerProperties.getMessageSizeLimit());
+    }
+
+    private static void configurePool(ChannelRegistration registration, WebSocketBrokerProperties.ChannelPool pool) {
+        int corePoolSize = Math.max(1, pool.getCorePoolSize());
+        registration.taskExecutor()
+                .corePoolSize(corePoolSize)
+                .maxPoolSize(Math.max(corePoolSize, pool.getMaxPoolSize()))
+                .queueCapacity(pool.getQueueCapacity());
+    }
 }
@@ -0,0 +1,236 @@
+package com.dongkuk.weighing.global.partition;
+
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위 범위 파티션 DDL JDBC 저장소
+ *
+ * <p>PostgreSQL 선언적 파티션(PARTITION BY RANGE)의 전환, 월 파티션 생성, 분리(DETACH) 후 보관 스키마 이동과
+ * 파티션을 지원하지 않는 데이터베이스(H2 개발 환경)의 행 이동 보관을 수행한다.
+ * 테이블·컬럼 이름은 {@link PartitionedTable} 상수에서만 오므로 SQL에 직접 결합한다.</p>
+ *
+ * <p>모든 메서드는 호출 측 트랜잭션 안에서 실행되어야 한다. PostgreSQL의 DDL은 트랜잭션에 포함되므로
+ * 전환 도중 실패하면 테이블은 전환 전 상태로 돌아간다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see PartitionMaintenanceService
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    /** 파티션 경계 표현식의 상한 (예: FOR VALUES FROM ('2026-10-01 00:00:00') TO ('2026-11-01 00:00:00')) */
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})[^']*'\\)");
+
+    private static final String RELKIND_SQL =
+            "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "WHERE n.nspname = current_schema() AND c.relname = ?";
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound " +
+            "FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+            "WHERE n.nspname = current_schema() AND p.relname = ?";
+
+    private static final String INDEXES_SQL =
+            "SELECT i.relname AS name, pg_get_indexdef(x.indexrelid) AS definition, x.indisunique AS is_unique " +
+            "FROM pg_index x JOIN pg_class i ON i.oid = x.indexrelid " +
+            "WHERE x.indrelid = CAST(? AS regclass) AND NOT x.indisprimary";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * 파티션 상태 조회 결과
+     *
+     * @param name       파티션 테이블 이름
+     * @param upperBound 범위 상한 (해당 일자 0시 미만까지 포함, 기본 파티션이거나 MAXVALUE이면 null)
+     */
+    public record PartitionInfo(String name, LocalDate upperBound) {
+    }
+
+    /** 선언적 파티션을 지원하는 PostgreSQL인지 여부 */
+    public boolean isPostgres() {
+        return databaseDialect.isPostgres();
+    }
+
+    /**
+     * 여러 인스턴스가 같은 테이블을 동시에 관리하지 않도록 트랜잭션 범위 권고 잠금을 시도한다.
+     *
+     * @return 잠금을 얻었으면 true (트랜잭션 종료 시 자동 해제)
+     */
+    public boolean tryLock(PartitionedTable table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, "partition:" + table.getTableName()));
+    }
+
+    /** 테이블이 이미 파티션 테이블인지 여부 (테이블이 없으면 null) */
+    public Boolean isPartitioned(PartitionedTable table) {
+        List<String> kinds = jdbcTemplate.queryForList(RELKIND_SQL, String.class, table.getTableName());
+        return kinds.isEmpty() ? null : "p".equals(kinds.get(0));
+    }
+
+    /** 파티션 키 최대값 (행이 없으면 null) */
+    public LocalDateTime maxPartitionKey(PartitionedTable table) {
+        Timestamp max = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + table.getPartitionColumn() + ") FROM " + table.getTableName(), Timestamp.class);
+        return max != null ? max.toLocalDateTime() : null;
+    }
+
+    /**
+     * 일반 테이블을 같은 이름의 월 범위 파티션 테이블로 전환한다.
+     *
+     * <ol>
+     *   <li>기존 테이블과 인덱스 이름에 {@code _legacy}를 붙인다.</li>
+     *   <li>같은 컬럼·기본값·CHECK 제약의 파티션 테이블을 만들고 기본키를 (식별자, 파티션 키)로 바꾼다.</li>
+     *   <li>기존 보조 인덱스를 원래 이름으로 파티션 테이블에 다시 만든다. (파티션별 인덱스로 전파)</li>
+     *   <li>식별자 시퀀스를 파티션 테이블로 넘긴다.</li>
+     *   <li>기존 테이블에 행이 있으면 (MINVALUE, legacyUpperBound) 파티션으로 붙이고, 없으면 삭제한다.</li>
+     * </ol>
+     *
+     * @param table            대상 테이블
+     * @param legacyUpperBound 기존 행을 담을 파티션의 상한 월 (행이 없으면 null)
+     */
+    public void convertToPartitioned(PartitionedTable table, YearMonth legacyUpperBound) {
+        String name = table.getTableName();
+        String legacy = table.legacyName();
+        String id = table.getIdColumn();
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList(INDEXES_SQL, name);
+        String identity = jdbcTemplate.queryForObject(
+                "SELECT attidentity FROM pg_attribute WHERE attrelid = CAST(? AS regclass) AND attname = ?",
+                String.class, name, id);
+
+        jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + legacy);
+        jdbcTemplate.queryForList("SELECT conname FROM pg_constraint WHERE conrelid = CAST(? AS regclass) " +
+                        "AND contype = 'p'", String.class, legacy)
+                .forEach(pk -> jdbcTemplate.execute(
+                        "ALTER TABLE " + legacy + " RENAME CONSTRAINT " + pk + " TO " + legacy + "_pkey"));
+        for (Map<String, Object> index : indexes) {
+            jdbcTemplate.execute("ALTER INDEX " + index.get("name") + " RENAME TO " + legacyIndexName(index));
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + legacy +
+                " INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING CONSTRAINTS) " +
+                "PARTITION BY RANGE (" + table.getPartitionColumn() + ")");
+        jdbcTemplate.execute("ALTER TABLE " + name + " ADD CONSTRAINT " + name + "_pkey " +
+                "PRIMARY KEY (" + id + ", " + table.getPartitionColumn() + ")");
+        for (Map<String, Object> index : indexes) {
+            String definition = (String) index.get("definition");
+            if (Boolean.TRUE.equals(index.get("is_unique")) && !definition.contains(table.getPartitionColumn())) {
+                // 파티션 테이블의 유일 인덱스는 파티션 키를 포함해야 한다.
+                log.warn("파티션 키가 없는 유일 인덱스는 파티션별 인덱스로 대체할 수 없어 제외: {}", definition);
+                continue;
+            }
+            jdbcTemplate.execute(definition);
+        }
+
+        if ("a".equals(identity) || "d".equals(identity)) {
+            // 새 IDENTITY 시퀀스를 기존 최대값 다음으로 맞추고, 파티션으로 붙일 기존 테이블의 IDENTITY는 해제
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, ?), " +
+                    "COALESCE((SELECT MAX(" + id + ") FROM " + legacy + "), 0) + 1, false)", Long.class, name, id);
+            jdbcTemplate.execute("ALTER TABLE " + legacy + " ALTER COLUMN " + id + " DROP IDENTITY");
+        } else {
+            // serial 기본값은 기존 시퀀스를 그대로 참조하므로 소유 관계만 옮긴다. (보관 시 시퀀스가 함께 이동하지 않도록)
+            String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, ?)", String.class,
+                    legacy, id);
+            if (sequence != null) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " OWNED BY " + name + "." + id);
+            }
+        }
+
+        if (legacyUpperBound != null) {
+            jdbcTemplate.execute("ALTER TABLE " + name + " ATTACH PARTITION " + legacy +
+                    " FOR VALUES FROM (MINVALUE) TO ('" + legacyUpperBound.atDay(1) + "')");
+        } else {
+            jdbcTemplate.execute("DROP TABLE " + legacy);
+        }
+    }
+
+    /** 범위 밖 행을 받는 기본 파티션을 만든다. (이미 있으면 무시) */
+    public void createDefaultPartition(PartitionedTable table) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table.defaultPartitionName() +
+                " PARTITION OF " + table.getTableName() + " DEFAULT");
+    }
+
+    /**
+     * 월 파티션을 만든다.
+     *
+     * <p>기본 파티션에 해당 월 행이 있으면 파티션을 바로 만들 수 없으므로, 빈 테이블에 그 행을 옮긴 뒤
+     * 파티션으로 붙인다. 기본 파티션이 비어 있는 평상시에는 옮길 행이 없다.</p>
+     *
+     * @return 옮긴 기본 파티션 행 수
+     */
+    public int createMonthlyPartition(PartitionedTable table, YearMonth month) {
+        String partition = table.partitionName(month);
+        String key = table.getPartitionColumn();
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table.getTableName() +
+                " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + table.defaultPartitionName() +
+                " WHERE " + key + " >= ? AND " + key + " < ? RETURNING *) " +
+                "INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + table.getTableName() + " ATTACH PARTITION " + partition +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        return moved;
+    }
+
+    /** 테이블의 파티션 목록과 범위 상한을 조회한다. */
+    public List<PartitionInfo> findPartitions(PartitionedTable table) {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> {
+            Matcher matcher = UPPER_BOUND.matcher(rs.getString("bound"));
+            return new PartitionInfo(rs.getString("name"),
+                    matcher.find() ? LocalDate.parse(matcher.group(1)) : null);
+        }, table.getTableName());
+    }
+
+    /**
+     * 파티션을 분리하여 보관 스키마로 옮긴다. 분리된 테이블은 운영 조회에서 제외되지만 데이터는 그대로 남는다.
+     */
+    public void archivePartition(PartitionedTable table, String partition, String archiveSchema) {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE " + table.getTableName() + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+    }
+
+    /**
+     * 파티션 미지원 데이터베이스용 보관: 기준 시각 이전 행을 보관 테이블로 옮긴다.
+     *
+     * @return 옮긴 행 수
+     */
+    public int archiveRowsBefore(PartitionedTable table, LocalDateTime cutoff) {
+        String archive = table.archiveTableName();
+        String where = " WHERE " + table.getPartitionColumn() + " < ?";
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive +
+                " AS SELECT * FROM " + table.getTableName() + " WHERE 1 = 0");
+        Timestamp before = Timestamp.valueOf(cutoff);
+        int copied = jdbcTemplate.update("INSERT INTO " + archive +
+                " SELECT * FROM " + table.getTableName() + where, before);
+        jdbcTemplate.update("DELETE FROM " + table.getTableName() + where, before);
+        return copied;
+    }
+
+    /** 보조 인덱스의 전환 전 이름 (PostgreSQL 식별자 최대 63자) */
+    private static String legacyIndexName(Map<String, Object> index) {
+        String name = (String) index.get("name");
+        return (name.length() > 56 ? name.substring(0, 56) : name) + "_legacy";
+    }
+}
@@ -0,0 +1,167 @@
+package com.dongkuk.weighing.global.partition;
+
+import com.dongkuk.weighing.global.partition.PartitionJdbcRepository.PartitionInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 월 단위 파티션 관리 작업
+ *
+ * <p>{@link PartitionedTable}의 각 테이블을 PostgreSQL 선언적 범위 파티션(월 단위)으로 유지한다.
+ * 기동 완료 시와 매일 새벽({@code partitioning.maintenance-cron})에 다음을 수행한다.</p>
+ * <ol>
+ *   <li>일반 테이블이면 파티션 테이블로 전환 (빈 테이블이거나 {@code migrate-existing}인 경우)</li>
+ *   <li>기본 파티션과 이번 달부터 {@code premake-months}개월 뒤까지의 월 파티션 생성</li>
+ *   <li>범위 상한이 보존 기간({@code retention-months}) 이전인 파티션을 분리(DETACH)하여 보관 스키마로 이동</li>
+ * </ol>
+ *
+ * <p>파티션 키(생성일시/촬영 시각) 범위 조건이 있는 조회는 플래너가 해당 월 파티션만 읽는다(파티션 프루닝).
+ * 보관된 파티션은 보관 스키마에 테이블로 남으므로 필요하면 다시 ATTACH하여 복원할 수 있다.</p>
+ *
+ * <p>파티션을 지원하지 않는 데이터베이스(H2 개발 환경)에서는 파티션 없이, 보존 기간 이전 행을
+ * {@code <테이블>_archive} 테이블로 옮기는 것으로 보관을 대신한다.</p>
+ *
+ * <p>테이블마다 별도 트랜잭션과 권고 잠금(PostgreSQL)으로 실행하므로 여러 인스턴스가 동시에 실행해도
+ * 한 인스턴스만 DDL을 수행하고, 한 테이블의 실패가 다른 테이블 관리를 막지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see PartitionJdbcRepository
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceService {
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final PartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public PartitionMaintenanceService(PartitionJdbcRepository partitionJdbcRepository,
+                                       PartitionProperties properties,
+                                       PlatformTransactionManager transactionManager) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 기동 완료 시 파티션을 준비한다. (다음 달 파티션이 없는 상태로 월이 바뀌지 않도록) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * 모든 대상 테이블의 파티션을 관리한다.
+     */
+    @Scheduled(cron = "${partitioning.maintenance-cron:0 30 2 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> maintain(table, YearMonth.now()));
+            } catch (RuntimeException e) {
+                log.error("파티션 관리 실패: table={}, error={}", table.getTableName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private void maintain(PartitionedTable table, YearMonth currentMonth) {
+        if (!partitionJdbcRepository.isPostgres()) {
+            archiveRows(table, currentMonth);
+            return;
+        }
+        if (!partitionJdbcRepository.tryLock(table)) {
+            log.debug("다른 인스턴스가 파티션 관리 중: table={}", table.getTableName());
+            return;
+        }
+        Boolean partitioned = partitionJdbcRepository.isPartitioned(table);
+        if (partitioned == null) {
+            log.warn("파티션 대상 테이블 없음: table={}", table.getTableName());
+            return;
+        }
+        if (!partitioned && !convert(table)) {
+            return;
+        }
+
+        partitionJdbcRepository.createDefaultPartition(table);
+        List<PartitionInfo> partitions = partitionJdbcRepository.findPartitions(table);
+        Set<String> existing = new HashSet<>();
+        LocalDate coveredUntil = null;
+        for (PartitionInfo partition : partitions) {
+            existing.add(partition.name());
+            if (partition.upperBound() != null
+                    && (coveredUntil == null || partition.upperBound().isAfter(coveredUntil))) {
+                coveredUntil = partition.upperBound();
+            }
+        }
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            // 이미 다른 파티션(전환 시 붙인 기존 테이블 등) 범위 안의 월은 만들지 않는다.
+            if (existing.contains(table.partitionName(month))
+                    || coveredUntil != null && month.atDay(1).isBefore(coveredUntil)) {
+                continue;
+            }
+            int moved = partitionJdbcRepository.createMonthlyPartition(table, month);
+            log.info("월 파티션 생성: table={}, partition={}, movedFromDefault={}",
+                    table.getTableName(), table.partitionName(month), moved);
+        }
+
+        LocalDate cutoff = properties.retentionStart(currentMonth);
+        if (cutoff != null) {
+            for (PartitionInfo partition : partitions) {
+                if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                    partitionJdbcRepository.archivePartition(table, partition.name(), properties.getArchiveSchema());
+                    log.info("파티션 보관: table={}, partition={}, schema={}",
+                            table.getTableName(), partition.name(), properties.getArchiveSchema());
+                }
+            }
+        }
+    }
+
+    /**
+     * 일반 테이블을 파티션 테이블로 전환한다.
+     *
+     * @return 전환했으면 true (데이터가 있고 {@code migrate-existing}이 꺼져 있으면 false)
+     */
+    private boolean convert(PartitionedTable table) {
+        LocalDateTime maxKey = partitionJdbcRepository.maxPartitionKey(table);
+        if (maxKey != null && !properties.isMigrateExisting()) {
+            log.warn("데이터가 있는 일반 테이블은 파티션으로 전환하지 않음 (partitioning.migrate-existing=true로 전환): " +
+                    "table={}", table.getTableName());
+            return false;
+        }
+        YearMonth legacyUpperBound = maxKey != null ? YearMonth.from(maxKey).plusMonths(1) : null;
+        partitionJdbcRepository.convertToPartitioned(table, legacyUpperBound);
+        log.info("파티션 테이블 전환 완료: table={}, legacyUpperBound={}", table.getTableName(), legacyUpperBound);
+        return true;
+    }
+
+    /** 파티션 미지원 데이터베이스: 보존 기간 이전 행을 보관 테이블로 옮긴다. */
+    private void archiveRows(PartitionedTable table, YearMonth currentMonth) {
+        LocalDate cutoff = properties.retentionStart(currentMonth);
+        if (cutoff == null) {
+            return;
+        }
+        int moved = partitionJdbcRepository.archiveRowsBefore(table, cutoff.atStartOfDay());
+        if (moved > 0) {
+            log.info("보관 테이블로 행 이동: table={}, archive={}, rows={}",
+                    table.getTableName(), table.archiveTableName(), moved);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dongkuk.weighing.global.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 월 단위 파티션 관리 속성 설정
+ *
+ * application.yml의 partitioning 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 계량 기록({@code tb_weighing})과 LPR 촬영 기록({@code tb_lpr_capture})의 월 파티션 사전 생성,
+ * 보존 기간 경과 파티션 보관(아카이브) 정책을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see PartitionMaintenanceService
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "partitioning")
+public class PartitionProperties {
+
+    /** 파티션 관리 작업 사용 여부 */
+    private boolean enabled = true;
+
+    /** 이번 달 이후 미리 만들어 둘 월 파티션 수 */
+    private int premakeMonths = 3;
+
+    /** 운영 테이블에 유지할 개월 수 (이보다 오래된 파티션은 보관 스키마로 이동, 0 이하이면 보관하지 않음) */
+    private int retentionMonths = 36;
+
+    /** 보관 파티션을 옮길 스키마 (PostgreSQL) */
+    private String archiveSchema = "weighing_archive";
+
+    /**
+     * 데이터가 있는 일반 테이블도 파티션 테이블로 전환할지 여부.
+     * 전환 시 기존 테이블 전체를 검증 스캔하므로 점검 시간에만 켠다. (빈 테이블은 항상 전환)
+     */
+    private boolean migrateExisting = false;
+
+    /** 파티션 생성/보관 작업 주기 (cron, 기본 매일 02:30) */
+    private String maintenanceCron = "0 30 2 * * *";
+
+    /**
+     * 보존 기간 기준일을 계산한다. 이 날짜 이전 데이터는 보관 대상이며, 이후 데이터는 운영 테이블에 남는다.
+     *
+     * @param currentMonth 기준 월
+     * @return 보존 기간 시작일 (파티션 관리를 끄거나 보관하지 않으면 null)
+     */
+    public LocalDate retentionStart(YearMonth currentMonth) {
+        if (!enabled || retentionMonths <= 0) {
+            return null;
+        }
+        return currentMonth.minusMonths(retentionMonths).atDay(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.dongkuk.weighing.global.partition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 월 단위 범위 파티션 대상 테이블
+ *
+ * <p>파티션 키는 행 생성 후 바뀌지 않는 시각 컬럼이며, PostgreSQL 파티션 테이블의 기본키는
+ * 파티션 키를 포함해야 하므로 (식별자, 파티션 키) 복합 기본키로 전환된다.
+ * 식별자는 여전히 단일 시퀀스에서 발급되므로 JPA 엔티티의 {@code @Id} 매핑은 그대로 유지한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PartitionedTable {
+
+    /** 계량 기록 (생성일시 기준) */
+    WEIGHING("tb_weighing", "weighing_id", "created_at"),
+
+    /** LPR 촬영 기록 (촬영 시각 기준) */
+    LPR_CAPTURE("tb_lpr_capture", "capture_id", "capture_timestamp");
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final String tableName;
+    private final String idColumn;
+    private final String partitionColumn;
+
+    /** 월 파티션 이름 (예: tb_weighing_p202610) */
+    public String partitionName(YearMonth month) {
+        return tableName + "_p" + month.format(MONTH_SUFFIX);
+    }
+
+    /** 파티션 전환 전 기존 테이블 이름 (MINVALUE 시작 파티션으로 붙는다) */
+    public String legacyName() {
+        return tableName + "_legacy";
+    }
+
+    /** 범위 밖 행을 받는 기본 파티션 이름 */
+    public String defaultPartitionName() {
+        return tableName + "_default";
+    }
+
+    /** H2 등 파티션 미지원 데이터베이스의 보관 테이블 이름 */
+    public String archiveTableName() {
+        return tableName + "_archive";
+    }
+}
@@ -0,0 +1,37 @@
+package com.dongkuk.weighing.lifecycle.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 계량 진행 단계 기록 실행기 설정
+ *
+ * 업무 트랜잭션이 커밋된 뒤 타임라인 기록(직전 단계 조회와 저장)을 단일 작업자 스레드에서 실행한다.
+ * 작업자가 하나이므로 단계는 커밋 순서대로 기록되어 직전 단계를 항상 먼저 찾을 수 있다.
+ * 대기열이 가득 차면 기록을 거절하고 건너뛴다(업무 처리에는 영향이 없다).
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+public class WeighingLifecycleExecutorConfig {
+
+    /** 계량 진행 단계 기록 실행기 빈 이름 */
+    public static final String LIFECYCLE_RECORDER_EXECUTOR = "lifecycleRecorderExecutor";
+
+    /** 대기 가능한 기록 작업 수 */
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    @Bean(name = LIFECYCLE_RECORDER_EXECUTOR)
+    public ThreadPoolTaskExecutor lifecycleRecorderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("lifecycle-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dongkuk.weighing.lifecycle.controller;
+
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.lifecycle.dto.WeighingTimelineResponse;
+import com.dongkuk.weighing.lifecycle.service.WeighingTimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 계량 진행 타임라인 관리 컨트롤러
+ *
+ * 계량 기록 하나의 LPR 촬영부터 출문까지 단계별 발생 시각과 소요 시간을 조회하는
+ * 관리자 전용 API를 제공한다. 단계 전환 지연 시간의 전체 분포는 {@code /actuator/prometheus}의
+ * {@code weighing_lifecycle_*} 메트릭으로 확인한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/admin/weighings")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class WeighingTimelineAdminController {
+
+    private final WeighingTimelineService weighingTimelineService;
+
+    /** 계량 기록의 진행 타임라인을 조회한다. */
+    @GetMapping("/{weighingId}/timeline")
+    public ResponseEntity<ApiResponse<WeighingTimelineResponse>> getTimeline(@PathVariable Long weighingId) {
+        return ResponseEntity.ok(ApiResponse.ok(weighingTimelineService.getTimeline(weighingId)));
+    }
+}
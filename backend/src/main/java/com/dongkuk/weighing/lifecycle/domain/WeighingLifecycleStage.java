@@ -0,0 +1,31 @@
+package com.dongkuk.weighing.lifecycle.domain;
+
+/**
+ * 계량 진행 단계
+ *
+ * <p>차량 한 대가 계량대에 진입하여 출문할 때까지 거치는 단계이다.
+ * LPR 자동 계량이 아닌 경우 {@link #LPR_CAPTURED}, {@link #DISPATCH_MATCHED} 단계는 없다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public enum WeighingLifecycleStage {
+
+    /** LPR 촬영 등록 */
+    LPR_CAPTURED,
+
+    /** 배차 자동 매칭 (단건 매칭) */
+    DISPATCH_MATCHED,
+
+    /** 계량 기록 생성 (총중량 기록) */
+    WEIGHING_CREATED,
+
+    /** 공차중량 기록 */
+    TARE_RECORDED,
+
+    /** 계량 완료 */
+    WEIGHING_COMPLETED,
+
+    /** 출문 승인 */
+    GATE_PASSED
+}
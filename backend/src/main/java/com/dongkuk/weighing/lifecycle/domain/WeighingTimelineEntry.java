@@ -0,0 +1,89 @@
+package com.dongkuk.weighing.lifecycle.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 진행 타임라인 항목 엔티티
+ *
+ * <p>계량 진행 단계 하나가 일어난 시각을 기록한다. 각 항목은 직전 단계 항목을 가리키므로
+ * 계량 기록 하나의 전체 타임라인(LPR 촬영 → 배차 매칭 → 계량 생성 → 공차 → 완료 → 출문)을
+ * 연결을 따라 재구성할 수 있다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingLifecycleStage
+ */
+@Entity
+@Table(name = "tb_weighing_timeline", indexes = {
+        @Index(name = "idx_weighing_timeline_weighing", columnList = "weighing_id"),
+        @Index(name = "idx_weighing_timeline_dispatch", columnList = "dispatch_id, stage"),
+        @Index(name = "idx_weighing_timeline_capture", columnList = "capture_id, stage")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeighingTimelineEntry {
+
+    /** 항목 고유 ID (PK, 자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    /** 진행 단계 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 30)
+    private WeighingLifecycleStage stage;
+
+    /** 계량 기록 ID (계량 생성 이후 단계) */
+    @Column(name = "weighing_id")
+    private Long weighingId;
+
+    /** LPR 촬영 ID (LPR 단계) */
+    @Column(name = "capture_id")
+    private Long captureId;
+
+    /** 배차 ID */
+    @Column(name = "dispatch_id")
+    private Long dispatchId;
+
+    /** 계량대 ID */
+    @Column(name = "scale_id")
+    private Long scaleId;
+
+    /** 계량 모드 */
+    @Column(name = "weighing_mode", length = 20)
+    private String weighingMode;
+
+    /** 단계 발생 일시 */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /** 직전 단계 항목 ID (첫 단계이거나 찾지 못한 경우 null) */
+    @Column(name = "previous_entry_id")
+    private Long previousEntryId;
+
+    /** 직전 단계 이후 경과 시간 (밀리초) */
+    @Column(name = "elapsed_ms")
+    private Long elapsedMs;
+
+    @Builder
+    public WeighingTimelineEntry(WeighingLifecycleStage stage, Long weighingId, Long captureId, Long dispatchId,
+                                 Long scaleId, String weighingMode, LocalDateTime occurredAt,
+                                 Long previousEntryId, Long elapsedMs) {
+        this.stage = stage;
+        this.weighingId = weighingId;
+        this.captureId = captureId;
+        this.dispatchId = dispatchId;
+        this.scaleId = scaleId;
+        this.weighingMode = weighingMode;
+        this.occurredAt = occurredAt;
+        this.previousEntryId = previousEntryId;
+        this.elapsedMs = elapsedMs;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dongkuk.weighing.lifecycle.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계량 진행 타임라인 항목 저장소
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingTimelineEntry
+ */
+public interface WeighingTimelineEntryRepository extends JpaRepository<WeighingTimelineEntry, Long> {
+
+    /** 계량 기록의 단계 항목을 발생 순으로 조회한다. */
+    List<WeighingTimelineEntry> findByWeighingIdOrderByOccurredAtAscEntryIdAsc(Long weighingId);
+
+    /** 계량 기록의 가장 최근 단계 항목을 조회한다. */
+    Optional<WeighingTimelineEntry> findTopByWeighingIdOrderByOccurredAtDescEntryIdDesc(Long weighingId);
+
+    /** LPR 촬영의 특정 단계 항목을 조회한다. */
+    Optional<WeighingTimelineEntry> findTopByCaptureIdAndStageOrderByEntryIdDesc(
+            Long captureId, WeighingLifecycleStage stage);
+
+    /** 배차의 특정 단계 항목 중 기준 시각 이전의 가장 최근 항목을 조회한다. */
+    Optional<WeighingTimelineEntry> findTopByDispatchIdAndStageAndOccurredAtLessThanEqualOrderByOccurredAtDesc(
+            Long dispatchId, WeighingLifecycleStage stage, LocalDateTime occurredAt);
+}
@@ -0,0 +1,55 @@
+package com.dongkuk.weighing.lifecycle.dto;
+
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계량 진행 타임라인 응답 DTO
+ *
+ * 계량 기록 하나의 진행 단계(LPR 촬영부터 출문까지)를 발생 순으로 담은 응답 객체이다.
+ *
+ * @param weighingId 계량 기록 ID
+ * @param scaleId 계량대 ID
+ * @param weighingMode 계량 모드
+ * @param totalMs 첫 단계부터 마지막 단계까지 소요 시간 (밀리초)
+ * @param stages 단계 목록 (발생 순)
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingTimelineResponse(
+        Long weighingId,
+        Long scaleId,
+        String weighingMode,
+        long totalMs,
+        List<StageItem> stages
+) {
+
+    /**
+     * 진행 단계 항목
+     *
+     * @param stage 진행 단계
+     * @param occurredAt 발생 일시
+     * @param elapsedMs 직전 단계 이후 경과 시간 (밀리초, 첫 단계는 null)
+     * @param captureId LPR 촬영 ID (LPR 단계)
+     * @param dispatchId 배차 ID
+     */
+    public record StageItem(
+            String stage,
+            LocalDateTime occurredAt,
+            Long elapsedMs,
+            Long captureId,
+            Long dispatchId
+    ) {
+        public static StageItem from(WeighingTimelineEntry entry) {
+            return new StageItem(
+                    entry.getStage().name(),
+                    entry.getOccurredAt(),
+                    entry.getElapsedMs(),
+                    entry.getCaptureId(),
+                    entry.getDispatchId()
+            );
+        }
+    }
+}
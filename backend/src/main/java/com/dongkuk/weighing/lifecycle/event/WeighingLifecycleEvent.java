@@ -0,0 +1,61 @@
+package com.dongkuk.weighing.lifecycle.event;
+
+import com.dongkuk.weighing.lifecycle.domain.WeighingLifecycleStage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 진행 단계 이벤트
+ *
+ * LPR 촬영, 배차 매칭, 계량 생성/공차/완료, 출문 승인 시 각 서비스가 발행하는 애플리케이션 이벤트이다.
+ * 발행한 트랜잭션이 커밋된 뒤 비동기로 타임라인 항목과 단계 전환 지연 시간 메트릭으로 기록된다.
+ * 알 수 없는 값(계량 생성 전의 계량 ID, 출문 시의 계량대 등)은 null로 두면 직전 단계에서 이어받는다.
+ *
+ * @param stage 진행 단계
+ * @param weighingId 계량 기록 ID
+ * @param captureId LPR 촬영 ID
+ * @param dispatchId 배차 ID
+ * @param scaleId 계량대 ID
+ * @param weighingMode 계량 모드
+ * @param occurredAt 단계 발생 일시
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingLifecycleEvent(
+        WeighingLifecycleStage stage,
+        Long weighingId,
+        Long captureId,
+        Long dispatchId,
+        Long scaleId,
+        String weighingMode,
+        LocalDateTime occurredAt
+) {
+
+    /** LPR 단계의 계량 모드 */
+    private static final String LPR_MODE = "LPR_AUTO";
+
+    /** LPR 촬영 등록 */
+    public static WeighingLifecycleEvent lprCaptured(Long captureId, Long scaleId, LocalDateTime capturedAt) {
+        return new WeighingLifecycleEvent(WeighingLifecycleStage.LPR_CAPTURED, null, captureId, null,
+                scaleId, LPR_MODE, capturedAt);
+    }
+
+    /** 배차 단건 매칭 */
+    public static WeighingLifecycleEvent dispatchMatched(Long captureId, Long dispatchId, Long scaleId) {
+        return new WeighingLifecycleEvent(WeighingLifecycleStage.DISPATCH_MATCHED, null, captureId, dispatchId,
+                scaleId, LPR_MODE, LocalDateTime.now());
+    }
+
+    /** 계량 기록 단계 (생성/공차/완료) */
+    public static WeighingLifecycleEvent weighing(WeighingLifecycleStage stage, Long weighingId, Long dispatchId,
+                                                  Long scaleId, String weighingMode) {
+        return new WeighingLifecycleEvent(stage, weighingId, null, dispatchId, scaleId, weighingMode,
+                LocalDateTime.now());
+    }
+
+    /** 출문 승인 */
+    public static WeighingLifecycleEvent gatePassed(Long weighingId, Long dispatchId, LocalDateTime passedAt) {
+        return new WeighingLifecycleEvent(WeighingLifecycleStage.GATE_PASSED, weighingId, null, dispatchId,
+                null, null, passedAt);
+    }
+}
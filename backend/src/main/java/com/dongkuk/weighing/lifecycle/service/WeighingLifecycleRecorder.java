@@ -0,0 +1,178 @@
+package com.dongkuk.weighing.lifecycle.service;
+
+import com.dongkuk.weighing.lifecycle.config.WeighingLifecycleExecutorConfig;
+import com.dongkuk.weighing.lifecycle.domain.WeighingLifecycleStage;
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntry;
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntryRepository;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 계량 진행 단계 기록기
+ *
+ * <p>{@link WeighingLifecycleEvent}를 발행한 트랜잭션이 커밋된 뒤
+ * {@link WeighingLifecycleExecutorConfig#LIFECYCLE_RECORDER_EXECUTOR} 작업자 스레드에서 직전 단계 항목을 찾아
+ * 타임라인 항목을 별도 트랜잭션으로 저장하고, 단계 전환 지연 시간을 Micrometer 타이머로 기록한다.
+ * 롤백된 단계는 기록되지 않으며, 업무 트랜잭션은 타임라인 조회·저장을 기다리지 않는다.
+ * 기록 실패(대기열 초과 포함)는 로그만 남기고 호출 측으로 전파하지 않는다.</p>
+ *
+ * <p>직전 단계 탐색 규칙:
+ * <ul>
+ *   <li>배차 매칭 → 같은 LPR 촬영의 촬영 등록</li>
+ *   <li>계량 생성 → 같은 배차·계량대의 가장 최근 배차 매칭 (LPR 자동 계량인 경우)</li>
+ *   <li>공차/완료/출문 → 같은 계량 기록의 가장 최근 단계</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭 ({@code /actuator/prometheus}로 노출):
+ * <ul>
+ *   <li>{@code weighing.lifecycle.transition} (타이머, 히스토그램) — from, to, scale, mode 태그</li>
+ *   <li>{@code weighing.lifecycle.total} (타이머, 히스토그램) — 첫 단계부터 출문까지, scale, mode 태그</li>
+ *   <li>{@code weighing.lifecycle.stage} (카운터) — stage, scale, mode 태그</li>
+ * </ul>
+ * 타이머와 카운터는 Micrometer 구현의 {@code LongAdder}/{@code DoubleAdder} 누적기를 사용하므로
+ * 여러 요청 스레드가 동시에 기록해도 공유 락이나 CAS 경합이 생기지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingTimelineService
+ */
+@Slf4j
+@Component
+public class WeighingLifecycleRecorder {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final WeighingTimelineEntryRepository timelineRepository;
+    private final WeighingTimelineService timelineService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    public WeighingLifecycleRecorder(WeighingTimelineEntryRepository timelineRepository,
+                                     WeighingTimelineService timelineService, MeterRegistry meterRegistry,
+                                     TransactionTemplate transactionTemplate,
+                                     @Qualifier(WeighingLifecycleExecutorConfig.LIFECYCLE_RECORDER_EXECUTOR)
+                                     ThreadPoolTaskExecutor executor) {
+        this.timelineRepository = timelineRepository;
+        this.timelineService = timelineService;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 커밋된 진행 단계의 기록을 작업자 스레드에 넘긴다.
+     *
+     * @param event 계량 진행 단계 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLifecycleEvent(WeighingLifecycleEvent event) {
+        try {
+            executor.execute(() -> record(event));
+        } catch (TaskRejectedException e) {
+            log.warn("계량 진행 단계 기록 대기열 초과, 기록 생략: stage={}, weighingId={}",
+                    event.stage(), event.weighingId());
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 진행 단계를 타임라인과 메트릭에 기록한다. 실패는 로그만 남긴다. */
+    private void record(WeighingLifecycleEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordInTransaction(event));
+        } catch (RuntimeException e) {
+            log.error("계량 진행 단계 기록 실패: stage={}, weighingId={}, captureId={}, error={}",
+                    event.stage(), event.weighingId(), event.captureId(), e.getMessage(), e);
+        }
+    }
+
+    private void recordInTransaction(WeighingLifecycleEvent event) {
+        WeighingTimelineEntry previous = findPrevious(event).orElse(null);
+        Long scaleId = event.scaleId() != null ? event.scaleId()
+                : previous != null ? previous.getScaleId() : null;
+        String mode = event.weighingMode() != null ? event.weighingMode()
+                : previous != null ? previous.getWeighingMode() : null;
+        Long dispatchId = event.dispatchId() != null ? event.dispatchId()
+                : previous != null ? previous.getDispatchId() : null;
+        Duration elapsed = previous != null ? Duration.between(previous.getOccurredAt(), event.occurredAt()) : null;
+
+        WeighingTimelineEntry entry = timelineRepository.save(WeighingTimelineEntry.builder()
+                .stage(event.stage())
+                .weighingId(event.weighingId())
+                .captureId(event.captureId())
+                .dispatchId(dispatchId)
+                .scaleId(scaleId)
+                .weighingMode(mode)
+                .occurredAt(event.occurredAt())
+                .previousEntryId(previous != null ? previous.getEntryId() : null)
+                .elapsedMs(elapsed != null ? elapsed.toMillis() : null)
+                .build());
+
+        Tags tags = Tags.of("scale", scaleId != null ? scaleId.toString() : UNKNOWN,
+                "mode", mode != null ? mode : UNKNOWN);
+        Counter.builder("weighing.lifecycle.stage")
+                .description("계량 진행 단계 발생 건수")
+                .tags(tags).tag("stage", event.stage().name())
+                .register(meterRegistry)
+                .increment();
+        if (elapsed != null && !elapsed.isNegative()) {
+            Timer.builder("weighing.lifecycle.transition")
+                    .description("계량 진행 단계 전환 소요 시간")
+                    .tags(tags).tag("from", previous.getStage().name()).tag("to", event.stage().name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsed);
+        }
+        if (event.stage() == WeighingLifecycleStage.GATE_PASSED) {
+            recordTotal(entry, tags);
+        }
+    }
+
+    private Optional<WeighingTimelineEntry> findPrevious(WeighingLifecycleEvent event) {
+        return switch (event.stage()) {
+            case LPR_CAPTURED -> Optional.empty();
+            case DISPATCH_MATCHED -> timelineRepository.findTopByCaptureIdAndStageOrderByEntryIdDesc(
+                    event.captureId(), WeighingLifecycleStage.LPR_CAPTURED);
+            case WEIGHING_CREATED -> event.dispatchId() == null ? Optional.empty()
+                    : timelineRepository.findTopByDispatchIdAndStageAndOccurredAtLessThanEqualOrderByOccurredAtDesc(
+                            event.dispatchId(), WeighingLifecycleStage.DISPATCH_MATCHED, event.occurredAt())
+                    .filter(match -> match.getScaleId() == null || match.getScaleId().equals(event.scaleId()));
+            case TARE_RECORDED, WEIGHING_COMPLETED, GATE_PASSED ->
+                    timelineRepository.findTopByWeighingIdOrderByOccurredAtDescEntryIdDesc(event.weighingId());
+        };
+    }
+
+    /** 타임라인 첫 단계부터 출문까지의 전체 소요 시간을 기록한다. */
+    private void recordTotal(WeighingTimelineEntry gatePassed, Tags tags) {
+        timelineService.firstEntry(gatePassed).ifPresent(first -> {
+            Duration total = Duration.between(first.getOccurredAt(), gatePassed.getOccurredAt());
+            if (total.isNegative()) {
+                return;
+            }
+            Timer.builder("weighing.lifecycle.total")
+                    .description("첫 계량 진행 단계부터 출문까지 소요 시간")
+                    .tags(tags).tag("first", first.getStage().name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(total);
+            log.debug("계량 전체 소요 시간: weighingId={}, first={}, totalMs={}",
+                    gatePassed.getWeighingId(), first.getStage(), total.toMillis());
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.dongkuk.weighing.lifecycle.service;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntry;
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntryRepository;
+import com.dongkuk.weighing.lifecycle.dto.WeighingTimelineResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계량 진행 타임라인 조회 서비스
+ *
+ * 계량 기록의 단계 항목과, 첫 항목(계량 생성)이 가리키는 이전 단계(배차 매칭, LPR 촬영)를
+ * 연결을 따라 모아 하나의 타임라인으로 구성한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeighingTimelineService {
+
+    /** 이전 단계 연결을 따라가는 최대 횟수 (계량 생성 이전 단계 수) */
+    private static final int MAX_PRECEDING_STAGES = 2;
+
+    private final WeighingTimelineEntryRepository timelineRepository;
+
+    /**
+     * 계량 기록의 진행 타임라인을 조회한다.
+     *
+     * @param weighingId 계량 기록 ID
+     * @return 진행 타임라인
+     * @throws BusinessException 기록된 단계가 없는 경우 (WEIGHING_001)
+     */
+    public WeighingTimelineResponse getTimeline(Long weighingId) {
+        List<WeighingTimelineEntry> entries = timelineRepository.findByWeighingIdOrderByOccurredAtAscEntryIdAsc(weighingId);
+        if (entries.isEmpty()) {
+            throw new BusinessException(ErrorCode.WEIGHING_001);
+        }
+        List<WeighingTimelineEntry> timeline = new ArrayList<>(precedingEntries(entries.get(0)));
+        timeline.addAll(entries);
+
+        WeighingTimelineEntry last = timeline.get(timeline.size() - 1);
+        return new WeighingTimelineResponse(
+                weighingId,
+                last.getScaleId(),
+                last.getWeighingMode(),
+                Duration.between(timeline.get(0).getOccurredAt(), last.getOccurredAt()).toMillis(),
+                timeline.stream().map(WeighingTimelineResponse.StageItem::from).toList()
+        );
+    }
+
+    /**
+     * 항목이 속한 타임라인의 첫 항목을 찾는다.
+     *
+     * @param entry 타임라인 항목
+     * @return 첫 항목 (계량 생성 이전 단계 포함)
+     */
+    public Optional<WeighingTimelineEntry> firstEntry(WeighingTimelineEntry entry) {
+        if (entry.getWeighingId() == null) {
+            return Optional.of(entry);
+        }
+        return timelineRepository.findByWeighingIdOrderByOccurredAtAscEntryIdAsc(entry.getWeighingId()).stream()
+                .findFirst()
+                .map(first -> {
+                    List<WeighingTimelineEntry> preceding = precedingEntries(first);
+                    return preceding.isEmpty() ? first : preceding.get(0);
+                });
+    }
+
+    /** 항목의 이전 단계 연결을 따라가며 계량 기록 밖의 항목을 발생 순으로 모은다. */
+    private List<WeighingTimelineEntry> precedingEntries(WeighingTimelineEntry entry) {
+        List<WeighingTimelineEntry> preceding = new ArrayList<>();
+        Long previousId = entry.getPreviousEntryId();
+        while (previousId != null && preceding.size() < MAX_PRECEDING_STAGES) {
+            Optional<WeighingTimelineEntry> previous = timelineRepository.findById(previousId);
+            if (previous.isEmpty() || previous.get().getWeighingId() != null) {
+                break;
+            }
+            preceding.add(previous.get());
+            previousId = previous.get().getPreviousEntryId();
+        }
+        Collections.reverse(preceding);
+        return preceding;
+    }
+}
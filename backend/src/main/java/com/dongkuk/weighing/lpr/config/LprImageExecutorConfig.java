@@ -0,0 +1,33 @@
+package com.dongkuk.weighing.lpr.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * LPR 썸네일 생성 실행기 설정
+ *
+ * 썸네일 생성(이미지 디코딩/축소/인코딩)을 업로드 요청 스레드와 분리된 고정 크기 작업자 풀에서 실행한다.
+ * 대기열이 가득 차면 생성 요청을 거절하고, 썸네일은 조회 시점에 다시 생성을 요청한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+public class LprImageExecutorConfig {
+
+    /** LPR 썸네일 생성 실행기 빈 이름 */
+    public static final String LPR_THUMBNAIL_EXECUTOR = "lprThumbnailExecutor";
+
+    @Bean(name = LPR_THUMBNAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor lprThumbnailExecutor(LprImageProperties lprImageProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lprImageProperties.getThumbnailWorkers());
+        executor.setMaxPoolSize(lprImageProperties.getThumbnailWorkers());
+        executor.setQueueCapacity(lprImageProperties.getThumbnailQueueCapacity());
+        executor.setThreadNamePrefix("lpr-thumb-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,53 @@
+package com.dongkuk.weighing.lpr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * LPR 이미지 저장소 속성 설정
+ *
+ * application.yml의 lpr.image 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * LPR 촬영 이미지 저장 위치, 업로드 크기/픽셀 한도, 썸네일 생성 작업자 수와 응답 캐시 기간을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "lpr.image")
+public class LprImageProperties {
+
+    /**
+     * 이미지 저장 디렉토리 (원본/썸네일/임시 파일 하위 디렉토리를 만든다).
+     * 계량 증빙 자료이므로 재부팅 시 비워지는 임시 디렉토리가 아닌 영구 디스크 경로를 지정한다.
+     */
+    private String storageDir = "data/lpr-images";
+
+    /** 업로드 이미지 최대 크기 */
+    private DataSize maxUploadSize = DataSize.ofMegabytes(10);
+
+    /**
+     * 이미지 최대 픽셀 수 (가로×세로).
+     * 작은 파일이 거대한 비트맵으로 풀리는 이미지로 썸네일 생성 시 힙이 고갈되지 않도록 업로드 시 거절하고,
+     * 이미 저장된 이미지는 썸네일을 만들지 않는다.
+     */
+    private long maxPixels = 25_000_000L;
+
+    /** 썸네일 최대 가로 크기 (픽셀, 원본이 더 작으면 원본 크기 유지) */
+    private int thumbnailMaxWidth = 320;
+
+    /** 썸네일을 생성하는 작업자 스레드 수 */
+    private int thumbnailWorkers = 1;
+
+    /** 작업자가 모두 사용 중일 때 대기할 수 있는 썸네일 생성 작업 수 (초과 시 조회 시점에 다시 생성) */
+    private int thumbnailQueueCapacity = 100;
+
+    /** 이미지 응답 캐시 유지 기간 (내용 주소 방식이라 같은 URL의 내용은 바뀌지 않는다) */
+    private Duration cacheMaxAge = Duration.ofDays(365);
+}
@@ -0,0 +1,39 @@
+package com.dongkuk.weighing.lpr.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * LPR 차량번호 유사 매칭 속성 설정
+ *
+ * application.yml의 lpr.plate-match 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 인식 차량번호가 등록 차량번호와 정확히 일치하지 않을 때 사용하는 유사 매칭의 허용 거리와
+ * 자동 매칭 기준을 관리한다. 거리는 {@link com.dongkuk.weighing.lpr.service.PlateSimilarity}의
+ * 가중 편집 거리이다 (일반 편집 1.0, OCR 혼동 기호 치환 0.4).
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "lpr.plate-match")
+public class PlateMatchProperties {
+
+    /** 유사 매칭 사용 여부 (false면 정확히 일치하는 차량번호만 매칭) */
+    private boolean enabled = true;
+
+    /** 후보로 반환할 최대 가중 편집 거리 */
+    private double maxDistance = 1.5;
+
+    /** 반환할 최대 후보 수 */
+    private int maxCandidates = 5;
+
+    /** 운영자 확인 없이 자동 매칭할 최대 가중 편집 거리 */
+    private double autoMatchMaxDistance = 1.0;
+
+    /** 자동 매칭 시 2순위 후보와의 최소 거리 차이 (이보다 가까운 후보가 있으면 운영자 선택) */
+    private double ambiguityMargin = 1.0;
+}
@@ -13,7 +13,8 @@ import org.springframework.web.bind.annotation.*;
  * 차량번호인식(LPR) 컨트롤러
  *
  * <p>LPR 카메라 촬영 등록, AI 검증, 배차 자동 매칭 등
- * 차량번호인식 관련 REST API 엔드포인트를 제공하는 컨트롤러.</p>
+ * 차량번호인식 관련 REST API 엔드포인트를 제공하는 컨트롤러.
+ * 계량대 PC는 세 단계를 한 번에 처리하는 {@code /process}를 사용하며, 단계별 API는 호환을 위해 유지한다.</p>
  *
  * <p>Base URL: {@code /api/v1/lpr}</p>
  *
@@ -59,6 +60,22 @@ public class LprController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * LPR 촬영 등록, AI 검증, 배차 자동 매칭을 한 번에 처리한다.
+     *
+     * <p>{@code /capture}, {@code /verify}, {@code /{captureId}/match}를 차례로 호출하는 것과 같은 결과를
+     * 한 번의 요청과 한 트랜잭션으로 반환한다. 중복 촬영이면 기존 촬영 결과만 반환한다.</p>
+     *
+     * @param request LPR 일괄 처리 요청 DTO
+     * @return 촬영 결과, 중복 여부, 배차 매칭 결과 (HTTP 201)
+     */
+    @PostMapping("/process")
+    public ResponseEntity<ApiResponse<LprProcessResponse>> processCapture(
+            @Valid @RequestBody LprProcessRequest request) {
+        LprProcessResponse response = lprService.processCapture(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(response));
+    }
+
     /**
      * 촬영된 차량번호로 당일 배차를 자동 매칭한다.
      *
@@ -66,7 +83,7 @@ public class LprController {
      * 당일 유효 배차를 매칭하여 결과를 반환한다.</p>
      *
      * @param captureId LPR 촬영 ID
-     * @return 배차 매칭 결과 (SINGLE_MATCH, MULTIPLE_MATCH, NO_DISPATCH, NO_VEHICLE)
+     * @return 배차 매칭 결과 (SINGLE_MATCH, MULTIPLE_MATCH, NO_DISPATCH, NO_VEHICLE, PLATE_CANDIDATES)
      */
     @PostMapping("/{captureId}/match")
     public ResponseEntity<ApiResponse<DispatchMatchResponse>> matchDispatch(
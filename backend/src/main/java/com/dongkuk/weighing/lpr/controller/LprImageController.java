@@ -0,0 +1,112 @@
+package com.dongkuk.weighing.lpr.controller;
+
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.util.FileTransferUtil;
+import com.dongkuk.weighing.lpr.config.LprImageProperties;
+import com.dongkuk.weighing.lpr.dto.LprImageResponse;
+import com.dongkuk.weighing.lpr.service.LprImageStore;
+import com.dongkuk.weighing.lpr.service.LprImageStore.StoredImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * LPR 이미지 컨트롤러
+ *
+ * <p>계량대 PC가 촬영 이미지를 업로드하고, 대시보드가 별도 파일 서버 없이 촬영 이미지와 썸네일을
+ * 조회하는 REST API를 제공한다. 이미지는 내용 해시로 식별되므로 같은 URL의 내용은 바뀌지 않는다.</p>
+ *
+ * <ul>
+ *   <li>조회 응답은 강한 ETag(내용 해시)와 장기 캐시 헤더({@code immutable})를 포함하며,
+ *       {@code If-None-Match}가 일치하면 본문 없이 304를 반환한다.</li>
+ *   <li>파일은 {@link FileTransferUtil#sendFile}로 힙 버퍼를 거치지 않고 전송한다.</li>
+ *   <li>썸네일이 아직 생성되지 않았으면 원본을 캐시 불가로 반환한다.</li>
+ * </ul>
+ *
+ * <p>Base URL: {@code /api/v1/lpr/images}</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see LprImageStore
+ */
+@RestController
+@RequestMapping(LprImageResponse.BASE_PATH)
+@RequiredArgsConstructor
+public class LprImageController {
+
+    private final LprImageStore lprImageStore;
+    private final LprImageProperties lprImageProperties;
+
+    /**
+     * LPR 촬영 이미지를 업로드한다.
+     *
+     * <p>같은 내용의 이미지가 이미 있으면 새로 저장하지 않고 기존 이미지 정보를 반환한다.
+     * 반환된 {@code url}을 촬영 등록 요청의 {@code lpr_image_path}로 사용한다.</p>
+     *
+     * @param file 이미지 파일 (JPEG, PNG)
+     * @return 저장된 이미지 정보 (HTTP 201)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<LprImageResponse>> upload(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        StoredImage image = lprImageStore.store(file.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(LprImageResponse.from(image)));
+    }
+
+    /**
+     * 원본 이미지를 조회한다.
+     *
+     * @param imageId 이미지 ID ({@code <sha256>.<확장자>})
+     */
+    @GetMapping("/{imageId}")
+    public void getImage(
+            @PathVariable String imageId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        send(lprImageStore.getOriginal(imageId), true, request, response);
+    }
+
+    /**
+     * 썸네일을 조회한다. 썸네일이 아직 생성되지 않았으면 원본을 반환한다.
+     *
+     * @param imageId 원본 이미지 ID ({@code <sha256>.<확장자>})
+     */
+    @GetMapping("/{imageId}/thumbnail")
+    public void getThumbnail(
+            @PathVariable String imageId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        StoredImage thumbnail = lprImageStore.findThumbnail(imageId).orElse(null);
+        if (thumbnail != null) {
+            send(thumbnail, true, request, response);
+        } else {
+            // 나중에 생성될 썸네일이 장기 캐시된 원본에 가려지지 않도록 캐시하지 않는다
+            send(lprImageStore.getOriginal(imageId), false, request, response);
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private void send(StoredImage image, boolean cacheable, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        // 인증이 필요한 API이므로 공유 캐시(프록시)에는 저장하지 않는다
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheable
+                ? CacheControl.maxAge(lprImageProperties.getCacheMaxAge()).cachePrivate().immutable().getHeaderValue()
+                : CacheControl.noCache().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(image.etag())) {
+            return;
+        }
+        response.setContentType(image.contentType());
+        FileTransferUtil.sendFile(image.file(), image.size(), request, response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dongkuk.weighing.lpr.controller;
+
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.exception.GlobalExceptionHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+/**
+ * LPR 이미지 컨트롤러 전용 예외 처리기
+ *
+ * <p>{@link LprImageController}에서 발생한 멀티파트 업로드 크기 초과를 LPR 에러 코드(LPR_003)로 응답한다.
+ * 다른 엔드포인트의 크기 초과는 {@link GlobalExceptionHandler}가 공통 에러 코드로 처리한다.</p>
+ *
+ * <p>크기 초과 예외가 컨트롤러 인자 바인딩 시점에 발생해야 처리 대상 컨트롤러를 알 수 있으므로
+ * {@code spring.servlet.multipart.resolve-lazily=true}와 함께 사용한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(assignableTypes = LprImageController.class)
+public class LprImageExceptionHandler {
+
+    /**
+     * LPR 이미지 업로드 크기 한도 초과를 처리한다.
+     *
+     * @param e 업로드 크기 초과 예외
+     * @return 에러 응답 (HTTP 413, LPR_003)
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        log.warn("LPR 이미지 업로드 크기 초과: {}", e.getMessage());
+        return ResponseEntity
+                .status(ErrorCode.LPR_003.getStatus())
+                .body(ApiResponse.error(ErrorCode.LPR_003));
+    }
+}
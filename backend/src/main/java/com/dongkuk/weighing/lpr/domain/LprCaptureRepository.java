@@ -18,11 +18,17 @@ import java.util.Optional;
  * <ul>
  *   <li>저울 ID 기반 최근 촬영 기록 조회</li>
  *   <li>저울 ID 기반 최신 단건 촬영 기록 조회</li>
+ *   <li>최근 촬영 윈도우 적재용 지정 시각 이후 촬영 기록 조회</li>
  * </ul>
  *
+ * <p>{@code tb_lpr_capture}는 PostgreSQL에서 촬영 시각 기준 월 파티션 테이블이다. 최근 촬영 조회는
+ * 촬영 시각 하한 조건으로 이전 월 파티션을 제외하고, 최신 1건 조회는 파티션별 촬영 시각 인덱스의
+ * 끝에서 한 건씩만 읽는다.</p>
+ *
  * @author 시스템
  * @since 1.0
  * @see LprCapture
+ * @see com.dongkuk.weighing.global.partition.PartitionMaintenanceService
  */
 public interface LprCaptureRepository extends JpaRepository<LprCapture, Long> {
 
@@ -35,4 +41,7 @@ public interface LprCaptureRepository extends JpaRepository<LprCapture, Long> {
 
     /** 특정 저울(scaleId)의 가장 최근 촬영 기록 1건을 조회합니다 */
     Optional<LprCapture> findTopByScaleIdOrderByCaptureTimestampDesc(Long scaleId);
+
+    /** 전체 저울에서 지정 시각 이후의 촬영 기록을 촬영 시각순으로 조회합니다 (최근 촬영 윈도우 적재용) */
+    List<LprCapture> findByCaptureTimestampAfterOrderByCaptureTimestampAsc(LocalDateTime since);
 }
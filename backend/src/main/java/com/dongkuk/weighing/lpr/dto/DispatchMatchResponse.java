@@ -8,10 +8,12 @@ import java.util.List;
  * 차량번호인식(LPR) 결과를 기반으로 배차 정보와 매칭한 결과를 담는 응답 객체입니다.
  * 매칭 결과 상태, 차량 정보, 그리고 매칭된 배차 목록을 포함합니다.
  *
- * @param matchResult 매칭 결과 상태 (예: MATCHED, NOT_FOUND 등)
+ * @param matchResult 매칭 결과 상태 (SINGLE_MATCH, MULTIPLE_MATCH, NO_DISPATCH, NO_VEHICLE, PLATE_CANDIDATES)
  * @param vehicleId 매칭된 차량 고유 식별자
- * @param plateNumber 인식된 차량 번호
+ * @param plateNumber 매칭에 사용한 차량 번호 (유사 매칭 시 등록 차량번호)
  * @param dispatches 매칭된 배차 항목 목록
+ * @param matchMethod 차량 매칭 방식 (EXACT: 차량번호 일치, FUZZY: 유사 차량번호 자동 매칭, 차량 미매칭 시 null)
+ * @param candidates 유사 차량번호 후보 목록 (유사도 순, 정확히 일치하면 빈 목록)
  *
  * @author 시스템
  * @since 1.0
@@ -20,7 +22,9 @@ public record DispatchMatchResponse(
     String matchResult,
     Long vehicleId,
     String plateNumber,
-    List<MatchedDispatchItem> dispatches
+    List<MatchedDispatchItem> dispatches,
+    String matchMethod,
+    List<PlateCandidate> candidates
 ) {
     /**
      * 매칭된 개별 배차 항목 DTO
@@ -43,4 +47,25 @@ public record DispatchMatchResponse(
         String dispatchDate,
         String status
     ) {}
+
+    /**
+     * 유사 차량번호 후보 DTO
+     *
+     * 인식 차량번호가 차량 마스터와 정확히 일치하지 않을 때 OCR 오인식을 고려하여 찾은
+     * 등록 차량 후보입니다. 운영자가 후보 중 차량을 선택할 수 있습니다.
+     *
+     * @param vehicleId 차량 고유 식별자
+     * @param plateNumber 등록 차량번호
+     * @param similarity 인식 차량번호와의 유사도 (0~1, 1은 일치)
+     * @param activeDispatchCount 당일 유효 배차 수
+     *
+     * @author 시스템
+     * @since 1.0
+     */
+    public record PlateCandidate(
+        Long vehicleId,
+        String plateNumber,
+        double similarity,
+        int activeDispatchCount
+    ) {}
 }
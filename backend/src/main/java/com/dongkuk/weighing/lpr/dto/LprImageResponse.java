@@ -0,0 +1,44 @@
+package com.dongkuk.weighing.lpr.dto;
+
+import com.dongkuk.weighing.lpr.service.LprImageStore;
+
+/**
+ * LPR 이미지 업로드 응답 DTO
+ *
+ * 내용 주소 방식으로 저장된 LPR 촬영 이미지 정보를 담는 응답 객체입니다.
+ * {@code url}을 촬영 등록 요청의 {@code lpr_image_path}로 보내면 대시보드가 같은 경로로 이미지를 조회합니다.
+ *
+ * @param imageId 이미지 ID ({@code <sha256>.<확장자>})
+ * @param url 원본 이미지 조회 경로
+ * @param thumbnailUrl 썸네일 조회 경로
+ * @param size 파일 크기 (바이트)
+ * @param contentType MIME 유형 (image/jpeg, image/png)
+ * @param deduplicated 같은 내용의 이미지가 이미 저장되어 있어 기존 이미지를 재사용했는지 여부
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record LprImageResponse(
+    String imageId,
+    String url,
+    String thumbnailUrl,
+    long size,
+    String contentType,
+    boolean deduplicated
+) {
+
+    /** 이미지 조회 기본 경로 */
+    public static final String BASE_PATH = "/api/v1/lpr/images";
+
+    /**
+     * 저장된 이미지로부터 응답 DTO를 생성한다.
+     *
+     * @param image 저장된 이미지
+     * @return 이미지 업로드 응답 DTO
+     */
+    public static LprImageResponse from(LprImageStore.StoredImage image) {
+        String url = BASE_PATH + "/" + image.imageId();
+        return new LprImageResponse(image.imageId(), url, url + "/thumbnail",
+                image.size(), image.contentType(), image.deduplicated());
+    }
+}
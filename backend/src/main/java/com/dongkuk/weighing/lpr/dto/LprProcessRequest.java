@@ -0,0 +1,52 @@
+package com.dongkuk.weighing.lpr.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 차량번호인식(LPR) 일괄 처리 요청 DTO
+ *
+ * 촬영 등록, AI 검증, 배차 매칭을 한 번에 처리하기 위한 요청 객체입니다.
+ * {@link LprCaptureRequest}의 촬영 정보에 AI 검증 결과를 함께 전송합니다.
+ *
+ * @param scaleId 계량대 고유 식별자 (필수)
+ * @param sensorEvent 센서 이벤트 유형 (예: ENTRY, EXIT 등, 필수)
+ * @param lprImagePath LPR 카메라 캡처 이미지 파일 경로 (선택)
+ * @param rawPlateNumber LPR이 원본으로 인식한 차량 번호 (선택)
+ * @param captureTimestamp 캡처 발생 시각 (필수)
+ * @param confirmedPlateNumber AI가 확인한 차량 번호 (선택)
+ * @param aiConfidence AI 인식 신뢰도 (0~1 범위, 선택, 미입력 시 AI 검증 없이 원본 번호로 매칭)
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record LprProcessRequest(
+    @NotNull
+    Long scaleId,
+
+    @NotBlank
+    String sensorEvent,
+
+    String lprImagePath,
+
+    String rawPlateNumber,
+
+    @NotNull
+    LocalDateTime captureTimestamp,
+
+    String confirmedPlateNumber,
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    BigDecimal aiConfidence
+) {
+    /** 촬영 등록 요청으로 변환한다. */
+    public LprCaptureRequest toCaptureRequest() {
+        return new LprCaptureRequest(scaleId, sensorEvent, lprImagePath, rawPlateNumber, captureTimestamp);
+    }
+}
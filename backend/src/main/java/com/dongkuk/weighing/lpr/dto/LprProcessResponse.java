@@ -0,0 +1,19 @@
+package com.dongkuk.weighing.lpr.dto;
+
+/**
+ * 차량번호인식(LPR) 일괄 처리 응답 DTO
+ *
+ * 촬영 등록, AI 검증, 배차 매칭을 한 번에 처리한 결과를 담는 응답 객체입니다.
+ *
+ * @param capture 촬영 결과 (AI 검증 및 배차 매칭 결과 반영, 중복 시 기존 촬영 결과)
+ * @param duplicate 중복 촬영 여부 (10초 이내 같은 계량대/차량번호 촬영)
+ * @param match 배차 매칭 결과 (중복 촬영이면 null)
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record LprProcessResponse(
+    LprCaptureResponse capture,
+    boolean duplicate,
+    DispatchMatchResponse match
+) {}
@@ -0,0 +1,18 @@
+package com.dongkuk.weighing.lpr.event;
+
+import com.dongkuk.weighing.lpr.dto.LprCaptureResponse;
+
+/**
+ * LPR 촬영 기록 변경 이벤트
+ *
+ * LPR 촬영 기록이 등록되거나 AI 검증/배차 매칭 결과가 반영될 때 발행되는 애플리케이션 이벤트이다.
+ * 변경 직후의 촬영 기록 스냅샷을 담으며, 트랜잭션 커밋 이후 최근 촬영 윈도우 갱신에 사용된다.
+ *
+ * @param capture 변경 직후의 촬영 기록 스냅샷
+ * @author 시스템
+ * @since 1.0
+ */
+public record LprCaptureChangedEvent(
+        LprCaptureResponse capture
+) {
+}
@@ -0,0 +1,469 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.lpr.config.LprImageExecutorConfig;
+import com.dongkuk.weighing.lpr.config.LprImageProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LPR 이미지 저장소
+ *
+ * <p>LPR 촬영 이미지를 내용 주소(SHA-256) 방식으로 로컬 디렉토리에 저장하고 조회한다.
+ * 이미지 ID는 {@code <sha256>.<확장자>}이며, 같은 내용의 이미지는 한 번만 저장된다.</p>
+ *
+ * <p>디렉토리 구성 ({@code lpr.image.storage-dir} 하위):
+ * <ul>
+ *   <li>{@code originals/ab/cd/<sha256>.jpg} — 원본 (해시 앞 4자리로 두 단계 분산하여 디렉토리당 파일 수 제한)</li>
+ *   <li>{@code thumbnails/ab/cd/<sha256>.jpg} — 썸네일 (JPEG, 가로 {@code thumbnail-max-width} 이하)</li>
+ *   <li>{@code tmp/} — 업로드 중인 임시 파일 ({@code .part})</li>
+ * </ul>
+ * </p>
+ *
+ * <p>처리 규칙:
+ * <ul>
+ *   <li>업로드는 임시 파일에 기록하면서 해시를 계산하고, 완료 후 최종 경로로 원자적으로 이동한다.
+ *       이미 같은 해시의 원본이 있으면 임시 파일을 지우고 기존 이미지를 반환한다.</li>
+ *   <li>형식은 확장자나 Content-Type이 아닌 파일 시그니처로 판별하며 JPEG, PNG만 허용한다.
+ *       이미지 헤더의 가로×세로가 {@code max-pixels}를 넘거나 헤더를 해석할 수 없으면 거절한다.</li>
+ *   <li>썸네일은 썸네일 작업자 풀에서 비동기로 생성한다. 대기열 초과 등으로 생성되지 않은 썸네일은
+ *       조회 시 다시 생성을 요청한다. 디코딩 전에 헤더로 픽셀 수를 다시 확인하여 한도를 넘으면 생성하지 않고,
+ *       썸네일 크기의 두 배 해상도까지만 서브샘플링하여 읽는다.</li>
+ *   <li>이미지 ID는 형식 검증 후에만 경로로 변환하므로 저장소 밖의 파일에 접근할 수 없다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭: {@code lpr.image.stored} (result=new|deduplicated), {@code lpr.image.thumbnail}
+ * (result=created|failed|rejected|skipped)</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.lpr.controller.LprImageController
+ */
+@Slf4j
+@Service
+public class LprImageStore {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String THUMBNAIL_EXTENSION = "jpg";
+    private static final String THUMBNAIL_ID_SUFFIX = "-thumb." + THUMBNAIL_EXTENSION;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** 이미지 ID 형식: SHA-256 16진수 64자 + 확장자 */
+    private static final Pattern IMAGE_ID = Pattern.compile("([0-9a-f]{64})\\.(jpg|png)");
+
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    private final LprImageProperties properties;
+
+    /** 생성 중이거나 대기 중인 썸네일의 해시 (중복 생성 방지) */
+    private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+
+    private final Counter storedNewCounter;
+    private final Counter storedDuplicateCounter;
+    private final Counter thumbnailCreatedCounter;
+    private final Counter thumbnailFailedCounter;
+    private final Counter thumbnailRejectedCounter;
+    private final Counter thumbnailSkippedCounter;
+
+    private Path originalsDir;
+    private Path thumbnailsDir;
+    private Path tmpDir;
+
+    public LprImageStore(@Qualifier(LprImageExecutorConfig.LPR_THUMBNAIL_EXECUTOR) ThreadPoolTaskExecutor thumbnailExecutor,
+                         LprImageProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.properties = properties;
+        this.storedNewCounter = storedCounter(meterRegistry, "new");
+        this.storedDuplicateCounter = storedCounter(meterRegistry, "deduplicated");
+        this.thumbnailCreatedCounter = thumbnailCounter(meterRegistry, "created");
+        this.thumbnailFailedCounter = thumbnailCounter(meterRegistry, "failed");
+        this.thumbnailRejectedCounter = thumbnailCounter(meterRegistry, "rejected");
+        this.thumbnailSkippedCounter = thumbnailCounter(meterRegistry, "skipped");
+    }
+
+    /**
+     * 저장소 디렉토리를 준비한다.
+     * 이전 실행에서 업로드 도중 남은 임시 파일은 삭제한다.
+     */
+    @PostConstruct
+    void initStorageDir() throws IOException {
+        Path root = Paths.get(properties.getStorageDir()).toAbsolutePath();
+        originalsDir = Files.createDirectories(root.resolve("originals"));
+        thumbnailsDir = Files.createDirectories(root.resolve("thumbnails"));
+        tmpDir = Files.createDirectories(root.resolve("tmp"));
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tmpDir)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+        if (root.startsWith(Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            log.warn("LPR 이미지 저장소가 임시 디렉토리에 있어 재부팅 시 이미지가 삭제될 수 있음: {}", root);
+        }
+        log.info("LPR 이미지 저장소 디렉토리: {}", root);
+    }
+
+    /**
+     * 이미지를 저장한다. 같은 내용의 이미지가 이미 있으면 기존 이미지를 반환한다.
+     *
+     * @param content 이미지 내용 (호출 후 닫는다)
+     * @return 저장된 이미지
+     */
+    public StoredImage store(InputStream content) {
+        Path part = tmpDir.resolve(UUID.randomUUID() + PART_SUFFIX);
+        try {
+            MessageDigest digest = sha256();
+            long maxSize = properties.getMaxUploadSize().toBytes();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            byte[] header = new byte[ImageFormat.SIGNATURE_LENGTH];
+            int headerLength = 0;
+            long size = 0;
+            try (InputStream in = content; OutputStream out = Files.newOutputStream(part)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new BusinessException(ErrorCode.LPR_003, "max=" + properties.getMaxUploadSize());
+                    }
+                    if (headerLength < header.length) {
+                        int copied = Math.min(read, header.length - headerLength);
+                        System.arraycopy(buffer, 0, header, headerLength, copied);
+                        headerLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            ImageFormat format = ImageFormat.detect(header, headerLength);
+            if (format == null) {
+                throw new BusinessException(ErrorCode.LPR_002);
+            }
+            checkPixels(part);
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String imageId = hash + "." + format.extension;
+            Path target = shard(originalsDir, hash).resolve(imageId);
+            boolean deduplicated = Files.exists(target);
+            if (deduplicated) {
+                deleteQuietly(part);
+                storedDuplicateCounter.increment();
+            } else {
+                Files.createDirectories(target.getParent());
+                // 같은 이미지를 동시에 올려도 내용이 같으므로 나중 이동이 덮어써도 무방하다
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+                storedNewCounter.increment();
+                log.debug("LPR 이미지 저장: imageId={}, bytes={}", imageId, size);
+            }
+            requestThumbnail(hash, target);
+            return new StoredImage(imageId, target, size, format.contentType, deduplicated);
+        } catch (IOException e) {
+            deleteQuietly(part);
+            log.error("LPR 이미지 저장 실패", e);
+            throw new BusinessException(ErrorCode.LPR_004);
+        } catch (RuntimeException e) {
+            deleteQuietly(part);
+            throw e;
+        }
+    }
+
+    /**
+     * 원본 이미지를 조회한다.
+     *
+     * @param imageId 이미지 ID ({@code <sha256>.<확장자>})
+     * @return 저장된 이미지
+     */
+    public StoredImage getOriginal(String imageId) {
+        Matcher matcher = matchImageId(imageId);
+        ImageFormat format = ImageFormat.ofExtension(matcher.group(2));
+        return toStoredImage(imageId, shard(originalsDir, matcher.group(1)).resolve(imageId), format.contentType);
+    }
+
+    /**
+     * 썸네일을 조회한다. 썸네일이 아직 없으면 생성을 요청하고 빈 값을 반환한다.
+     *
+     * @param imageId 원본 이미지 ID ({@code <sha256>.<확장자>})
+     * @return 썸네일 (JPEG, ID는 {@code <sha256>-thumb.jpg}), 아직 생성되지 않았으면 빈 값
+     */
+    public Optional<StoredImage> findThumbnail(String imageId) {
+        StoredImage original = getOriginal(imageId);
+        String hash = imageId.substring(0, imageId.indexOf('.'));
+        Path thumbnail = thumbnailPath(hash);
+        if (!Files.isReadable(thumbnail)) {
+            requestThumbnail(hash, original.file());
+            return Optional.empty();
+        }
+        return Optional.of(toStoredImage(hash + THUMBNAIL_ID_SUFFIX, thumbnail, ImageFormat.JPEG.contentType));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 썸네일이 없으면 작업자 풀에 생성을 요청한다. 대기열이 가득 차면 다음 조회 때 다시 요청한다. */
+    private void requestThumbnail(String hash, Path original) {
+        if (Files.exists(thumbnailPath(hash)) || !pendingThumbnails.add(hash)) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    createThumbnail(hash, original);
+                } finally {
+                    pendingThumbnails.remove(hash);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingThumbnails.remove(hash);
+            thumbnailRejectedCounter.increment();
+            log.debug("LPR 썸네일 생성 대기열 초과: hash={}", hash);
+        }
+    }
+
+    /** 작업자 스레드에서 원본을 가로 {@code thumbnail-max-width} 이하의 JPEG로 축소한다. */
+    private void createThumbnail(String hash, Path original) {
+        Path thumbnail = thumbnailPath(hash);
+        Path part = tmpDir.resolve(UUID.randomUUID() + PART_SUFFIX);
+        try {
+            int maxWidth = Math.max(1, properties.getThumbnailMaxWidth());
+            BufferedImage source = readForThumbnail(hash, original, maxWidth);
+            if (source == null) {
+                return;
+            }
+            int width = Math.min(source.getWidth(), maxWidth);
+            int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+            // JPEG는 투명도가 없으므로 PNG 투명 영역은 흰색으로 채운다
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            if (!ImageIO.write(scaled, THUMBNAIL_EXTENSION, part.toFile())) {
+                throw new IOException("JPEG 인코더를 찾을 수 없음");
+            }
+            Files.createDirectories(thumbnail.getParent());
+            Files.move(part, thumbnail, StandardCopyOption.ATOMIC_MOVE);
+            thumbnailCreatedCounter.increment();
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(part);
+            thumbnailFailedCounter.increment();
+            log.warn("LPR 썸네일 생성 실패: hash={}, error={}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드된 이미지 헤더의 가로×세로를 확인한다. 픽셀 데이터는 읽지 않는다.
+     *
+     * @throws BusinessException 헤더를 해석할 수 없으면 LPR_002, 픽셀 수 한도를 넘으면 LPR_005
+     */
+    private void checkPixels(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = openReader(in);
+            if (reader == null) {
+                throw new BusinessException(ErrorCode.LPR_002);
+            }
+            try {
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxPixels()) {
+                    throw new BusinessException(ErrorCode.LPR_005,
+                            "pixels=" + pixels + ", max=" + properties.getMaxPixels());
+                }
+            } catch (IIOException e) {
+                throw new BusinessException(ErrorCode.LPR_002);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 썸네일 생성용으로 원본을 디코딩한다.
+     * 헤더의 픽셀 수가 한도를 넘으면 디코딩하지 않고, 썸네일 크기의 두 배 이상 해상도만 남도록 서브샘플링한다.
+     *
+     * @return 디코딩한 이미지, 해석할 수 없거나 픽셀 수 한도를 넘으면 null
+     */
+    private BufferedImage readForThumbnail(String hash, Path original, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            ImageReader reader = openReader(in);
+            if (reader == null) {
+                thumbnailFailedCounter.increment();
+                log.warn("LPR 썸네일 생성 실패, 이미지를 해석할 수 없음: hash={}", hash);
+                return null;
+            }
+            try {
+                int width = reader.getWidth(0);
+                long pixels = (long) width * reader.getHeight(0);
+                if (pixels > properties.getMaxPixels()) {
+                    thumbnailSkippedCounter.increment();
+                    log.warn("LPR 썸네일 생략, 픽셀 수 한도 초과: hash={}, pixels={}, max={}",
+                            hash, pixels, properties.getMaxPixels());
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (maxWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 입력에 맞는 이미지 리더를 연결한다. 해석할 수 있는 리더가 없으면 null */
+    private static ImageReader openReader(ImageInputStream in) {
+        if (in == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    private Path thumbnailPath(String hash) {
+        return shard(thumbnailsDir, hash).resolve(hash + "." + THUMBNAIL_EXTENSION);
+    }
+
+    /** 해시 앞 2자리/다음 2자리 하위 디렉토리 */
+    private static Path shard(Path base, String hash) {
+        return base.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+    }
+
+    private static Matcher matchImageId(String imageId) {
+        Matcher matcher = imageId != null ? IMAGE_ID.matcher(imageId) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new BusinessException(ErrorCode.LPR_001, "imageId=" + imageId);
+        }
+        return matcher;
+    }
+
+    private static StoredImage toStoredImage(String imageId, Path file, String contentType) {
+        try {
+            return new StoredImage(imageId, file, Files.size(file), contentType, false);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.LPR_001, "imageId=" + imageId);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    private static Counter storedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("lpr.image.stored")
+                .description("업로드된 LPR 이미지 수 (new: 새로 저장, deduplicated: 기존 이미지 재사용)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter thumbnailCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("lpr.image.thumbnail")
+                .description("LPR 썸네일 생성 요청 처리 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("LPR 이미지 임시 파일 삭제 실패: path={}, error={}", path, e.getMessage());
+        }
+    }
+
+    /** 허용 이미지 형식 (파일 시그니처로 판별) */
+    private enum ImageFormat {
+        JPEG("jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+        PNG("png", "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+        private static final int SIGNATURE_LENGTH = 8;
+
+        private final String extension;
+        private final String contentType;
+        private final byte[] signature;
+
+        ImageFormat(String extension, String contentType, byte[] signature) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.signature = signature;
+        }
+
+        private static ImageFormat detect(byte[] header, int length) {
+            for (ImageFormat format : values()) {
+                if (length >= format.signature.length
+                        && Arrays.equals(header, 0, format.signature.length,
+                        format.signature, 0, format.signature.length)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        private static ImageFormat ofExtension(String extension) {
+            return extension.equals(PNG.extension) ? PNG : JPEG;
+        }
+    }
+
+    /**
+     * 저장된 이미지
+     *
+     * @param imageId      이미지 ID ({@code <sha256>.<확장자>})
+     * @param file         이미지 파일 경로
+     * @param size         파일 크기 (바이트)
+     * @param contentType  MIME 유형
+     * @param deduplicated 업로드 전에 같은 내용의 이미지가 이미 저장되어 있었는지 여부
+     */
+    public record StoredImage(String imageId, Path file, long size, String contentType, boolean deduplicated) {
+
+        /** 강한 ETag (내용 해시 기반, 따옴표 포함) */
+        public String etag() {
+            return "\"" + imageId + "\"";
+        }
+    }
+}
@@ -1,34 +1,42 @@
 package com.dongkuk.weighing.lpr.service;
 
-import com.dongkuk.weighing.dispatch.domain.Dispatch;
-import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
-import com.dongkuk.weighing.dispatch.domain.DispatchStatus;
+import com.dongkuk.weighing.dispatch.service.TodayDispatchIndex;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
+import com.dongkuk.weighing.lpr.config.PlateMatchProperties;
 import com.dongkuk.weighing.lpr.domain.LprCapture;
 import com.dongkuk.weighing.lpr.domain.LprCaptureRepository;
 import com.dongkuk.weighing.lpr.dto.*;
+import com.dongkuk.weighing.lpr.event.LprCaptureChangedEvent;
 import com.dongkuk.weighing.master.domain.Vehicle;
 import com.dongkuk.weighing.master.domain.VehicleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 차량번호인식(LPR) 서비스
  *
  * <p>계량대 진입 시 카메라를 통해 촬영된 차량번호판 이미지를
  * 등록하고 AI 검증을 수행하는 서비스.
- * 인식된 차량번호를 기반으로 당일 배차 정보를 자동 매칭한다.</p>
+ * 인식된 차량번호를 기반으로 당일 배차 정보를 자동 매칭하며, 차량번호가 정확히 일치하지 않으면
+ * OCR 오인식을 고려한 유사 차량번호 후보로 매칭한다.</p>
  *
  * <p>중복 촬영 방지(최소 10초 간격) 규칙을 적용하며,
- * AI 신뢰도(confidence) 기반 검증 상태를 관리한다.</p>
+ * AI 신뢰도(confidence) 기반 검증 상태를 관리한다.
+ * 중복 판정과 계량대별 최신 촬영 조회는 {@link RecentLprCaptureWindow}에서 메모리로 처리하고,
+ * 촬영 기록이 바뀌면 {@link LprCaptureChangedEvent}를 발행하여 윈도우를 갱신한다.</p>
  *
  * @author 시스템
  * @since 1.0
@@ -44,9 +52,20 @@ public class LprService {
     /** 중복 촬영 방지 최소 간격 (초) */
     private static final int DUPLICATE_CAPTURE_SECONDS = 10;
 
+    /** 차량 매칭 방식: 차량번호 일치 */
+    private static final String MATCH_METHOD_EXACT = "EXACT";
+
+    /** 차량 매칭 방식: 유사 차량번호 자동 매칭 */
+    private static final String MATCH_METHOD_FUZZY = "FUZZY";
+
     private final LprCaptureRepository captureRepository;
     private final VehicleRepository vehicleRepository;
-    private final DispatchRepository dispatchRepository;
+    private final TodayDispatchIndex todayDispatchIndex;
+    private final VehiclePlateMatcher vehiclePlateMatcher;
+    private final PlateMatchProperties plateMatchProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecentLprCaptureWindow recentCaptureWindow;
+    private final MeterRegistry meterRegistry;
 
     // ─── LPR 촬영 등록 및 검증 ───
 
@@ -63,33 +82,15 @@ public class LprService {
     @Transactional
     public LprCaptureResponse registerCapture(LprCaptureRequest request) {
         // BR-001-3: 중복 촬영 방지 (최소 10초 간격)
-        List<LprCapture> recent = captureRepository.findRecentByScaleId(
-                request.scaleId(),
-                request.captureTimestamp().minusSeconds(DUPLICATE_CAPTURE_SECONDS));
-
-        boolean isDuplicate = recent.stream()
-                .anyMatch(c -> request.rawPlateNumber() != null
-                        && request.rawPlateNumber().equals(c.getRawPlateNumber()));
+        Optional<LprCaptureResponse> duplicate = findDuplicateCapture(request);
 
         // 중복 촬영인 경우 기존 결과를 그대로 반환
-        if (isDuplicate) {
+        if (duplicate.isPresent()) {
             log.info("중복 촬영 방지: scaleId={}, plate={}", request.scaleId(), request.rawPlateNumber());
-            return LprCaptureResponse.from(recent.get(0));
+            return duplicate.get();
         }
 
-        LprCapture capture = LprCapture.builder()
-                .scaleId(request.scaleId())
-                .lprImagePath(request.lprImagePath())
-                .rawPlateNumber(request.rawPlateNumber())
-                .captureTimestamp(request.captureTimestamp())
-                .sensorEvent(request.sensorEvent())
-                .build();
-
-        LprCapture saved = captureRepository.save(capture);
-        log.info("LPR 촬영 등록: captureId={}, scaleId={}, plate={}",
-                saved.getCaptureId(), saved.getScaleId(), saved.getRawPlateNumber());
-
-        return LprCaptureResponse.from(saved);
+        return publishChanged(saveCapture(request, null, null));
     }
 
     /**
@@ -112,7 +113,36 @@ public class LprService {
         log.info("AI 검증 완료: captureId={}, confidence={}, status={}",
                 capture.getCaptureId(), capture.getAiConfidence(), capture.getVerificationStatus());
 
-        return LprCaptureResponse.from(capture);
+        return publishChanged(capture);
+    }
+
+    /**
+     * 촬영 등록, 중복 촬영 방지, AI 검증, 배차 자동 매칭을 한 트랜잭션에서 처리한다.
+     *
+     * <p>계량대 PC가 촬영 등록({@code /capture}), AI 검증({@code /verify}), 배차 매칭({@code /{id}/match})을
+     * 차례로 호출하던 흐름을 한 번의 요청으로 처리한다. AI 검증 결과는 저장 전에 반영하고,
+     * 매칭은 저장한 촬영 기록을 다시 조회하지 않고 그대로 사용한다.</p>
+     *
+     * <p>BR-001-3에 따라 중복 촬영이면 기존 촬영 결과만 반환하며({@code duplicate = true}), 검증/매칭은
+     * 다시 수행하지 않는다. AI 신뢰도가 없으면 검증 없이(PENDING) 원본 차량번호로 매칭한다.</p>
+     *
+     * @param request LPR 일괄 처리 요청 DTO (촬영 정보, AI 확인 차량번호, AI 신뢰도)
+     * @return 촬영 결과, 중복 여부, 배차 매칭 결과 (중복 시 매칭 결과 null)
+     */
+    @Transactional
+    public LprProcessResponse processCapture(LprProcessRequest request) {
+        LprCaptureRequest captureRequest = request.toCaptureRequest();
+
+        // BR-001-3: 중복 촬영 방지 (최소 10초 간격)
+        Optional<LprCaptureResponse> duplicate = findDuplicateCapture(captureRequest);
+        if (duplicate.isPresent()) {
+            log.info("중복 촬영 방지: scaleId={}, plate={}", request.scaleId(), request.rawPlateNumber());
+            return new LprProcessResponse(duplicate.get(), true, null);
+        }
+
+        LprCapture capture = saveCapture(captureRequest, request.confirmedPlateNumber(), request.aiConfidence());
+        DispatchMatchResponse match = matchCapture(capture);
+        return new LprProcessResponse(publishChanged(capture), false, match);
     }
 
     // ─── 배차 자동 매칭 ───
@@ -123,13 +153,18 @@ public class LprService {
      * <p>매칭 프로세스:
      * <ol>
      *   <li>BR-003-1: 확인된 차량번호(AI 검증 우선)로 차량 마스터 조회</li>
-     *   <li>BR-003-2: 해당 차량의 당일 유효 배차(등록/진행중) 조회</li>
-     *   <li>매칭 결과에 따라 SINGLE_MATCH, MULTIPLE_MATCH, NO_DISPATCH, NO_VEHICLE 반환</li>
+     *   <li>일치하는 차량이 없으면 OCR 오인식을 고려한 유사 차량번호 후보 조회 ({@link VehiclePlateMatcher}).
+     *       당일 배차가 있는 1순위 후보가 자동 매칭 거리 이내이고 다른 후보와 충분히 구분되면 그 차량으로 매칭하고,
+     *       그렇지 않으면 PLATE_CANDIDATES로 후보 목록만 반환하여 운영자 선택/OTP 인증으로 넘긴다.</li>
+     *   <li>BR-003-2: 해당 차량의 당일 유효 배차(등록/진행중) 조회 ({@link TodayDispatchIndex})</li>
+     *   <li>매칭 결과에 따라 SINGLE_MATCH, MULTIPLE_MATCH, NO_DISPATCH, NO_VEHICLE, PLATE_CANDIDATES 반환</li>
      * </ol>
      * </p>
      *
+     * <p>매칭 소요 시간은 결과/매칭 방식별로 {@code lpr.dispatch.match.latency} 타이머에 기록한다.</p>
+     *
      * @param captureId LPR 촬영 ID
-     * @return 배차 매칭 결과 (매칭상태, 차량ID, 차량번호, 매칭된 배차 목록)
+     * @return 배차 매칭 결과 (매칭상태, 차량ID, 차량번호, 매칭된 배차 목록, 매칭 방식, 유사 차량번호 후보)
      * @throws BusinessException 촬영 기록이 존재하지 않는 경우
      */
     @Transactional
@@ -137,6 +172,72 @@ public class LprService {
         LprCapture capture = captureRepository.findById(captureId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001));
 
+        DispatchMatchResponse response = matchCapture(capture);
+        publishChanged(capture);
+        return response;
+    }
+
+    // ─── LPR 촬영 조회 ───
+
+    /**
+     * LPR 촬영 기록을 단건 조회한다.
+     *
+     * @param captureId 촬영 기록 ID
+     * @return 촬영 기록 응답
+     * @throws BusinessException 촬영 기록이 존재하지 않는 경우
+     */
+    public LprCaptureResponse getCapture(Long captureId) {
+        LprCapture capture = captureRepository.findById(captureId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001));
+        return LprCaptureResponse.from(capture);
+    }
+
+    /**
+     * 특정 계량대의 최신 LPR 촬영 기록을 조회한다.
+     * 최근 촬영 윈도우에 있으면 DB를 조회하지 않는다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 해당 계량대의 가장 최근 촬영 기록 응답
+     * @throws BusinessException 촬영 기록이 존재하지 않는 경우
+     */
+    public LprCaptureResponse getLatestCapture(Long scaleId) {
+        return recentCaptureWindow.findLatest(scaleId)
+                .orElseGet(() -> captureRepository.findTopByScaleIdOrderByCaptureTimestampDesc(scaleId)
+                        .map(LprCaptureResponse::from)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001)));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 촬영 기록을 저장하고 LPR 촬영 단계 이벤트를 발행한다.
+     * AI 신뢰도가 있으면 저장 전에 AI 검증 결과를 반영한다.
+     */
+    private LprCapture saveCapture(LprCaptureRequest request, String confirmedPlateNumber, BigDecimal aiConfidence) {
+        LprCapture capture = LprCapture.builder()
+                .scaleId(request.scaleId())
+                .lprImagePath(request.lprImagePath())
+                .rawPlateNumber(request.rawPlateNumber())
+                .captureTimestamp(request.captureTimestamp())
+                .sensorEvent(request.sensorEvent())
+                .build();
+        if (aiConfidence != null) {
+            capture.applyAiVerification(confirmedPlateNumber, aiConfidence);
+        }
+
+        LprCapture saved = captureRepository.save(capture);
+        log.info("LPR 촬영 등록: captureId={}, scaleId={}, plate={}, status={}",
+                saved.getCaptureId(), saved.getScaleId(), saved.getRawPlateNumber(), saved.getVerificationStatus());
+        eventPublisher.publishEvent(WeighingLifecycleEvent.lprCaptured(
+                saved.getCaptureId(), saved.getScaleId(), saved.getCaptureTimestamp()));
+        return saved;
+    }
+
+    /** 촬영 기록의 차량번호로 차량과 당일 배차를 매칭한다 ({@link #matchDispatch(Long)} 참고). */
+    private DispatchMatchResponse matchCapture(LprCapture capture) {
+        long started = System.nanoTime();
+        Long captureId = capture.getCaptureId();
+
         // AI 검증된 차량번호 우선, 없으면 원본 차량번호 사용
         String plateNumber = capture.getConfirmedPlateNumber() != null
                 ? capture.getConfirmedPlateNumber()
@@ -144,31 +245,73 @@ public class LprService {
 
         // BR-003-1: 차량번호로 차량 마스터 조회
         Optional<Vehicle> vehicleOpt = vehicleRepository.findByPlateNumber(plateNumber);
-        if (vehicleOpt.isEmpty()) {
+        if (vehicleOpt.isPresent()) {
+            return matchVehicleDispatches(capture, vehicleOpt.get().getVehicleId(), plateNumber,
+                    MATCH_METHOD_EXACT, List.of(), started);
+        }
+
+        // 일치하는 차량이 없으면 유사 차량번호 후보 조회
+        List<PlateNgramIndex.Match> similar = vehiclePlateMatcher.findSimilar(plateNumber);
+        List<DispatchMatchResponse.PlateCandidate> candidates = similar.stream()
+                .map(m -> new DispatchMatchResponse.PlateCandidate(m.vehicleId(), m.plateNumber(), m.score(),
+                        todayDispatchIndex.findActive(m.vehicleId()).size()))
+                .toList();
+        if (candidates.isEmpty()) {
             log.info("미등록 차량: plate={}", plateNumber);
-            return new DispatchMatchResponse("NO_VEHICLE", null, plateNumber, List.of());
+            recordMatchLatency("NO_VEHICLE", null, started);
+            return new DispatchMatchResponse("NO_VEHICLE", null, plateNumber, List.of(), null, List.of());
         }
 
-        Vehicle vehicle = vehicleOpt.get();
+        Optional<DispatchMatchResponse.PlateCandidate> autoMatch = selectAutoMatch(similar, candidates);
+        if (autoMatch.isEmpty()) {
+            log.info("유사 차량번호 후보: captureId={}, plate={}, candidates={}",
+                    captureId, plateNumber, candidates.size());
+            recordMatchLatency("PLATE_CANDIDATES", MATCH_METHOD_FUZZY, started);
+            return new DispatchMatchResponse("PLATE_CANDIDATES", null, plateNumber, List.of(),
+                    MATCH_METHOD_FUZZY, candidates);
+        }
 
-        // BR-003-2: 해당 차량의 당일 유효 배차 조회 (등록 또는 진행중 상태만)
-        LocalDate today = LocalDate.now();
-        List<Dispatch> dispatches = dispatchRepository.findByConditions(
-                today, today, null, null,
-                org.springframework.data.domain.Pageable.unpaged()
-        ).getContent().stream()
-                .filter(d -> d.getVehicleId().equals(vehicle.getVehicleId()))
-                .filter(d -> d.getDispatchStatus() == DispatchStatus.REGISTERED
-                        || d.getDispatchStatus() == DispatchStatus.IN_PROGRESS)
-                .toList();
+        DispatchMatchResponse.PlateCandidate matched = autoMatch.get();
+        log.info("유사 차량번호 자동 매칭: captureId={}, plate={}, matchedPlate={}, similarity={}",
+                captureId, plateNumber, matched.plateNumber(), matched.similarity());
+        return matchVehicleDispatches(capture, matched.vehicleId(), matched.plateNumber(),
+                MATCH_METHOD_FUZZY, candidates, started);
+    }
 
-        List<DispatchMatchResponse.MatchedDispatchItem> items = dispatches.stream()
+    /**
+     * 같은 계량대에서 중복 촬영 간격 이내에 같은 차량번호로 촬영된 기록을 찾는다.
+     * 최근 촬영 윈도우가 준비되기 전(기동 직후)에만 DB를 조회한다.
+     */
+    private Optional<LprCaptureResponse> findDuplicateCapture(LprCaptureRequest request) {
+        if (request.rawPlateNumber() == null) {
+            return Optional.empty();
+        }
+        LocalDateTime since = request.captureTimestamp().minusSeconds(DUPLICATE_CAPTURE_SECONDS);
+        if (recentCaptureWindow.isReady()) {
+            return recentCaptureWindow.findDuplicate(request.scaleId(), request.rawPlateNumber(), since);
+        }
+        return captureRepository.findRecentByScaleId(request.scaleId(), since).stream()
+                .filter(c -> request.rawPlateNumber().equals(c.getRawPlateNumber()))
+                .findFirst()
+                .map(LprCaptureResponse::from);
+    }
+
+    /**
+     * 매칭된 차량의 당일 유효 배차를 조회하여 매칭 결과를 판정한다.
+     * 단건 매칭 시 배차를 촬영 기록에 자동 연결하고, 다건 매칭 시 차량만 연결한다.
+     */
+    private DispatchMatchResponse matchVehicleDispatches(LprCapture capture, Long vehicleId, String plateNumber,
+                                                         String matchMethod,
+                                                         List<DispatchMatchResponse.PlateCandidate> candidates,
+                                                         long started) {
+        // BR-003-2: 해당 차량의 당일 유효 배차 조회 (등록 또는 진행중 상태만)
+        List<DispatchMatchResponse.MatchedDispatchItem> items = todayDispatchIndex.findActive(vehicleId).stream()
                 .map(d -> new DispatchMatchResponse.MatchedDispatchItem(
-                        d.getDispatchId(),
-                        d.getItemType().name(),
-                        d.getItemName(),
-                        d.getDispatchDate().toString(),
-                        d.getDispatchStatus().name()))
+                        d.dispatchId(),
+                        d.itemType(),
+                        d.itemName(),
+                        d.dispatchDate().toString(),
+                        d.dispatchStatus()))
                 .toList();
 
         // 매칭 결과 판정: 단건 매칭 시 자동 연결, 다건 매칭 시 수동 선택 필요
@@ -178,44 +321,67 @@ public class LprService {
         } else if (items.size() == 1) {
             matchResult = "SINGLE_MATCH";
             // 단건 매칭 시 배차ID와 차량ID를 촬영 기록에 자동 연결
-            capture.applyDispatchMatch(items.get(0).dispatchId(), vehicle.getVehicleId());
+            capture.applyDispatchMatch(items.get(0).dispatchId(), vehicleId);
+            eventPublisher.publishEvent(WeighingLifecycleEvent.dispatchMatched(
+                    capture.getCaptureId(), items.get(0).dispatchId(), capture.getScaleId()));
         } else {
             matchResult = "MULTIPLE_MATCH";
             // 다건 매칭 시 차량ID만 연결, 배차 선택은 운영자가 수동 처리
-            capture.applyDispatchMatch(null, vehicle.getVehicleId());
+            capture.applyDispatchMatch(null, vehicleId);
         }
 
-        log.info("배차 매칭: captureId={}, result={}, matchCount={}",
-                captureId, matchResult, items.size());
+        log.info("배차 매칭: captureId={}, result={}, method={}, matchCount={}",
+                capture.getCaptureId(), matchResult, matchMethod, items.size());
+        recordMatchLatency(matchResult, matchMethod, started);
 
-        return new DispatchMatchResponse(matchResult, vehicle.getVehicleId(), plateNumber, items);
+        return new DispatchMatchResponse(matchResult, vehicleId, plateNumber, items, matchMethod, candidates);
     }
 
-    // ─── LPR 촬영 조회 ───
-
     /**
-     * LPR 촬영 기록을 단건 조회한다.
+     * 유사 차량번호 후보 중 운영자 확인 없이 자동 매칭할 차량을 고른다.
      *
-     * @param captureId 촬영 기록 ID
-     * @return 촬영 기록 응답
-     * @throws BusinessException 촬영 기록이 존재하지 않는 경우
+     * <p>당일 유효 배차가 있는 가장 가까운 후보가 자동 매칭 거리 이내이고,
+     * 다른 모든 후보가 그보다 구분 거리 이상 멀 때만 선택한다.</p>
      */
-    public LprCaptureResponse getCapture(Long captureId) {
-        LprCapture capture = captureRepository.findById(captureId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001));
-        return LprCaptureResponse.from(capture);
+    private Optional<DispatchMatchResponse.PlateCandidate> selectAutoMatch(
+            List<PlateNgramIndex.Match> similar, List<DispatchMatchResponse.PlateCandidate> candidates) {
+        int autoMatchDistance = VehiclePlateMatcher.tenths(plateMatchProperties.getAutoMatchMaxDistance());
+        int margin = VehiclePlateMatcher.tenths(plateMatchProperties.getAmbiguityMargin());
+
+        int best = -1;
+        for (int i = 0; i < candidates.size(); i++) {
+            // 후보는 거리 오름차순이므로 당일 배차가 있는 첫 후보가 가장 가깝다
+            if (candidates.get(i).activeDispatchCount() > 0) {
+                best = i;
+                break;
+            }
+        }
+        if (best < 0 || similar.get(best).distance() > autoMatchDistance) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < similar.size(); i++) {
+            if (i != best && similar.get(i).distance() - similar.get(best).distance() < margin) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(candidates.get(best));
     }
 
-    /**
-     * 특정 계량대의 최신 LPR 촬영 기록을 조회한다.
-     *
-     * @param scaleId 계량대 ID
-     * @return 해당 계량대의 가장 최근 촬영 기록 응답
-     * @throws BusinessException 촬영 기록이 존재하지 않는 경우
-     */
-    public LprCaptureResponse getLatestCapture(Long scaleId) {
-        LprCapture capture = captureRepository.findTopByScaleIdOrderByCaptureTimestampDesc(scaleId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001));
-        return LprCaptureResponse.from(capture);
+    /** 배차 매칭 결과/매칭 방식별 소요 시간을 기록한다. */
+    private void recordMatchLatency(String matchResult, String matchMethod, long started) {
+        Timer.builder("lpr.dispatch.match.latency")
+                .description("LPR 배차 자동 매칭 소요 시간")
+                .tag("result", matchResult)
+                .tag("method", matchMethod != null ? matchMethod : "NONE")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /** 촬영 기록 스냅샷을 만들어 변경 이벤트로 발행한다. */
+    private LprCaptureResponse publishChanged(LprCapture capture) {
+        LprCaptureResponse response = LprCaptureResponse.from(capture);
+        eventPublisher.publishEvent(new LprCaptureChangedEvent(response));
+        return response;
     }
 }
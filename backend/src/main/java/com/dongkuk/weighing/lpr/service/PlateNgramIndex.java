@@ -0,0 +1,181 @@
+package com.dongkuk.weighing.lpr.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차량번호 2-gram 색인
+ *
+ * <p>등록 차량번호를 혼동 그룹 대표 기호({@link PlateSimilarity#canonical(int[])})의 2-gram으로 색인하여,
+ * 인식 차량번호와 가중 편집 거리가 허용 범위 이내인 차량번호를 찾는다. 생성 후 변경되지 않으므로
+ * 여러 스레드에서 잠금 없이 조회할 수 있다.</p>
+ *
+ * <p>후보 선별: 허용 거리 안에서 일반 편집(비용 {@value PlateSimilarity#EDIT_COST})은 최대 k번이고,
+ * 혼동 그룹 내 치환은 대표 기호 상에서 편집이 아니다. 앞뒤 경계 기호를 붙인 2-gram은 편집 한 번에
+ * 최대 2개가 바뀌므로, 허용 범위 안의 번호는 공통 2-gram이 {@code max(길이) + 1 - 2k}개 이상이다.
+ * 이 조건을 만족하는 번호만 편집 거리를 계산하므로 결과는 전수 비교와 같다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see VehiclePlateMatcher
+ */
+public final class PlateNgramIndex {
+
+    /** 앞뒤 경계 기호 */
+    private static final int BOUNDARY = 0;
+
+    /** 빈 색인 */
+    public static final PlateNgramIndex EMPTY = new PlateNgramIndex(new long[0], new String[0], new int[0][]);
+
+    private final long[] vehicleIds;
+    private final String[] plateNumbers;
+    private final int[][] symbols;
+
+    /** 2-gram → 차량 위치 목록 (오름차순, 같은 번호 안에서 반복되면 반복 횟수만큼 포함) */
+    private final Map<Integer, int[]> postings;
+
+    private PlateNgramIndex(long[] vehicleIds, String[] plateNumbers, int[][] symbols) {
+        this.vehicleIds = vehicleIds;
+        this.plateNumbers = plateNumbers;
+        this.symbols = symbols;
+        Map<Integer, List<Integer>> lists = new HashMap<>();
+        for (int position = 0; position < symbols.length; position++) {
+            for (int gram : grams(PlateSimilarity.canonical(symbols[position]))) {
+                lists.computeIfAbsent(gram, g -> new ArrayList<>()).add(position);
+            }
+        }
+        this.postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, positions) ->
+                postings.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * 차량 ID → 차량번호 목록으로 색인을 만든다. 비교할 기호가 없는 차량번호는 제외한다.
+     *
+     * @param plates 차량 ID → 차량번호
+     * @return 색인
+     */
+    public static PlateNgramIndex build(Map<Long, String> plates) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : plates.entrySet()) {
+            if (PlateSimilarity.symbols(entry.getValue()).length > 0) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey());
+        long[] ids = new long[entries.size()];
+        String[] numbers = new String[entries.size()];
+        int[][] symbols = new int[entries.size()][];
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i).getKey();
+            numbers[i] = entries.get(i).getValue();
+            symbols[i] = PlateSimilarity.symbols(numbers[i]);
+        }
+        return new PlateNgramIndex(ids, numbers, symbols);
+    }
+
+    /** 색인된 차량번호 수 */
+    public int size() {
+        return vehicleIds.length;
+    }
+
+    /**
+     * 인식 차량번호와 가중 편집 거리가 허용 범위 이내인 차량번호를 거리 순으로 찾는다.
+     *
+     * @param plateNumber 인식 차량번호
+     * @param maxDistance 허용 최대 거리 (0.1 단위)
+     * @param limit       최대 반환 수
+     * @return 유사 차량번호 목록 (거리 오름차순, 같으면 차량번호 순)
+     */
+    public List<Match> search(String plateNumber, int maxDistance, int limit) {
+        int[] query = PlateSimilarity.symbols(plateNumber);
+        if (query.length == 0 || limit <= 0 || vehicleIds.length == 0) {
+            return List.of();
+        }
+        int maxEdits = maxDistance / PlateSimilarity.EDIT_COST;
+        List<Match> matches = new ArrayList<>();
+        if (query.length + 1 - 2 * maxEdits < 1) {
+            // 짧은 번호는 공통 2-gram이 없어도 허용 범위일 수 있으므로 전수 비교한다
+            for (int position = 0; position < vehicleIds.length; position++) {
+                addIfWithin(matches, query, position, maxDistance);
+            }
+        } else {
+            int[] shared = countSharedGrams(grams(PlateSimilarity.canonical(query)));
+            for (int position = 0; position < shared.length; position++) {
+                int required = Math.max(query.length, symbols[position].length) + 1 - 2 * maxEdits;
+                if (shared[position] >= required) {
+                    addIfWithin(matches, query, position, maxDistance);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::plateNumber));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 차량 위치별 공통 2-gram 수 (같은 2-gram이 반복되면 양쪽 반복 횟수 중 작은 값만큼) */
+    private int[] countSharedGrams(int[] queryGrams) {
+        int[] shared = new int[vehicleIds.length];
+        Arrays.sort(queryGrams);
+        int i = 0;
+        while (i < queryGrams.length) {
+            int gram = queryGrams[i];
+            int queryCount = 0;
+            while (i < queryGrams.length && queryGrams[i] == gram) {
+                queryCount++;
+                i++;
+            }
+            int[] positions = postings.get(gram);
+            if (positions == null) {
+                continue;
+            }
+            int j = 0;
+            while (j < positions.length) {
+                int position = positions[j];
+                int plateCount = 0;
+                while (j < positions.length && positions[j] == position) {
+                    plateCount++;
+                    j++;
+                }
+                shared[position] += Math.min(queryCount, plateCount);
+            }
+        }
+        return shared;
+    }
+
+    private void addIfWithin(List<Match> matches, int[] query, int position, int maxDistance) {
+        int distance = PlateSimilarity.distance(query, symbols[position], maxDistance);
+        if (distance <= maxDistance) {
+            matches.add(new Match(vehicleIds[position], plateNumbers[position], distance,
+                    PlateSimilarity.score(distance, Math.max(query.length, symbols[position].length))));
+        }
+    }
+
+    /** 경계 기호를 붙인 2-gram (길이 + 1개) */
+    private static int[] grams(int[] canonical) {
+        int[] grams = new int[canonical.length + 1];
+        int previous = BOUNDARY;
+        for (int i = 0; i < canonical.length; i++) {
+            grams[i] = (previous << 16) | canonical[i];
+            previous = canonical[i];
+        }
+        grams[canonical.length] = (previous << 16) | BOUNDARY;
+        return grams;
+    }
+
+    /**
+     * 유사 차량번호
+     *
+     * @param vehicleId   차량 ID
+     * @param plateNumber 등록 차량번호
+     * @param distance    가중 편집 거리 (0.1 단위)
+     * @param score       유사도 (1.0 = 같은 번호)
+     */
+    public record Match(long vehicleId, String plateNumber, int distance, double score) {
+    }
+}
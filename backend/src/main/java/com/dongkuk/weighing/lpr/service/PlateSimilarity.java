@@ -0,0 +1,195 @@
+package com.dongkuk.weighing.lpr.service;
+
+import java.util.Arrays;
+
+/**
+ * 차량번호 유사도 계산기
+ *
+ * <p>LPR 인식 차량번호와 등록 차량번호의 유사도를 OCR 오인식 특성을 반영하여 계산한다.</p>
+ *
+ * <ul>
+ *   <li>기호 변환: 공백/구분자를 제거하고, 한글 음절은 초성/중성/종성 자모로 분해한다.
+ *       번호판에 쓰이지 않는 영문자 중 숫자와 혼동되는 글자는 숫자로 바꾼다 (O/D/Q→0, I/L→1, Z→2, S→5, G→6, B→8).</li>
+ *   <li>혼동 그룹: 0/3/8, 1/7, 5/6, ㄱ/ㅋ, ㄷ/ㄹ/ㅌ, ㅁ/ㅂ/ㅍ, ㅈ/ㅊ, ㅇ/ㅎ, ㅏ/ㅓ, ㅐ/ㅔ, ㅗ/ㅜ처럼
+ *       OCR이 자주 혼동하는 기호끼리 묶는다. 예: 바/마는 초성 ㅂ/ㅁ만 달라 혼동 비용 한 번이다.</li>
+ *   <li>거리: 가중 편집 거리 (삽입/삭제/일반 치환 {@value #EDIT_COST}, 같은 혼동 그룹 내 치환
+ *       {@value #CONFUSION_COST}, 단위 0.1). 혼동 그룹이 서로소이므로 거리 공리(삼각 부등식)를 만족한다.</li>
+ * </ul>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see PlateNgramIndex
+ */
+public final class PlateSimilarity {
+
+    /** 삽입/삭제/일반 치환 비용 (0.1 단위) */
+    public static final int EDIT_COST = 10;
+
+    /** 같은 혼동 그룹 내 치환 비용 (0.1 단위) */
+    public static final int CONFUSION_COST = 4;
+
+    /** 한글 음절 시작 코드 (가) */
+    private static final int HANGUL_BASE = 0xAC00;
+
+    /** 한글 음절 끝 코드 (힣) */
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    /** 초성/중성/종성 기호 시작 코드 (유니코드 한글 자모 영역) */
+    private static final int CHO_BASE = 0x1100;
+    private static final int JUNG_BASE = 0x1161;
+    private static final int JONG_BASE = 0x11A7;
+
+    /** 기호 → 혼동 그룹 대표 기호 (그룹이 없으면 자기 자신) */
+    private static final int[] CANONICAL = new int[0x1200];
+
+    static {
+        for (int i = 0; i < CANONICAL.length; i++) {
+            CANONICAL[i] = i;
+        }
+        group('0', '3', '8');
+        group('1', '7');
+        group('5', '6');
+        // 초성: ㄱ0 ㄷ3 ㄹ5 ㅁ6 ㅂ7 ㅇ11 ㅈ12 ㅊ14 ㅋ15 ㅌ16 ㅍ17 ㅎ18
+        group(CHO_BASE, CHO_BASE + 15);
+        group(CHO_BASE + 3, CHO_BASE + 5, CHO_BASE + 16);
+        group(CHO_BASE + 6, CHO_BASE + 7, CHO_BASE + 17);
+        group(CHO_BASE + 12, CHO_BASE + 14);
+        group(CHO_BASE + 11, CHO_BASE + 18);
+        // 중성: ㅏ0 ㅐ1 ㅓ4 ㅔ5 ㅗ8 ㅜ13
+        group(JUNG_BASE, JUNG_BASE + 4);
+        group(JUNG_BASE + 1, JUNG_BASE + 5);
+        group(JUNG_BASE + 8, JUNG_BASE + 13);
+    }
+
+    private PlateSimilarity() {
+    }
+
+    /**
+     * 차량번호를 비교용 기호 배열로 변환한다.
+     *
+     * @param plateNumber 차량번호 (null 허용)
+     * @return 기호 배열 (변환할 글자가 없으면 빈 배열)
+     */
+    public static int[] symbols(String plateNumber) {
+        if (plateNumber == null) {
+            return new int[0];
+        }
+        int[] out = new int[plateNumber.length() * 3];
+        int size = 0;
+        for (int i = 0; i < plateNumber.length(); i++) {
+            char ch = plateNumber.charAt(i);
+            if (ch >= HANGUL_BASE && ch <= HANGUL_LAST) {
+                int offset = ch - HANGUL_BASE;
+                out[size++] = CHO_BASE + offset / (21 * 28);
+                out[size++] = JUNG_BASE + (offset / 28) % 21;
+                if (offset % 28 != 0) {
+                    out[size++] = JONG_BASE + offset % 28;
+                }
+            } else if (ch >= '0' && ch <= '9') {
+                out[size++] = ch;
+            } else if (Character.isLetter(ch)) {
+                out[size++] = letterSymbol(Character.toUpperCase(ch));
+            }
+            // 공백, 하이픈 등 구분 기호는 버린다
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    /**
+     * 기호 배열을 혼동 그룹 대표 기호 배열로 변환한다.
+     * 변환 결과가 같으면 혼동 비용만으로 서로 바뀔 수 있는 차량번호이다.
+     *
+     * @param symbols 기호 배열
+     * @return 대표 기호 배열
+     */
+    public static int[] canonical(int[] symbols) {
+        int[] out = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            out[i] = canonical(symbols[i]);
+        }
+        return out;
+    }
+
+    /**
+     * 두 기호 배열의 가중 편집 거리를 계산한다.
+     * 거리가 {@code limit}을 넘는 것이 확정되면 계산을 멈추고 {@code limit + 1}을 반환한다.
+     *
+     * @param a     기호 배열
+     * @param b     기호 배열
+     * @param limit 허용 최대 거리 (0.1 단위)
+     * @return 가중 편집 거리 (0.1 단위, 한도 초과 시 {@code limit + 1})
+     */
+    public static int distance(int[] a, int[] b, int limit) {
+        if (Math.abs(a.length - b.length) * EDIT_COST > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            previous[j] = j * EDIT_COST;
+        }
+        for (int i = 1; i <= a.length; i++) {
+            current[0] = i * EDIT_COST;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length; j++) {
+                int value = Math.min(
+                        previous[j - 1] + substitutionCost(a[i - 1], b[j - 1]),
+                        Math.min(previous[j], current[j - 1]) + EDIT_COST);
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length], limit + 1);
+    }
+
+    /**
+     * 차량번호 두 개의 유사도 점수를 계산한다 (1.0 = 같은 번호).
+     *
+     * @param distance 가중 편집 거리 (0.1 단위)
+     * @param length   두 기호 배열 중 긴 쪽 길이
+     * @return 0.0 ~ 1.0 유사도
+     */
+    public static double score(int distance, int length) {
+        if (length == 0) {
+            return 0.0;
+        }
+        return Math.max(0.0, 1.0 - (double) distance / (length * EDIT_COST));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private static int substitutionCost(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        return canonical(a) == canonical(b) ? CONFUSION_COST : EDIT_COST;
+    }
+
+    private static int canonical(int symbol) {
+        return symbol >= 0 && symbol < CANONICAL.length ? CANONICAL[symbol] : symbol;
+    }
+
+    private static int letterSymbol(char letter) {
+        return switch (letter) {
+            case 'O', 'D', 'Q' -> '0';
+            case 'I', 'L' -> '1';
+            case 'Z' -> '2';
+            case 'S' -> '5';
+            case 'G' -> '6';
+            case 'B' -> '8';
+            default -> letter;
+        };
+    }
+
+    private static void group(int... members) {
+        for (int member : members) {
+            CANONICAL[member] = members[0];
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.lpr.domain.LprCaptureRepository;
+import com.dongkuk.weighing.lpr.dto.LprCaptureResponse;
+import com.dongkuk.weighing.lpr.event.LprCaptureChangedEvent;
+import com.dongkuk.weighing.master.domain.Scale;
+import com.dongkuk.weighing.master.domain.ScaleRepository;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 LPR 촬영 윈도우
+ *
+ * <p>계량대(scaleId)별로 최근 촬영 기록 스냅샷을 메모리에 보관한다.
+ * 차량이 계량대에 진입하는 동안 카메라가 연속 촬영하므로, 중복 촬영 판정(BR-001-3)과
+ * 계량대별 최신 촬영 조회를 DB 조회 없이 메모리에서 바로 응답하기 위해 사용된다.</p>
+ *
+ * <p>갱신 규칙:
+ * <ul>
+ *   <li>애플리케이션 기동 완료 시 보관 기간({@value #RETENTION_SECONDS}초) 이내의 촬영 기록과
+ *       계량대별 최신 촬영 기록을 DB에서 읽어 채운다. 채우기 전에는 {@link #isReady()}가 false이며
+ *       호출 측은 DB로 조회한다.</li>
+ *   <li>{@link LprCaptureChangedEvent}를 트랜잭션 커밋 이후에 반영하므로
+ *       롤백된 촬영은 윈도우에 노출되지 않는다.</li>
+ *   <li>계량대별로 가장 최근 촬영 시각 기준 보관 기간이 지났거나 {@value #MAX_CAPTURES_PER_SCALE}건을
+ *       넘는 오래된 기록은 제거한다. 최신 촬영 1건은 보관 기간과 무관하게 유지한다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>여러 인스턴스로 운영할 때는 커밋된 촬영 ID를 {@link ClusterInvalidationRelay}로 다른 인스턴스에 알리고,
+ * 받은 인스턴스는 해당 촬영을 DB에서 다시 읽어 반영한다. 따라서 다른 인스턴스에 등록된 촬영과
+ * AI 검증/배차 매칭 갱신도 중복 판정과 최신 촬영 조회에 반영된다. 알림이 도착하기 전의 짧은 구간과,
+ * 기존 DB 조회 방식과 마찬가지로 커밋 전의 동시 촬영끼리는 서로 중복으로 판정되지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see LprService#registerCapture(com.dongkuk.weighing.lpr.dto.LprCaptureRequest)
+ * @see LprService#getLatestCapture(Long)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentLprCaptureWindow {
+
+    /** 계량대별 최근 촬영 보관 기간 (초, 중복 촬영 판정 간격보다 길어야 함) */
+    static final int RETENTION_SECONDS = 60;
+
+    /** 계량대별 최대 보관 촬영 수 */
+    static final int MAX_CAPTURES_PER_SCALE = 64;
+
+    /** 무효화 중계 인덱스 이름 */
+    static final String CACHE_NAME = "recent-lpr-capture";
+
+    private final LprCaptureRepository captureRepository;
+    private final ScaleRepository scaleRepository;
+    private final ClusterInvalidationRelay invalidationRelay;
+
+    /** 계량대 ID → 최근 촬영 윈도우 */
+    private final Map<Long, ScaleWindow> byScale = new ConcurrentHashMap<>();
+
+    /** DB 기준 초기 적재 완료 여부 */
+    private volatile boolean ready;
+
+    /** 다른 인스턴스의 촬영 변경을 받도록 무효화 처리기를 등록한다. */
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationRelay.subscribe(CACHE_NAME, this::reload);
+    }
+
+    /**
+     * 기동 시 초기 적재가 끝나 윈도우로 조회할 수 있는지 여부.
+     *
+     * @return 초기 적재 완료 시 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 지정 시각 이후 같은 차량번호로 촬영된 가장 최근 기록을 찾는다.
+     *
+     * @param scaleId     계량대 ID
+     * @param plateNumber 원본 인식 차량번호
+     * @param since       판정 기준 시각 (이 시각 이후 촬영만 대상)
+     * @return 중복 촬영 기록 (없으면 빈 값)
+     */
+    public Optional<LprCaptureResponse> findDuplicate(Long scaleId, String plateNumber, LocalDateTime since) {
+        ScaleWindow window = byScale.get(scaleId);
+        if (window == null || plateNumber == null) {
+            return Optional.empty();
+        }
+        synchronized (window) {
+            for (int i = window.recent.size() - 1; i >= 0; i--) {
+                LprCaptureResponse capture = window.recent.get(i);
+                if (!capture.captureTimestamp().isAfter(since)) {
+                    break;
+                }
+                if (plateNumber.equals(capture.rawPlateNumber())) {
+                    return Optional.of(capture);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 계량대의 최신 촬영 기록을 반환한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 최신 촬영 스냅샷 (윈도우에 없으면 빈 값)
+     */
+    public Optional<LprCaptureResponse> findLatest(Long scaleId) {
+        ScaleWindow window = byScale.get(scaleId);
+        if (window == null) {
+            return Optional.empty();
+        }
+        synchronized (window) {
+            return Optional.ofNullable(window.latest);
+        }
+    }
+
+    /**
+     * 촬영 변경 이벤트를 커밋 이후에 반영하고 다른 인스턴스에 알린다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 반영한다.
+     *
+     * @param event 촬영 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaptureChanged(LprCaptureChangedEvent event) {
+        apply(event.capture(), true);
+        invalidationRelay.publish(CACHE_NAME, event.capture().captureId());
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 촬영을 DB에서 다시 읽어 반영한다.
+     *
+     * @param captureId 변경된 촬영 ID
+     */
+    void reload(Long captureId) {
+        captureRepository.findById(captureId)
+                .map(LprCaptureResponse::from)
+                .ifPresent(capture -> apply(capture, true));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 DB 기준으로 윈도우를 채운다.
+     * 기동 중 이미 반영된 이벤트 스냅샷은 DB 값으로 덮어쓰지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<LprCaptureResponse> recent = captureRepository
+                .findByCaptureTimestampAfterOrderByCaptureTimestampAsc(
+                        LocalDateTime.now().minusSeconds(RETENTION_SECONDS)).stream()
+                .map(LprCaptureResponse::from)
+                .toList();
+        for (LprCaptureResponse capture : recent) {
+            apply(capture, false);
+        }
+        int latestCount = 0;
+        for (Scale scale : scaleRepository.findAll()) {
+            if (byScale.containsKey(scale.getScaleId())) {
+                continue;
+            }
+            Optional<LprCaptureResponse> latest = captureRepository
+                    .findTopByScaleIdOrderByCaptureTimestampDesc(scale.getScaleId())
+                    .map(LprCaptureResponse::from);
+            if (latest.isPresent()) {
+                apply(latest.get(), false);
+                latestCount++;
+            }
+        }
+        ready = true;
+        log.info("최근 LPR 촬영 윈도우 적재: recent={}, latestOnly={}, scales={}",
+                recent.size(), latestCount, byScale.size());
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 촬영 스냅샷을 계량대 윈도우에 반영한다.
+     *
+     * @param capture 촬영 스냅샷
+     * @param replace 같은 촬영 ID가 이미 있으면 대체할지 여부 (초기 적재 시 false)
+     */
+    private void apply(LprCaptureResponse capture, boolean replace) {
+        if (capture.scaleId() == null || capture.captureTimestamp() == null) {
+            return;
+        }
+        ScaleWindow window = byScale.computeIfAbsent(capture.scaleId(), id -> new ScaleWindow());
+        synchronized (window) {
+            List<LprCaptureResponse> recent = window.recent;
+            int existing = indexOf(recent, capture.captureId());
+            if (existing >= 0) {
+                if (!replace) {
+                    return;
+                }
+                recent.set(existing, capture);
+            } else {
+                // 촬영 시각 오름차순 유지 (대부분 끝에 추가됨)
+                int position = recent.size();
+                while (position > 0
+                        && recent.get(position - 1).captureTimestamp().isAfter(capture.captureTimestamp())) {
+                    position--;
+                }
+                recent.add(position, capture);
+            }
+            LprCaptureResponse latest = window.latest;
+            boolean sameCapture = latest != null && Objects.equals(latest.captureId(), capture.captureId());
+            if (latest == null || (sameCapture
+                    ? replace : !capture.captureTimestamp().isBefore(latest.captureTimestamp()))) {
+                window.latest = capture;
+            }
+            prune(window);
+        }
+    }
+
+    private void prune(ScaleWindow window) {
+        List<LprCaptureResponse> recent = window.recent;
+        LocalDateTime threshold = recent.get(recent.size() - 1).captureTimestamp().minusSeconds(RETENTION_SECONDS);
+        int remove = Math.max(0, recent.size() - MAX_CAPTURES_PER_SCALE);
+        while (remove < recent.size() - 1 && recent.get(remove).captureTimestamp().isBefore(threshold)) {
+            remove++;
+        }
+        if (remove > 0) {
+            recent.subList(0, remove).clear();
+        }
+    }
+
+    private static int indexOf(List<LprCaptureResponse> recent, Long captureId) {
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            if (Objects.equals(recent.get(i).captureId(), captureId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 계량대별 최근 촬영 (촬영 시각 오름차순) 및 최신 촬영 */
+    private static final class ScaleWindow {
+        private final List<LprCaptureResponse> recent = new ArrayList<>();
+        private LprCaptureResponse latest;
+    }
+}
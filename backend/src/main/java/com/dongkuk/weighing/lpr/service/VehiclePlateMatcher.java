@@ -0,0 +1,104 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.lpr.config.PlateMatchProperties;
+import com.dongkuk.weighing.master.domain.Vehicle;
+import com.dongkuk.weighing.master.domain.VehicleRepository;
+import com.dongkuk.weighing.master.dto.VehicleResponse;
+import com.dongkuk.weighing.master.event.VehicleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차량번호 유사 매칭기
+ *
+ * <p>활성 차량의 등록 차량번호를 {@link PlateNgramIndex}로 색인하여, LPR 인식 차량번호가
+ * 차량 마스터와 정확히 일치하지 않을 때 OCR 오인식을 고려한 유사 차량번호 후보를 찾는다.</p>
+ *
+ * <p>갱신 규칙:
+ * <ul>
+ *   <li>애플리케이션 기동 완료 시 DB의 활성 차량으로 색인을 만든다.</li>
+ *   <li>{@link VehicleChangedEvent}를 트랜잭션 커밋 이후에 반영하여 색인을 다시 만든다.
+ *       차량 변경은 드물고 수천 대 기준 재색인이 수 ms이므로 조회 측은 잠금 없이 현재 색인을 읽는다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see LprService#matchDispatch(Long)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehiclePlateMatcher {
+
+    private final VehicleRepository vehicleRepository;
+    private final PlateMatchProperties properties;
+
+    /** 차량 ID → 등록 차량번호 (색인 재생성 원본, this 잠금으로 보호) */
+    private final Map<Long, String> plates = new HashMap<>();
+
+    /** 현재 색인 */
+    private volatile PlateNgramIndex index = PlateNgramIndex.EMPTY;
+
+    /**
+     * 인식 차량번호와 유사한 활성 차량번호를 거리 순으로 찾는다.
+     *
+     * @param plateNumber 인식 차량번호
+     * @return 유사 차량번호 후보 (유사 매칭을 사용하지 않으면 빈 목록)
+     */
+    public List<PlateNgramIndex.Match> findSimilar(String plateNumber) {
+        if (!properties.isEnabled()) {
+            return List.of();
+        }
+        return index.search(plateNumber, tenths(properties.getMaxDistance()), properties.getMaxCandidates());
+    }
+
+    /**
+     * 가중 편집 거리 설정 값을 색인 단위(0.1)로 변환한다.
+     *
+     * @param distance 가중 편집 거리
+     * @return 0.1 단위 거리
+     */
+    public static int tenths(double distance) {
+        return (int) Math.round(distance * PlateSimilarity.EDIT_COST);
+    }
+
+    /**
+     * 차량 변경 이벤트를 커밋 이후에 반영한다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 반영한다.
+     *
+     * @param event 차량 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onVehicleChanged(VehicleChangedEvent event) {
+        VehicleResponse vehicle = event.vehicle();
+        if (event.deleted() || !vehicle.isActive()) {
+            plates.remove(vehicle.vehicleId());
+        } else {
+            plates.put(vehicle.vehicleId(), vehicle.plateNumber());
+        }
+        index = PlateNgramIndex.build(plates);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 DB의 활성 차량으로 색인을 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        plates.clear();
+        for (Vehicle vehicle : vehicleRepository.findAllByIsActiveTrue()) {
+            plates.put(vehicle.getVehicleId(), vehicle.getPlateNumber());
+        }
+        index = PlateNgramIndex.build(plates);
+        log.info("차량번호 유사 매칭 색인 생성: vehicles={}", index.size());
+    }
+}
@@ -10,7 +10,7 @@ import java.math.BigDecimal;
  * 계량대 엔티티
  *
  * <p>물리적 차량 저울 장치의 마스터 정보를 관리하는 도메인 엔티티이다.
- * 계량대의 이름, 위치, 최대/최소 용량, 운영 상태, 활성화 여부 등을 보관한다.</p>
+ * 계량대의 이름, 위치, 최대/최소 용량, 안정 판정 기준, 운영 상태, 활성화 여부 등을 보관한다.</p>
  *
  * <p>계량대 상태: IDLE(유휴), IN_USE(사용중), MAINTENANCE(정비중) 등</p>
  *
@@ -50,6 +50,20 @@ public class Scale extends BaseEntity {
     @Column(name = "min_capacity", precision = 10, scale = 2)
     private BigDecimal minCapacity;
 
+    // ─── 안정 판정 기준 (null이면 weight-stream 기본값 사용) ───
+
+    /** 안정 판정 구간 샘플 수 */
+    @Column(name = "stability_window_size")
+    private Integer stabilityWindowSize;
+
+    /** 안정 판정 허용 편차 (구간 최대 - 최소, 단위: kg) */
+    @Column(name = "stability_tolerance", precision = 10, scale = 3)
+    private BigDecimal stabilityTolerance;
+
+    /** 안정 판정 허용 표준편차 (단위: kg) */
+    @Column(name = "stability_max_std_dev", precision = 10, scale = 3)
+    private BigDecimal stabilityMaxStdDev;
+
     // ─── 운영 상태 ───
 
     /** 계량대 운영 상태 (IDLE: 유휴, IN_USE: 사용중, MAINTENANCE: 정비중) */
@@ -96,6 +110,22 @@ public class Scale extends BaseEntity {
         this.minCapacity = minCapacity;
     }
 
+    /**
+     * 안정 판정 기준을 변경한다.
+     *
+     * <p>null 항목은 실시간 중량 스트림 설정의 기본값을 따른다.</p>
+     *
+     * @param stabilityWindowSize 안정 판정 구간 샘플 수
+     * @param stabilityTolerance  허용 편차 (kg)
+     * @param stabilityMaxStdDev  허용 표준편차 (kg)
+     */
+    public void updateStability(Integer stabilityWindowSize, BigDecimal stabilityTolerance,
+                                BigDecimal stabilityMaxStdDev) {
+        this.stabilityWindowSize = stabilityWindowSize;
+        this.stabilityTolerance = stabilityTolerance;
+        this.stabilityMaxStdDev = stabilityMaxStdDev;
+    }
+
     /**
      * 계량대 운영 상태를 변경한다.
      *
@@ -26,6 +26,9 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     /** 활성 차량 목록을 페이징 조회한다. */
     Page<Vehicle> findByIsActiveTrue(Pageable pageable);
 
+    /** 활성 차량 전체를 조회한다 (LPR 차량번호 유사 매칭 색인 생성). */
+    java.util.List<Vehicle> findAllByIsActiveTrue();
+
     /** 특정 업체의 차량을 페이징 조회한다. */
     Page<Vehicle> findByCompanyId(Long companyId, Pageable pageable);
 
@@ -1,5 +1,8 @@
 package com.dongkuk.weighing.master.dto;
 
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -9,7 +12,8 @@ import java.math.BigDecimal;
  * 계량대 요청 DTO
  *
  * 계량대 등록/수정 시 필요한 정보를 전달하는 요청 객체.
- * 계량대명, 설치 위치, 최대 용량, 최소 용량을 포함한다.
+ * 계량대명, 설치 위치, 최대 용량, 최소 용량, 안정 판정 기준을 포함한다.
+ * 안정 판정 기준을 비워 두면 실시간 중량 스트림 기본값을 사용한다.
  *
  * @author 시스템
  * @since 1.0
@@ -23,5 +27,14 @@ public record ScaleRequest(
 
     BigDecimal maxCapacity,
 
-    BigDecimal minCapacity
+    BigDecimal minCapacity,
+
+    @Min(2) @Max(1000)
+    Integer stabilityWindowSize,
+
+    @DecimalMin("0")
+    BigDecimal stabilityTolerance,
+
+    @DecimalMin("0")
+    BigDecimal stabilityMaxStdDev
 ) {}
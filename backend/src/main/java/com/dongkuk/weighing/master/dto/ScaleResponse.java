@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
  * 계량대 응답 DTO
  *
  * 계량대 정보를 클라이언트에 반환하는 응답 객체.
- * 계량대 ID, 이름, 위치, 최대/최소 용량, 상태, 활성 여부, 생성일시를 포함한다.
+ * 계량대 ID, 이름, 위치, 최대/최소 용량, 안정 판정 기준, 상태, 활성 여부, 생성일시를 포함한다.
  *
  * @author 시스템
  * @since 1.0
@@ -20,6 +20,9 @@ public record ScaleResponse(
     String location,
     BigDecimal maxCapacity,
     BigDecimal minCapacity,
+    Integer stabilityWindowSize,
+    BigDecimal stabilityTolerance,
+    BigDecimal stabilityMaxStdDev,
     String scaleStatus,
     boolean isActive,
     LocalDateTime createdAt
@@ -32,6 +35,9 @@ public record ScaleResponse(
             scale.getLocation(),
             scale.getMaxCapacity(),
             scale.getMinCapacity(),
+            scale.getStabilityWindowSize(),
+            scale.getStabilityTolerance(),
+            scale.getStabilityMaxStdDev(),
             scale.getScaleStatus(),
             scale.isActive(),
             scale.getCreatedAt()
@@ -0,0 +1,15 @@
+package com.dongkuk.weighing.master.event;
+
+import com.dongkuk.weighing.master.domain.Scale;
+
+/**
+ * 계량대 안정 판정 기준 변경 이벤트
+ *
+ * <p>계량대 등록/수정이 커밋된 후 실시간 안정 판정기가 새 기준을 반영하도록 발행된다.</p>
+ *
+ * @param scale 등록/수정된 계량대
+ * @author 시스템
+ * @since 1.0
+ */
+public record ScaleStabilitySettingsChangedEvent(Scale scale) {
+}
@@ -0,0 +1,26 @@
+package com.dongkuk.weighing.master.event;
+
+import com.dongkuk.weighing.master.dto.VehicleResponse;
+
+/**
+ * 차량 변경 이벤트
+ *
+ * <p>차량 등록/수정/삭제가 커밋된 후 LPR 차량번호 유사 매칭 색인이 변경을 반영하도록 발행된다.</p>
+ *
+ * @param vehicle 변경 직후의 차량 스냅샷 (삭제 시 삭제 직전 스냅샷)
+ * @param deleted 삭제 여부
+ * @author 시스템
+ * @since 1.0
+ */
+public record VehicleChangedEvent(VehicleResponse vehicle, boolean deleted) {
+
+    /** 등록/수정 */
+    public static VehicleChangedEvent changed(VehicleResponse vehicle) {
+        return new VehicleChangedEvent(vehicle, false);
+    }
+
+    /** 삭제 */
+    public static VehicleChangedEvent deleted(VehicleResponse vehicle) {
+        return new VehicleChangedEvent(vehicle, true);
+    }
+}
@@ -6,8 +6,10 @@ import com.dongkuk.weighing.master.domain.Scale;
 import com.dongkuk.weighing.master.domain.ScaleRepository;
 import com.dongkuk.weighing.master.dto.ScaleRequest;
 import com.dongkuk.weighing.master.dto.ScaleResponse;
+import com.dongkuk.weighing.master.event.ScaleStabilitySettingsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ import java.util.List;
 public class ScaleService {
 
     private final ScaleRepository scaleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 계량대를 등록한다. */
     @Transactional
@@ -39,9 +42,12 @@ public class ScaleService {
                 .maxCapacity(request.maxCapacity())
                 .minCapacity(request.minCapacity())
                 .build();
+        scale.updateStability(request.stabilityWindowSize(), request.stabilityTolerance(),
+                request.stabilityMaxStdDev());
 
         Scale saved = scaleRepository.save(scale);
         log.info("계량대 등록: scaleId={}, name={}", saved.getScaleId(), saved.getScaleName());
+        eventPublisher.publishEvent(new ScaleStabilitySettingsChangedEvent(saved));
         return ScaleResponse.from(saved);
     }
 
@@ -64,7 +70,10 @@ public class ScaleService {
         Scale scale = findScaleById(scaleId);
         scale.update(request.scaleName(), request.location(),
                 request.maxCapacity(), request.minCapacity());
+        scale.updateStability(request.stabilityWindowSize(), request.stabilityTolerance(),
+                request.stabilityMaxStdDev());
         log.info("계량대 수정: scaleId={}", scaleId);
+        eventPublisher.publishEvent(new ScaleStabilitySettingsChangedEvent(scale));
         return ScaleResponse.from(scale);
     }
 
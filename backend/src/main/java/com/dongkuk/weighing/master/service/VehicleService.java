@@ -6,8 +6,10 @@ import com.dongkuk.weighing.master.domain.Vehicle;
 import com.dongkuk.weighing.master.domain.VehicleRepository;
 import com.dongkuk.weighing.master.dto.VehicleRequest;
 import com.dongkuk.weighing.master.dto.VehicleResponse;
+import com.dongkuk.weighing.master.event.VehicleChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 차량 등록, 조회(ID/차량번호), 수정, 삭제 등
  * 차량 마스터 데이터 관련 비즈니스 로직을 처리한다.
  * 차량번호(번호판) 중복 등록을 방지한다.
+ * 차량이 등록/수정/삭제되면 LPR 차량번호 유사 매칭 색인 갱신을 위해 {@link VehicleChangedEvent}를 발행한다.
  *
  * @author 시스템
  * @since 1.0
@@ -30,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 차량을 등록한다. 차량번호 중복 시 예외를 발생시킨다. */
     @Transactional
@@ -51,7 +55,7 @@ public class VehicleService {
 
         Vehicle saved = vehicleRepository.save(vehicle);
         log.info("차량 등록: vehicleId={}, plate={}", saved.getVehicleId(), saved.getPlateNumber());
-        return VehicleResponse.from(saved);
+        return publishChanged(saved);
     }
 
     /** 차량을 ID로 단건 조회한다. */
@@ -83,7 +87,7 @@ public class VehicleService {
                 request.driverName(), request.driverPhone()
         );
         log.info("차량 수정: vehicleId={}", vehicleId);
-        return VehicleResponse.from(vehicle);
+        return publishChanged(vehicle);
     }
 
     /** 차량을 삭제한다. */
@@ -91,6 +95,7 @@ public class VehicleService {
     public void deleteVehicle(Long vehicleId) {
         Vehicle vehicle = findVehicleById(vehicleId);
         vehicleRepository.delete(vehicle);
+        eventPublisher.publishEvent(VehicleChangedEvent.deleted(VehicleResponse.from(vehicle)));
         log.info("차량 삭제: vehicleId={}", vehicleId);
     }
 
@@ -99,4 +104,11 @@ public class VehicleService {
         return vehicleRepository.findById(vehicleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MASTER_001));
     }
+
+    /** 차량 스냅샷을 만들어 변경 이벤트로 발행한다. */
+    private VehicleResponse publishChanged(Vehicle vehicle) {
+        VehicleResponse response = VehicleResponse.from(vehicle);
+        eventPublisher.publishEvent(VehicleChangedEvent.changed(response));
+        return response;
+    }
 }
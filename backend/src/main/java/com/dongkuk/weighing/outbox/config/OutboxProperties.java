@@ -0,0 +1,45 @@
+package com.dongkuk.weighing.outbox.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 속성 설정
+ *
+ * application.yml의 outbox 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 릴레이의 배치 크기와 폴링 주기, 재시도 횟수와 대기 시간, 완료 이벤트 보관 기간을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /** 한 번에 조회하여 처리하는 이벤트 수 */
+    private int batchSize = 100;
+
+    /** 대기 이벤트 폴링 주기 (밀리초, 커밋 직후 깨우기가 누락된 경우의 안전망) */
+    private long pollIntervalMs = 1000;
+
+    /** 최대 처리 시도 횟수 (초과 시 실패 상태로 변경) */
+    private int maxAttempts = 10;
+
+    /** 첫 재시도 대기 시간 (시도마다 두 배씩 증가) */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /** 처리 완료 이벤트 보관 기간 */
+    private Duration retention = Duration.ofDays(7);
+
+    /** 완료 이벤트 정리 주기 (밀리초) */
+    private long cleanupIntervalMs = 3_600_000;
+}
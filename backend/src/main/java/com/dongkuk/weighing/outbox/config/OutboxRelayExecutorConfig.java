@@ -0,0 +1,35 @@
+package com.dongkuk.weighing.outbox.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 아웃박스 릴레이 실행기 설정
+ *
+ * 커밋 직후 요청된 릴레이 실행을 단일 스레드에서 처리한다. 대기열에 이미 실행 요청이 있으면
+ * 그 실행이 새 이벤트도 함께 처리하므로 추가 요청은 버린다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+public class OutboxRelayExecutorConfig {
+
+    /** 아웃박스 릴레이 실행기 빈 이름 */
+    public static final String OUTBOX_RELAY_EXECUTOR = "outboxRelayExecutor";
+
+    @Bean(name = OUTBOX_RELAY_EXECUTOR)
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,110 @@
+package com.dongkuk.weighing.outbox.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티
+ *
+ * <p>업무 트랜잭션 커밋 이후에 수행해야 하는 후속 처리(전자계량표 생성, WebSocket 전파, 알림 등)를
+ * 업무 데이터와 같은 트랜잭션에서 기록한다. 커밋된 이벤트만 릴레이가 읽어 처리하므로
+ * 후속 처리가 유실되거나 롤백된 변경에 대해 수행되지 않는다.</p>
+ *
+ * <p>후속 처리 하나당 이벤트 하나를 기록하여 처리와 재시도가 서로 독립적으로 이루어진다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.outbox.service.OutboxRelay
+ */
+@Entity
+@Table(name = "tb_outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_due", columnList = "event_status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    /** 이벤트 고유 ID (PK, 자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /** 이벤트 유형 (처리기 식별자) */
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    /** 이벤트 대상 엔티티 ID (계량 ID 등) */
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    /** 이벤트 본문 JSON */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** 처리 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_status", nullable = false, length = 20)
+    private OutboxEventStatus eventStatus;
+
+    /** 처리 시도 횟수 */
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    /** 다음 처리 가능 일시 (재시도 대기 시 미래 시각) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 처리 실패 사유 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** 기록 일시 */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 처리 완료 일시 */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public OutboxEvent(String eventType, Long aggregateId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.eventStatus = OutboxEventStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /** 처리 완료 상태로 변경한다 */
+    public void markPublished(LocalDateTime publishedAt) {
+        this.attemptCount++;
+        this.eventStatus = OutboxEventStatus.PUBLISHED;
+        this.publishedAt = publishedAt;
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패를 기록한다.
+     *
+     * @param error         실패 사유
+     * @param nextAttemptAt 다음 재시도 일시 (null이면 재시도하지 않고 실패 상태로 변경)
+     */
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (nextAttemptAt == null) {
+            this.eventStatus = OutboxEventStatus.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
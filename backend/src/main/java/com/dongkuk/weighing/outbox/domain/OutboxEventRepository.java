@@ -0,0 +1,58 @@
+package com.dongkuk.weighing.outbox.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스 이벤트 저장소
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>처리 시각이 도래한 대기 이벤트 ID 조회 (기록 순)</li>
+ *   <li>처리 대상 이벤트 행 잠금 (다른 인스턴스가 잠근 행은 건너뜀)</li>
+ *   <li>보관 기간이 지난 완료 이벤트 삭제</li>
+ * </ul>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see OutboxEvent
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** 처리 시각이 도래한 이벤트 ID를 기록 순으로 조회합니다 */
+    @Query("SELECT e.eventId FROM OutboxEvent e " +
+            "WHERE e.eventStatus = :status AND e.nextAttemptAt <= :now ORDER BY e.eventId")
+    List<Long> findDueIds(@Param("status") OutboxEventStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 처리할 이벤트를 행 잠금과 함께 조회합니다.
+     * 다른 인스턴스가 이미 잠근 행은 대기하지 않고 건너뜁니다 (SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.eventId = :eventId AND e.eventStatus = :status")
+    Optional<OutboxEvent> findForRelay(@Param("eventId") Long eventId,
+                                       @Param("status") OutboxEventStatus status);
+
+    /** 상태별 이벤트 건수를 조회합니다 */
+    long countByEventStatus(OutboxEventStatus status);
+
+    /** 지정 일시 이전에 처리 완료된 이벤트를 삭제합니다 */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventStatus = :status AND e.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("status") OutboxEventStatus status,
+                              @Param("threshold") LocalDateTime threshold);
+}
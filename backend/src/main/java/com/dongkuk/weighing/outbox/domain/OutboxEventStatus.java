@@ -0,0 +1,18 @@
+package com.dongkuk.weighing.outbox.domain;
+
+/**
+ * 아웃박스 이벤트 상태 열거형
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public enum OutboxEventStatus {
+    /** 처리 대기 (최초 기록 또는 재시도 대기) */
+    PENDING,
+
+    /** 처리 완료 */
+    PUBLISHED,
+
+    /** 최대 재시도 횟수 초과로 처리 중단 */
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.dongkuk.weighing.outbox.service;
+
+/**
+ * 아웃박스 이벤트 기록 알림
+ *
+ * 트랜잭션 안에서 아웃박스 이벤트가 기록되었음을 알린다.
+ * 커밋 이후 {@link OutboxRelay}를 즉시 깨우는 데 사용된다.
+ *
+ * @param eventType 기록된 이벤트 유형
+ * @author 시스템
+ * @since 1.0
+ */
+public record OutboxAppendedEvent(
+        String eventType
+) {
+}
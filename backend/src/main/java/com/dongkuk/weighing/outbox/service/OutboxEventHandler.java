@@ -0,0 +1,28 @@
+package com.dongkuk.weighing.outbox.service;
+
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 처리기
+ *
+ * <p>이벤트 유형별 후속 처리를 구현한다. 구현체를 스프링 빈으로 등록하면 {@link OutboxRelay}가
+ * {@link #type()}으로 찾아 호출한다.</p>
+ *
+ * <p>{@link #handle}은 이벤트 행을 잠근 트랜잭션 안에서 호출되며, 예외를 던지면 처리 결과가
+ * 롤백되고 재시도된다. 재시도될 수 있으므로 구현은 같은 이벤트를 다시 처리해도 안전해야 한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public interface OutboxEventHandler {
+
+    /** 처리하는 이벤트 유형 */
+    String type();
+
+    /**
+     * 이벤트를 처리한다.
+     *
+     * @param event 처리할 이벤트
+     */
+    void handle(OutboxEvent event);
+}
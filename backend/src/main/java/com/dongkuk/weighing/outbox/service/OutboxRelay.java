@@ -0,0 +1,244 @@
+package com.dongkuk.weighing.outbox.service;
+
+import com.dongkuk.weighing.outbox.config.OutboxProperties;
+import com.dongkuk.weighing.outbox.config.OutboxRelayExecutorConfig;
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.domain.OutboxEventRepository;
+import com.dongkuk.weighing.outbox.domain.OutboxEventStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * <p>커밋된 아웃박스 이벤트를 배치 단위로 읽어 유형별 {@link OutboxEventHandler}로 처리한다.
+ * 이벤트가 기록된 트랜잭션이 커밋되면 즉시 깨어나며, 주기적 폴링은 재시도 대기 이벤트와
+ * 깨우기가 누락된 이벤트를 위한 안전망이다.</p>
+ *
+ * <p>처리 규칙:
+ * <ul>
+ *   <li>이벤트마다 별도 트랜잭션에서 행을 잠근 뒤 처리기를 호출하고 완료 상태로 변경한다.
+ *       처리기의 DB 변경과 완료 표시는 함께 커밋되거나 함께 롤백된다.</li>
+ *   <li>다른 인스턴스가 잠근 이벤트는 건너뛰므로 여러 인스턴스가 동시에 실행되어도 중복 처리되지 않는다.</li>
+ *   <li>처리에 실패하면 지수 백오프로 다음 시도 시각을 미루고,
+ *       최대 시도 횟수를 넘으면 실패 상태로 변경하여 더 이상 시도하지 않는다.</li>
+ *   <li>보관 기간이 지난 완료 이벤트는 주기적으로 삭제한다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭: {@code outbox.events.published}, {@code outbox.events.retried},
+ * {@code outbox.events.failed} (유형별 카운터), {@code outbox.events.handle} (유형별 처리 시간),
+ * {@code outbox.events.pending} (대기 이벤트 수)</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see OutboxService
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, OutboxEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    /** 마지막 릴레이 실행 이후의 대기 이벤트 수 */
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    /** 같은 인스턴스에서 릴레이가 겹쳐 실행되지 않도록 하는 잠금 */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    /** 실행 중에 들어온 실행 요청 (실행 중인 릴레이가 한 번 더 조회하도록 표시) */
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventHandler> handlers,
+                       TransactionTemplate transactionTemplate,
+                       @Qualifier(OutboxRelayExecutorConfig.OUTBOX_RELAY_EXECUTOR) ThreadPoolTaskExecutor executor,
+                       OutboxProperties outboxProperties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(OutboxEventHandler::type, Function.identity()));
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.outboxProperties = outboxProperties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("outbox.events.pending", pendingCount);
+    }
+
+    /**
+     * 아웃박스 이벤트가 기록된 트랜잭션이 커밋되면 릴레이 실행을 요청한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(OutboxAppendedEvent event) {
+        executor.execute(this::drain);
+    }
+
+    /**
+     * 대기 이벤트를 주기적으로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * 처리 시각이 도래한 대기 이벤트를 모두 처리한다.
+     * 이미 같은 인스턴스에서 실행 중이면 실행 중인 릴레이가 한 번 더 조회하도록 표시하고 바로 반환한다.
+     *
+     * @return 처리 완료한 이벤트 수
+     */
+    public int drain() {
+        drainRequested.set(true);
+        if (!drainLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int batchSize = Math.max(1, outboxProperties.getBatchSize());
+            int published = 0;
+            while (drainRequested.getAndSet(false)) {
+                published += drainBatches(batchSize);
+            }
+            pendingCount.set(outboxEventRepository.countByEventStatus(OutboxEventStatus.PENDING));
+            return published;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 이벤트를 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void removePublishedEvents() {
+        LocalDateTime threshold = LocalDateTime.now().minus(outboxProperties.getRetention());
+        Integer removed = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(OutboxEventStatus.PUBLISHED, threshold));
+        if (removed != null && removed > 0) {
+            log.info("완료된 아웃박스 이벤트 정리: removed={}", removed);
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 처리 시각이 도래한 이벤트를 배치 단위로 조회하여 처리한다.
+     *
+     * @return 처리 완료한 이벤트 수
+     */
+    private int drainBatches(int batchSize) {
+        int published = 0;
+        while (true) {
+            List<Long> dueIds = outboxEventRepository.findDueIds(
+                    OutboxEventStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            int batchPublished = 0;
+            for (Long eventId : dueIds) {
+                if (relay(eventId)) {
+                    batchPublished++;
+                }
+            }
+            published += batchPublished;
+            // 배치가 가득 차지 않았거나, 처리된 이벤트가 없으면(실패/다른 인스턴스 처리 중) 다음 실행으로 넘긴다
+            if (dueIds.size() < batchSize || batchPublished == 0) {
+                return published;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 하나를 잠금 트랜잭션 안에서 처리한다.
+     *
+     * @return 처리 완료 여부 (다른 인스턴스가 처리 중이거나 실패하면 false)
+     */
+    private boolean relay(Long eventId) {
+        long start = System.nanoTime();
+        String[] eventType = new String[1];
+        try {
+            Boolean published = transactionTemplate.execute(status -> outboxEventRepository
+                    .findForRelay(eventId, OutboxEventStatus.PENDING)
+                    .map(event -> {
+                        eventType[0] = event.getEventType();
+                        OutboxEventHandler handler = handlers.get(event.getEventType());
+                        if (handler == null) {
+                            throw new IllegalStateException("등록되지 않은 아웃박스 이벤트 유형: " + event.getEventType());
+                        }
+                        handler.handle(event);
+                        event.markPublished(LocalDateTime.now());
+                        return true;
+                    })
+                    .orElse(false));
+            if (Boolean.TRUE.equals(published)) {
+                Timer.builder("outbox.events.handle").tag("type", eventType[0]).register(meterRegistry)
+                        .record(Duration.ofNanos(System.nanoTime() - start));
+                meterRegistry.counter("outbox.events.published", "type", eventType[0]).increment();
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            recordFailure(eventId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 처리 실패를 별도 트랜잭션에 기록하고 다음 시도 시각을 정한다.
+     */
+    private void recordFailure(Long eventId, RuntimeException cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(eventId)
+                    .filter(event -> event.getEventStatus() == OutboxEventStatus.PENDING)
+                    .ifPresent(event -> {
+                        int attempt = event.getAttemptCount() + 1;
+                        if (attempt >= outboxProperties.getMaxAttempts()) {
+                            event.recordFailure(error, null);
+                            meterRegistry.counter("outbox.events.failed", "type", event.getEventType()).increment();
+                            log.error("아웃박스 이벤트 처리 중단: eventId={}, type={}, attempts={}, error={}",
+                                    eventId, event.getEventType(), attempt, error);
+                        } else {
+                            event.recordFailure(error, LocalDateTime.now().plus(backoff(attempt)));
+                            meterRegistry.counter("outbox.events.retried", "type", event.getEventType()).increment();
+                            log.warn("아웃박스 이벤트 처리 실패, 재시도 예정: eventId={}, type={}, attempt={}, error={}",
+                                    eventId, event.getEventType(), attempt, error);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.error("아웃박스 이벤트 실패 기록 실패: eventId={}, error={}", eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (초기 대기 × 2^(시도-1), 상한 적용)
+     */
+    Duration backoff(int attempt) {
+        Duration max = outboxProperties.getMaxBackoff();
+        Duration delay = outboxProperties.getInitialBackoff();
+        for (int i = 1; i < attempt && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+}
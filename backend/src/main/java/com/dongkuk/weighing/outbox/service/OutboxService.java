@@ -0,0 +1,69 @@
+package com.dongkuk.weighing.outbox.service;
+
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.domain.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 서비스
+ *
+ * <p>업무 트랜잭션 안에서 후속 처리 이벤트를 기록하고, 처리기가 이벤트 본문을 읽을 수 있도록 한다.
+ * 기록은 호출 측 트랜잭션에 참여해야 하므로 진행 중인 트랜잭션이 없으면 예외가 발생한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see OutboxRelay
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 후속 처리 이벤트를 현재 트랜잭션에 기록한다.
+     *
+     * @param eventType   이벤트 유형 (처리기 식별자)
+     * @param aggregateId 이벤트 대상 엔티티 ID
+     * @param payload     이벤트 본문 (JSON으로 직렬화)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: type=" + eventType, e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+        eventPublisher.publishEvent(new OutboxAppendedEvent(eventType));
+    }
+
+    /**
+     * 이벤트 본문을 지정한 형식으로 읽는다.
+     *
+     * @param event 아웃박스 이벤트
+     * @param type  본문 형식
+     * @return 역직렬화된 본문
+     */
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패: eventId=" + event.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dongkuk.weighing.slip.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전자계량표 속성 설정
+ *
+ * application.yml의 slip 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "slip")
+public class SlipProperties {
+
+    /**
+     * 계량표 번호를 한 번에 예약하는 개수.
+     * 1이면 재시작 시 번호 누락이 없고, 크게 하면 DB 갱신 횟수가 줄어드는 대신
+     * 재시작 시 예약 후 사용하지 않은 번호가 누락된다.
+     */
+    private int numberBlockSize = 1;
+}
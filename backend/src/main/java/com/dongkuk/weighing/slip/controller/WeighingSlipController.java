@@ -1,6 +1,7 @@
 package com.dongkuk.weighing.slip.controller;
 
 import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
 import com.dongkuk.weighing.slip.dto.SlipResponse;
 import com.dongkuk.weighing.slip.dto.SlipShareRequest;
 import com.dongkuk.weighing.slip.service.WeighingSlipService;
@@ -88,6 +89,30 @@ public class WeighingSlipController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 기간별 전자계량표 목록을 커서(키셋) 방식으로 조회한다.
+     *
+     * <p>전체 건수를 계산하지 않으며, 응답의 {@code next_cursor}를 다음 요청의
+     * {@code after}로 전달하여 다음 페이지를 조회한다.</p>
+     *
+     * @param dateFrom 검색 시작일 (선택)
+     * @param dateTo 검색 종료일 (선택)
+     * @param after 이전 페이지의 다음 커서 (첫 페이지이면 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @param includeTotal 근사 전체 건수 포함 여부 (기본 false)
+     * @return 전자계량표 키셋 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<SlipResponse>>> scrollSlips(
+            @RequestParam(value = "date_from", required = false) LocalDate dateFrom,
+            @RequestParam(value = "date_to", required = false) LocalDate dateTo,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "include_total", defaultValue = "false") boolean includeTotal) {
+        CursorSlice<SlipResponse> response = slipService.scrollSlips(dateFrom, dateTo, after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * 전자계량표를 외부로 공유한다.
      *
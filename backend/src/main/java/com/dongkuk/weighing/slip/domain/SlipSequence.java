@@ -0,0 +1,45 @@
+package com.dongkuk.weighing.slip.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계량표 번호 일별 시퀀스 엔티티
+ *
+ * <p>일자별로 마지막으로 예약된 계량표 번호 시퀀스를 보관하는 카운터 테이블이다.
+ * 채번 시 발행된 계량표를 조회하지 않고 이 행 하나만 원자적으로 증가시킨다.</p>
+ *
+ * <p>행의 생성과 증가는 {@link SlipSequenceJdbcRepository}로만 수행되며,
+ * 이 엔티티는 스키마 정의와 참조용으로 사용된다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SlipSequenceJdbcRepository
+ */
+@Entity
+@Table(name = "tb_slip_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlipSequence {
+
+    /** 채번 일자 (PK) */
+    @Id
+    @Column(name = "seq_date")
+    private LocalDate seqDate;
+
+    /** 마지막으로 예약된 시퀀스 (예약 후 미사용 번호 포함) */
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+
+    /** 마지막 갱신 일시 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,64 @@
+package com.dongkuk.weighing.slip.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계량표 번호 일별 시퀀스 JDBC 저장소
+ *
+ * <p>{@code tb_slip_sequence} 카운터 행을 원자적으로 증가시켜 시퀀스 구간을 예약한다.
+ * 갱신한 행은 트랜잭션이 끝날 때까지 잠기므로 호출 측은 짧은 별도 트랜잭션에서 호출해야 한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SlipSequence
+ */
+@Repository
+@RequiredArgsConstructor
+public class SlipSequenceJdbcRepository {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE tb_slip_sequence SET last_sequence = last_sequence + ?, updated_at = ? WHERE seq_date = ?";
+
+    private static final String SELECT_SQL =
+            "SELECT last_sequence FROM tb_slip_sequence WHERE seq_date = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tb_slip_sequence (seq_date, last_sequence, updated_at) VALUES (?, ?, ?)";
+
+    /** 카운터 행이 없을 때 이미 발행된 계량표의 최대 시퀀스 (일자별 최초 1회만 조회) */
+    private static final String MAX_ISSUED_SQL =
+            "SELECT COALESCE(MAX(CAST(SUBSTRING(slip_number, 10) AS INTEGER)), 0) " +
+            "FROM tb_weighing_slip WHERE slip_number LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일자의 시퀀스를 {@code count}만큼 예약하고 예약 구간의 마지막 값을 반환한다.
+     *
+     * <p>카운터 행이 없으면 그날 이미 발행된 계량표의 최대 시퀀스 다음부터 예약하는 행을 생성한다.
+     * 같은 일자의 행을 동시에 생성하면 한쪽은
+     * {@link org.springframework.dao.DuplicateKeyException}으로 실패하므로 새 트랜잭션에서 다시 호출한다.</p>
+     *
+     * @param date   채번 일자
+     * @param count  예약할 번호 수
+     * @param prefix 일자의 계량표 번호 접두사 (예: "20260129-")
+     * @return 예약 구간의 마지막 시퀀스
+     */
+    public long reserve(LocalDate date, int count, String prefix) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(INCREMENT_SQL, count, now, Date.valueOf(date)) > 0) {
+            return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, Date.valueOf(date));
+        }
+
+        Integer maxIssued = jdbcTemplate.queryForObject(MAX_ISSUED_SQL, Integer.class, prefix + "%");
+        long last = (maxIssued != null ? maxIssued : 0) + (long) count;
+        jdbcTemplate.update(INSERT_SQL, Date.valueOf(date), last, now);
+        return last;
+    }
+}
@@ -20,7 +20,8 @@ import lombok.*;
 @Entity
 @Table(name = "tb_weighing_slip", indexes = {
         @Index(name = "idx_slip_number", columnList = "slip_number", unique = true),
-        @Index(name = "idx_slip_weighing", columnList = "weighing_id")
+        @Index(name = "idx_slip_weighing", columnList = "weighing_id"),
+        @Index(name = "idx_slip_created_id", columnList = "created_at, slip_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,12 +1,8 @@
 package com.dongkuk.weighing.slip.domain;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -19,15 +15,15 @@ import java.util.Optional;
  * <ul>
  *   <li>전표번호 기반 단건 조회</li>
  *   <li>계량 ID 기반 전표 조회</li>
- *   <li>기간별 전표 페이징 조회</li>
- *   <li>전표번호 채번을 위한 최대 시퀀스 조회</li>
+ *   <li>기간별 전표 검색 ({@link WeighingSlipSpecifications} 조합)</li>
  * </ul>
  *
  * @author 시스템
  * @since 1.0
  * @see WeighingSlip
  */
-public interface WeighingSlipRepository extends JpaRepository<WeighingSlip, Long> {
+public interface WeighingSlipRepository extends JpaRepository<WeighingSlip, Long>,
+        JpaSpecificationExecutor<WeighingSlip> {
 
     /** 전표번호로 계량 전표를 단건 조회합니다 */
     Optional<WeighingSlip> findBySlipNumber(String slipNumber);
@@ -35,17 +31,7 @@ public interface WeighingSlipRepository extends JpaRepository<WeighingSlip, Long
     /** 특정 계량 ID에 해당하는 전표를 조회합니다 */
     Optional<WeighingSlip> findByWeighingId(Long weighingId);
 
-    /** 특정 기간(from~to) 내 생성된 전표를 페이징 조회합니다 */
-    @Query("SELECT s FROM WeighingSlip s WHERE " +
-            "(:dateFrom IS NULL OR s.createdAt >= :dateFrom) AND " +
-            "(:dateTo IS NULL OR s.createdAt <= :dateTo)")
-    Page<WeighingSlip> findByPeriod(
-            @Param("dateFrom") LocalDateTime dateFrom,
-            @Param("dateTo") LocalDateTime dateTo,
-            Pageable pageable);
+    /** 특정 계량 ID에 해당하는 전표가 있는지 확인합니다 */
+    boolean existsByWeighingId(Long weighingId);
 
-    /** 주어진 접두사(prefix)로 시작하는 전표번호 중 최대 시퀀스 번호를 조회합니다 (채번용) */
-    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(s.slipNumber, 10) AS integer)), 0) " +
-            "FROM WeighingSlip s WHERE s.slipNumber LIKE :prefix%")
-    int findMaxSequenceByPrefix(@Param("prefix") String prefix);
 }
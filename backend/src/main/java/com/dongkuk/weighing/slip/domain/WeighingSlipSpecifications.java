@@ -0,0 +1,63 @@
+package com.dongkuk.weighing.slip.domain;
+
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchSpecifications;
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 전표 검색 조건
+ *
+ * 계량 전표 목록 검색에 사용하는 {@link Specification}을 조합한다.
+ * 값이 지정된 필터에 대해서만 조건이 생성된다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchSpecifications
+ */
+public final class WeighingSlipSpecifications {
+
+    /** 키셋 페이징 정렬 (생성일시 DESC, ID DESC) */
+    public static final Sort KEYSET_SORT = SearchSpecifications.keysetSort("createdAt", "slipId");
+
+    /** 인스턴스 생성 방지 */
+    private WeighingSlipSpecifications() {}
+
+    /**
+     * 생성 기간 검색 조건을 생성한다.
+     *
+     * @param dateFrom 생성일시 하한 (nullable)
+     * @param dateTo   생성일시 상한 (nullable)
+     * @return 검색 조건
+     */
+    public static Specification<WeighingSlip> period(LocalDateTime dateFrom, LocalDateTime dateTo) {
+        return Specification.<WeighingSlip>where(SearchSpecifications.greaterThanOrEqualTo("createdAt", dateFrom))
+                .and(SearchSpecifications.lessThanOrEqualTo("createdAt", dateTo));
+    }
+
+    /**
+     * {@link #period}와 같은 조건의 네이티브 SQL(tb_weighing_slip) 조건을 생성한다.
+     *
+     * @param dateFrom 생성일시 하한 (nullable)
+     * @param dateTo   생성일시 상한 (nullable)
+     * @return SQL 검색 조건
+     */
+    public static SqlFilter periodSql(LocalDateTime dateFrom, LocalDateTime dateTo) {
+        return SqlFilter.where()
+                .greaterThanOrEqualTo("created_at", dateFrom)
+                .lessThanOrEqualTo("created_at", dateTo);
+    }
+
+    /**
+     * 키셋 커서 이후 행 조건을 생성한다.
+     *
+     * @param cursor 이전 페이지의 마지막 행 커서 (null이면 조건 없음)
+     * @return 키셋 조건 (커서가 없으면 null)
+     */
+    public static Specification<WeighingSlip> after(KeysetCursor cursor) {
+        return SearchSpecifications.keysetBefore("createdAt", "slipId", cursor);
+    }
+}
@@ -0,0 +1,115 @@
+package com.dongkuk.weighing.slip.service;
+
+import com.dongkuk.weighing.slip.config.SlipProperties;
+import com.dongkuk.weighing.slip.domain.SlipSequenceJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 계량표 번호 채번기
+ *
+ * <p>"yyyyMMdd-NNNN" 형식의 일별 순차 계량표 번호를 발급한다. 발행된 계량표를 조회하지 않고
+ * 일자별 카운터 행({@code tb_slip_sequence})을 원자적으로 증가시키므로 동시에 완료된 계량이
+ * 같은 번호를 받지 않는다.</p>
+ *
+ * <p>채번 규칙:
+ * <ul>
+ *   <li>카운터 증가는 호출 측과 분리된 짧은 트랜잭션에서 커밋되므로, 카운터 행 잠금이
+ *       계량표 저장 트랜잭션 동안 유지되지 않는다.</li>
+ *   <li>{@code slip.number-block-size}만큼 번호를 한 번에 예약하고 메모리에서 순서대로 발급한다.</li>
+ *   <li>번호 누락: 계량표 저장 트랜잭션이 롤백되면 발급된 번호는 재사용되지 않는다. 블록 크기가
+ *       1보다 크면 재시작 시 예약 후 사용하지 않은 번호도 누락되며, 여러 인스턴스에서는
+ *       인스턴스마다 다른 블록을 사용하므로 발행 시각 순서와 번호 순서가 다를 수 있다.</li>
+ *   <li>복구: 카운터는 DB에 커밋되어 있으므로 재시작 후에도 이어서 발급한다. 그날의 카운터 행이
+ *       없으면(최초 배포, 행 삭제 등) 이미 발행된 계량표의 최대 번호 다음부터 발급한다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SlipSequenceJdbcRepository
+ */
+@Slf4j
+@Component
+public class SlipNumberAllocator {
+
+    /** 계량표 번호 날짜 접두사 형식 (yyyyMMdd) */
+    private static final DateTimeFormatter DATE_PREFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** 같은 일자의 카운터 행 동시 생성 시 재시도 횟수 */
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final SlipSequenceJdbcRepository slipSequenceJdbcRepository;
+    private final SlipProperties slipProperties;
+    private final TransactionTemplate requiresNewTransaction;
+
+    /** 현재 예약 블록 (this로 동기화) */
+    private LocalDate blockDate;
+    private long blockNext;
+    private long blockEnd;
+
+    public SlipNumberAllocator(SlipSequenceJdbcRepository slipSequenceJdbcRepository,
+                               SlipProperties slipProperties,
+                               PlatformTransactionManager transactionManager) {
+        this.slipSequenceJdbcRepository = slipSequenceJdbcRepository;
+        this.slipProperties = slipProperties;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 오늘 일자의 다음 계량표 번호를 발급한다.
+     *
+     * @return 계량표 번호 (예: 20260129-0001)
+     */
+    public String allocate() {
+        return allocate(LocalDate.now());
+    }
+
+    /**
+     * 지정 일자의 다음 계량표 번호를 발급한다.
+     *
+     * @param date 채번 일자
+     * @return 계량표 번호
+     */
+    public synchronized String allocate(LocalDate date) {
+        if (!date.equals(blockDate) || blockNext > blockEnd) {
+            int blockSize = Math.max(1, slipProperties.getNumberBlockSize());
+            long end = reserve(date, blockSize);
+            blockDate = date;
+            blockNext = end - blockSize + 1;
+            blockEnd = end;
+        }
+        return prefix(date) + String.format("%04d", blockNext++);
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 별도 트랜잭션에서 시퀀스 블록을 예약하고 블록의 마지막 값을 반환한다. */
+    private long reserve(LocalDate date, int blockSize) {
+        String prefix = prefix(date);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requiresNewTransaction.execute(
+                        status -> slipSequenceJdbcRepository.reserve(date, blockSize, prefix));
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 같은 일자의 카운터 행을 먼저 생성함 → 증가로 재시도
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("계량표 시퀀스 행 동시 생성, 재시도: date={}, attempt={}", date, attempt);
+            }
+        }
+    }
+
+    private static String prefix(LocalDate date) {
+        return date.format(DATE_PREFIX_FORMAT) + "-";
+    }
+}
@@ -2,8 +2,13 @@ package com.dongkuk.weighing.slip.service;
 
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
 import com.dongkuk.weighing.slip.domain.WeighingSlip;
 import com.dongkuk.weighing.slip.domain.WeighingSlipRepository;
+import com.dongkuk.weighing.slip.domain.WeighingSlipSpecifications;
 import com.dongkuk.weighing.slip.dto.SlipResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * 전자계량표 서비스
@@ -23,7 +28,7 @@ import java.time.format.DateTimeFormatter;
  * <p>계량 완료 후 발행되는 전자계량표의 생성, 조회, 공유 기능을 담당하는 서비스.
  * 전자계량표에는 차량번호, 업체명, 품목명, 총중량, 공차중량, 순중량 정보가 포함된다.</p>
  *
- * <p>계량표 번호는 "yyyyMMdd-NNNN" 형식으로 일별 순차 채번되며,
+ * <p>계량표 번호는 "yyyyMMdd-NNNN" 형식으로 {@link SlipNumberAllocator}가 일별 순차 채번하며,
  * 이메일/SMS 등 다양한 방식으로 공유할 수 있다.</p>
  *
  * @author 시스템
@@ -37,10 +42,10 @@ import java.time.format.DateTimeFormatter;
 @Transactional(readOnly = true)
 public class WeighingSlipService {
 
-    /** 계량표 번호 날짜 접두사 형식 (yyyyMMdd) */
-    private static final DateTimeFormatter DATE_PREFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
-
     private final WeighingSlipRepository slipRepository;
+    private final SlipNumberAllocator slipNumberAllocator;
+    private final ApproximateRowCounter approximateRowCounter;
+    private final SearchQueryExecutor searchQueryExecutor;
 
     // ─── 전자계량표 생성 ───
 
@@ -67,7 +72,7 @@ public class WeighingSlipService {
                                    String grossWeightKg, String tareWeightKg, String netWeightKg,
                                    String slipDataJson) {
         // 일별 순차 계량표 번호 채번
-        String slipNumber = generateSlipNumber();
+        String slipNumber = slipNumberAllocator.allocate();
 
         WeighingSlip slip = WeighingSlip.builder()
                 .weighingId(weighingId)
@@ -129,6 +134,16 @@ public class WeighingSlipService {
         return SlipResponse.from(slip);
     }
 
+    /**
+     * 계량 기록의 전자계량표가 이미 발행되었는지 확인한다.
+     *
+     * @param weighingId 계량 기록 ID
+     * @return 발행 여부
+     */
+    public boolean existsByWeighingId(Long weighingId) {
+        return slipRepository.existsByWeighingId(weighingId);
+    }
+
     /**
      * 기간별 전자계량표 목록을 페이징 조회한다.
      *
@@ -140,7 +155,44 @@ public class WeighingSlipService {
     public Page<SlipResponse> searchSlips(LocalDate dateFrom, LocalDate dateTo, Pageable pageable) {
         LocalDateTime from = dateFrom != null ? dateFrom.atStartOfDay() : null;
         LocalDateTime to = dateTo != null ? dateTo.atTime(LocalTime.MAX) : null;
-        return slipRepository.findByPeriod(from, to, pageable).map(SlipResponse::from);
+        return slipRepository.findAll(WeighingSlipSpecifications.period(from, to), pageable).map(SlipResponse::from);
+    }
+
+    /**
+     * 기간별 전자계량표 목록을 키셋(커서) 방식으로 조회한다.
+     *
+     * <p>(생성일시, ID) 역순으로 정렬하며, OFFSET 및 COUNT 쿼리 없이
+     * {@code after} 커서 다음 행부터 조회한다.</p>
+     *
+     * @param dateFrom     검색 시작일 (nullable)
+     * @param dateTo       검색 종료일 (nullable)
+     * @param after        이전 페이지의 다음 커서 (첫 페이지이면 null)
+     * @param size         페이지 크기
+     * @param includeTotal 플래너 통계 기반 근사 전체 건수 포함 여부
+     * @return 전자계량표 키셋 페이지
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public CursorSlice<SlipResponse> scrollSlips(LocalDate dateFrom, LocalDate dateTo, String after,
+                                                 int size, boolean includeTotal) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = CursorSlice.normalizeSize(size);
+        LocalDateTime from = dateFrom != null ? dateFrom.atStartOfDay() : null;
+        LocalDateTime to = dateTo != null ? dateTo.atTime(LocalTime.MAX) : null;
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<WeighingSlip> rows = searchQueryExecutor.findLimited(
+                WeighingSlip.class,
+                WeighingSlipSpecifications.period(from, to).and(WeighingSlipSpecifications.after(cursor)),
+                WeighingSlipSpecifications.KEYSET_SORT,
+                pageSize + 1);
+
+        Long approximateTotal = null;
+        if (includeTotal) {
+            approximateTotal = approximateRowCounter.estimate("tb_weighing_slip", WeighingSlipSpecifications.periodSql(from, to));
+        }
+
+        return CursorSlice.of(rows, pageSize, WeighingSlip::getCreatedAt, WeighingSlip::getSlipId,
+                SlipResponse::from, approximateTotal);
     }
 
     // ─── 전자계량표 공유 ───
@@ -166,21 +218,6 @@ public class WeighingSlipService {
 
     // ─── 내부 헬퍼 메서드 ───
 
-    /**
-     * 일별 순차 계량표 번호를 생성한다.
-     *
-     * <p>형식: yyyyMMdd-NNNN (예: 20260129-0001)
-     * 당일 최대 시퀀스를 조회하여 다음 번호를 채번한다.</p>
-     *
-     * @return 생성된 계량표 번호
-     */
-    private String generateSlipNumber() {
-        String prefix = LocalDate.now().format(DATE_PREFIX_FORMAT) + "-";
-        // 당일 발행된 계량표 중 최대 시퀀스 조회
-        int maxSeq = slipRepository.findMaxSequenceByPrefix(prefix);
-        return prefix + String.format("%04d", maxSeq + 1);
-    }
-
     /**
      * 전자계량표를 ID로 조회하고, 존재하지 않으면 예외를 발생시킨다.
      *
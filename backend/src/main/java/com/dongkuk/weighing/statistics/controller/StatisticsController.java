@@ -1,6 +1,7 @@
 package com.dongkuk.weighing.statistics.controller;
 
 import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.export.service.ExportProgress;
 import com.dongkuk.weighing.global.common.dto.ApiResponse;
 import com.dongkuk.weighing.statistics.dto.DailyStatisticsResponse;
 import com.dongkuk.weighing.statistics.dto.MonthlyStatisticsResponse;
@@ -12,8 +13,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -70,22 +71,27 @@ public class StatisticsController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    /** 통계 데이터를 엑셀(xlsx) 파일로 내보낸다. type 파라미터로 일별/월별/전체를 선택한다. */
+    /**
+     * 통계 데이터를 엑셀(xlsx) 파일로 내보낸다. type 파라미터로 일별/월별/전체를 선택한다.
+     * 파일을 메모리에 모으지 않고 응답 스트림에 바로 기록한다.
+     * 장기간 내보내기는 {@code POST /api/v1/exports} (type=statistics) 비동기 작업을 사용한다.
+     */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(
+    public ResponseEntity<StreamingResponseBody> exportToExcel(
             @RequestParam("date_from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
             @RequestParam("date_to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
             @RequestParam(value = "company_id", required = false) Long companyId,
             @RequestParam(value = "item_type", required = false) ItemType itemType,
-            @RequestParam(defaultValue = "all") String type) throws IOException {
+            @RequestParam(defaultValue = "all") String type) {
 
-        byte[] excelBytes = statisticsService.exportToExcel(dateFrom, dateTo, companyId, itemType, type);
+        StreamingResponseBody body = out ->
+                statisticsService.exportToExcel(dateFrom, dateTo, companyId, itemType, type, out, ExportProgress.NONE);
 
         String filename = String.format("statistics_%s_%s.xlsx", dateFrom, dateTo);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelBytes);
+                .body(body);
     }
 }
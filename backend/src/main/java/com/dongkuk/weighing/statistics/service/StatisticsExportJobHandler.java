@@ -0,0 +1,95 @@
+package com.dongkuk.weighing.statistics.service;
+
+import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.export.service.ExportJobHandler;
+import com.dongkuk.weighing.export.service.ExportTask;
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 통계 엑셀 내보내기 작업 처리기
+ *
+ * 비동기 내보내기 작업(type=statistics)으로 {@link StatisticsService#exportToExcel}을 실행한다.
+ * 파라미터는 {@code GET /api/v1/statistics/export}와 동일하다
+ * (date_from, date_to 필수 / company_id, item_type, type 선택).
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsExportJobHandler implements ExportJobHandler {
+
+    private static final String XLSX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final Set<String> SHEET_TYPES = Set.of("daily", "monthly", "all");
+
+    private final StatisticsService statisticsService;
+
+    @Override
+    public String type() {
+        return "statistics";
+    }
+
+    @Override
+    public ExportTask prepare(Map<String, String> params) {
+        LocalDate dateFrom = parseDate(params, "date_from");
+        LocalDate dateTo = parseDate(params, "date_to");
+        if (dateTo.isBefore(dateFrom)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "date_to는 date_from 이후여야 합니다");
+        }
+        Long companyId = parseCompanyId(params.get("company_id"));
+        ItemType itemType = parseItemType(params.get("item_type"));
+        String sheetType = params.getOrDefault("type", "all");
+        if (!SHEET_TYPES.contains(sheetType)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "type: daily, monthly, all 중 하나여야 합니다");
+        }
+
+        String fileName = String.format("statistics_%s_%s.xlsx", dateFrom, dateTo);
+        return new ExportTask(fileName, XLSX_CONTENT_TYPE, (out, progress) ->
+                statisticsService.exportToExcel(dateFrom, dateTo, companyId, itemType, sheetType, out, progress));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private LocalDate parseDate(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, name + ": 필수 항목입니다");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, name + ": yyyy-MM-dd 형식이어야 합니다");
+        }
+    }
+
+    private Long parseCompanyId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "company_id: 숫자여야 합니다");
+        }
+    }
+
+    private ItemType parseItemType(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ItemType.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "item_type: 유효하지 않은 품목 유형입니다");
+        }
+    }
+}
@@ -1,25 +1,24 @@
 package com.dongkuk.weighing.statistics.service;
 
 import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.export.service.ExportProgress;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import com.dongkuk.weighing.master.domain.Company;
 import com.dongkuk.weighing.master.domain.CompanyRepository;
 import com.dongkuk.weighing.statistics.dto.DailyStatisticsResponse;
 import com.dongkuk.weighing.statistics.dto.MonthlyStatisticsResponse;
 import com.dongkuk.weighing.statistics.dto.StatisticsSummaryResponse;
-import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigDecimal;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,9 +26,9 @@ import java.util.stream.Collectors;
 /**
  * 통계 서비스
  *
- * 계량 데이터를 기반으로 일별/월별 통계를 집계하고 엑셀로 내보내는 비즈니스 로직.
+ * 계량 일별 집계 롤업(tb_weighing_daily_agg)을 기반으로 일별/월별 통계를 조회하고 엑셀로 내보내는 비즈니스 로직.
  * 업체별, 품목유형별 필터링과 요약 집계 기능을 제공하며,
- * Apache POI를 사용하여 엑셀 파일을 생성한다.
+ * Apache POI SXSSF 스트리밍 워크북으로 엑셀 파일을 출력 스트림에 바로 기록한다.
  *
  * @author 시스템
  * @since 1.0
@@ -40,7 +39,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StatisticsService {
 
-    private final WeighingRepository weighingRepository;
+    /** SXSSF가 메모리에 유지하는 최대 행 수 (초과분은 임시 파일로 내보냄) */
+    private static final int EXCEL_ROW_WINDOW = 100;
+
+    private static final String[] DAILY_HEADERS = {"날짜", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)"};
+    private static final int[] DAILY_COLUMN_WIDTHS = {12, 30, 12, 10, 18, 14};
+
+    private static final String[] MONTHLY_HEADERS = {"연도", "월", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)"};
+    private static final int[] MONTHLY_COLUMN_WIDTHS = {8, 6, 30, 12, 10, 18, 14};
+
+    private final WeighingDailyAggJdbcRepository dailyAggRepository;
     private final CompanyRepository companyRepository;
 
     /**
@@ -49,22 +57,19 @@ public class StatisticsService {
      */
     public List<DailyStatisticsResponse> getDailyStatistics(LocalDate dateFrom, LocalDate dateTo,
                                                              Long companyId, ItemType itemType) {
-        LocalDateTime from = dateFrom.atStartOfDay();
-        LocalDateTime to = dateTo.atTime(LocalTime.MAX);
-
         Map<Long, String> companyNames = getCompanyNames();
-        List<Object[]> rawData = weighingRepository.findDailyStatisticsDetailed(from, to, companyId,
+        List<WeighingDailyAggJdbcRepository.DailyRow> rows = dailyAggRepository.findDaily(dateFrom, dateTo, companyId,
                 itemType != null ? itemType.name() : null);
 
-        return rawData.stream()
+        return rows.stream()
                 .map(row -> DailyStatisticsResponse.of(
-                        (LocalDate) row[0],
-                        row[1] != null ? ((Number) row[1]).longValue() : null,
-                        row[1] != null ? companyNames.getOrDefault(((Number) row[1]).longValue(), "알 수 없음") : "전체",
-                        row[2] != null ? row[2].toString() : null,
-                        row[2] != null ? getItemTypeName(row[2].toString()) : "전체",
-                        ((Number) row[3]).longValue(),
-                        row[4] != null ? ((BigDecimal) row[4]).doubleValue() : 0.0
+                        row.date(),
+                        row.companyId(),
+                        companyNames.getOrDefault(row.companyId(), "알 수 없음"),
+                        row.itemType(),
+                        getItemTypeName(row.itemType()),
+                        row.count(),
+                        row.netWeight() != null ? row.netWeight().kg() : 0.0
                 ))
                 .toList();
     }
@@ -75,23 +80,20 @@ public class StatisticsService {
      */
     public List<MonthlyStatisticsResponse> getMonthlyStatistics(LocalDate dateFrom, LocalDate dateTo,
                                                                   Long companyId, ItemType itemType) {
-        LocalDateTime from = dateFrom.atStartOfDay();
-        LocalDateTime to = dateTo.atTime(LocalTime.MAX);
-
         Map<Long, String> companyNames = getCompanyNames();
-        List<Object[]> rawData = weighingRepository.findMonthlyStatisticsDetailed(from, to, companyId,
+        List<WeighingDailyAggJdbcRepository.MonthlyRow> rows = dailyAggRepository.findMonthly(dateFrom, dateTo, companyId,
                 itemType != null ? itemType.name() : null);
 
-        return rawData.stream()
+        return rows.stream()
                 .map(row -> MonthlyStatisticsResponse.of(
-                        ((Number) row[0]).intValue(),
-                        ((Number) row[1]).intValue(),
-                        row[2] != null ? ((Number) row[2]).longValue() : null,
-                        row[2] != null ? companyNames.getOrDefault(((Number) row[2]).longValue(), "알 수 없음") : "전체",
-                        row[3] != null ? row[3].toString() : null,
-                        row[3] != null ? getItemTypeName(row[3].toString()) : "전체",
-                        ((Number) row[4]).longValue(),
-                        row[5] != null ? ((BigDecimal) row[5]).doubleValue() : 0.0
+                        row.year(),
+                        row.month(),
+                        row.companyId(),
+                        companyNames.getOrDefault(row.companyId(), "알 수 없음"),
+                        row.itemType(),
+                        getItemTypeName(row.itemType()),
+                        row.count(),
+                        row.netWeight() != null ? row.netWeight().kg() : 0.0
                 ))
                 .toList();
     }
@@ -140,128 +142,101 @@ public class StatisticsService {
     }
 
     /**
-     * 통계 데이터를 엑셀(xlsx) 파일로 내보낸다.
-     * Apache POI를 사용하여 일별/월별 시트를 생성한다.
+     * 통계 데이터를 엑셀(xlsx) 파일로 출력 스트림에 바로 기록한다.
+     *
+     * <p>SXSSF 스트리밍 워크북을 사용하여 최근 {@value #EXCEL_ROW_WINDOW}행만 메모리에 두고
+     * 나머지는 임시 파일로 내보낸다. 집계 행도 목록으로 모으지 않고 조회 커서에서
+     * 한 행씩 기록하므로 행 수와 무관하게 메모리 사용량이 일정하다.
+     * 컬럼 너비는 {@code autoSizeColumn} 대신 미리 정한 값을 사용한다.</p>
+     *
+     * @param out      엑셀 파일을 기록할 출력 스트림 (호출 측에서 닫는다)
+     * @param progress 기록한 데이터 행 수를 갱신할 진행률 (비동기 내보내기 작업용)
      */
-    public byte[] exportToExcel(LocalDate dateFrom, LocalDate dateTo,
-                                 Long companyId, ItemType itemType, String type) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-
+    public void exportToExcel(LocalDate dateFrom, LocalDate dateTo, Long companyId, ItemType itemType,
+                              String type, OutputStream out, ExportProgress progress) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             CellStyle numberStyle = createNumberStyle(workbook);
+            Map<Long, String> companyNames = getCompanyNames();
+            String itemTypeFilter = itemType != null ? itemType.name() : null;
 
             // 일별 통계 시트 생성
             if ("daily".equals(type) || "all".equals(type)) {
-                List<DailyStatisticsResponse> dailyStats = getDailyStatistics(dateFrom, dateTo, companyId, itemType);
-                createDailySheet(workbook, dailyStats, headerStyle, dataStyle, numberStyle);
+                Sheet sheet = createSheet(workbook, "일별 통계", DAILY_HEADERS, DAILY_COLUMN_WIDTHS, headerStyle);
+                int[] rowNum = {1};
+                dailyAggRepository.streamDaily(dateFrom, dateTo, companyId, itemTypeFilter, item -> {
+                    Row row = sheet.createRow(rowNum[0]++);
+                    setText(row, 0, item.date().toString(), dataStyle);
+                    setText(row, 1, companyNames.getOrDefault(item.companyId(), "알 수 없음"), dataStyle);
+                    setText(row, 2, getItemTypeName(item.itemType()), dataStyle);
+                    setWeights(row, 3, item.count(), item.netWeight(), numberStyle);
+                    progress.advance(1);
+                });
             }
 
             // 월별 통계 시트 생성
             if ("monthly".equals(type) || "all".equals(type)) {
-                List<MonthlyStatisticsResponse> monthlyStats = getMonthlyStatistics(dateFrom, dateTo, companyId, itemType);
-                createMonthlySheet(workbook, monthlyStats, headerStyle, dataStyle, numberStyle);
+                Sheet sheet = createSheet(workbook, "월별 통계", MONTHLY_HEADERS, MONTHLY_COLUMN_WIDTHS, headerStyle);
+                int[] rowNum = {1};
+                dailyAggRepository.streamMonthly(dateFrom, dateTo, companyId, itemTypeFilter, item -> {
+                    Row row = sheet.createRow(rowNum[0]++);
+                    row.createCell(0).setCellValue(item.year());
+                    row.createCell(1).setCellValue(item.month());
+                    setText(row, 2, companyNames.getOrDefault(item.companyId(), "알 수 없음"), dataStyle);
+                    setText(row, 3, getItemTypeName(item.itemType()), dataStyle);
+                    setWeights(row, 4, item.count(), item.netWeight(), numberStyle);
+                    progress.advance(1);
+                });
             }
 
             workbook.write(out);
-            return out.toByteArray();
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
         }
     }
 
-    /** 일별 통계 엑셀 시트를 생성한다. */
-    private void createDailySheet(Workbook workbook, List<DailyStatisticsResponse> data,
-                                   CellStyle headerStyle, CellStyle dataStyle, CellStyle numberStyle) {
-        Sheet sheet = workbook.createSheet("일별 통계");
-        String[] headers = {"날짜", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)"};
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        for (DailyStatisticsResponse item : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            Cell dateCell = row.createCell(0);
-            dateCell.setCellValue(item.date().toString());
-            dateCell.setCellStyle(dataStyle);
-
-            Cell companyCell = row.createCell(1);
-            companyCell.setCellValue(item.companyName() != null ? item.companyName() : "전체");
-            companyCell.setCellStyle(dataStyle);
-
-            Cell itemTypeCell = row.createCell(2);
-            itemTypeCell.setCellValue(item.itemTypeName() != null ? item.itemTypeName() : "전체");
-            itemTypeCell.setCellStyle(dataStyle);
-
-            Cell countCell = row.createCell(3);
-            countCell.setCellValue(item.totalCount());
-            countCell.setCellStyle(numberStyle);
-
-            Cell weightKgCell = row.createCell(4);
-            weightKgCell.setCellValue(item.totalWeightKg());
-            weightKgCell.setCellStyle(numberStyle);
-
-            Cell weightTonCell = row.createCell(5);
-            weightTonCell.setCellValue(item.totalWeightTon());
-            weightTonCell.setCellStyle(numberStyle);
-        }
-
-        // 컬럼 너비 자동 조정
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+    /** 헤더 행과 고정 컬럼 너비를 가진 시트를 생성한다. */
+    private Sheet createSheet(SXSSFWorkbook workbook, String name, String[] headers, int[] widths,
+                              CellStyle headerStyle) {
+        Sheet sheet = workbook.createSheet(name);
+        for (int i = 0; i < widths.length; i++) {
+            // 너비 단위는 문자 폭의 1/256
+            sheet.setColumnWidth(i, widths[i] * 256);
         }
-    }
-
-    /** 월별 통계 엑셀 시트를 생성한다. */
-    private void createMonthlySheet(Workbook workbook, List<MonthlyStatisticsResponse> data,
-                                     CellStyle headerStyle, CellStyle dataStyle, CellStyle numberStyle) {
-        Sheet sheet = workbook.createSheet("월별 통계");
-        String[] headers = {"연도", "월", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)"};
 
         Row headerRow = sheet.createRow(0);
         for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
+            setText(headerRow, i, headers[i], headerStyle);
         }
+        return sheet;
+    }
 
-        int rowNum = 1;
-        for (MonthlyStatisticsResponse item : data) {
-            Row row = sheet.createRow(rowNum++);
-
-            row.createCell(0).setCellValue(item.year());
-            row.createCell(1).setCellValue(item.month());
-
-            Cell companyCell = row.createCell(2);
-            companyCell.setCellValue(item.companyName() != null ? item.companyName() : "전체");
-            companyCell.setCellStyle(dataStyle);
+    private void setText(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+    }
 
-            Cell itemTypeCell = row.createCell(3);
-            itemTypeCell.setCellValue(item.itemTypeName() != null ? item.itemTypeName() : "전체");
-            itemTypeCell.setCellStyle(dataStyle);
+    /** 건수, 중량(kg), 중량(톤) 셀을 순서대로 기록한다. */
+    private void setWeights(Row row, int firstColumn, long count, Weight netWeight, CellStyle numberStyle) {
+        double weightKg = netWeight != null ? netWeight.kg() : 0.0;
 
-            Cell countCell = row.createCell(4);
-            countCell.setCellValue(item.totalCount());
-            countCell.setCellStyle(numberStyle);
+        Cell countCell = row.createCell(firstColumn);
+        countCell.setCellValue(count);
+        countCell.setCellStyle(numberStyle);
 
-            Cell weightKgCell = row.createCell(5);
-            weightKgCell.setCellValue(item.totalWeightKg());
-            weightKgCell.setCellStyle(numberStyle);
+        Cell weightKgCell = row.createCell(firstColumn + 1);
+        weightKgCell.setCellValue(weightKg);
+        weightKgCell.setCellStyle(numberStyle);
 
-            Cell weightTonCell = row.createCell(6);
-            weightTonCell.setCellValue(item.totalWeightTon());
-            weightTonCell.setCellStyle(numberStyle);
-        }
-
-        // 컬럼 너비 자동 조정
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
+        Cell weightTonCell = row.createCell(firstColumn + 2);
+        weightTonCell.setCellValue(weightKg / 1000.0);
+        weightTonCell.setCellStyle(numberStyle);
     }
 
     /** 엑셀 헤더 행 스타일을 생성한다 (볼드, 회색 배경, 테두리, 가운데 정렬). */
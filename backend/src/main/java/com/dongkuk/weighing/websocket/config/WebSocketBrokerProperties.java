@@ -0,0 +1,65 @@
+package com.dongkuk.weighing.websocket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 메시지 브로커 속성 설정
+ *
+ * application.yml의 websocket.broker 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * STOMP 수신/송신 채널 스레드 풀 크기, 세션별 송신 제한(백프레셔), 전체 토픽 동시 전송 여부를 관리한다.
+ *
+ * <p>세션별 송신 시간 또는 송신 버퍼가 제한을 넘으면 느린 클라이언트의 세션을 종료하여
+ * 송신 채널 스레드와 메모리가 한 클라이언트에 묶이지 않도록 한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.broker")
+public class WebSocketBrokerProperties {
+
+    /** 클라이언트 수신 채널 스레드 풀 */
+    private final ChannelPool inbound = new ChannelPool();
+
+    /** 클라이언트 송신 채널 스레드 풀 */
+    private final ChannelPool outbound = new ChannelPool();
+
+    /** 세션별 메시지 송신 최대 소요 시간 (밀리초, 초과 시 세션 종료) */
+    private int sendTimeLimitMs = 10_000;
+
+    /** 세션별 송신 대기 버퍼 최대 크기 (바이트, 초과 시 세션 종료) */
+    private int sendBufferSizeLimit = 512 * 1024;
+
+    /** 수신 메시지 최대 크기 (바이트) */
+    private int messageSizeLimit = 64 * 1024;
+
+    /**
+     * 계량대/업체 토픽과 함께 전체 토픽({@code /topic/weighing-updates}, {@code /topic/scale-status},
+     * {@code /topic/device-status})에도 전송할지 여부.
+     * 웹 대시보드는 패턴 구독({@code /topic/scale/*}{@code /weighing})을 사용하므로 전체 토픽만 구독하는
+     * 구버전 클라이언트가 남아 있을 때만 켠다.
+     */
+    private boolean broadcastTopicsEnabled = false;
+
+    /**
+     * STOMP 채널 스레드 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class ChannelPool {
+
+        /** 기본 스레드 수 */
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+        /** 최대 스레드 수 */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+
+        /** 작업 대기열 크기 (가득 차면 최대 스레드 수까지 늘린다) */
+        private int queueCapacity = 1_000;
+    }
+}
@@ -0,0 +1,46 @@
+package com.dongkuk.weighing.websocket.config;
+
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import com.dongkuk.weighing.websocket.service.WebSocketClusterRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * WebSocket 클러스터 중계 Redis 구독 설정
+ *
+ * websocket.relay.enabled=true인 경우에만 활성화되며, 중계 채널과 무효화 채널을 구독하는 Redis 리스너 컨테이너를 등록한다.
+ * 다른 인스턴스가 발행한 WebSocket 메시지는 {@link WebSocketClusterRelay}가 로컬 브로커로 다시 전송하고,
+ * 무효화 메시지는 {@link ClusterInvalidationRelay}가 등록된 메모리 인덱스에 전달한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+public class WebSocketRelayConfig {
+
+    /**
+     * 중계 채널 구독 컨테이너를 빈으로 등록한다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param clusterRelay      WebSocket 클러스터 중계기
+     * @param invalidationRelay 메모리 인덱스 무효화 중계기
+     * @param properties        중계 설정
+     * @return Redis 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer webSocketRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         WebSocketClusterRelay clusterRelay,
+                                                                         ClusterInvalidationRelay invalidationRelay,
+                                                                         WebSocketRelayProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(clusterRelay, new ChannelTopic(properties.getChannel()));
+        container.addMessageListener(invalidationRelay, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
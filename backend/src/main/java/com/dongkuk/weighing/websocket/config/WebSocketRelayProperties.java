@@ -0,0 +1,36 @@
+package com.dongkuk.weighing.websocket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 클러스터 중계 속성 설정
+ *
+ * application.yml의 websocket.relay 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 백엔드를 여러 인스턴스로 운영할 때 한 인스턴스에서 발생한 WebSocket 메시지를
+ * Redis pub/sub 채널로 다른 인스턴스의 로컬 브로커에 중계하는 기능과,
+ * 인스턴스별 메모리 인덱스의 무효화를 다른 인스턴스에 전파하는 기능을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.relay")
+public class WebSocketRelayProperties {
+
+    /** 클러스터 중계 사용 여부 (단일 인스턴스 운영 시 false) */
+    private boolean enabled = false;
+
+    /** 중계 메시지를 주고받는 Redis 채널 */
+    private String channel = "weighing:websocket:relay";
+
+    /** 메모리 인덱스 무효화 메시지를 주고받는 Redis 채널 */
+    private String invalidationChannel = "weighing:cache:invalidation";
+
+    /** 인스턴스 식별자 (비어 있으면 기동 시 임의 생성). 자기 인스턴스가 보낸 중계 메시지를 걸러내는 데 사용한다. */
+    private String nodeId;
+}
@@ -0,0 +1,28 @@
+package com.dongkuk.weighing.websocket.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계량 업데이트 WebSocket 전파 속성 설정
+ *
+ * application.yml의 websocket.weighing-update 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 커밋된 계량 업데이트를 계량대별로 모아 두었다가 전송하는 병합 버퍼의 전송 주기와 용량을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.weighing-update")
+public class WeighingUpdatePublishProperties {
+
+    /** 병합 버퍼 전송 주기 (밀리초). 한 주기 안의 같은 계량 업데이트는 마지막 상태 하나로 병합된다. */
+    private long flushIntervalMs = 200;
+
+    /** 계량대별 전송 대기 계량 수 상한 (초과 시 가장 오래된 계량 업데이트를 버린다) */
+    private int maxPendingPerScale = 256;
+}
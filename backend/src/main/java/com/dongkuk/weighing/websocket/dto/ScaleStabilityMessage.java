@@ -0,0 +1,32 @@
+package com.dongkuk.weighing.websocket.dto;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계근대 안정 판정 전환 WebSocket 메시지 DTO
+ *
+ * 서버 측 안정 판정기가 안정/불안정 전환을 감지했을 때 전송하는 메시지이다.
+ * 전환 시점의 판정 구간 통계를 함께 포함한다.
+ *
+ * @param scaleId 계근대 ID
+ * @param stable 안정 판정 결과
+ * @param meanWeight 구간 평균 중량 (kg)
+ * @param stdDev 구간 표준편차 (kg)
+ * @param weightRange 구간 범위 (최대 - 최소, kg)
+ * @param sampleCount 구간 샘플 수
+ * @param changedAt 전환 시각
+ * @author 시스템
+ * @since 1.0
+ */
+public record ScaleStabilityMessage(
+        Long scaleId,
+        boolean stable,
+        Weight meanWeight,
+        Weight stdDev,
+        Weight weightRange,
+        int sampleCount,
+        LocalDateTime changedAt
+) {
+}
@@ -0,0 +1,32 @@
+package com.dongkuk.weighing.websocket.dto;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계근대 실시간 중량 WebSocket 메시지 DTO
+ *
+ * 계근대 PC가 전송하는 인디케이터 측정값을 재전송 주기(기본 4Hz)로 요약한 메시지이다.
+ * 직전 전송 이후 수신한 샘플 중 마지막 값과 최소/최대값을 포함한다.
+ *
+ * @param scaleId 계근대 ID
+ * @param weight 마지막 측정 중량 (kg)
+ * @param stable 마지막 측정의 인디케이터 안정 신호
+ * @param minWeight 구간 최소 중량 (kg)
+ * @param maxWeight 구간 최대 중량 (kg)
+ * @param sampleCount 구간 샘플 수
+ * @param measuredAt 마지막 측정 시각
+ * @author 시스템
+ * @since 1.0
+ */
+public record ScaleWeightMessage(
+        Long scaleId,
+        Weight weight,
+        boolean stable,
+        Weight minWeight,
+        Weight maxWeight,
+        int sampleCount,
+        LocalDateTime measuredAt
+) {
+}
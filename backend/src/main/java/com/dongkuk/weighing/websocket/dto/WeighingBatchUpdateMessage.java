@@ -0,0 +1,25 @@
+package com.dongkuk.weighing.websocket.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계량 일괄 업데이트 WebSocket 메시지 DTO
+ *
+ * 오프라인 캐시 재전송 등으로 여러 계량 실적이 한 번에 등록될 때
+ * 건별 메시지 대신 계량대별로 한 번에 전송되는 병합 메시지이다.
+ *
+ * @param scaleId 계량대 ID (null이면 계량대 미지정)
+ * @param count 포함된 계량 업데이트 건수
+ * @param updates 계량 업데이트 목록 (등록 순서)
+ * @param timestamp 메시지 발생 시각
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingBatchUpdateMessage(
+        Long scaleId,
+        int count,
+        List<WeighingUpdateMessage> updates,
+        LocalDateTime timestamp
+) {
+}
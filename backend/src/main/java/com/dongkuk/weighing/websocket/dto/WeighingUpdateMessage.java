@@ -1,6 +1,7 @@
 package com.dongkuk.weighing.websocket.dto;
 
-import java.math.BigDecimal;
+import com.dongkuk.weighing.global.common.weight.Weight;
+
 import java.time.LocalDateTime;
 
 /**
@@ -26,9 +27,9 @@ public record WeighingUpdateMessage(
         Long dispatchId,
         String weighingStatus,
         String weighingMode,
-        BigDecimal grossWeight,
-        BigDecimal tareWeight,
-        BigDecimal netWeight,
+        Weight grossWeight,
+        Weight tareWeight,
+        Weight netWeight,
         String lprPlateNumber,
         LocalDateTime timestamp
 ) {
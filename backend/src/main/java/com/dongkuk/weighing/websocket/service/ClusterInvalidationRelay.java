@@ -0,0 +1,157 @@
+package com.dongkuk.weighing.websocket.service;
+
+import com.dongkuk.weighing.websocket.config.WebSocketRelayProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 인덱스 무효화 클러스터 중계기
+ *
+ * <p>당일 배차 인덱스, 진행 중 계량 레지스트리처럼 인스턴스별 메모리에 보관하는 인덱스는 자기 인스턴스의
+ * 커밋 이벤트만 받으므로, 여러 인스턴스로 운영하면 다른 인스턴스에서 변경된 항목이 반영되지 않는다.
+ * 이 중계기는 {@link WebSocketClusterRelay}와 같은 Redis 연결과 인스턴스 ID를 사용하여 변경된 항목의 키를
+ * 무효화 채널({@code websocket.relay.invalidation-channel})에 발행하고, 다른 인스턴스가 발행한 키를
+ * 인덱스별로 등록된 처리기에 전달한다.</p>
+ *
+ * <ul>
+ *   <li>키만 전달하므로 받는 쪽은 커밋된 DB 값을 다시 읽어 반영한다. 순서가 바뀌어 도착해도 최신 값으로 수렴한다.</li>
+ *   <li>자기 인스턴스가 발행한 메시지는 이미 로컬에 반영되었으므로 무시한다.</li>
+ *   <li>Redis pub/sub은 전달을 보장하지 않으므로, 인덱스는 미스 시 DB 조회나 주기적 재구성으로 보완한다.</li>
+ *   <li>중계를 사용하지 않으면({@code websocket.relay.enabled=false}) 발행하지 않는다.</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code cache.invalidation.published}, {@code cache.invalidation.received},
+ * {@code cache.invalidation.failed}</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.websocket.config.WebSocketRelayConfig
+ */
+@Slf4j
+@Component
+public class ClusterInvalidationRelay implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebSocketRelayProperties properties;
+    private final String nodeId;
+
+    /** 인덱스 이름 → 무효화 처리기 */
+    private final Map<String, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    public ClusterInvalidationRelay(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    WebSocketRelayProperties properties,
+                                    WebSocketClusterRelay clusterRelay,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nodeId = clusterRelay.nodeId();
+        this.publishedCounter = Counter.builder("cache.invalidation.published")
+                .description("Redis로 발행한 메모리 인덱스 무효화 수").register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("다른 인스턴스에서 받아 반영한 메모리 인덱스 무효화 수").register(meterRegistry);
+        this.failedCounter = Counter.builder("cache.invalidation.failed")
+                .description("무효화 발행/수신 처리에 실패한 수").register(meterRegistry);
+    }
+
+    /**
+     * 클러스터 중계 사용 여부.
+     * 사용하지 않으면 다른 인스턴스가 없는 것으로 보고 메모리 인덱스를 그대로 신뢰한다.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화를 받을 처리기를 등록한다.
+     * 처리기는 Redis 리스너 스레드에서 호출된다.
+     *
+     * @param cache   인덱스 이름
+     * @param handler 무효화된 키를 받아 다시 읽는 처리기
+     */
+    public void subscribe(String cache, Consumer<Long> handler) {
+        handlers.put(cache, handler);
+    }
+
+    /**
+     * 항목 변경을 다른 인스턴스에 알린다. 커밋 이후에 호출해야 받는 쪽이 변경된 값을 읽는다.
+     * 발행에 실패해도 예외를 던지지 않는다.
+     *
+     * @param cache 인덱스 이름
+     * @param key   변경된 항목 키
+     */
+    public void publish(String cache, Long key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    objectMapper.writeValueAsString(new Invalidation(nodeId, cache, key)));
+            publishedCounter.increment();
+        } catch (RuntimeException | JsonProcessingException e) {
+            failedCounter.increment();
+            log.warn("메모리 인덱스 무효화 발행 실패: cache={}, key={}, error={}", cache, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화를 등록된 처리기에 전달한다.
+     *
+     * @param message Redis 메시지
+     * @param pattern 구독 패턴 (채널 구독이므로 사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+        } catch (IOException e) {
+            failedCounter.increment();
+            log.warn("메모리 인덱스 무효화 메시지 해석 실패: error={}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        Consumer<Long> handler = handlers.get(invalidation.cache());
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(invalidation.key());
+            receivedCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("메모리 인덱스 무효화 반영 실패: cache={}, key={}, error={}",
+                    invalidation.cache(), invalidation.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지
+     *
+     * @param nodeId 발행 인스턴스 ID
+     * @param cache  인덱스 이름
+     * @param key    변경된 항목 키
+     */
+    record Invalidation(String nodeId, String cache, Long key) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.dongkuk.weighing.websocket.service;
+
+import com.dongkuk.weighing.websocket.config.WebSocketRelayProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * WebSocket 클러스터 중계기
+ *
+ * <p>로컬 STOMP 브로커({@code enableSimpleBroker})는 인스턴스마다 따로 동작하므로, 여러 인스턴스로 운영하면
+ * 인스턴스 A에 연결된 계량대 PC는 인스턴스 B에서 발생한 메시지를 받지 못한다.
+ * 이 중계기는 {@link WebSocketNotificationService}가 보내는 모든 메시지를 로컬 브로커로 전송하면서
+ * Redis 채널({@code websocket.relay.channel})에도 발행하고, 다른 인스턴스가 발행한 메시지를 받아
+ * 자기 로컬 브로커로 다시 전송한다.</p>
+ *
+ * <ul>
+ *   <li>중복 제거: 중계 메시지에 발행 인스턴스 ID를 담고, 자기 인스턴스가 발행한 메시지는 무시한다.
+ *       (로컬 브로커에는 발행 시점에 이미 전송됨)</li>
+ *   <li>직렬화: 메시지 본문을 한 번만 JSON으로 직렬화하여 로컬 전송과 중계에 같은 바이트를 사용하므로
+ *       모든 인스턴스의 구독자가 같은 본문을 받는다.</li>
+ *   <li>장애 격리: Redis 발행이 실패해도 로컬 전송은 유지하며, 실패 건수를 메트릭으로 남긴다.</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code websocket.relay.published}, {@code websocket.relay.received},
+ * {@code websocket.relay.skipped} (자기 인스턴스 메시지), {@code websocket.relay.failed}</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.websocket.config.WebSocketRelayConfig
+ */
+@Slf4j
+@Component
+public class WebSocketClusterRelay implements MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebSocketRelayProperties properties;
+    private final String nodeId;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public WebSocketClusterRelay(SimpMessagingTemplate messagingTemplate,
+                                 StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 WebSocketRelayProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nodeId = StringUtils.hasText(properties.getNodeId())
+                ? properties.getNodeId() : UUID.randomUUID().toString();
+        this.publishedCounter = Counter.builder("websocket.relay.published")
+                .description("Redis로 중계 발행한 WebSocket 메시지 수").register(meterRegistry);
+        this.receivedCounter = Counter.builder("websocket.relay.received")
+                .description("다른 인스턴스에서 받아 로컬 브로커로 전송한 WebSocket 메시지 수").register(meterRegistry);
+        this.skippedCounter = Counter.builder("websocket.relay.skipped")
+                .description("자기 인스턴스가 발행하여 무시한 중계 메시지 수").register(meterRegistry);
+        this.failedCounter = Counter.builder("websocket.relay.failed")
+                .description("중계 발행/수신 처리에 실패한 메시지 수").register(meterRegistry);
+        if (properties.isEnabled()) {
+            log.info("WebSocket 클러스터 중계 사용: nodeId={}, channel={}", nodeId, properties.getChannel());
+        }
+    }
+
+    /**
+     * 메시지를 로컬 브로커로 전송하고, 중계를 사용하면 다른 인스턴스에도 발행한다.
+     *
+     * @param destination 구독 경로 (예: /topic/scale/1/weighing)
+     * @param payload     메시지 본문 객체
+     */
+    public void send(String destination, Object payload) {
+        if (!properties.isEnabled()) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            // 직렬화할 수 없는 본문은 기본 변환기로 로컬에만 전송한다
+            failedCounter.increment();
+            log.warn("WebSocket 중계 직렬화 실패, 로컬에만 전송: destination={}, error={}", destination, e.getMessage());
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        sendLocal(destination, json);
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(),
+                    objectMapper.writeValueAsString(new RelayEnvelope(nodeId, destination, json)));
+            publishedCounter.increment();
+        } catch (RuntimeException | JsonProcessingException e) {
+            failedCounter.increment();
+            log.warn("WebSocket 중계 발행 실패: destination={}, error={}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 중계 메시지를 로컬 브로커로 전송한다.
+     * 자기 인스턴스가 발행한 메시지는 이미 로컬로 전송되었으므로 무시한다.
+     *
+     * @param message Redis 메시지
+     * @param pattern 구독 패턴 (채널 구독이므로 사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+        } catch (IOException e) {
+            failedCounter.increment();
+            log.warn("WebSocket 중계 메시지 해석 실패: error={}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.nodeId())) {
+            skippedCounter.increment();
+            return;
+        }
+        sendLocal(envelope.destination(), envelope.payload());
+        receivedCounter.increment();
+    }
+
+    /** 인스턴스 식별자 */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 직렬화된 JSON 본문을 변환 없이 로컬 브로커로 전송한다. */
+    private void sendLocal(String destination, String json) {
+        messagingTemplate.send(destination, MessageBuilder.withPayload(json.getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build());
+    }
+
+    /**
+     * 중계 메시지
+     *
+     * @param nodeId      발행 인스턴스 ID
+     * @param destination 구독 경로
+     * @param payload     JSON으로 직렬화된 메시지 본문
+     */
+    record RelayEnvelope(String nodeId, String destination, String payload) {
+    }
+}
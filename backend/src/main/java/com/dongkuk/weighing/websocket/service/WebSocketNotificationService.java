@@ -1,19 +1,31 @@
 package com.dongkuk.weighing.websocket.service;
 
 import com.dongkuk.weighing.monitoring.dto.DeviceStatusResponse;
+import com.dongkuk.weighing.websocket.config.WebSocketBrokerProperties;
+import com.dongkuk.weighing.websocket.dto.ScaleStabilityMessage;
 import com.dongkuk.weighing.websocket.dto.ScaleStatusMessage;
+import com.dongkuk.weighing.websocket.dto.ScaleWeightMessage;
+import com.dongkuk.weighing.websocket.dto.WeighingBatchUpdateMessage;
 import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 /**
  * WebSocket 실시간 알림 서비스
  *
  * STOMP 메시지 브로커를 통해 클라이언트에 실시간 알림을 전송한다.
- * 계량 업데이트, 계근대 상태 변경, 장비 상태 변경 등의 이벤트를
- * 구독 중인 모든 클라이언트에게 브로드캐스트한다.
+ * 계량 업데이트, 계근대 상태 변경, 장비 상태 변경 등의 이벤트를 구독 중인 클라이언트에게 전송한다.
+ *
+ * <p>계량 업데이트와 계근대 상태는 계량대별({@code /topic/scale/{scaleId}/...})·업체별
+ * ({@code /topic/company/{companyId}/...}) 토픽으로 전송하여 해당 계량대/업체를 구독한 클라이언트만 받는다.
+ * 전체 계량대를 보는 대시보드는 단순 브로커의 패턴 구독({@code /topic/scale/*}{@code /weighing} 등)으로 모든
+ * 계량대 토픽을 받는다. 계량대가 지정되지 않은 계량은 {@code /topic/scale/unassigned/weighing}으로 전송한다.
+ * 일괄 등록된 계량은 건별 메시지 대신 계량대별 병합 메시지({@code /topic/scale/{scaleId}/weighing-batch})로 전송한다.
+ * 구버전 클라이언트용 전체 토픽은 {@code websocket.broker.broadcast-topics-enabled}가 켜져 있을 때만 함께 전송한다.</p>
+ *
+ * <p>모든 메시지는 {@link WebSocketClusterRelay}를 거치므로 여러 인스턴스로 운영해도 어느 인스턴스에
+ * 연결된 클라이언트든 같은 메시지를 받는다.</p>
  *
  * @author 시스템
  * @since 1.0
@@ -23,40 +35,108 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class WebSocketNotificationService {
 
-    /** STOMP 메시지 전송 템플릿 */
-    private final SimpMessagingTemplate messagingTemplate;
+    /** 계량대가 지정되지 않은 계량의 계량대 토픽 경로 구간 */
+    static final String UNASSIGNED_SCALE = "unassigned";
+
+    /** STOMP 메시지 전송 (로컬 브로커 전송 + 클러스터 중계) */
+    private final WebSocketClusterRelay clusterRelay;
+
+    /** 메시지 브로커 설정 (전체 토픽 전송 여부) */
+    private final WebSocketBrokerProperties brokerProperties;
 
     /**
      * 계량 업데이트 알림을 전송한다.
-     * 구독 경로: /topic/weighing-updates
+     * 구독 경로: /topic/scale/{scaleId}/weighing, /topic/company/{companyId}/weighing,
+     * /topic/weighing-updates (전체 토픽 사용 시)
      *
-     * @param message 계량 업데이트 메시지 (계량 ID, 상태, 중량 정보 등)
+     * @param scaleId   계량대 ID (null이면 /topic/scale/unassigned/weighing)
+     * @param companyId 배차 업체 ID (null이면 업체 토픽 생략)
+     * @param message   계량 업데이트 메시지 (계량 ID, 상태, 중량 정보 등)
      */
-    public void notifyWeighingUpdate(WeighingUpdateMessage message) {
-        messagingTemplate.convertAndSend("/topic/weighing-updates", message);
-        log.debug("WebSocket 계량 업데이트 발송: weighingId={}", message.weighingId());
+    public void notifyWeighingUpdate(Long scaleId, Long companyId, WeighingUpdateMessage message) {
+        clusterRelay.send("/topic/scale/" + (scaleId != null ? scaleId : UNASSIGNED_SCALE) + "/weighing", message);
+        if (companyId != null) {
+            clusterRelay.send("/topic/company/" + companyId + "/weighing", message);
+        }
+        if (brokerProperties.isBroadcastTopicsEnabled()) {
+            clusterRelay.send("/topic/weighing-updates", message);
+        }
+        log.debug("WebSocket 계량 업데이트 발송: weighingId={}, scaleId={}, companyId={}",
+                message.weighingId(), scaleId, companyId);
+    }
+
+    /**
+     * 계량 일괄 업데이트 알림을 전송한다.
+     * 구독 경로: /topic/scale/{scaleId}/weighing-batch, /topic/weighing-updates/batch (전체 토픽 사용 시)
+     *
+     * @param message 계량 일괄 업데이트 메시지 (한 계량대의 일괄 등록된 계량 업데이트 목록)
+     */
+    public void notifyWeighingBatchUpdate(WeighingBatchUpdateMessage message) {
+        clusterRelay.send("/topic/scale/" + (message.scaleId() != null ? message.scaleId() : UNASSIGNED_SCALE)
+                + "/weighing-batch", message);
+        if (brokerProperties.isBroadcastTopicsEnabled()) {
+            clusterRelay.send("/topic/weighing-updates/batch", message);
+        }
+        log.debug("WebSocket 계량 일괄 업데이트 발송: scaleId={}, count={}", message.scaleId(), message.count());
     }
 
     /**
      * 계근대 상태 변경 알림을 전송한다.
-     * 구독 경로: /topic/scale-status
+     * 구독 경로: /topic/scale/{scaleId}/status, /topic/scale-status (전체 토픽 사용 시)
      *
      * @param message 계근대 상태 메시지 (계근대 ID, 이름, 상태 등)
      */
     public void notifyScaleStatus(ScaleStatusMessage message) {
-        messagingTemplate.convertAndSend("/topic/scale-status", message);
+        if (message.scaleId() != null) {
+            clusterRelay.send(scaleTopic(message.scaleId(), "status"), message);
+        }
+        if (brokerProperties.isBroadcastTopicsEnabled()) {
+            clusterRelay.send("/topic/scale-status", message);
+        }
         log.debug("WebSocket 계근대 상태 발송: scaleId={}", message.scaleId());
     }
 
+    /**
+     * 계근대 실시간 중량을 전송한다.
+     * 구독 경로: /topic/scale/{scaleId}/weight
+     *
+     * @param message 계근대 실시간 중량 메시지 (마지막 중량, 안정 여부, 구간 최소/최대 등)
+     */
+    public void notifyScaleWeight(ScaleWeightMessage message) {
+        clusterRelay.send(scaleTopic(message.scaleId(), "weight"), message);
+        log.trace("WebSocket 계근대 중량 발송: scaleId={}, weight={}", message.scaleId(), message.weight());
+    }
+
+    /**
+     * 계근대 안정/불안정 전환을 전송한다.
+     * 구독 경로: /topic/scale/{scaleId}/stability
+     *
+     * @param message 계근대 안정 판정 전환 메시지 (판정 결과, 구간 평균/표준편차/범위)
+     */
+    public void notifyScaleStability(ScaleStabilityMessage message) {
+        clusterRelay.send(scaleTopic(message.scaleId(), "stability"), message);
+        log.debug("WebSocket 계근대 안정 판정 발송: scaleId={}, stable={}", message.scaleId(), message.stable());
+    }
+
     /**
      * 장비 상태 변경 알림을 전송한다.
-     * 구독 경로: /topic/device-status
+     * 구독 경로: /topic/device-status/{deviceType}, /topic/device-status (전체 토픽 사용 시)
      *
      * @param message 장비 상태 응답 (장비 ID, 연결 상태 등)
      */
     public void notifyDeviceStatusChange(DeviceStatusResponse message) {
-        messagingTemplate.convertAndSend("/topic/device-status", message);
+        if (message.deviceType() != null) {
+            clusterRelay.send("/topic/device-status/" + message.deviceType().name(), message);
+        }
+        if (brokerProperties.isBroadcastTopicsEnabled()) {
+            clusterRelay.send("/topic/device-status", message);
+        }
         log.debug("WebSocket 장비 상태 변경 발송: deviceId={}, status={}",
                 message.deviceId(), message.connectionStatus());
     }
+
+    /** 계량대별 토픽 경로 (/topic/scale/{scaleId}/{suffix}) */
+    private static String scaleTopic(Long scaleId, String suffix) {
+        return "/topic/scale/" + scaleId + "/" + suffix;
+    }
 }
@@ -0,0 +1,240 @@
+package com.dongkuk.weighing.websocket.service;
+
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.websocket.config.WeighingUpdatePublishProperties;
+import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
+import com.dongkuk.weighing.weighing.event.WeighingUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계량 업데이트 병합 전송기
+ *
+ * <p>커밋된 계량 업데이트를 계량대별 버퍼에 모아 두었다가 전송 주기
+ * ({@code websocket.weighing-update.flush-interval-ms}, 기본 200ms)마다 한 번에 전송한다.
+ * 한 주기 안에 같은 계량 ID의 업데이트가 여러 번 들어오면 마지막 상태 하나만 전송한다.
+ * 요청 스레드는 버퍼에 넣기만 하므로 STOMP 브로커 전송이 계량 처리 응답을 지연시키지 않는다.</p>
+ *
+ * <p>메시지는 계량대 토픽과 배차 업체 토픽으로 전송한다. 업체 ID는 전송 시점에 한 주기 분량의
+ * 배차 ID를 모아 한 번의 조회로 찾는다.</p>
+ *
+ * <p>{@link WeighingUpdatedEvent}는 트랜잭션 커밋 이후에만 버퍼에 넣으므로 롤백된 변경은 전송되지 않는다.
+ * 계량대별 대기 계량 수가 상한({@code max-pending-per-scale})을 넘으면 가장 오래된 계량 업데이트를 버린다.
+ * 클라이언트는 계량 ID 기준으로 상태를 덮어쓰므로 병합/누락된 중간 상태는 다음 업데이트나
+ * 진행 중 계량 조회로 보정된다.</p>
+ *
+ * <p>메트릭 ({@code /actuator/prometheus}로 노출):
+ * <ul>
+ *   <li>{@code websocket.weighing.update.pending} (게이지) — 전송 대기 중인 계량 업데이트 수</li>
+ *   <li>{@code websocket.weighing.update.flush.latency} (타이머, 히스토그램) — 버퍼 적재부터 전송까지 소요 시간</li>
+ *   <li>{@code websocket.weighing.update.sent} (카운터) — 전송한 메시지 수</li>
+ *   <li>{@code websocket.weighing.update.merged} (카운터) — 같은 계량의 이전 업데이트를 대체한 수</li>
+ *   <li>{@code websocket.weighing.update.dropped} (카운터) — 버퍼 초과(overflow) 또는 전송 실패(error)로 버린 수</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WebSocketNotificationService#notifyWeighingUpdate(Long, Long, WeighingUpdateMessage)
+ */
+@Slf4j
+@Component
+public class WeighingUpdateCoalescer {
+
+    /** 계량대가 지정되지 않은 업데이트의 버퍼 키 */
+    private static final long NO_SCALE = 0L;
+
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final DispatchRepository dispatchRepository;
+    private final WeighingUpdatePublishProperties properties;
+
+    /** 계량대 ID → 전송 대기 버퍼 */
+    private final Map<Long, ScaleBuffer> buffers = new ConcurrentHashMap<>();
+
+    /** 전체 전송 대기 계량 업데이트 수 */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Timer flushLatency;
+    private final Counter sentCounter;
+    private final Counter mergedCounter;
+    private final Counter overflowCounter;
+    private final Counter errorCounter;
+
+    public WeighingUpdateCoalescer(WebSocketNotificationService webSocketNotificationService,
+                                   DispatchRepository dispatchRepository,
+                                   WeighingUpdatePublishProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.dispatchRepository = dispatchRepository;
+        this.properties = properties;
+        meterRegistry.gauge("websocket.weighing.update.pending", pendingCount);
+        this.flushLatency = Timer.builder("websocket.weighing.update.flush.latency")
+                .description("계량 업데이트 버퍼 적재부터 WebSocket 전송까지 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("websocket.weighing.update.sent")
+                .description("전송한 계량 업데이트 메시지 수")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("websocket.weighing.update.merged")
+                .description("같은 계량의 이전 업데이트를 대체하여 병합한 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("websocket.weighing.update.dropped")
+                .description("전송하지 못하고 버린 계량 업데이트 수")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("websocket.weighing.update.dropped")
+                .description("전송하지 못하고 버린 계량 업데이트 수")
+                .tag("reason", "error")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 계량 업데이트를 버퍼에 넣는다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 버퍼에 넣는다.
+     *
+     * @param event 계량 업데이트 전파 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeighingUpdated(WeighingUpdatedEvent event) {
+        submit(event.scaleId(), event.message());
+    }
+
+    /**
+     * 계량 업데이트를 계량대 버퍼에 넣는다. 이미 대기 중인 같은 계량의 업데이트는 대체한다.
+     * 커밋이 확정된 변경만 전달해야 한다.
+     *
+     * @param scaleId 계량대 ID (null이면 계량대 미지정 버퍼)
+     * @param message 계량 업데이트 메시지
+     */
+    public void submit(Long scaleId, WeighingUpdateMessage message) {
+        ScaleBuffer buffer = buffers.computeIfAbsent(scaleId != null ? scaleId : NO_SCALE,
+                id -> new ScaleBuffer(scaleId));
+        long now = System.nanoTime();
+        int maxPending = Math.max(1, properties.getMaxPendingPerScale());
+        synchronized (buffer) {
+            Pending previous = buffer.pending.get(message.weighingId());
+            if (previous != null) {
+                // 첫 적재 시각을 유지하여 전송 지연이 병합으로 늘어나지 않았는지 측정한다
+                buffer.pending.put(message.weighingId(), new Pending(message, previous.enqueuedAt()));
+                mergedCounter.increment();
+                return;
+            }
+            if (buffer.pending.size() >= maxPending) {
+                Iterator<Pending> eldest = buffer.pending.values().iterator();
+                Pending dropped = eldest.next();
+                eldest.remove();
+                pendingCount.decrementAndGet();
+                overflowCounter.increment();
+                log.warn("계량 업데이트 버퍼 초과, 가장 오래된 업데이트 제외: scaleId={}, weighingId={}",
+                        scaleId, dropped.message().weighingId());
+            }
+            buffer.pending.put(message.weighingId(), new Pending(message, now));
+            pendingCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 계량대별 대기 중인 계량 업데이트를 전송한다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.weighing-update.flush-interval-ms:200}")
+    public void flush() {
+        List<Outgoing> batch = new ArrayList<>();
+        for (ScaleBuffer buffer : buffers.values()) {
+            synchronized (buffer) {
+                for (Pending pending : buffer.pending.values()) {
+                    batch.add(new Outgoing(buffer.scaleId, pending));
+                }
+                buffer.pending.clear();
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+        Map<Long, Long> companyIds = findCompanyIds(batch);
+        for (Outgoing outgoing : batch) {
+            Long dispatchId = outgoing.pending().message().dispatchId();
+            send(outgoing.scaleId(), dispatchId != null ? companyIds.get(dispatchId) : null, outgoing.pending());
+        }
+    }
+
+    /** 종료 시 대기 중인 업데이트를 전송한다. */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 배차 ID → 업체 ID (조회 실패 시 업체 토픽 없이 전송) */
+    private Map<Long, Long> findCompanyIds(List<Outgoing> batch) {
+        Set<Long> dispatchIds = new HashSet<>();
+        for (Outgoing outgoing : batch) {
+            if (outgoing.pending().message().dispatchId() != null) {
+                dispatchIds.add(outgoing.pending().message().dispatchId());
+            }
+        }
+        Map<Long, Long> companyIds = new HashMap<>();
+        if (dispatchIds.isEmpty()) {
+            return companyIds;
+        }
+        try {
+            for (Object[] row : dispatchRepository.findCompanyIdsByDispatchIds(dispatchIds)) {
+                companyIds.put((Long) row[0], (Long) row[1]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("계량 업데이트 업체 조회 실패, 업체 토픽 생략: dispatches={}, error={}",
+                    dispatchIds.size(), e.getMessage());
+        }
+        return companyIds;
+    }
+
+    private void send(Long scaleId, Long companyId, Pending pending) {
+        try {
+            webSocketNotificationService.notifyWeighingUpdate(scaleId, companyId, pending.message());
+            sentCounter.increment();
+            flushLatency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("계량 업데이트 WebSocket 전송 실패: weighingId={}, error={}",
+                    pending.message().weighingId(), e.getMessage());
+        }
+    }
+
+    /** 계량대별 전송 대기 버퍼 (계량 ID → 최신 업데이트, 적재 순서 유지) */
+    private static final class ScaleBuffer {
+        private final Long scaleId;
+        private final LinkedHashMap<Long, Pending> pending = new LinkedHashMap<>();
+
+        private ScaleBuffer(Long scaleId) {
+            this.scaleId = scaleId;
+        }
+    }
+
+    /** 전송 대기 업데이트 (최신 메시지, 첫 적재 시각) */
+    private record Pending(WeighingUpdateMessage message, long enqueuedAt) {
+    }
+
+    /** 전송할 업데이트와 계량대 ID */
+    private record Outgoing(Long scaleId, Pending pending) {
+    }
+}
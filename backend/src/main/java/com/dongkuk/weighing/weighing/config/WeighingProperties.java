@@ -0,0 +1,80 @@
+package com.dongkuk.weighing.weighing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 계량 도메인 속성 설정
+ *
+ * application.yml의 weighing 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 계량 실적 일괄 등록, 일별 집계 롤업, 통계 캐시, 진행 중 계량 레지스트리 등 계량 처리 관련 튜닝 값을 관리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weighing")
+public class WeighingProperties {
+
+    /** 계량 실적 일괄 등록 설정 */
+    private final Batch batch = new Batch();
+
+    /**
+     * 계량 실적 일괄 등록(오프라인 캐시 재전송) 설정
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /** JDBC 배치 1회(1개 트랜잭션)당 INSERT 건수 */
+        private int chunkSize = 100;
+    }
+
+    /** 계량 일별 집계 롤업 설정 */
+    private final DailyAgg dailyAgg = new DailyAgg();
+
+    /**
+     * 계량 일별 집계 롤업(tb_weighing_daily_agg) 설정
+     */
+    @Getter
+    @Setter
+    public static class DailyAgg {
+
+        /** 기동 완료 시 원천 계량 데이터로 롤업 전체를 재구성할지 여부 */
+        private boolean rebuildOnStartup = false;
+    }
+
+    /** 계량 통계 조회 설정 */
+    private final Statistics statistics = new Statistics();
+
+    /**
+     * 계량 통계(대시보드 요약) 조회 설정
+     */
+    @Getter
+    @Setter
+    public static class Statistics {
+
+        /** 통계 결과 캐시 유지 시간 (0이면 캐시 사용 안 함) */
+        private Duration cacheTtl = Duration.ofSeconds(10);
+    }
+
+    /** 진행 중 계량 레지스트리 설정 */
+    private final InProgress inProgress = new InProgress();
+
+    /**
+     * 진행 중 계량 레지스트리 설정
+     */
+    @Getter
+    @Setter
+    public static class InProgress {
+
+        /** DB 기준으로 레지스트리를 교체하는 주기 (cron, 유실된 변경 보정) */
+        private String resyncCron = "0 */5 * * * *";
+    }
+}
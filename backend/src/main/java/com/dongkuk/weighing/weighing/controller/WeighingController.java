@@ -1,17 +1,24 @@
 package com.dongkuk.weighing.weighing.controller;
 
+import com.dongkuk.weighing.export.service.ExportProgress;
 import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
 import com.dongkuk.weighing.weighing.domain.WeighingMode;
 import com.dongkuk.weighing.weighing.domain.WeighingStatus;
 import com.dongkuk.weighing.weighing.dto.*;
+import com.dongkuk.weighing.weighing.service.WeighingBatchService;
+import com.dongkuk.weighing.weighing.service.WeighingExportService;
 import com.dongkuk.weighing.weighing.service.WeighingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,6 +42,8 @@ import java.util.List;
 public class WeighingController {
 
     private final WeighingService weighingService;
+    private final WeighingBatchService weighingBatchService;
+    private final WeighingExportService weighingExportService;
 
     /**
      * 계량 기록을 생성한다.
@@ -49,6 +58,22 @@ public class WeighingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(response));
     }
 
+    /**
+     * 계량 기록을 일괄 생성한다.
+     *
+     * <p>계량대 PC의 오프라인 캐시 재전송용 API이다. 요청 순서대로 저장하며,
+     * 항목별 성공/실패 결과를 반환한다. 일부 항목이 실패해도 나머지는 저장된다.</p>
+     *
+     * @param request 계량 일괄 생성 요청 DTO
+     * @return 항목별 처리 결과
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<WeighingBatchResponse>> createWeighings(
+            @Valid @RequestBody WeighingBatchRequest request) {
+        WeighingBatchResponse response = weighingBatchService.createWeighings(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * 계량 통계 정보를 조회한다.
      *
@@ -65,11 +90,17 @@ public class WeighingController {
     /**
      * 현재 진행 중인 계량 목록을 조회한다.
      *
+     * <p>계량대 ID를 지정하면 해당 계량대의 진행 중 계량만 반환한다.</p>
+     *
+     * @param scaleId 계량대 ID 필터 (선택)
      * @return 진행 중(IN_PROGRESS) 상태의 계량 기록 목록
      */
     @GetMapping("/in-progress")
-    public ResponseEntity<ApiResponse<List<WeighingResponse>>> getInProgressWeighings() {
-        List<WeighingResponse> response = weighingService.getInProgressWeighings();
+    public ResponseEntity<ApiResponse<List<WeighingResponse>>> getInProgressWeighings(
+            @RequestParam(required = false) Long scaleId) {
+        List<WeighingResponse> response = scaleId != null
+                ? weighingService.getInProgressWeighings(scaleId)
+                : weighingService.getInProgressWeighings();
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
@@ -123,6 +154,72 @@ public class WeighingController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 검색 조건에 따라 계량 기록을 커서(키셋) 방식으로 조회한다.
+     *
+     * <p>전체 건수를 계산하지 않으며, 응답의 {@code next_cursor}를 다음 요청의
+     * {@code after}로 전달하여 다음 페이지를 조회한다.</p>
+     *
+     * @param dateFrom 검색 시작일 (선택)
+     * @param dateTo 검색 종료일 (선택)
+     * @param weighingMode 계량 모드 필터 (선택)
+     * @param status 계량 상태 필터 (선택)
+     * @param lprPlateNumber 차량번호 필터 (선택)
+     * @param after 이전 페이지의 다음 커서 (첫 페이지이면 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @param includeTotal 근사 전체 건수 포함 여부 (기본 false)
+     * @return 계량 기록 키셋 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSlice<WeighingResponse>>> scrollWeighings(
+            @RequestParam(value = "date_from", required = false) LocalDate dateFrom,
+            @RequestParam(value = "date_to", required = false) LocalDate dateTo,
+            @RequestParam(value = "weighing_mode", required = false) WeighingMode weighingMode,
+            @RequestParam(required = false) WeighingStatus status,
+            @RequestParam(value = "lpr_plate_number", required = false) String lprPlateNumber,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "include_total", defaultValue = "false") boolean includeTotal) {
+        WeighingSearchCondition condition = new WeighingSearchCondition(dateFrom, dateTo, weighingMode, status, lprPlateNumber);
+        CursorSlice<WeighingResponse> response = weighingService.scrollWeighings(condition, after, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 검색 조건에 맞는 계량 기록 전체를 CSV 또는 NDJSON으로 내보낸다.
+     *
+     * <p>페이징 없이 JDBC 커서에서 읽은 행을 응답 스트림에 바로 기록하므로
+     * 결과 건수와 무관하게 서버 메모리 사용량이 일정하다. 정렬은 생성일시 역순이다.</p>
+     *
+     * @param format 내보내기 형식 (csv, ndjson)
+     * @param dateFrom 검색 시작일 (선택)
+     * @param dateTo 검색 종료일 (선택)
+     * @param weighingMode 계량 모드 필터 (선택)
+     * @param status 계량 상태 필터 (선택)
+     * @param lprPlateNumber 차량번호 필터 (선택)
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWeighings(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(value = "date_from", required = false) LocalDate dateFrom,
+            @RequestParam(value = "date_to", required = false) LocalDate dateTo,
+            @RequestParam(value = "weighing_mode", required = false) WeighingMode weighingMode,
+            @RequestParam(required = false) WeighingStatus status,
+            @RequestParam(value = "lpr_plate_number", required = false) String lprPlateNumber) {
+        WeighingExportFormat exportFormat = WeighingExportFormat.from(format);
+        WeighingSearchCondition condition = new WeighingSearchCondition(dateFrom, dateTo, weighingMode, status, lprPlateNumber);
+
+        StreamingResponseBody body = out ->
+                weighingExportService.export(condition, exportFormat, out, ExportProgress.NONE);
+
+        String filename = String.format("weighings_%s.%s", LocalDate.now(), exportFormat.getExtension());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
     /**
      * 공차중량을 기록한다.
      *
@@ -0,0 +1,42 @@
+package com.dongkuk.weighing.weighing.controller;
+
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.weighing.service.WeighingDailyAggService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 계량 일별 집계 관리 컨트롤러
+ *
+ * 계량 일별 집계 롤업(tb_weighing_daily_agg)의 백필/정합성 복구를 위한
+ * 관리자 전용 API를 제공한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/admin/weighing-daily-agg")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class WeighingDailyAggAdminController {
+
+    private final WeighingDailyAggService weighingDailyAggService;
+
+    /** 기간 내 일별 집계를 원천 계량 데이터로 재구성한다. 기간 미지정 시 전체를 재구성한다. */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(
+            @RequestParam(name = "date_from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "date_to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo
+    ) {
+        int rows = weighingDailyAggService.rebuild(dateFrom, dateTo);
+        return ResponseEntity.ok(ApiResponse.ok(rows, "일별 집계가 재구성되었습니다"));
+    }
+}
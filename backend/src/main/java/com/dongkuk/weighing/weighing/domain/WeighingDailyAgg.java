@@ -0,0 +1,80 @@
+package com.dongkuk.weighing.weighing.domain;
+
+import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계량 일별 집계 엔티티
+ *
+ * <p>완료된 계량 기록을 (일자, 계량대, 업체, 품목유형, 계량모드) 단위로 미리 집계한
+ * 롤업 테이블이다. 통계/대시보드 조회가 원본 {@code tb_weighing}과 {@code tb_dispatch}를
+ * 매번 조인·집계하지 않도록 완료 건수와 순중량 합계를 보관한다.</p>
+ *
+ * <p>행의 생성과 증감은 {@link WeighingDailyAggJdbcRepository}의 UPSERT로만 수행되며,
+ * 이 엔티티는 스키마 정의와 참조용으로 사용된다. 계량 완료 시 같은 트랜잭션에서 증가하고,
+ * 완료된 계량이 재계량 처리되면 감소한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingDailyAggJdbcRepository
+ */
+@Entity
+@Table(name = "tb_weighing_daily_agg",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weighing_daily_agg_key",
+                columnNames = {"agg_date", "scale_id", "company_id", "item_type", "weighing_mode"}),
+        indexes = @Index(name = "idx_weighing_daily_agg_company", columnList = "company_id, agg_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeighingDailyAgg {
+
+    /** 집계 행 고유 식별자 (PK, 자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "agg_id")
+    private Long aggId;
+
+    // ─── 집계 키 ───
+
+    /** 집계 일자 (계량 기록 생성일 기준) */
+    @Column(name = "agg_date", nullable = false)
+    private LocalDate aggDate;
+
+    /** 계량대 ID */
+    @Column(name = "scale_id", nullable = false)
+    private Long scaleId;
+
+    /** 운송 업체 ID (배차 기준) */
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    /** 품목 유형 (배차 기준) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private ItemType itemType;
+
+    /** 계량 모드 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "weighing_mode", nullable = false, length = 20)
+    private WeighingMode weighingMode;
+
+    // ─── 집계 값 ───
+
+    /** 완료 계량 건수 */
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    /** 순중량 합계 (단위: kg) */
+    @Column(name = "net_weight_sum", nullable = false, precision = 14, scale = 2)
+    private Weight netWeightSum;
+
+    /** 마지막 갱신 일시 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,318 @@
+package com.dongkuk.weighing.weighing.domain;
+
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.global.common.util.JdbcStreamUtil;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계량 일별 집계 JDBC 저장소
+ *
+ * <p>{@code tb_weighing_daily_agg} 롤업 테이블의 증감(UPSERT), 재구성, 집계 조회를 담당한다.
+ * 동시에 같은 집계 키를 갱신해도 건수가 유실되지 않도록 데이터베이스의 원자적 UPSERT를 사용한다.
+ * PostgreSQL은 {@code INSERT ... ON CONFLICT DO UPDATE}, 그 외(H2 등)는 표준 {@code MERGE}를 사용한다.</p>
+ *
+ * <p>호출 측 트랜잭션에 참여하므로 계량 완료 처리와 같은 트랜잭션에서 반영된다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingDailyAgg
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeighingDailyAggJdbcRepository {
+
+    /** 스트리밍 조회 시 한 번에 가져올 행 수 */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * 순중량 합계를 그램 단위 BIGINT로 읽는 식. NUMERIC 합계를 {@code BigDecimal}로 읽지 않고
+     * {@code long}으로 받아 {@link Weight}를 만든다.
+     */
+    private static final String NET_GRAMS_SUM = "CAST(ROUND(SUM(net_weight_sum) * 1000) AS BIGINT)";
+
+    private static final RowMapper<DailyRow> DAILY_ROW_MAPPER = (rs, i) -> new DailyRow(
+            rs.getObject(1, LocalDate.class),
+            rs.getLong(2),
+            rs.getString(3),
+            rs.getLong(4),
+            Weight.ofGrams(rs.getLong(5)));
+
+    private static final RowMapper<MonthlyRow> MONTHLY_ROW_MAPPER = (rs, i) -> new MonthlyRow(
+            rs.getInt(1),
+            rs.getInt(2),
+            rs.getLong(3),
+            rs.getString(4),
+            rs.getLong(5),
+            Weight.ofGrams(rs.getLong(6)));
+
+    private static final String UPSERT_POSTGRES_SQL =
+            "INSERT INTO tb_weighing_daily_agg (agg_date, scale_id, company_id, item_type, weighing_mode, " +
+            "completed_count, net_weight_sum, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (agg_date, scale_id, company_id, item_type, weighing_mode) DO UPDATE SET " +
+            "completed_count = tb_weighing_daily_agg.completed_count + EXCLUDED.completed_count, " +
+            "net_weight_sum = tb_weighing_daily_agg.net_weight_sum + EXCLUDED.net_weight_sum, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_MERGE_SQL =
+            "MERGE INTO tb_weighing_daily_agg t USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT), " +
+            "CAST(? AS BIGINT), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(20)), CAST(? AS BIGINT), " +
+            "CAST(? AS NUMERIC(14, 2)), CAST(? AS TIMESTAMP))) " +
+            "AS s (agg_date, scale_id, company_id, item_type, weighing_mode, completed_count, net_weight_sum, updated_at) " +
+            "ON t.agg_date = s.agg_date AND t.scale_id = s.scale_id AND t.company_id = s.company_id " +
+            "AND t.item_type = s.item_type AND t.weighing_mode = s.weighing_mode " +
+            "WHEN MATCHED THEN UPDATE SET completed_count = t.completed_count + s.completed_count, " +
+            "net_weight_sum = t.net_weight_sum + s.net_weight_sum, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (agg_date, scale_id, company_id, item_type, weighing_mode, " +
+            "completed_count, net_weight_sum, updated_at) VALUES (s.agg_date, s.scale_id, s.company_id, " +
+            "s.item_type, s.weighing_mode, s.completed_count, s.net_weight_sum, s.updated_at)";
+
+    /** 원본 계량/배차 테이블로부터 집계 행을 생성하는 SELECT (WHERE 절은 호출 시 추가) */
+    private static final String REBUILD_SELECT_SQL =
+            "INSERT INTO tb_weighing_daily_agg (agg_date, scale_id, company_id, item_type, weighing_mode, " +
+            "completed_count, net_weight_sum, updated_at) " +
+            "SELECT CAST(w.created_at AS DATE), w.scale_id, d.company_id, d.item_type, w.weighing_mode, " +
+            "COUNT(*), COALESCE(SUM(w.net_weight), 0), ? " +
+            "FROM tb_weighing w JOIN tb_dispatch d ON w.dispatch_id = d.dispatch_id " +
+            "WHERE w.weighing_status = 'COMPLETED'";
+
+    private static final String REBUILD_GROUP_BY_SQL =
+            " GROUP BY CAST(w.created_at AS DATE), w.scale_id, d.company_id, d.item_type, w.weighing_mode";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * 집계 키의 완료 건수와 순중량 합계를 증감한다. 행이 없으면 새로 생성한다.
+     *
+     * @param aggDate    집계 일자
+     * @param scaleId    계량대 ID
+     * @param companyId  업체 ID
+     * @param itemType   품목 유형명
+     * @param mode       계량 모드명
+     * @param countDelta 건수 증감 (+1: 완료, -1: 완료 취소)
+     * @param netDelta   순중량 증감
+     */
+    public void increment(LocalDate aggDate, Long scaleId, Long companyId, String itemType, String mode,
+                          long countDelta, Weight netDelta) {
+        jdbcTemplate.update(databaseDialect.isPostgres() ? UPSERT_POSTGRES_SQL : UPSERT_MERGE_SQL,
+                Date.valueOf(aggDate), scaleId, companyId, itemType, mode,
+                countDelta, netDelta.toBigDecimalKg(), LocalDateTime.now());
+    }
+
+    /**
+     * 기간 내 집계 행을 원본 계량 기록으로부터 다시 생성한다.
+     *
+     * <p>PostgreSQL에서는 재구성 동안 집계 테이블을 잠가 동시에 완료된 계량의 증감이
+     * 삭제되거나 이중 반영되지 않도록 한다.</p>
+     *
+     * @param from 시작일 (null이면 하한 없음)
+     * @param to   종료일 (null이면 상한 없음)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (databaseDialect.isPostgres()) {
+            jdbcTemplate.execute("LOCK TABLE tb_weighing_daily_agg IN SHARE ROW EXCLUSIVE MODE");
+        }
+
+        StringBuilder delete = new StringBuilder("DELETE FROM tb_weighing_daily_agg WHERE 1 = 1");
+        List<Object> deleteArgs = new ArrayList<>();
+        StringBuilder insert = new StringBuilder(REBUILD_SELECT_SQL);
+        List<Object> insertArgs = new ArrayList<>();
+        insertArgs.add(LocalDateTime.now());
+        if (from != null) {
+            delete.append(" AND agg_date >= ?");
+            deleteArgs.add(Date.valueOf(from));
+            insert.append(" AND w.created_at >= ?");
+            insertArgs.add(from.atStartOfDay());
+        }
+        if (to != null) {
+            delete.append(" AND agg_date <= ?");
+            deleteArgs.add(Date.valueOf(to));
+            insert.append(" AND w.created_at < ?");
+            insertArgs.add(to.plusDays(1).atStartOfDay());
+        }
+        insert.append(REBUILD_GROUP_BY_SQL);
+
+        jdbcTemplate.update(delete.toString(), deleteArgs.toArray());
+        return jdbcTemplate.update(insert.toString(), insertArgs.toArray());
+    }
+
+    /**
+     * 일자/업체/품목유형별 집계를 조회한다 (일자, 업체 순).
+     *
+     * @param from      시작일
+     * @param to        종료일
+     * @param companyId 업체 ID 필터 (nullable)
+     * @param itemType  품목 유형 필터 (nullable)
+     * @return 일별 집계 목록
+     */
+    public List<DailyRow> findDaily(LocalDate from, LocalDate to, Long companyId, String itemType) {
+        List<Object> args = new ArrayList<>();
+        String sql = dailySql(periodWhere(from, to, companyId, itemType, args));
+        return jdbcTemplate.query(sql, DAILY_ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 일자/업체/품목유형별 집계를 목록으로 모으지 않고 한 행씩 전달한다 (일자, 업체 순).
+     * 대용량 내보내기처럼 결과 전체를 메모리에 올리지 않아야 하는 경로에서 사용한다.
+     *
+     * @param from      시작일
+     * @param to        종료일
+     * @param companyId 업체 ID 필터 (nullable)
+     * @param itemType  품목 유형 필터 (nullable)
+     * @param consumer  행 처리기
+     */
+    public void streamDaily(LocalDate from, LocalDate to, Long companyId, String itemType,
+                            Consumer<DailyRow> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = dailySql(periodWhere(from, to, companyId, itemType, args));
+        JdbcStreamUtil.stream(jdbcTemplate, sql, args, STREAM_FETCH_SIZE, DAILY_ROW_MAPPER, consumer);
+    }
+
+    /**
+     * 연/월/업체/품목유형별 집계를 조회한다 (연, 월, 업체 순).
+     *
+     * @param from      시작일
+     * @param to        종료일
+     * @param companyId 업체 ID 필터 (nullable)
+     * @param itemType  품목 유형 필터 (nullable)
+     * @return 월별 집계 목록
+     */
+    public List<MonthlyRow> findMonthly(LocalDate from, LocalDate to, Long companyId, String itemType) {
+        List<Object> args = new ArrayList<>();
+        String sql = monthlySql(periodWhere(from, to, companyId, itemType, args));
+        return jdbcTemplate.query(sql, MONTHLY_ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 연/월/업체/품목유형별 집계를 목록으로 모으지 않고 한 행씩 전달한다 (연, 월, 업체 순).
+     *
+     * @param from      시작일
+     * @param to        종료일
+     * @param companyId 업체 ID 필터 (nullable)
+     * @param itemType  품목 유형 필터 (nullable)
+     * @param consumer  행 처리기
+     */
+    public void streamMonthly(LocalDate from, LocalDate to, Long companyId, String itemType,
+                              Consumer<MonthlyRow> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = monthlySql(periodWhere(from, to, companyId, itemType, args));
+        JdbcStreamUtil.stream(jdbcTemplate, sql, args, STREAM_FETCH_SIZE, MONTHLY_ROW_MAPPER, consumer);
+    }
+
+    /**
+     * 업체별 완료 건수와 순중량 합계를 조회한다 (건수 내림차순).
+     *
+     * @param from 시작일
+     * @param to   종료일
+     * @return 업체별 집계 목록
+     */
+    public List<CompanyRow> sumByCompany(LocalDate from, LocalDate to) {
+        List<Object> args = new ArrayList<>();
+        String where = periodWhere(from, to, null, null, args);
+        String sql = "SELECT company_id, SUM(completed_count), " + NET_GRAMS_SUM + " " +
+                "FROM tb_weighing_daily_agg" + where +
+                " GROUP BY company_id HAVING SUM(completed_count) > 0" +
+                " ORDER BY SUM(completed_count) DESC";
+        return jdbcTemplate.query(sql, (rs, i) -> new CompanyRow(
+                rs.getLong(1),
+                rs.getLong(2),
+                Weight.ofGrams(rs.getLong(3))), args.toArray());
+    }
+
+    /**
+     * 일자별 완료 건수와 순중량 합계를 조회한다 (일자 순).
+     *
+     * @param from 시작일
+     * @param to   종료일
+     * @return 일자별 집계 목록
+     */
+    public List<DateRow> sumByDate(LocalDate from, LocalDate to) {
+        List<Object> args = new ArrayList<>();
+        String where = periodWhere(from, to, null, null, args);
+        String sql = "SELECT agg_date, SUM(completed_count), " + NET_GRAMS_SUM + " " +
+                "FROM tb_weighing_daily_agg" + where +
+                " GROUP BY agg_date HAVING SUM(completed_count) > 0 ORDER BY agg_date";
+        return jdbcTemplate.query(sql, (rs, i) -> new DateRow(
+                rs.getObject(1, LocalDate.class),
+                rs.getLong(2),
+                Weight.ofGrams(rs.getLong(3))), args.toArray());
+    }
+
+    /**
+     * 기간 내 전체 완료 건수와 순중량 합계를 조회한다.
+     *
+     * @param from 시작일
+     * @param to   종료일
+     * @return 기간 합계 (데이터가 없으면 0건, 0kg)
+     */
+    public Totals sumTotal(LocalDate from, LocalDate to) {
+        List<Object> args = new ArrayList<>();
+        String where = periodWhere(from, to, null, null, args);
+        String sql = "SELECT COALESCE(SUM(completed_count), 0), COALESCE(" + NET_GRAMS_SUM + ", 0) " +
+                "FROM tb_weighing_daily_agg" + where;
+        return jdbcTemplate.queryForObject(sql, (rs, i) -> new Totals(
+                rs.getLong(1),
+                Weight.ofGrams(rs.getLong(2))), args.toArray());
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private static String dailySql(String where) {
+        return "SELECT agg_date, company_id, item_type, SUM(completed_count), " + NET_GRAMS_SUM + " " +
+                "FROM tb_weighing_daily_agg" + where +
+                " GROUP BY agg_date, company_id, item_type HAVING SUM(completed_count) > 0" +
+                " ORDER BY agg_date, company_id";
+    }
+
+    private static String monthlySql(String where) {
+        return "SELECT EXTRACT(YEAR FROM agg_date) AS y, EXTRACT(MONTH FROM agg_date) AS m, " +
+                "company_id, item_type, SUM(completed_count), " + NET_GRAMS_SUM + " " +
+                "FROM tb_weighing_daily_agg" + where +
+                " GROUP BY EXTRACT(YEAR FROM agg_date), EXTRACT(MONTH FROM agg_date), company_id, item_type" +
+                " HAVING SUM(completed_count) > 0" +
+                " ORDER BY y, m, company_id";
+    }
+
+    /** 기간 및 선택 필터 WHERE 절을 생성한다. 지정된 필터에 대해서만 조건을 추가한다. */
+    private String periodWhere(LocalDate from, LocalDate to, Long companyId, String itemType, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE agg_date >= ? AND agg_date <= ?");
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+        if (companyId != null) {
+            where.append(" AND company_id = ?");
+            args.add(companyId);
+        }
+        if (itemType != null) {
+            where.append(" AND item_type = ?");
+            args.add(itemType);
+        }
+        return where.toString();
+    }
+
+    /** 일자/업체/품목유형별 집계 행 */
+    public record DailyRow(LocalDate date, Long companyId, String itemType, long count, Weight netWeight) {}
+
+    /** 연/월/업체/품목유형별 집계 행 */
+    public record MonthlyRow(int year, int month, Long companyId, String itemType, long count, Weight netWeight) {}
+
+    /** 업체별 집계 행 */
+    public record CompanyRow(Long companyId, long count, Weight netWeight) {}
+
+    /** 일자별 집계 행 */
+    public record DateRow(LocalDate date, long count, Weight netWeight) {}
+
+    /** 기간 합계 */
+    public record Totals(long count, Weight netWeight) {}
+}
@@ -0,0 +1,142 @@
+package com.dongkuk.weighing.weighing.domain;
+
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.global.common.util.JdbcStreamUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계량 기록 JDBC 저장소
+ *
+ * <p>대량 INSERT가 필요한 경로에서 JPA를 우회하여 JDBC 배치로 계량 기록을 저장한다.
+ * {@link WeighingRecord}는 IDENTITY 전략을 사용하므로 Hibernate의 INSERT 배치가
+ * 비활성화되는데, 이 저장소는 {@code addBatch/executeBatch}와 생성 키 반환을
+ * 직접 사용하여 한 번의 왕복으로 여러 건을 저장하고 발급된 ID를 돌려받는다.</p>
+ *
+ * <p>영속성 컨텍스트를 거치지 않으므로 저장된 엔티티는 관리 상태가 아니며,
+ * 생성일시/수정일시와 초기 상태는 호출 측에서 전달한 값으로 기록된다.</p>
+ *
+ * <p>대량 조회(내보내기)도 엔티티를 거치지 않고 JDBC 커서로 한 행씩 전달한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingRecord
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeighingJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tb_weighing (dispatch_id, scale_id, weighing_mode, weighing_step, " +
+            "gross_weight, stream_stable, stream_mean_weight, stream_std_dev, stream_weight_range, stream_sample_count, " +
+            "lpr_plate_number, ai_confidence, weighing_status, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    /** 스트리밍 조회 컬럼 (순서 고정, 중량은 그램 단위 BIGINT) */
+    public static final String STREAM_COLUMNS =
+            "weighing_id, dispatch_id, scale_id, weighing_mode, weighing_step, " +
+            "CAST(ROUND(gross_weight * 1000) AS BIGINT), CAST(ROUND(tare_weight * 1000) AS BIGINT), " +
+            "CAST(ROUND(net_weight * 1000) AS BIGINT), lpr_plate_number, ai_confidence, weighing_status, " +
+            "re_weigh_reason, created_at, updated_at";
+
+    /** 스트리밍 조회 시 한 번에 가져올 행 수 */
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 계량 기록 목록을 단일 JDBC 배치로 저장한다.
+     *
+     * <p>입력 순서대로 INSERT되며, 반환되는 ID 목록도 입력 순서와 동일하다.
+     * 호출 측 트랜잭션에 참여하므로 배치 중 하나라도 실패하면 전체가 롤백된다.</p>
+     *
+     * @param records   저장할 계량 기록 (미영속 상태)
+     * @param createdAt 생성일시/수정일시로 기록할 시각
+     * @return 발급된 계량 기록 ID 목록 (입력 순서)
+     */
+    public List<Long> batchInsert(List<WeighingRecord> records, LocalDateTime createdAt) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[]{"weighing_id"})) {
+                for (WeighingRecord record : records) {
+                    ps.setLong(1, record.getDispatchId());
+                    ps.setLong(2, record.getScaleId());
+                    ps.setString(3, record.getWeighingMode().name());
+                    ps.setString(4, record.getWeighingStep().name());
+                    ps.setBigDecimal(5, kg(record.getGrossWeight()));
+                    ps.setObject(6, record.getStreamStable(), Types.BOOLEAN);
+                    ps.setBigDecimal(7, kg(record.getStreamMeanWeight()));
+                    ps.setBigDecimal(8, kg(record.getStreamStdDev()));
+                    ps.setBigDecimal(9, kg(record.getStreamWeightRange()));
+                    ps.setObject(10, record.getStreamSampleCount(), Types.INTEGER);
+                    if (record.getLprPlateNumber() != null) {
+                        ps.setString(11, record.getLprPlateNumber());
+                    } else {
+                        ps.setNull(11, Types.VARCHAR);
+                    }
+                    ps.setBigDecimal(12, record.getAiConfidence());
+                    ps.setString(13, record.getWeighingStatus().name());
+                    ps.setObject(14, createdAt);
+                    ps.setObject(15, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // 생성 키는 INSERT 순서대로 반환된다
+                List<Long> ids = new ArrayList<>(records.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != records.size()) {
+                    throw new IncorrectResultSizeDataAccessException(records.size(), ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 검색 조건에 맞는 계량 기록을 생성일시 역순으로 한 행씩 전달한다.
+     *
+     * <p>전방 전용(forward-only) 커서와 fetch size로 읽으므로 결과 건수와 무관하게
+     * 메모리 사용량이 일정하다. PostgreSQL 드라이버는 autocommit이 해제된 경우에만
+     * 커서 방식으로 읽으므로 호출 측은 읽기 전용 트랜잭션 안에서 호출해야 한다.
+     * 행의 컬럼 순서는 {@link #STREAM_COLUMNS}를 따른다.</p>
+     *
+     * @param dateFrom       생성일시 하한 (nullable)
+     * @param dateTo         생성일시 상한 (nullable)
+     * @param weighingMode   계량 모드 (nullable)
+     * @param status         계량 상태 (nullable)
+     * @param lprPlateNumber 차량번호 부분 일치 검색어 (nullable)
+     * @param mapper         행 변환기
+     * @param consumer       행 처리기
+     * @param <T>            변환 결과 타입
+     */
+    public <T> void streamSearch(LocalDateTime dateFrom, LocalDateTime dateTo, WeighingMode weighingMode,
+                                 WeighingStatus status, String lprPlateNumber,
+                                 RowMapper<T> mapper, Consumer<T> consumer) {
+        SqlFilter filter = WeighingSpecifications.searchSql(dateFrom, dateTo, weighingMode, status, lprPlateNumber);
+        String sql = "SELECT " + STREAM_COLUMNS + " FROM tb_weighing" + filter.toSql()
+                + " ORDER BY created_at DESC, weighing_id DESC";
+        JdbcStreamUtil.stream(jdbcTemplate, sql, filter.args(), STREAM_FETCH_SIZE, mapper, consumer);
+    }
+
+    private static BigDecimal kg(Weight weight) {
+        return weight != null ? weight.toBigDecimalKg() : null;
+    }
+}
@@ -3,6 +3,7 @@ package com.dongkuk.weighing.weighing.domain;
 import com.dongkuk.weighing.global.audit.BaseEntity;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -27,7 +28,8 @@ import java.math.BigDecimal;
 @Table(name = "tb_weighing", indexes = {
         @Index(name = "idx_weighing_dispatch", columnList = "dispatch_id"),
         @Index(name = "idx_weighing_scale", columnList = "scale_id"),
-        @Index(name = "idx_weighing_status", columnList = "weighing_status")
+        @Index(name = "idx_weighing_status", columnList = "weighing_status"),
+        @Index(name = "idx_weighing_created_id", columnList = "created_at, weighing_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -65,15 +67,37 @@ public class WeighingRecord extends BaseEntity {
 
     /** 총중량 (차량 + 적재물, 단위: kg) */
     @Column(name = "gross_weight", precision = 10, scale = 2)
-    private BigDecimal grossWeight;
+    private Weight grossWeight;
 
     /** 공차중량 (빈 차량 무게, 단위: kg) */
     @Column(name = "tare_weight", precision = 10, scale = 2)
-    private BigDecimal tareWeight;
+    private Weight tareWeight;
 
     /** 순중량 (적재물 무게 = 총중량 - 공차중량, 단위: kg) */
     @Column(name = "net_weight", precision = 10, scale = 2)
-    private BigDecimal netWeight;
+    private Weight netWeight;
+
+    // ─── 서버 측 안정 판정 (중량 스트림 수신 시에만 기록) ───
+
+    /** 계량 등록 시점의 서버 측 안정 판정 결과 */
+    @Column(name = "stream_stable")
+    private Boolean streamStable;
+
+    /** 판정 구간 평균 중량 (단위: kg) */
+    @Column(name = "stream_mean_weight", precision = 12, scale = 3)
+    private Weight streamMeanWeight;
+
+    /** 판정 구간 표준편차 (단위: kg) */
+    @Column(name = "stream_std_dev", precision = 10, scale = 3)
+    private Weight streamStdDev;
+
+    /** 판정 구간 범위 (최대 - 최소, 단위: kg) */
+    @Column(name = "stream_weight_range", precision = 10, scale = 3)
+    private Weight streamWeightRange;
+
+    /** 판정 구간 샘플 수 */
+    @Column(name = "stream_sample_count")
+    private Integer streamSampleCount;
 
     // ─── LPR 차량번호인식 정보 ───
 
@@ -96,6 +120,14 @@ public class WeighingRecord extends BaseEntity {
     @Column(name = "re_weigh_reason", length = 255)
     private String reWeighReason;
 
+    /**
+     * 변경 버전 (낙관적 잠금).
+     * 커밋 이후 처리되는 변경 스냅샷의 선후를 판단하는 데도 사용한다. 기존 행은 0으로 채워진다.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     /**
      * 계량 기록 생성자
      *
@@ -111,7 +143,7 @@ public class WeighingRecord extends BaseEntity {
      */
     @Builder
     public WeighingRecord(Long dispatchId, Long scaleId, WeighingMode weighingMode,
-                          WeighingStep weighingStep, BigDecimal grossWeight,
+                          WeighingStep weighingStep, Weight grossWeight,
                           String lprPlateNumber, BigDecimal aiConfidence) {
         this.dispatchId = dispatchId;
         this.scaleId = scaleId;
@@ -133,7 +165,7 @@ public class WeighingRecord extends BaseEntity {
      * @param tareWeight 공차중량 (빈 차량 무게, 단위: kg)
      * @throws BusinessException 완료된 계량은 수정 불가 (데이터 무결성 보호)
      */
-    public void recordTareWeight(BigDecimal tareWeight) {
+    public void recordTareWeight(Weight tareWeight) {
         // 완료된 계량은 수정 불가 (데이터 무결성 보호)
         if (this.weighingStatus == WeighingStatus.COMPLETED) {
             throw new BusinessException(ErrorCode.WEIGHING_003);
@@ -141,6 +173,27 @@ public class WeighingRecord extends BaseEntity {
         this.tareWeight = tareWeight;
     }
 
+    /**
+     * 서버 측 안정 판정 결과를 기록한다.
+     *
+     * <p>계량대 PC가 제출한 총중량이 실제로 안정된 상태에서 측정되었는지 사후 확인할 수 있도록,
+     * 계량 등록 시점의 실시간 중량 스트림 판정 구간 통계를 함께 보관한다.</p>
+     *
+     * @param stable      안정 판정 결과
+     * @param meanWeight  구간 평균 중량 (kg)
+     * @param stdDev      구간 표준편차 (kg)
+     * @param weightRange 구간 범위 (kg)
+     * @param sampleCount 구간 샘플 수
+     */
+    public void attachStreamStability(boolean stable, Weight meanWeight, Weight stdDev,
+                                      Weight weightRange, int sampleCount) {
+        this.streamStable = stable;
+        this.streamMeanWeight = meanWeight;
+        this.streamStdDev = stdDev;
+        this.streamWeightRange = weightRange;
+        this.streamSampleCount = sampleCount;
+    }
+
     /**
      * 계량을 완료 처리한다.
      *
@@ -157,9 +210,9 @@ public class WeighingRecord extends BaseEntity {
         // 총중량과 공차중량이 모두 존재할 때 순중량 자동 계산
         if (this.grossWeight != null && this.tareWeight != null) {
             // 순중량 = 총중량 - 공차중량
-            this.netWeight = this.grossWeight.subtract(this.tareWeight);
+            this.netWeight = this.grossWeight.minus(this.tareWeight);
             // 순중량이 음수이면 측정 오류 (물리적으로 불가능)
-            if (this.netWeight.compareTo(BigDecimal.ZERO) < 0) {
+            if (this.netWeight.isNegative()) {
                 throw new BusinessException(ErrorCode.WEIGHING_002);
             }
         }
@@ -1,8 +1,7 @@
 package com.dongkuk.weighing.weighing.domain;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,38 +17,29 @@ import java.util.List;
  * <p>주요 기능:</p>
  * <ul>
  *   <li>배차 ID 기반 계량 기록 조회</li>
- *   <li>다중 조건 동적 검색 (기간, 계량 모드, 상태, 차량번호)</li>
- *   <li>기간별 통계 집계 (건수, 순중량 합계)</li>
- *   <li>계량 모드별, 품목별, 업체별 그룹 통계</li>
- *   <li>일별/월별 상세 통계 리포트</li>
+ *   <li>다중 조건 동적 검색 ({@link WeighingSpecifications} 조합)</li>
+ *   <li>기간별 상태 건수 집계</li>
+ *   <li>품목 유형·계량 모드별 건수 단일 스캔 집계 (조건부 집계)</li>
  * </ul>
  *
+ * <p>{@code tb_weighing}은 PostgreSQL에서 생성일시 기준 월 파티션 테이블이다. 기간 조건
+ * ({@code createdAt >= :from AND createdAt <= :to})이 있는 집계 조회는 해당 월 파티션만 읽고,
+ * 배차 ID·상태 조회처럼 생성일시 조건이 없는 조회는 각 파티션의 인덱스를 차례로 탐색한다.</p>
+ *
  * @author 시스템
  * @since 1.0
  * @see WeighingRecord
  * @see WeighingMode
  * @see WeighingStatus
+ * @see WeighingDailyAggJdbcRepository 완료 계량의 일별/월별/업체별 통계
+ * @see com.dongkuk.weighing.global.partition.PartitionMaintenanceService
  */
-public interface WeighingRepository extends JpaRepository<WeighingRecord, Long> {
+public interface WeighingRepository extends JpaRepository<WeighingRecord, Long>,
+        JpaSpecificationExecutor<WeighingRecord> {
 
     /** 특정 배차 ID에 해당하는 모든 계량 기록을 조회합니다 */
     List<WeighingRecord> findByDispatchId(Long dispatchId);
 
-    /** 다중 조건으로 계량 기록을 페이징 검색합니다 (기간, 계량 모드, 상태, 차량번호 부분 일치) */
-    @Query("SELECT w FROM WeighingRecord w WHERE " +
-            "(:dateFrom IS NULL OR w.createdAt >= :dateFrom) AND " +
-            "(:dateTo IS NULL OR w.createdAt <= :dateTo) AND " +
-            "(:weighingMode IS NULL OR w.weighingMode = :weighingMode) AND " +
-            "(:status IS NULL OR w.weighingStatus = :status) AND " +
-            "(:lprPlateNumber IS NULL OR w.lprPlateNumber LIKE CONCAT('%', :lprPlateNumber, '%'))")
-    Page<WeighingRecord> findByConditions(
-            @Param("dateFrom") LocalDateTime dateFrom,
-            @Param("dateTo") LocalDateTime dateTo,
-            @Param("weighingMode") WeighingMode weighingMode,
-            @Param("status") WeighingStatus status,
-            @Param("lprPlateNumber") String lprPlateNumber,
-            Pageable pageable);
-
     /** 특정 상태 및 기간 내 계량 건수를 조회합니다 */
     @Query("SELECT COUNT(w) FROM WeighingRecord w WHERE w.weighingStatus = :status " +
             "AND w.createdAt >= :from AND w.createdAt <= :to")
@@ -58,74 +48,25 @@ public interface WeighingRepository extends JpaRepository<WeighingRecord, Long>
             @Param("from") LocalDateTime from,
             @Param("to") LocalDateTime to);
 
-    /** 특정 기간 내 전체 계량 건수를 조회합니다 */
-    @Query("SELECT COUNT(w) FROM WeighingRecord w WHERE w.createdAt >= :from AND w.createdAt <= :to")
-    long countByPeriod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 기간 내 완료된 계량의 순중량(NetWeight) 합계를 조회합니다 */
-    @Query("SELECT COALESCE(SUM(w.netWeight), 0) FROM WeighingRecord w " +
-            "WHERE w.weighingStatus = 'COMPLETED' AND w.createdAt >= :from AND w.createdAt <= :to")
-    java.math.BigDecimal sumNetWeightByPeriod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 기간 내 계량 모드(입고/출고 등)별 건수를 그룹 집계합니다 */
-    @Query("SELECT w.weighingMode, COUNT(w) FROM WeighingRecord w " +
-            "WHERE w.createdAt >= :from AND w.createdAt <= :to GROUP BY w.weighingMode")
-    List<Object[]> countGroupByWeighingMode(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 기간 내 품목 유형별 계량 건수를 배차 정보와 조인하여 그룹 집계합니다 */
-    @Query("SELECT d.itemType, COUNT(w) FROM WeighingRecord w " +
-            "JOIN com.dongkuk.weighing.dispatch.domain.Dispatch d ON w.dispatchId = d.dispatchId " +
-            "WHERE w.createdAt >= :from AND w.createdAt <= :to GROUP BY d.itemType")
-    List<Object[]> countGroupByItemType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 기간 내 완료된 계량의 일별 통계(건수, 순중량 합계)를 조회합니다 */
-    @Query("SELECT CAST(w.createdAt AS LocalDate), COUNT(w), COALESCE(SUM(w.netWeight), 0) " +
-            "FROM WeighingRecord w WHERE w.weighingStatus = 'COMPLETED' " +
-            "AND w.createdAt >= :from AND w.createdAt <= :to " +
-            "GROUP BY CAST(w.createdAt AS LocalDate) ORDER BY CAST(w.createdAt AS LocalDate)")
-    List<Object[]> findDailyStatistics(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 기간 내 완료된 계량의 업체별 건수 및 순중량 합계를 조회합니다 (건수 내림차순) */
-    @Query("SELECT d.companyId, COUNT(w), COALESCE(SUM(w.netWeight), 0) " +
-            "FROM WeighingRecord w " +
-            "JOIN com.dongkuk.weighing.dispatch.domain.Dispatch d ON w.dispatchId = d.dispatchId " +
-            "WHERE w.weighingStatus = 'COMPLETED' " +
-            "AND w.createdAt >= :from AND w.createdAt <= :to " +
-            "GROUP BY d.companyId ORDER BY COUNT(w) DESC")
-    List<Object[]> countGroupByCompany(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
-
-    /** 특정 상태의 계량 기록을 생성일시 역순으로 조회합니다 */
-    List<WeighingRecord> findByWeighingStatusOrderByCreatedAtDesc(WeighingStatus status);
-
-    /** 특정 기간 내 완료된 계량의 일별 상세 통계를 조회합니다 (업체/품목 필터 가능) */
-    @Query("SELECT CAST(w.createdAt AS LocalDate), d.companyId, d.itemType, COUNT(w), COALESCE(SUM(w.netWeight), 0) " +
+    /**
+     * 기간 내 계량 건수를 품목 유형·계량 모드 조합별로 한 번의 스캔으로 집계합니다.
+     * 각 행은 [품목 유형(배차 없으면 null), 계량 모드, 기간 건수, 금일 건수, 금일 진행 중 건수, 금일 완료 건수]입니다.
+     */
+    @Query("SELECT d.itemType, w.weighingMode, COUNT(w), " +
+            "SUM(CASE WHEN w.createdAt >= :todayStart THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN w.createdAt >= :todayStart AND w.weighingStatus = :inProgress THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN w.createdAt >= :todayStart AND w.weighingStatus = :completed THEN 1 ELSE 0 END) " +
             "FROM WeighingRecord w " +
-            "JOIN com.dongkuk.weighing.dispatch.domain.Dispatch d ON w.dispatchId = d.dispatchId " +
-            "WHERE w.weighingStatus = 'COMPLETED' " +
-            "AND w.createdAt >= :from AND w.createdAt <= :to " +
-            "AND (:companyId IS NULL OR d.companyId = :companyId) " +
-            "AND (:itemType IS NULL OR d.itemType = :itemType) " +
-            "GROUP BY CAST(w.createdAt AS LocalDate), d.companyId, d.itemType " +
-            "ORDER BY CAST(w.createdAt AS LocalDate), d.companyId")
-    List<Object[]> findDailyStatisticsDetailed(
+            "LEFT JOIN com.dongkuk.weighing.dispatch.domain.Dispatch d ON w.dispatchId = d.dispatchId " +
+            "WHERE w.createdAt >= :from AND w.createdAt <= :to " +
+            "GROUP BY d.itemType, w.weighingMode")
+    List<Object[]> summarizeByItemTypeAndMode(
             @Param("from") LocalDateTime from,
+            @Param("todayStart") LocalDateTime todayStart,
             @Param("to") LocalDateTime to,
-            @Param("companyId") Long companyId,
-            @Param("itemType") String itemType);
+            @Param("inProgress") WeighingStatus inProgress,
+            @Param("completed") WeighingStatus completed);
 
-    /** 특정 기간 내 완료된 계량의 월별 상세 통계를 조회합니다 (업체/품목 필터 가능) */
-    @Query("SELECT YEAR(w.createdAt), MONTH(w.createdAt), d.companyId, d.itemType, COUNT(w), COALESCE(SUM(w.netWeight), 0) " +
-            "FROM WeighingRecord w " +
-            "JOIN com.dongkuk.weighing.dispatch.domain.Dispatch d ON w.dispatchId = d.dispatchId " +
-            "WHERE w.weighingStatus = 'COMPLETED' " +
-            "AND w.createdAt >= :from AND w.createdAt <= :to " +
-            "AND (:companyId IS NULL OR d.companyId = :companyId) " +
-            "AND (:itemType IS NULL OR d.itemType = :itemType) " +
-            "GROUP BY YEAR(w.createdAt), MONTH(w.createdAt), d.companyId, d.itemType " +
-            "ORDER BY YEAR(w.createdAt), MONTH(w.createdAt), d.companyId")
-    List<Object[]> findMonthlyStatisticsDetailed(
-            @Param("from") LocalDateTime from,
-            @Param("to") LocalDateTime to,
-            @Param("companyId") Long companyId,
-            @Param("itemType") String itemType);
+    /** 특정 상태의 계량 기록을 생성일시 역순으로 조회합니다 */
+    List<WeighingRecord> findByWeighingStatusOrderByCreatedAtDesc(WeighingStatus status);
 }
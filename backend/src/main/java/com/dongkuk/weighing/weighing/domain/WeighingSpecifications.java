@@ -0,0 +1,80 @@
+package com.dongkuk.weighing.weighing.domain;
+
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchSpecifications;
+import com.dongkuk.weighing.global.common.search.SqlFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 기록 검색 조건
+ *
+ * 계량 기록 목록 검색에 사용하는 {@link Specification}을 조합한다.
+ * 값이 지정된 필터에 대해서만 조건이 생성된다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see SearchSpecifications
+ */
+public final class WeighingSpecifications {
+
+    /** 키셋 페이징 정렬 (생성일시 DESC, ID DESC) */
+    public static final Sort KEYSET_SORT = SearchSpecifications.keysetSort("createdAt", "weighingId");
+
+    /** 인스턴스 생성 방지 */
+    private WeighingSpecifications() {}
+
+    /**
+     * 다중 조건 검색 조건을 생성한다 (기간, 계량 모드, 상태, 차량번호 부분 일치).
+     *
+     * @param dateFrom       생성일시 하한 (nullable)
+     * @param dateTo         생성일시 상한 (nullable)
+     * @param weighingMode   계량 모드 (nullable)
+     * @param status         계량 상태 (nullable)
+     * @param lprPlateNumber 차량번호 검색어 (nullable)
+     * @return 검색 조건
+     */
+    public static Specification<WeighingRecord> search(LocalDateTime dateFrom, LocalDateTime dateTo,
+                                                       WeighingMode weighingMode, WeighingStatus status,
+                                                       String lprPlateNumber) {
+        return Specification.<WeighingRecord>where(SearchSpecifications.greaterThanOrEqualTo("createdAt", dateFrom))
+                .and(SearchSpecifications.lessThanOrEqualTo("createdAt", dateTo))
+                .and(SearchSpecifications.equalTo("weighingMode", weighingMode))
+                .and(SearchSpecifications.equalTo("weighingStatus", status))
+                .and(SearchSpecifications.contains("lprPlateNumber", lprPlateNumber));
+    }
+
+    /**
+     * {@link #search}와 같은 조건의 네이티브 SQL(tb_weighing) 조건을 생성한다.
+     * 근사 건수 추정과 JDBC 스트리밍 내보내기에서 사용한다.
+     *
+     * @param dateFrom       생성일시 하한 (nullable)
+     * @param dateTo         생성일시 상한 (nullable)
+     * @param weighingMode   계량 모드 (nullable)
+     * @param status         계량 상태 (nullable)
+     * @param lprPlateNumber 차량번호 검색어 (nullable)
+     * @return SQL 검색 조건
+     */
+    public static SqlFilter searchSql(LocalDateTime dateFrom, LocalDateTime dateTo,
+                                      WeighingMode weighingMode, WeighingStatus status,
+                                      String lprPlateNumber) {
+        return SqlFilter.where()
+                .greaterThanOrEqualTo("created_at", dateFrom)
+                .lessThanOrEqualTo("created_at", dateTo)
+                .equalTo("weighing_mode", weighingMode)
+                .equalTo("weighing_status", status)
+                .contains("lpr_plate_number", lprPlateNumber);
+    }
+
+    /**
+     * 키셋 커서 이후 행 조건을 생성한다.
+     *
+     * @param cursor 이전 페이지의 마지막 행 커서 (null이면 조건 없음)
+     * @return 키셋 조건 (커서가 없으면 null)
+     */
+    public static Specification<WeighingRecord> after(KeysetCursor cursor) {
+        return SearchSpecifications.keysetBefore("createdAt", "weighingId", cursor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dongkuk.weighing.weighing.dto;
+
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+
+/**
+ * 계량 기록 일괄 생성 항목별 결과 DTO
+ *
+ * 일괄 요청 내 각 항목의 저장 성공 여부를 요청 순서(index) 기준으로 담는 객체입니다.
+ *
+ * @param index 요청 목록 내 항목 위치 (0부터 시작)
+ * @param success 저장 성공 여부
+ * @param weighingId 발급된 계량 기록 ID (성공 시)
+ * @param errorCode 실패 사유 코드 (실패 시)
+ * @param errorMessage 실패 상세 메시지 (실패 시)
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingBatchItemResult(
+    int index,
+    boolean success,
+    Long weighingId,
+    String errorCode,
+    String errorMessage
+) {
+    public static WeighingBatchItemResult success(int index, Long weighingId) {
+        return new WeighingBatchItemResult(index, true, weighingId, null, null);
+    }
+
+    public static WeighingBatchItemResult failure(int index, ErrorCode errorCode, String errorMessage) {
+        return new WeighingBatchItemResult(index, false, null, errorCode.name(), errorMessage);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dongkuk.weighing.weighing.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 계량 기록 일괄 생성 요청 DTO
+ *
+ * 계량대 PC가 네트워크 단절 중 로컬 캐시에 적재한 계량 기록을
+ * 복구 후 한 번에 재전송할 때 사용하는 요청 객체입니다.
+ * 각 항목의 검증은 항목 단위로 수행되어 결과가 개별 보고됩니다.
+ *
+ * @param records 계량 기록 생성 요청 목록 (전송 순서대로 저장, 1~1000건)
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingCreateRequest
+ */
+public record WeighingBatchRequest(
+    @NotEmpty @Size(max = 1000)
+    List<WeighingCreateRequest> records
+) {}
@@ -0,0 +1,25 @@
+package com.dongkuk.weighing.weighing.dto;
+
+import java.util.List;
+
+/**
+ * 계량 기록 일괄 생성 응답 DTO
+ *
+ * 일괄 요청 전체의 처리 건수와 항목별 결과를 담는 응답 객체입니다.
+ * 일부 항목이 실패해도 나머지 항목은 저장되며, 실패 항목은 결과 목록에서 확인할 수 있습니다.
+ *
+ * @param totalCount 요청 항목 수
+ * @param successCount 저장 성공 건수
+ * @param failureCount 저장 실패 건수
+ * @param results 항목별 처리 결과 (요청 순서)
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingBatchItemResult
+ */
+public record WeighingBatchResponse(
+    int totalCount,
+    int successCount,
+    int failureCount,
+    List<WeighingBatchItemResult> results
+) {}
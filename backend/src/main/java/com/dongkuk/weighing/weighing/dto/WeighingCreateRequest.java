@@ -1,8 +1,9 @@
 package com.dongkuk.weighing.weighing.dto;
 
+import com.dongkuk.weighing.global.common.weight.MinWeight;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import com.dongkuk.weighing.weighing.domain.WeighingMode;
 import com.dongkuk.weighing.weighing.domain.WeighingStep;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
@@ -37,8 +38,8 @@ public record WeighingCreateRequest(
     @NotNull
     WeighingStep weighingStep,
 
-    @NotNull @DecimalMin(value = "0.01")
-    BigDecimal weightValue,
+    @NotNull @MinWeight("0.01")
+    Weight weightValue,
 
     String lprPlateNumber,
 
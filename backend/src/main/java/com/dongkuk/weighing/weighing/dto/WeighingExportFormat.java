@@ -0,0 +1,40 @@
+package com.dongkuk.weighing.weighing.dto;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계량 목록 내보내기 형식
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WeighingExportFormat {
+    /** RFC 4180 CSV (UTF-8, 헤더 행 포함) */
+    CSV("csv", "text/csv;charset=UTF-8"),
+    /** 줄 단위 JSON (행마다 JSON 객체 1개) */
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    /**
+     * 요청 파라미터 값(대소문자 무관)을 내보내기 형식으로 변환한다.
+     *
+     * @param value 형식 이름 (csv, ndjson)
+     * @return 내보내기 형식
+     * @throws BusinessException 지원하지 않는 형식인 경우 (VALIDATION_ERROR)
+     */
+    public static WeighingExportFormat from(String value) {
+        for (WeighingExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.VALIDATION_ERROR, "format: csv 또는 ndjson이어야 합니다");
+    }
+}
@@ -1,5 +1,6 @@
 package com.dongkuk.weighing.weighing.dto;
 
+import com.dongkuk.weighing.global.common.weight.Weight;
 import com.dongkuk.weighing.weighing.domain.WeighingRecord;
 
 import java.math.BigDecimal;
@@ -35,15 +36,16 @@ public record WeighingResponse(
     Long scaleId,
     String weighingMode,
     String weighingStep,
-    BigDecimal grossWeight,
-    BigDecimal tareWeight,
-    BigDecimal netWeight,
+    Weight grossWeight,
+    Weight tareWeight,
+    Weight netWeight,
     String lprPlateNumber,
     BigDecimal aiConfidence,
     String weighingStatus,
     String reWeighReason,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    Long version
 ) {
     public static WeighingResponse from(WeighingRecord record) {
         return new WeighingResponse(
@@ -60,7 +62,8 @@ public record WeighingResponse(
             record.getWeighingStatus().name(),
             record.getReWeighReason(),
             record.getCreatedAt(),
-            record.getUpdatedAt()
+            record.getUpdatedAt(),
+            record.getVersion()
         );
     }
 }
@@ -10,11 +10,11 @@ import java.util.Map;
  * 금일/월간 통계, 품목별/계량모드별 분류, 일별 추이 데이터를 포함합니다.
  *
  * @param todayTotalCount 금일 총 계량 건수
- * @param todayCompletedCount 금일 완료된 계량 건수
+ * @param todayCompletedCount 금일 생성되어 완료 상태인 계량 건수 (배차 미연결 계량 포함)
  * @param todayInProgressCount 금일 진행 중인 계량 건수
- * @param todayTotalNetWeightTon 금일 총 순중량 (톤 단위)
+ * @param todayTotalNetWeightTon 금일 완료된 계량의 총 순중량 (톤 단위, 일별 집계 롤업 기준으로 배차 연결 계량만 포함)
  * @param monthTotalCount 이번 달 총 계량 건수
- * @param monthTotalNetWeightTon 이번 달 총 순중량 (톤 단위)
+ * @param monthTotalNetWeightTon 이번 달 완료된 계량의 총 순중량 (톤 단위, 일별 집계 롤업 기준)
  * @param countByItemType 품목 유형별 계량 건수 (key: 품목 유형명, value: 건수)
  * @param countByWeighingMode 계량 모드별 건수 (key: 계량 모드명, value: 건수)
  * @param dailyStatistics 일별 계량 통계 목록
@@ -1,10 +1,9 @@
 package com.dongkuk.weighing.weighing.dto;
 
-import jakarta.validation.constraints.DecimalMin;
+import com.dongkuk.weighing.global.common.weight.MinWeight;
+import com.dongkuk.weighing.global.common.weight.Weight;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
-
 /**
  * 공차중량 입력 요청 DTO
  *
@@ -17,6 +16,6 @@ import java.math.BigDecimal;
  * @since 1.0
  */
 public record WeighingTareRequest(
-    @NotNull @DecimalMin(value = "0.01")
-    BigDecimal tareWeight
+    @NotNull @MinWeight("0.01")
+    Weight tareWeight
 ) {}
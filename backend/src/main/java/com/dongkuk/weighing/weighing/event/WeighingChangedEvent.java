@@ -0,0 +1,19 @@
+package com.dongkuk.weighing.weighing.event;
+
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+
+/**
+ * 계량 기록 변경 이벤트
+ *
+ * 계량 기록이 생성되거나 상태/중량이 변경될 때 발행되는 애플리케이션 이벤트이다.
+ * 변경 직후의 계량 기록 스냅샷을 담으며, 트랜잭션 커밋 이후에 처리되어야 하는
+ * 부가 작업(진행 중 계량 레지스트리 갱신 등)의 트리거로 사용된다.
+ *
+ * @param weighing 변경 직후의 계량 기록 스냅샷
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingChangedEvent(
+        WeighingResponse weighing
+) {
+}
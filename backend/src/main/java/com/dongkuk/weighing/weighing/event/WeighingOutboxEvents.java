@@ -0,0 +1,25 @@
+package com.dongkuk.weighing.weighing.event;
+
+/**
+ * 계량 아웃박스 이벤트 유형
+ *
+ * 계량 완료 시 아웃박스에 기록하는 후속 처리 유형이다.
+ * 모든 이벤트의 본문은 완료 시점의 {@link com.dongkuk.weighing.weighing.dto.WeighingResponse} 스냅샷이다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class WeighingOutboxEvents {
+
+    /** 전자계량표 생성 */
+    public static final String COMPLETED_SLIP = "weighing.completed.slip";
+
+    /** 계량 완료 WebSocket 전파 */
+    public static final String COMPLETED_BROADCAST = "weighing.completed.broadcast";
+
+    /** 배차 등록자에게 계량 완료 알림 */
+    public static final String COMPLETED_NOTIFICATION = "weighing.completed.notification";
+
+    private WeighingOutboxEvents() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.dongkuk.weighing.weighing.event;
+
+import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
+
+/**
+ * 계량 업데이트 전파 이벤트
+ *
+ * 계량 기록이 생성되거나 재계량될 때 WebSocket으로 전파할 메시지를 담아 발행되는 애플리케이션 이벤트이다.
+ * 트랜잭션 커밋 이후에만 계량대별 병합 버퍼에 적재되므로 롤백된 변경은 클라이언트에 전송되지 않는다.
+ *
+ * @param scaleId 계량대 ID (병합 버퍼 구분 기준)
+ * @param message 전파할 계량 업데이트 메시지
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.websocket.service.WeighingUpdateCoalescer
+ */
+public record WeighingUpdatedEvent(
+        Long scaleId,
+        WeighingUpdateMessage message
+) {
+}
@@ -0,0 +1,26 @@
+package com.dongkuk.weighing.weighing.event;
+
+/**
+ * 계량 중량 기록 이벤트
+ *
+ * 계량 기록에 총중량 또는 공차중량이 기록될 때 발행되는 애플리케이션 이벤트이다.
+ * 트랜잭션 커밋 이후 해당 계량대의 원시 중량 트레이스 저장 등의 트리거로 사용된다.
+ *
+ * @param weighingId 계량 기록 ID
+ * @param scaleId    계량대 ID
+ * @param weightType 기록된 중량 유형 ({@code GROSS}: 총중량, {@code TARE}: 공차중량)
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeighingWeightRecordedEvent(
+        Long weighingId,
+        Long scaleId,
+        String weightType
+) {
+
+    /** 총중량 */
+    public static final String GROSS = "GROSS";
+
+    /** 공차중량 */
+    public static final String TARE = "TARE";
+}
@@ -0,0 +1,227 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingStatus;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingChangedEvent;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중 계량 레지스트리
+ *
+ * <p>계량대(scaleId)별로 진행 중(IN_PROGRESS) 계량 기록의 스냅샷을 메모리에 보관한다.
+ * 대시보드와 계량대 PC가 주기적으로 폴링하는 진행 중 계량 조회를
+ * DB 조회 없이 메모리에서 바로 응답하기 위해 사용된다.</p>
+ *
+ * <p>갱신 규칙:
+ * <ul>
+ *   <li>애플리케이션 기동 완료 시와 주기적으로({@code weighing.in-progress.resync-cron}) DB의 진행 중 계량으로
+ *       레지스트리 전체를 교체한다. DB에서 진행 중이 아닌 항목은 제거된다.</li>
+ *   <li>{@link WeighingChangedEvent}를 트랜잭션 커밋 이후에 반영하므로
+ *       롤백된 변경은 레지스트리에 노출되지 않는다.</li>
+ *   <li>상태가 IN_PROGRESS이면 등록/갱신하고, 그 외 상태이면 제거한다.</li>
+ *   <li>커밋 이후 리스너는 커밋 순서대로 실행된다는 보장이 없으므로, 계량별로 마지막에 반영한 버전
+ *       ({@code WeighingRecord.version})보다 낮은 스냅샷은 무시한다. 제거된 계량의 버전도 일정 시간 보관하여
+ *       늦게 도착한 진행 중 스냅샷이 완료된 계량을 되살리지 않게 한다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>여러 인스턴스로 운영할 때는 커밋된 변경의 계량 ID를 {@link ClusterInvalidationRelay}로 다른 인스턴스에
+ * 알리고, 받은 인스턴스는 해당 계량을 DB에서 다시 읽어 같은 버전 규칙으로 반영한다. 유실된 알림은
+ * 주기적 재구성으로 보정된다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingService#getInProgressWeighings()
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InProgressWeighingRegistry {
+
+    /** 무효화 중계 인덱스 이름 */
+    static final String CACHE_NAME = "in-progress-weighing";
+
+    /** 제거된 계량의 버전 보관 시간 (늦게 도착한 과거 스냅샷 차단용) */
+    private static final long TOMBSTONE_TTL_MILLIS = 10 * 60 * 1000L;
+
+    /** 최신 생성순 정렬 기준 (생성일시 역순, 동일 시각은 ID 역순) */
+    private static final Comparator<WeighingResponse> LATEST_FIRST = Comparator
+            .comparing(WeighingResponse::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(WeighingResponse::weighingId, Comparator.reverseOrder());
+
+    private final WeighingRepository weighingRepository;
+    private final ClusterInvalidationRelay invalidationRelay;
+
+    /** 계량대 ID → (계량 ID → 계량 스냅샷) */
+    private final Map<Long, Map<Long, WeighingResponse>> byScale = new ConcurrentHashMap<>();
+
+    /** 계량 ID → 마지막으로 반영한 버전 (제거된 계량 포함, 이 객체의 잠금으로 보호) */
+    private final Map<Long, Applied> appliedVersions = new HashMap<>();
+
+    /** 다른 인스턴스의 계량 변경을 받도록 무효화 처리기를 등록한다. */
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationRelay.subscribe(CACHE_NAME, this::reload);
+    }
+
+    /**
+     * 전체 계량대의 진행 중 계량 목록을 최신순으로 반환한다.
+     *
+     * @return 진행 중 계량 스냅샷 목록
+     */
+    public List<WeighingResponse> findAll() {
+        return byScale.values().stream()
+                .flatMap(entries -> entries.values().stream())
+                .sorted(LATEST_FIRST)
+                .toList();
+    }
+
+    /**
+     * 특정 계량대의 진행 중 계량 목록을 최신순으로 반환한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 해당 계량대의 진행 중 계량 스냅샷 목록 (없으면 빈 목록)
+     */
+    public List<WeighingResponse> findByScaleId(Long scaleId) {
+        Map<Long, WeighingResponse> entries = byScale.get(scaleId);
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.values().stream()
+                .sorted(LATEST_FIRST)
+                .toList();
+    }
+
+    /**
+     * 계량 변경 이벤트를 커밋 이후에 반영하고 다른 인스턴스에 알린다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 반영한다.
+     *
+     * @param event 계량 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeighingChanged(WeighingChangedEvent event) {
+        apply(event.weighing());
+        invalidationRelay.publish(CACHE_NAME, event.weighing().weighingId());
+    }
+
+    /**
+     * DB의 진행 중 계량으로 레지스트리를 교체한다.
+     * 애플리케이션 기동 완료 시와 주기적으로 실행되며, 보관 시간이 지난 제거 버전도 정리한다.
+     *
+     * <p>조회와 교체를 이벤트 반영과 같은 잠금 안에서 수행하므로, 조회 이후 커밋된 변경은
+     * 교체가 끝난 뒤 버전 비교를 거쳐 반영된다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${weighing.in-progress.resync-cron:0 */5 * * * *}")
+    public synchronized void rebuild() {
+        List<WeighingResponse> inProgress = weighingRepository
+                .findByWeighingStatusOrderByCreatedAtDesc(WeighingStatus.IN_PROGRESS).stream()
+                .map(WeighingResponse::from)
+                .toList();
+        Map<Long, Long> scaleByInProgressId = new HashMap<>();
+        for (WeighingResponse weighing : inProgress) {
+            scaleByInProgressId.put(weighing.weighingId(), weighing.scaleId());
+        }
+
+        long now = System.currentTimeMillis();
+        appliedVersions.values().removeIf(applied -> !applied.inProgress()
+                && now - applied.appliedAt() > TOMBSTONE_TTL_MILLIS);
+        // 조회 중에도 빈 레지스트리가 보이지 않도록 전체를 비우지 않고, DB와 다른 항목만 제거한다
+        for (Map<Long, WeighingResponse> entries : byScale.values()) {
+            entries.values().removeIf(entry -> {
+                Long scaleId = scaleByInProgressId.get(entry.weighingId());
+                if (scaleId == null) {
+                    // DB에서 더 이상 진행 중이 아닌 항목(유실된 변경)은 제거된 계량으로 기록한다
+                    appliedVersions.put(entry.weighingId(), new Applied(versionOf(entry), entry.scaleId(), false, now));
+                    return true;
+                }
+                return !scaleId.equals(entry.scaleId());
+            });
+        }
+        for (WeighingResponse weighing : inProgress) {
+            // 조회 값이 커밋된 최신 상태이므로 이미 반영된 버전과 관계없이 교체한다
+            appliedVersions.remove(weighing.weighingId());
+            applyLocked(weighing);
+        }
+        log.info("진행 중 계량 레지스트리 재구성: count={}, scales={}", inProgress.size(), byScale.size());
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 계량을 DB에서 다시 읽어 반영한다.
+     *
+     * @param weighingId 변경된 계량 ID
+     */
+    void reload(Long weighingId) {
+        weighingRepository.findById(weighingId)
+                .map(WeighingResponse::from)
+                .ifPresent(this::apply);
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private synchronized void apply(WeighingResponse weighing) {
+        applyLocked(weighing);
+    }
+
+    /** 마지막으로 반영한 버전보다 오래된 스냅샷이 아니면 반영한다. 호출 측이 잠금을 보유해야 한다. */
+    private void applyLocked(WeighingResponse weighing) {
+        long version = versionOf(weighing);
+        boolean inProgress = WeighingStatus.IN_PROGRESS.name().equals(weighing.weighingStatus());
+        Applied previous = appliedVersions.get(weighing.weighingId());
+        if (previous != null && (version < previous.version()
+                || (version == previous.version() && inProgress && !previous.inProgress()))) {
+            log.debug("진행 중 계량 레지스트리 과거 스냅샷 무시: weighingId={}, version={}, applied={}",
+                    weighing.weighingId(), version, previous.version());
+            return;
+        }
+        if (previous != null && previous.scaleId() != null && !previous.scaleId().equals(weighing.scaleId())) {
+            removeEntry(previous.scaleId(), weighing.weighingId());
+        }
+        if (inProgress) {
+            byScale.computeIfAbsent(weighing.scaleId(), id -> new ConcurrentHashMap<>())
+                    .put(weighing.weighingId(), weighing);
+        } else {
+            removeEntry(weighing.scaleId(), weighing.weighingId());
+        }
+        appliedVersions.put(weighing.weighingId(),
+                new Applied(version, weighing.scaleId(), inProgress, System.currentTimeMillis()));
+    }
+
+    private void removeEntry(Long scaleId, Long weighingId) {
+        Map<Long, WeighingResponse> entries = byScale.get(scaleId);
+        if (entries != null) {
+            entries.remove(weighingId);
+        }
+    }
+
+    private static long versionOf(WeighingResponse weighing) {
+        return weighing.version() != null ? weighing.version() : 0L;
+    }
+
+    /**
+     * 계량별로 마지막에 반영한 스냅샷 정보
+     *
+     * @param version    반영한 버전
+     * @param scaleId    반영한 계량대 ID
+     * @param inProgress 반영 결과 진행 중 여부 (false면 제거된 계량)
+     * @param appliedAt  반영 시각 (epoch ms)
+     */
+    private record Applied(long version, Long scaleId, boolean inProgress, long appliedAt) {
+    }
+}
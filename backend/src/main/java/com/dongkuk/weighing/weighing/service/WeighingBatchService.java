@@ -0,0 +1,192 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.websocket.dto.WeighingBatchUpdateMessage;
+import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
+import com.dongkuk.weighing.websocket.service.WebSocketNotificationService;
+import com.dongkuk.weighing.weighing.config.WeighingProperties;
+import com.dongkuk.weighing.weighing.domain.WeighingJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchItemResult;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchRequest;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchResponse;
+import com.dongkuk.weighing.weighing.dto.WeighingCreateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계량 일괄 등록 서비스
+ *
+ * <p>계량대 PC의 오프라인 캐시 재전송처럼 다수의 계량 기록이 한 번에 들어오는 경우를
+ * 처리한다. 건별 {@link WeighingService#createWeighing} 호출과 달리, 항목을 청크 단위로
+ * 묶어 JDBC 배치로 저장한다. 저장된 항목은 같은 트랜잭션 안에서 다시 읽어
+ * {@link WeighingService#publishCreatedEvents}로 건별 등록과 동일한 후속 이벤트(중량 추적, 생애주기,
+ * 진행 중 계량 레지스트리)를 발행한다. WebSocket 알림은 건별 메시지 대신 마지막 청크가 커밋된 뒤
+ * 계량대별 병합 메시지 한 건으로 전송하므로, 요청 크기와 관계없이 계량대별 전송 버퍼를 거치지 않는다.</p>
+ *
+ * <p>처리 규칙:
+ * <ul>
+ *   <li>항목별로 Bean Validation을 수행하여 실패 항목은 저장 대상에서 제외한다.</li>
+ *   <li>청크마다 별도 트랜잭션으로 저장하며, 청크가 실패하면 해당 청크만 건별로 재시도하여
+ *       실패 항목을 식별한다.</li>
+ *   <li>저장 순서와 결과 순서는 요청 순서를 따른다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingJdbcRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeighingBatchService {
+
+    private final WeighingJdbcRepository weighingJdbcRepository;
+    private final WeighingRepository weighingRepository;
+    private final WeighingService weighingService;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final WeighingProperties weighingProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    /**
+     * 계량 기록을 일괄 생성한다.
+     *
+     * @param request 일괄 생성 요청 (계량 기록 생성 요청 목록)
+     * @return 전체 처리 건수와 항목별 결과
+     */
+    public WeighingBatchResponse createWeighings(WeighingBatchRequest request) {
+        List<WeighingCreateRequest> items = request.records();
+        WeighingBatchItemResult[] results = new WeighingBatchItemResult[items.size()];
+
+        // 항목별 검증 (실패 항목은 저장 대상에서 제외)
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            WeighingCreateRequest item = items.get(i);
+            if (item == null) {
+                results[i] = WeighingBatchItemResult.failure(i, ErrorCode.VALIDATION_ERROR, "빈 항목입니다");
+                continue;
+            }
+            Set<ConstraintViolation<WeighingCreateRequest>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                String detail = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .collect(Collectors.joining(", "));
+                results[i] = WeighingBatchItemResult.failure(i, ErrorCode.VALIDATION_ERROR, detail);
+                continue;
+            }
+            validIndexes.add(i);
+        }
+
+        // 청크 단위 JDBC 배치 저장
+        LocalDateTime now = LocalDateTime.now();
+        List<WeighingRecord> committed = new ArrayList<>(validIndexes.size());
+        int chunkSize = Math.max(1, weighingProperties.getBatch().getChunkSize());
+        for (int start = 0; start < validIndexes.size(); start += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(start, Math.min(start + chunkSize, validIndexes.size()));
+            insertChunk(items, chunk, now, results, committed);
+        }
+
+        int successCount = (int) Arrays.stream(results).filter(WeighingBatchItemResult::success).count();
+        log.info("계량 일괄 등록: total={}, success={}, failure={}",
+                items.size(), successCount, items.size() - successCount);
+
+        // 커밋된 항목을 계량대별로 한 번씩 WebSocket으로 병합 전파
+        notifyBatchUpdates(committed);
+
+        return new WeighingBatchResponse(items.size(), successCount, items.size() - successCount,
+                Arrays.asList(results));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 하나의 청크를 단일 트랜잭션으로 저장한다.
+     * 청크 저장이 실패하면 건별 트랜잭션으로 재시도하여 실패 항목만 골라낸다.
+     */
+    private void insertChunk(List<WeighingCreateRequest> items, List<Integer> chunk, LocalDateTime now,
+                             WeighingBatchItemResult[] results, List<WeighingRecord> committed) {
+        List<WeighingRecord> records = chunk.stream().map(i -> weighingService.newRecord(items.get(i))).toList();
+        try {
+            List<WeighingRecord> saved = transactionTemplate.execute(status -> insertAndPublish(records, now));
+            for (int k = 0; k < chunk.size(); k++) {
+                results[chunk.get(k)] = WeighingBatchItemResult.success(chunk.get(k), saved.get(k).getWeighingId());
+            }
+            committed.addAll(saved);
+        } catch (DataAccessException e) {
+            log.warn("계량 일괄 등록 청크 실패, 건별 재시도: size={}, error={}",
+                    chunk.size(), e.getMostSpecificCause().getMessage());
+            for (int k = 0; k < chunk.size(); k++) {
+                int index = chunk.get(k);
+                WeighingRecord record = records.get(k);
+                try {
+                    List<WeighingRecord> saved = transactionTemplate.execute(
+                            status -> insertAndPublish(List.of(record), now));
+                    results[index] = WeighingBatchItemResult.success(index, saved.get(0).getWeighingId());
+                    committed.add(saved.get(0));
+                } catch (DataAccessException ex) {
+                    results[index] = WeighingBatchItemResult.failure(
+                            index, ErrorCode.WEIGHING_005, ex.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 계량 기록을 JDBC 배치로 저장하고, 저장된 엔티티를 다시 읽어 항목마다 생성 후속 이벤트를 발행한다.
+     * 호출 측 트랜잭션 안에서 실행되므로 이벤트는 커밋된 경우에만 반영된다.
+     *
+     * @return 저장된 계량 기록 (입력 순서)
+     */
+    private List<WeighingRecord> insertAndPublish(List<WeighingRecord> records, LocalDateTime now) {
+        List<Long> ids = weighingJdbcRepository.batchInsert(records, now);
+        Map<Long, WeighingRecord> byId = weighingRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(WeighingRecord::getWeighingId, Function.identity()));
+        List<WeighingRecord> saved = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            WeighingRecord record = byId.get(id);
+            weighingService.publishCreatedEvents(record);
+            saved.add(record);
+        }
+        return saved;
+    }
+
+    /**
+     * 커밋된 계량 기록을 계량대별로 묶어 계량대마다 병합 메시지 한 건을 전송한다.
+     * 모든 청크가 커밋된 뒤 호출되므로 롤백된 항목은 포함되지 않는다.
+     */
+    private void notifyBatchUpdates(List<WeighingRecord> committed) {
+        Map<Long, List<WeighingUpdateMessage>> byScale = new LinkedHashMap<>();
+        for (WeighingRecord record : committed) {
+            byScale.computeIfAbsent(record.getScaleId(), id -> new ArrayList<>())
+                    .add(WeighingService.toUpdateMessage(record));
+        }
+        LocalDateTime timestamp = LocalDateTime.now();
+        byScale.forEach((scaleId, updates) -> {
+            try {
+                webSocketNotificationService.notifyWeighingBatchUpdate(
+                        new WeighingBatchUpdateMessage(scaleId, updates.size(), updates, timestamp));
+            } catch (RuntimeException e) {
+                log.warn("계량 일괄 업데이트 WebSocket 전송 실패: scaleId={}, count={}, error={}",
+                        scaleId, updates.size(), e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.service.OutboxEventHandler;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
+import com.dongkuk.weighing.websocket.service.WeighingUpdateCoalescer;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingOutboxEvents;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 완료 WebSocket 전파 처리기
+ *
+ * 계량 완료 아웃박스 이벤트를 받아 완료 시점의 계량 스냅샷을 WebSocket으로 전파한다.
+ * 생성/재계량 업데이트와 같은 계량대별 병합 버퍼를 거치므로, 같은 계량의 이전 업데이트가 아직 대기 중이면
+ * 완료 상태로 대체되어 전송 순서가 뒤바뀌지 않는다.
+ * 재시도 시 같은 메시지가 다시 전송될 수 있으며, 클라이언트는 계량 ID 기준으로 상태를 덮어쓴다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingOutboxEvents#COMPLETED_BROADCAST
+ */
+@Component
+@RequiredArgsConstructor
+public class WeighingBroadcastOutboxHandler implements OutboxEventHandler {
+
+    private final OutboxService outboxService;
+    private final WeighingUpdateCoalescer weighingUpdateCoalescer;
+
+    @Override
+    public String type() {
+        return WeighingOutboxEvents.COMPLETED_BROADCAST;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        WeighingResponse weighing = outboxService.readPayload(event, WeighingResponse.class);
+        weighingUpdateCoalescer.submit(weighing.scaleId(), new WeighingUpdateMessage(
+                weighing.weighingId(),
+                weighing.dispatchId(),
+                weighing.weighingStatus(),
+                weighing.weighingMode(),
+                weighing.grossWeight(),
+                weighing.tareWeight(),
+                weighing.netWeight(),
+                weighing.lprPlateNumber(),
+                LocalDateTime.now()
+        ));
+    }
+}
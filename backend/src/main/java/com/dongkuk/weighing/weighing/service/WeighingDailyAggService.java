@@ -0,0 +1,116 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.dispatch.domain.Dispatch;
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.global.partition.PartitionProperties;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * 계량 일별 집계 서비스
+ *
+ * <p>{@code tb_weighing_daily_agg} 롤업을 계량 상태 변경에 맞춰 증감하고,
+ * 백필/정합성 복구를 위한 재구성 기능을 제공한다.</p>
+ *
+ * <p>증감 메서드는 호출 측 트랜잭션에 참여하므로 계량 완료·재계량 처리와
+ * 집계 반영이 함께 커밋되거나 함께 롤백된다.</p>
+ *
+ * <p>재구성은 운영 테이블에 남아 있는 보존 기간({@code partitioning.retention-months}) 안쪽만 다시 계산한다.
+ * 보존 기간 이전 계량은 보관 스키마로 옮겨져 원천 데이터에 없으므로 그 기간의 집계 행은 지우지 않고 유지한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingDailyAggJdbcRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WeighingDailyAggService {
+
+    private final WeighingDailyAggJdbcRepository dailyAggRepository;
+    private final DispatchRepository dispatchRepository;
+    private final PartitionProperties partitionProperties;
+
+    /**
+     * 완료된 계량을 일별 집계에 반영한다 (+1건, +순중량).
+     *
+     * @param record 완료 처리된 계량 기록
+     */
+    public void applyCompletion(WeighingRecord record) {
+        apply(record, 1);
+    }
+
+    /**
+     * 완료 상태였던 계량이 재계량 등으로 무효화되면 일별 집계에서 차감한다 (-1건, -순중량).
+     *
+     * @param record 완료 상태에서 벗어난 계량 기록 (순중량은 완료 시점 값 유지)
+     */
+    public void revertCompletion(WeighingRecord record) {
+        apply(record, -1);
+    }
+
+    /**
+     * 기간 내 일별 집계를 원본 계량 기록으로부터 재구성한다.
+     *
+     * <p>시작일이 없거나 보존 기간 시작일보다 이르면 보존 기간 시작일부터 재구성한다.</p>
+     *
+     * @param from 시작일 (null이면 보존 기간 시작일, 보관하지 않으면 전체 기간의 시작부터)
+     * @param to   종료일 (null이면 전체 기간의 끝까지)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        LocalDate retentionStart = partitionProperties.retentionStart(YearMonth.now());
+        LocalDate effectiveFrom = from;
+        if (retentionStart != null && (from == null || from.isBefore(retentionStart))) {
+            if (from != null) {
+                log.warn("보존 기간 이전 집계는 원천 데이터가 보관되어 재구성하지 않음: from={}, retentionStart={}",
+                        from, retentionStart);
+            }
+            effectiveFrom = retentionStart;
+        }
+        if (effectiveFrom != null && to != null && to.isBefore(effectiveFrom)) {
+            log.info("계량 일별 집계 재구성 대상 기간 없음: from={}, to={}", effectiveFrom, to);
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        int rows = dailyAggRepository.rebuild(effectiveFrom, to);
+        log.info("계량 일별 집계 재구성: from={}, to={}, rows={}, elapsedMs={}",
+                effectiveFrom, to, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private void apply(WeighingRecord record, int sign) {
+        Optional<Dispatch> dispatch = dispatchRepository.findById(record.getDispatchId());
+        if (dispatch.isEmpty()) {
+            // 원본 통계 쿼리도 배차와 내부 조인하므로 배차 없는 계량은 집계 대상이 아니다
+            log.warn("배차 정보 없음, 일별 집계 생략: weighingId={}, dispatchId={}",
+                    record.getWeighingId(), record.getDispatchId());
+            return;
+        }
+        LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now();
+        Weight net = record.getNetWeight() != null ? record.getNetWeight() : Weight.ZERO;
+
+        dailyAggRepository.increment(
+                createdAt.toLocalDate(),
+                record.getScaleId(),
+                dispatch.get().getCompanyId(),
+                dispatch.get().getItemType().name(),
+                record.getWeighingMode().name(),
+                sign,
+                sign > 0 ? net : net.negate());
+    }
+}
@@ -0,0 +1,75 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.weighing.config.WeighingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 계량 일별 집계 기동 시 재구성기
+ *
+ * <p>애플리케이션 기동 완료 시 {@code tb_weighing_daily_agg} 롤업을 원천 계량 데이터로
+ * 재구성한다. 다음 중 하나에 해당하면 실행된다.
+ * <ul>
+ *   <li>{@code weighing.daily-agg.rebuild-on-startup=true} (전체 기간)</li>
+ *   <li>커맨드라인 옵션 {@code --rebuild-daily-agg} (전체 기간) 또는
+ *       {@code --rebuild-daily-agg=yyyy-MM-dd:yyyy-MM-dd} (지정 기간)</li>
+ * </ul>
+ * 롤업 도입 이전 데이터의 백필과 서비스를 거치지 않고 적재된 데이터(개발용 시드 등)의
+ * 반영에 사용한다. 전체 기간은 보존 기간 안쪽을 뜻하며, 보관된 월의 집계는 유지된다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingDailyAggService#rebuild(LocalDate, LocalDate)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeighingDailyAggStartupRebuilder {
+
+    /** 재구성 커맨드라인 옵션 이름 */
+    static final String REBUILD_OPTION = "rebuild-daily-agg";
+
+    private final WeighingDailyAggService weighingDailyAggService;
+    private final WeighingProperties weighingProperties;
+    private final ApplicationArguments applicationArguments;
+
+    /**
+     * 기동 완료 시 설정 또는 커맨드라인 옵션에 따라 롤업을 재구성한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (applicationArguments.containsOption(REBUILD_OPTION)) {
+            List<String> values = applicationArguments.getOptionValues(REBUILD_OPTION);
+            if (values == null || values.isEmpty() || values.get(0).isBlank()) {
+                weighingDailyAggService.rebuild(null, null);
+            } else {
+                rebuildRange(values.get(0));
+            }
+            return;
+        }
+        if (weighingProperties.getDailyAgg().isRebuildOnStartup()) {
+            weighingDailyAggService.rebuild(null, null);
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private void rebuildRange(String range) {
+        String[] parts = range.split(":", 2);
+        try {
+            LocalDate from = parts[0].isBlank() ? null : LocalDate.parse(parts[0].trim());
+            LocalDate to = parts.length < 2 || parts[1].isBlank() ? null : LocalDate.parse(parts[1].trim());
+            weighingDailyAggService.rebuild(from, to);
+        } catch (DateTimeParseException e) {
+            log.warn("계량 일별 집계 재구성 옵션 형식 오류 (yyyy-MM-dd:yyyy-MM-dd): value={}", range);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.export.service.ExportJobHandler;
+import com.dongkuk.weighing.export.service.ExportTask;
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.weighing.domain.WeighingMode;
+import com.dongkuk.weighing.weighing.domain.WeighingStatus;
+import com.dongkuk.weighing.weighing.dto.WeighingExportFormat;
+import com.dongkuk.weighing.weighing.dto.WeighingSearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * 계량 목록 내보내기 작업 처리기
+ *
+ * 비동기 내보내기 작업(type=weighings)으로 {@link WeighingExportService#export}를 실행한다.
+ * 파라미터는 {@code GET /api/v1/weighings/export}와 동일하다
+ * (format, date_from, date_to, weighing_mode, status, lpr_plate_number 모두 선택).
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class WeighingExportJobHandler implements ExportJobHandler {
+
+    private final WeighingExportService weighingExportService;
+
+    @Override
+    public String type() {
+        return "weighings";
+    }
+
+    @Override
+    public ExportTask prepare(Map<String, String> params) {
+        WeighingExportFormat format = WeighingExportFormat.from(params.getOrDefault("format", "csv"));
+        WeighingSearchCondition condition = new WeighingSearchCondition(
+                parseDate(params.get("date_from"), "date_from"),
+                parseDate(params.get("date_to"), "date_to"),
+                parseEnum(WeighingMode.class, params.get("weighing_mode"), "weighing_mode"),
+                parseEnum(WeighingStatus.class, params.get("status"), "status"),
+                params.get("lpr_plate_number"));
+
+        String fileName = String.format("weighings_%s.%s", LocalDate.now(), format.getExtension());
+        return new ExportTask(fileName, format.getContentType(), (out, progress) ->
+                weighingExportService.export(condition, format, out, progress));
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private LocalDate parseDate(String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, name + ": yyyy-MM-dd 형식이어야 합니다");
+        }
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, name + ": 유효하지 않은 값입니다");
+        }
+    }
+}
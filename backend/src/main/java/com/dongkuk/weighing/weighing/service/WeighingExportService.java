@@ -0,0 +1,181 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.export.service.ExportProgress;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.weighing.domain.WeighingJdbcRepository;
+import com.dongkuk.weighing.weighing.dto.WeighingExportFormat;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.dto.WeighingSearchCondition;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 계량 목록 내보내기 서비스
+ *
+ * <p>계량 기록 검색 결과를 CSV 또는 NDJSON으로 출력 스트림에 바로 기록한다.
+ * ERP 대사처럼 전체 결과가 필요한 경우 페이지마다 COUNT 쿼리를 수행하는 페이징 조회 대신 사용한다.</p>
+ *
+ * <p>JDBC 전방 전용 커서에서 한 행씩 읽어 즉시 기록하므로 결과가 수백만 건이어도
+ * 메모리 사용량이 일정하다. 정렬은 생성일시 역순이다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingJdbcRepository#streamSearch
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeighingExportService {
+
+    private static final String[] CSV_HEADERS = {
+            "weighing_id", "dispatch_id", "scale_id", "weighing_mode", "weighing_step",
+            "gross_weight", "tare_weight", "net_weight", "lpr_plate_number", "ai_confidence",
+            "weighing_status", "re_weigh_reason", "created_at", "updated_at"
+    };
+
+    /** 컬럼 순서는 {@link WeighingJdbcRepository#STREAM_COLUMNS}를 따른다. */
+    private static final RowMapper<WeighingResponse> ROW_MAPPER = (rs, i) -> new WeighingResponse(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getLong(3),
+            rs.getString(4),
+            rs.getString(5),
+            weight(rs, 6),
+            weight(rs, 7),
+            weight(rs, 8),
+            rs.getString(9),
+            rs.getBigDecimal(10),
+            rs.getString(11),
+            rs.getString(12),
+            toLocalDateTime(rs.getTimestamp(13)),
+            toLocalDateTime(rs.getTimestamp(14)),
+            null
+    );
+
+    private final WeighingJdbcRepository weighingJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 검색 조건에 맞는 계량 기록을 지정한 형식으로 기록한다.
+     *
+     * @param condition 검색 조건 (기간, 계량모드, 상태, 차량번호)
+     * @param format    내보내기 형식
+     * @param out       출력 스트림 (호출 측에서 닫는다)
+     * @param progress  기록한 행 수를 갱신할 진행률
+     */
+    public void export(WeighingSearchCondition condition, WeighingExportFormat format,
+                       OutputStream out, ExportProgress progress) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        // 줄 구분은 직접 기록하고, 생성기가 출력 스트림을 닫거나 행마다 flush하지 않도록 한다
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+
+        if (format == WeighingExportFormat.CSV) {
+            writeCsvRow(writer, CSV_HEADERS);
+        }
+
+        LocalDateTime dateFrom = condition.dateFrom() != null ? condition.dateFrom().atStartOfDay() : null;
+        LocalDateTime dateTo = condition.dateTo() != null ? condition.dateTo().atTime(LocalTime.MAX) : null;
+        try {
+            weighingJdbcRepository.streamSearch(dateFrom, dateTo, condition.weighingMode(), condition.status(),
+                    condition.lprPlateNumber(), ROW_MAPPER, row -> {
+                        try {
+                            if (format == WeighingExportFormat.CSV) {
+                                writeCsvRow(writer, toCsvValues(row));
+                            } else {
+                                objectMapper.writeValue(generator, row);
+                                generator.writeRaw('\n');
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        progress.advance(1);
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+        writer.flush();
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private String[] toCsvValues(WeighingResponse row) {
+        return new String[]{
+                String.valueOf(row.weighingId()),
+                String.valueOf(row.dispatchId()),
+                String.valueOf(row.scaleId()),
+                row.weighingMode(),
+                row.weighingStep(),
+                plain(row.grossWeight()),
+                plain(row.tareWeight()),
+                plain(row.netWeight()),
+                row.lprPlateNumber(),
+                plain(row.aiConfidence()),
+                row.weighingStatus(),
+                row.reWeighReason(),
+                row.createdAt() != null ? row.createdAt().toString() : null,
+                row.updatedAt() != null ? row.updatedAt().toString() : null
+        };
+    }
+
+    /** RFC 4180 규칙으로 한 행을 기록한다. null은 빈 값으로 기록한다. */
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : null;
+    }
+
+    private static String plain(Weight value) {
+        return value != null ? value.toPlainString() : null;
+    }
+
+    /** 그램 단위 BIGINT 컬럼을 중량으로 읽는다. (NULL이면 null) */
+    private static Weight weight(ResultSet rs, int column) throws SQLException {
+        long grams = rs.getLong(column);
+        return rs.wasNull() ? null : Weight.ofGrams(grams);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.dispatch.domain.Dispatch;
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.notification.domain.NotificationType;
+import com.dongkuk.weighing.notification.service.NotificationService;
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.service.OutboxEventHandler;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingOutboxEvents;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계량 완료 알림 처리기
+ *
+ * 계량 완료 아웃박스 이벤트를 받아 배차 등록자에게 인앱 알림과 FCM 푸시를 전송한다.
+ * 배차가 없거나 등록자 정보가 없으면 알림 없이 완료 처리한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingOutboxEvents#COMPLETED_NOTIFICATION
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeighingNotificationOutboxHandler implements OutboxEventHandler {
+
+    private final OutboxService outboxService;
+    private final DispatchRepository dispatchRepository;
+    private final NotificationService notificationService;
+
+    @Override
+    public String type() {
+        return WeighingOutboxEvents.COMPLETED_NOTIFICATION;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        WeighingResponse weighing = outboxService.readPayload(event, WeighingResponse.class);
+        Long recipientId = dispatchRepository.findById(weighing.dispatchId())
+                .map(Dispatch::getCreatedBy)
+                .orElse(null);
+        if (recipientId == null) {
+            log.debug("계량 완료 알림 수신자 없음: weighingId={}, dispatchId={}",
+                    weighing.weighingId(), weighing.dispatchId());
+            return;
+        }
+
+        String plate = weighing.lprPlateNumber() != null ? weighing.lprPlateNumber() : "-";
+        String netWeight = weighing.netWeight() != null ? weighing.netWeight().toPlainString() : "0";
+        notificationService.sendNotification(
+                recipientId,
+                NotificationType.WEIGHING_COMPLETED,
+                "계량 완료",
+                String.format("차량 %s의 계량이 완료되었습니다. (순중량 %s kg)", plate, netWeight),
+                weighing.weighingId()
+        );
+    }
+}
@@ -1,26 +1,40 @@
 package com.dongkuk.weighing.weighing.service;
 
-import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
 import com.dongkuk.weighing.global.common.exception.BusinessException;
 import com.dongkuk.weighing.global.common.exception.ErrorCode;
-import com.dongkuk.weighing.slip.service.WeighingSlipService;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.lifecycle.domain.WeighingLifecycleStage;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
+import com.dongkuk.weighing.outbox.service.OutboxService;
 import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
-import com.dongkuk.weighing.websocket.service.WebSocketNotificationService;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
 import com.dongkuk.weighing.weighing.domain.WeighingRecord;
 import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingSpecifications;
 import com.dongkuk.weighing.weighing.domain.WeighingStatus;
 import com.dongkuk.weighing.weighing.dto.*;
+import com.dongkuk.weighing.weighing.event.WeighingChangedEvent;
+import com.dongkuk.weighing.weighing.event.WeighingOutboxEvents;
+import com.dongkuk.weighing.weighing.event.WeighingUpdatedEvent;
+import com.dongkuk.weighing.weighing.event.WeighingWeightRecordedEvent;
+import com.dongkuk.weighing.weightstream.service.ScaleStabilityMonitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,8 +46,8 @@ import java.util.Map;
  * 계량 기록 생성, 공차중량 기록, 계량 완료, 재계량 처리 및
  * 계량 통계 조회 기능을 제공한다.</p>
  *
- * <p>계량 완료 시 전자계량표를 자동 생성하며, WebSocket을 통해
- * 실시간 계량 상태 업데이트를 클라이언트에 전파한다.</p>
+ * <p>계량 완료 시 전자계량표 생성 등의 후속 처리를 아웃박스에 기록하며, 커밋된 계량 상태 업데이트를
+ * WebSocket을 통해 클라이언트에 전파한다.</p>
  *
  * @author 시스템
  * @since 1.0
@@ -47,9 +61,15 @@ import java.util.Map;
 public class WeighingService {
 
     private final WeighingRepository weighingRepository;
-    private final WebSocketNotificationService webSocketNotificationService;
-    private final WeighingSlipService weighingSlipService;
-    private final DispatchRepository dispatchRepository;
+    private final InProgressWeighingRegistry inProgressWeighingRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApproximateRowCounter approximateRowCounter;
+    private final SearchQueryExecutor searchQueryExecutor;
+    private final WeighingDailyAggService weighingDailyAggService;
+    private final WeighingDailyAggJdbcRepository dailyAggRepository;
+    private final WeighingStatisticsCache weighingStatisticsCache;
+    private final OutboxService outboxService;
+    private final ScaleStabilityMonitor scaleStabilityMonitor;
 
     // ─── 계량 기록 CRUD ───
 
@@ -59,11 +79,28 @@ public class WeighingService {
      * <p>배차 정보와 계량대 정보를 기반으로 계량 기록을 생성하고,
      * WebSocket을 통해 실시간 업데이트를 전파한다.</p>
      *
+     * <p>계량대의 실시간 중량 스트림이 수신 중이면 서버 측 안정 판정 결과와 구간 통계를
+     * 함께 기록한다. 판정 결과는 참고용이며 불안정이어도 등록을 거부하지 않는다.</p>
+     *
      * @param request 계량 생성 요청 DTO (배차ID, 계량대ID, 계량모드, 총중량, 차량번호 등)
      * @return 생성된 계량 기록 응답
      */
     @Transactional
     public WeighingResponse createWeighing(WeighingCreateRequest request) {
+        WeighingRecord saved = weighingRepository.save(newRecord(request));
+        log.info("계량 시작: weighingId={}, dispatchId={}, mode={}, streamStable={}",
+                saved.getWeighingId(), saved.getDispatchId(), saved.getWeighingMode(), saved.getStreamStable());
+        return publishCreated(saved);
+    }
+
+    /**
+     * 계량 생성 요청으로 미영속 계량 기록을 만든다.
+     * 계량대의 실시간 중량 스트림이 수신 중이면 안정 판정 결과와 구간 통계를 함께 기록한다.
+     *
+     * @param request 계량 생성 요청 DTO
+     * @return 저장 전 계량 기록
+     */
+    WeighingRecord newRecord(WeighingCreateRequest request) {
         WeighingRecord record = WeighingRecord.builder()
                 .dispatchId(request.dispatchId())
                 .scaleId(request.scaleId())
@@ -73,14 +110,42 @@ public class WeighingService {
                 .lprPlateNumber(request.lprPlateNumber())
                 .aiConfidence(request.aiConfidence())
                 .build();
+        scaleStabilityMonitor.currentWindow(request.scaleId()).ifPresent(window ->
+                record.attachStreamStability(window.stable(), window.meanWeight(), window.stdDevWeight(),
+                        window.rangeWeight(), window.sampleCount()));
+        return record;
+    }
 
-        WeighingRecord saved = weighingRepository.save(record);
-        log.info("계량 시작: weighingId={}, dispatchId={}, mode={}",
-                saved.getWeighingId(), saved.getDispatchId(), saved.getWeighingMode());
-
-        // 계량 상태 변경을 WebSocket으로 실시간 전파
+    /**
+     * 저장된 계량 기록의 생성 후속 이벤트를 발행한다.
+     *
+     * <p>WebSocket 전파(계량대별 병합 전송) 이벤트와 {@link #publishCreatedEvents}의 이벤트를 발행한다.
+     * 모두 커밋 이후에 반영되므로 저장과 같은 트랜잭션 안에서 호출해야 한다.</p>
+     *
+     * @param saved 저장된 계량 기록
+     * @return 생성된 계량 기록 응답
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WeighingResponse publishCreated(WeighingRecord saved) {
         publishWeighingUpdate(saved);
-        return WeighingResponse.from(saved);
+        return publishCreatedEvents(saved);
+    }
+
+    /**
+     * 저장된 계량 기록의 WebSocket 전파를 제외한 생성 후속 이벤트를 발행한다.
+     *
+     * <p>총중량 기록(중량 추적), 계량 생성 생애주기, 계량 변경(진행 중 계량 레지스트리) 이벤트를 발행한다.
+     * 일괄 등록은 항목마다 이 메서드를 거치고, WebSocket 알림은 요청이 끝난 뒤 계량대별로 한 번만 전송한다.</p>
+     *
+     * @param saved 저장된 계량 기록
+     * @return 생성된 계량 기록 응답
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WeighingResponse publishCreatedEvents(WeighingRecord saved) {
+        eventPublisher.publishEvent(new WeighingWeightRecordedEvent(
+                saved.getWeighingId(), saved.getScaleId(), WeighingWeightRecordedEvent.GROSS));
+        publishLifecycle(WeighingLifecycleStage.WEIGHING_CREATED, saved);
+        return publishWeighingChanged(saved);
     }
 
     /**
@@ -125,11 +190,55 @@ public class WeighingService {
         String plateNumber = condition.lprPlateNumber() != null && !condition.lprPlateNumber().isBlank()
                 ? condition.lprPlateNumber().trim() : null;
 
-        return weighingRepository.findByConditions(
-                dateFrom, dateTo, condition.weighingMode(), condition.status(), plateNumber, pageable
+        return weighingRepository.findAll(
+                WeighingSpecifications.search(dateFrom, dateTo, condition.weighingMode(), condition.status(), plateNumber),
+                pageable
         ).map(WeighingResponse::from);
     }
 
+    /**
+     * 검색 조건에 따라 계량 기록을 키셋(커서) 방식으로 조회한다.
+     *
+     * <p>(생성일시, ID) 역순으로 정렬하며, OFFSET 및 COUNT 쿼리 없이
+     * {@code after} 커서 다음 행부터 조회한다. 깊은 페이지에서도 응답 시간이 일정하다.</p>
+     *
+     * @param condition    검색 조건 (기간, 계량모드, 상태, 차량번호)
+     * @param after        이전 페이지의 다음 커서 (첫 페이지이면 null)
+     * @param size         페이지 크기
+     * @param includeTotal 플래너 통계 기반 근사 전체 건수 포함 여부
+     * @return 계량 기록 키셋 페이지
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public CursorSlice<WeighingResponse> scrollWeighings(WeighingSearchCondition condition, String after,
+                                                         int size, boolean includeTotal) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = CursorSlice.normalizeSize(size);
+
+        LocalDateTime dateFrom = condition.dateFrom() != null
+                ? condition.dateFrom().atStartOfDay() : null;
+        LocalDateTime dateTo = condition.dateTo() != null
+                ? condition.dateTo().atTime(LocalTime.MAX) : null;
+        String plateNumber = condition.lprPlateNumber() != null && !condition.lprPlateNumber().isBlank()
+                ? condition.lprPlateNumber().trim() : null;
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        List<WeighingRecord> rows = searchQueryExecutor.findLimited(
+                WeighingRecord.class,
+                WeighingSpecifications.search(dateFrom, dateTo, condition.weighingMode(), condition.status(), plateNumber)
+                        .and(WeighingSpecifications.after(cursor)),
+                WeighingSpecifications.KEYSET_SORT,
+                pageSize + 1);
+
+        Long approximateTotal = null;
+        if (includeTotal) {
+            approximateTotal = approximateRowCounter.estimate("tb_weighing", WeighingSpecifications.searchSql(
+                    dateFrom, dateTo, condition.weighingMode(), condition.status(), plateNumber));
+        }
+
+        return CursorSlice.of(rows, pageSize, WeighingRecord::getCreatedAt, WeighingRecord::getWeighingId,
+                WeighingResponse::from, approximateTotal);
+    }
+
     // ─── 계량 프로세스 처리 ───
 
     /**
@@ -148,15 +257,19 @@ public class WeighingService {
         record.recordTareWeight(request.tareWeight());
 
         log.info("공차 중량 기록: weighingId={}, tareWeight={}", weighingId, request.tareWeight());
-        return WeighingResponse.from(record);
+        eventPublisher.publishEvent(new WeighingWeightRecordedEvent(
+                weighingId, record.getScaleId(), WeighingWeightRecordedEvent.TARE));
+        publishLifecycle(WeighingLifecycleStage.TARE_RECORDED, record);
+        return publishWeighingChanged(record);
     }
 
     /**
      * 계량을 완료 처리한다.
      *
-     * <p>계량 상태를 COMPLETED로 변경하고 WebSocket으로 상태를 전파한다.
-     * 완료 시 배차/차량/업체 정보를 조합하여 전자계량표를 자동 생성한다.
-     * 전자계량표 생성 실패 시에도 계량 완료 처리는 정상 수행된다.</p>
+     * <p>계량 상태를 COMPLETED로 변경하고 일별 집계에 반영한다.
+     * 전자계량표 생성, WebSocket 전파, 배차 등록자 알림은 같은 트랜잭션에서 아웃박스에 기록되며,
+     * 상태 변경이 커밋되면 {@link com.dongkuk.weighing.outbox.service.OutboxRelay}가 재시도와 함께 수행한다.
+     * 따라서 후속 처리가 완료를 지연시키거나 실패로 유실되지 않는다.</p>
      *
      * @param weighingId 계량 기록 ID
      * @return 완료된 계량 기록 응답
@@ -165,45 +278,18 @@ public class WeighingService {
     public WeighingResponse completeWeighing(Long weighingId) {
         WeighingRecord record = findWeighingById(weighingId);
         record.complete();
+        // 일별 집계 롤업 반영 (같은 트랜잭션)
+        weighingDailyAggService.applyCompletion(record);
 
         log.info("계량 완료: weighingId={}, netWeight={}", weighingId, record.getNetWeight());
-        publishWeighingUpdate(record);
-
-        // 계량 완료 시 전자계량표 자동 생성
-        try {
-            // 배차+차량+업체 정보를 단일 JOIN 쿼리로 조회
-            String itemName = "";
-            String vehiclePlate = "";
-            String companyName = "";
-            List<Object[]> slipInfo = dispatchRepository.findSlipInfoByDispatchId(record.getDispatchId());
-            if (!slipInfo.isEmpty()) {
-                Object[] row = slipInfo.get(0);
-                itemName = row[0] != null ? row[0].toString() : "";
-                vehiclePlate = row[1] != null ? row[1].toString() : "";
-                companyName = row[2] != null ? row[2].toString() : "";
-            }
-            // 전자계량표에 포함할 JSON 데이터 구성
-            String slipJson = String.format(
-                    "{\"weighingId\":%d,\"dispatchId\":%d,\"vehiclePlateNumber\":\"%s\",\"companyName\":\"%s\",\"itemName\":\"%s\"}",
-                    record.getWeighingId(), record.getDispatchId(), vehiclePlate, companyName, itemName);
-            weighingSlipService.createSlip(
-                    record.getWeighingId(),
-                    record.getDispatchId(),
-                    vehiclePlate,
-                    companyName,
-                    itemName,
-                    record.getGrossWeight() != null ? record.getGrossWeight().toPlainString() : "0",
-                    record.getTareWeight() != null ? record.getTareWeight().toPlainString() : "0",
-                    record.getNetWeight() != null ? record.getNetWeight().toPlainString() : "0",
-                    slipJson
-            );
-            log.info("전자계량표 자동 생성 완료: weighingId={}", weighingId);
-        } catch (Exception e) {
-            // 전자계량표 생성 실패 시에도 계량 완료 처리는 유지
-            log.warn("전자계량표 자동 생성 실패: weighingId={}, error={}", weighingId, e.getMessage());
-        }
-
-        return WeighingResponse.from(record);
+        publishLifecycle(WeighingLifecycleStage.WEIGHING_COMPLETED, record);
+        WeighingResponse snapshot = publishWeighingChanged(record);
+
+        // 후속 처리(전자계량표 생성, WebSocket 전파, 알림)는 아웃박스에 기록하고 커밋 이후 릴레이가 수행
+        outboxService.append(WeighingOutboxEvents.COMPLETED_SLIP, weighingId, snapshot);
+        outboxService.append(WeighingOutboxEvents.COMPLETED_BROADCAST, weighingId, snapshot);
+        outboxService.append(WeighingOutboxEvents.COMPLETED_NOTIFICATION, weighingId, snapshot);
+        return snapshot;
     }
 
     /**
@@ -219,8 +305,13 @@ public class WeighingService {
     @Transactional
     public WeighingResponse reWeigh(Long weighingId, ReWeighRequest request) {
         WeighingRecord original = findWeighingById(weighingId);
+        boolean wasCompleted = original.getWeighingStatus() == WeighingStatus.COMPLETED;
         // 원본 계량 기록을 재계량 상태로 마킹
         original.markReWeighing(request.reason());
+        // 완료 집계에 포함되어 있던 원본은 일별 집계에서 차감 (같은 트랜잭션)
+        if (wasCompleted) {
+            weighingDailyAggService.revertCompletion(original);
+        }
 
         // 원본 정보를 복사하여 새로운 계량 기록 생성
         WeighingRecord newRecord = WeighingRecord.builder()
@@ -238,7 +329,8 @@ public class WeighingService {
                 weighingId, saved.getWeighingId(), request.reason());
 
         publishWeighingUpdate(saved);
-        return WeighingResponse.from(saved);
+        publishWeighingChanged(original);
+        return publishWeighingChanged(saved);
     }
 
     // ─── 계량 현황 조회 ───
@@ -246,13 +338,22 @@ public class WeighingService {
     /**
      * 현재 진행 중인 계량 기록 목록을 조회한다.
      *
+     * <p>DB 대신 {@link InProgressWeighingRegistry}의 메모리 스냅샷에서 응답한다.</p>
+     *
      * @return 진행 중(IN_PROGRESS) 상태의 계량 기록 목록 (최신순)
      */
     public List<WeighingResponse> getInProgressWeighings() {
-        return weighingRepository.findByWeighingStatusOrderByCreatedAtDesc(WeighingStatus.IN_PROGRESS)
-                .stream()
-                .map(WeighingResponse::from)
-                .toList();
+        return inProgressWeighingRegistry.findAll();
+    }
+
+    /**
+     * 특정 계량대에서 진행 중인 계량 기록 목록을 조회한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 해당 계량대의 진행 중(IN_PROGRESS) 계량 기록 목록 (최신순)
+     */
+    public List<WeighingResponse> getInProgressWeighings(Long scaleId) {
+        return inProgressWeighingRegistry.findByScaleId(scaleId);
     }
 
     /**
@@ -261,67 +362,100 @@ public class WeighingService {
      * <p>금일/월간 계량 건수, 완료 건수, 진행 중 건수, 순중량 합계와
      * 품목별/계량모드별 건수 분포, 최근 30일 일별 통계를 포함한다.</p>
      *
+     * <p>결과는 {@link WeighingStatisticsCache}에 짧은 TTL로 보관되며, 캐시 적중 시에는
+     * 트랜잭션과 DB 커넥션을 사용하지 않는다.</p>
+     *
      * @return 계량 통계 응답 (금일, 월간, 품목별, 모드별, 일별 통계)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public WeighingStatisticsResponse getStatistics() {
+        return weighingStatisticsCache.get(this::loadStatistics);
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 계량 통계를 두 번의 조회로 계산한다.
+     *
+     * <p>상태별 건수(금일/월간, 진행 중, 금일 완료, 품목 유형별, 계량 모드별)는 이번 달 계량 기록을
+     * 한 번 스캔하는 조건부 집계로, 순중량(금일/월간)과 최근 30일 일별 추이는
+     * 일별 집계 롤업 한 번의 조회로 구한다. 금일 완료 건수는 배차 연결 여부와 무관하게
+     * 원본 계량 기록 기준으로 센다.</p>
+     */
+    private WeighingStatisticsResponse loadStatistics() {
         LocalDate today = LocalDate.now();
         LocalDateTime todayStart = today.atStartOfDay();
         LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
-
         LocalDate monthStart = today.withDayOfMonth(1);
-        LocalDateTime monthStartDt = monthStart.atStartOfDay();
-
-        // ─── 금일 통계 ───
-        long todayTotal = weighingRepository.countByPeriod(todayStart, todayEnd);
-        long todayCompleted = weighingRepository.countByStatusAndPeriod(WeighingStatus.COMPLETED, todayStart, todayEnd);
-        long todayInProgress = weighingRepository.countByStatusAndPeriod(WeighingStatus.IN_PROGRESS, todayStart, todayEnd);
-        BigDecimal todayNetWeight = weighingRepository.sumNetWeightByPeriod(todayStart, todayEnd);
-        // kg를 톤(ton)으로 변환
-        double todayNetWeightTon = todayNetWeight.doubleValue() / 1000.0;
-
-        // ─── 월간 통계 ───
-        long monthTotal = weighingRepository.countByPeriod(monthStartDt, todayEnd);
-        BigDecimal monthNetWeight = weighingRepository.sumNetWeightByPeriod(monthStartDt, todayEnd);
-        double monthNetWeightTon = monthNetWeight.doubleValue() / 1000.0;
-
-        // ─── 품목 유형별 건수 ───
-        Map<String, Long> countByItemType = new LinkedHashMap<>();
-        for (Object[] row : weighingRepository.countGroupByItemType(monthStartDt, todayEnd)) {
-            countByItemType.put(row[0].toString(), (Long) row[1]);
-        }
+        LocalDate thirtyDaysAgo = today.minusDays(30);
 
-        // ─── 계량 모드별 건수 ───
+        // ─── 전체 상태 건수: 이번 달 단일 스캔 ───
+        long todayTotal = 0;
+        long todayInProgress = 0;
+        long todayCompleted = 0;
+        long monthTotal = 0;
+        Map<String, Long> countByItemType = new LinkedHashMap<>();
         Map<String, Long> countByMode = new LinkedHashMap<>();
-        for (Object[] row : weighingRepository.countGroupByWeighingMode(monthStartDt, todayEnd)) {
-            countByMode.put(row[0].toString(), (Long) row[1]);
+        for (Object[] row : weighingRepository.summarizeByItemTypeAndMode(
+                monthStart.atStartOfDay(), todayStart, todayEnd,
+                WeighingStatus.IN_PROGRESS, WeighingStatus.COMPLETED)) {
+            long count = ((Number) row[2]).longValue();
+            monthTotal += count;
+            todayTotal += ((Number) row[3]).longValue();
+            todayInProgress += ((Number) row[4]).longValue();
+            todayCompleted += ((Number) row[5]).longValue();
+            // 배차와 연결되지 않은 계량은 품목 유형별 건수에서 제외한다
+            if (row[0] != null) {
+                countByItemType.merge(row[0].toString(), count, Long::sum);
+            }
+            countByMode.merge(row[1].toString(), count, Long::sum);
         }
 
-        // ─── 최근 30일 일별 통계 ───
-        LocalDateTime thirtyDaysAgo = today.minusDays(30).atStartOfDay();
-        List<DailyStatistics> dailyStats = weighingRepository.findDailyStatistics(thirtyDaysAgo, todayEnd).stream()
-                .map(row -> new DailyStatistics(
-                        (LocalDate) row[0],
-                        (Long) row[1],
-                        ((BigDecimal) row[2]).doubleValue() / 1000.0
-                ))
-                .toList();
+        // ─── 순중량/일별 완료 추이: 일별 집계 롤업 단일 조회 ───
+        LocalDate rollupFrom = thirtyDaysAgo.isBefore(monthStart) ? thirtyDaysAgo : monthStart;
+        long todayNetGrams = 0;
+        long monthNetGrams = 0;
+        List<DailyStatistics> dailyStats = new ArrayList<>();
+        for (WeighingDailyAggJdbcRepository.DateRow row : dailyAggRepository.sumByDate(rollupFrom, today)) {
+            long netGrams = row.netWeight().grams();
+            if (!row.date().isBefore(monthStart)) {
+                monthNetGrams += netGrams;
+            }
+            if (row.date().equals(today)) {
+                todayNetGrams = netGrams;
+            }
+            if (!row.date().isBefore(thirtyDaysAgo)) {
+                // kg를 톤(ton)으로 변환
+                dailyStats.add(new DailyStatistics(row.date(), row.count(), row.netWeight().tons()));
+            }
+        }
 
         return new WeighingStatisticsResponse(
-                todayTotal, todayCompleted, todayInProgress, todayNetWeightTon,
-                monthTotal, monthNetWeightTon,
+                todayTotal, todayCompleted, todayInProgress, Weight.ofGrams(todayNetGrams).tons(),
+                monthTotal, Weight.ofGrams(monthNetGrams).tons(),
                 countByItemType, countByMode, dailyStats
         );
     }
 
-    // ─── 내부 헬퍼 메서드 ───
-
     /**
-     * 계량 상태 변경 사항을 WebSocket으로 전파한다.
+     * 계량 상태 변경 사항을 WebSocket 전파 이벤트로 발행한다.
+     * 이벤트는 트랜잭션 커밋 이후 {@link com.dongkuk.weighing.websocket.service.WeighingUpdateCoalescer}의
+     * 계량대별 버퍼에 적재되어 전송 주기마다 병합 전송된다.
      *
      * @param record 변경된 계량 기록
      */
     private void publishWeighingUpdate(WeighingRecord record) {
-        WeighingUpdateMessage message = new WeighingUpdateMessage(
+        eventPublisher.publishEvent(new WeighingUpdatedEvent(record.getScaleId(), toUpdateMessage(record)));
+    }
+
+    /**
+     * 계량 기록의 현재 상태로 WebSocket 계량 업데이트 메시지를 만든다.
+     *
+     * @param record 계량 기록
+     * @return 계량 업데이트 메시지
+     */
+    static WeighingUpdateMessage toUpdateMessage(WeighingRecord record) {
+        return new WeighingUpdateMessage(
                 record.getWeighingId(),
                 record.getDispatchId(),
                 record.getWeighingStatus().name(),
@@ -332,7 +466,34 @@ public class WeighingService {
                 record.getLprPlateNumber(),
                 LocalDateTime.now()
         );
-        webSocketNotificationService.notifyWeighingUpdate(message);
+    }
+
+    /**
+     * 계량 진행 단계 이벤트를 발행한다.
+     * 이벤트는 트랜잭션 커밋 이후 {@link com.dongkuk.weighing.lifecycle.service.WeighingLifecycleRecorder}가
+     * 작업자 스레드에서 진행 타임라인과 단계 전환 지연 시간 메트릭으로 기록한다. (롤백되면 기록하지 않음)
+     *
+     * @param stage  진행 단계
+     * @param record 계량 기록
+     */
+    private void publishLifecycle(WeighingLifecycleStage stage, WeighingRecord record) {
+        eventPublisher.publishEvent(WeighingLifecycleEvent.weighing(stage, record.getWeighingId(),
+                record.getDispatchId(), record.getScaleId(), record.getWeighingMode().name()));
+    }
+
+    /**
+     * 계량 기록 변경 이벤트를 발행한다.
+     * 이벤트는 트랜잭션 커밋 이후에 진행 중 계량 레지스트리 등에 반영된다.
+     * 스냅샷의 버전/수정일시가 커밋될 값과 같도록 변경을 먼저 DB에 반영한다.
+     *
+     * @param record 변경된 계량 기록
+     * @return 변경된 계량 기록 응답 (이벤트에 담긴 스냅샷)
+     */
+    private WeighingResponse publishWeighingChanged(WeighingRecord record) {
+        weighingRepository.flush();
+        WeighingResponse snapshot = WeighingResponse.from(record);
+        eventPublisher.publishEvent(new WeighingChangedEvent(snapshot));
+        return snapshot;
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.service.OutboxEventHandler;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.slip.service.WeighingSlipService;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingOutboxEvents;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계량 완료 전자계량표 생성 처리기
+ *
+ * <p>계량 완료 아웃박스 이벤트를 받아 배차/차량/업체 정보를 조합한 전자계량표를 생성한다.
+ * 계량표 저장과 이벤트 완료 표시가 같은 트랜잭션에서 커밋되며,
+ * 재시도 시 이미 생성된 계량표가 있으면 다시 생성하지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeighingOutboxEvents#COMPLETED_SLIP
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeighingSlipOutboxHandler implements OutboxEventHandler {
+
+    private final OutboxService outboxService;
+    private final WeighingSlipService weighingSlipService;
+    private final DispatchRepository dispatchRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String type() {
+        return WeighingOutboxEvents.COMPLETED_SLIP;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        WeighingResponse weighing = outboxService.readPayload(event, WeighingResponse.class);
+        if (weighingSlipService.existsByWeighingId(weighing.weighingId())) {
+            log.info("전자계량표 이미 생성됨: weighingId={}", weighing.weighingId());
+            return;
+        }
+
+        // 배차+차량+업체 정보를 단일 JOIN 쿼리로 조회
+        String itemName = "";
+        String vehiclePlate = "";
+        String companyName = "";
+        List<Object[]> slipInfo = dispatchRepository.findSlipInfoByDispatchId(weighing.dispatchId());
+        if (!slipInfo.isEmpty()) {
+            Object[] row = slipInfo.get(0);
+            itemName = row[0] != null ? row[0].toString() : "";
+            vehiclePlate = row[1] != null ? row[1].toString() : "";
+            companyName = row[2] != null ? row[2].toString() : "";
+        }
+
+        // 전자계량표에 포함할 JSON 데이터 구성
+        Map<String, Object> slipData = new LinkedHashMap<>();
+        slipData.put("weighingId", weighing.weighingId());
+        slipData.put("dispatchId", weighing.dispatchId());
+        slipData.put("vehiclePlateNumber", vehiclePlate);
+        slipData.put("companyName", companyName);
+        slipData.put("itemName", itemName);
+        String slipJson;
+        try {
+            slipJson = objectMapper.writeValueAsString(slipData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("전자계량표 데이터 직렬화 실패: weighingId=" + weighing.weighingId(), e);
+        }
+
+        weighingSlipService.createSlip(
+                weighing.weighingId(),
+                weighing.dispatchId(),
+                vehiclePlate,
+                companyName,
+                itemName,
+                plain(weighing.grossWeight()),
+                plain(weighing.tareWeight()),
+                plain(weighing.netWeight()),
+                slipJson
+        );
+        log.info("전자계량표 자동 생성 완료: weighingId={}", weighing.weighingId());
+    }
+
+    private static String plain(Weight value) {
+        return value != null ? value.toPlainString() : "0";
+    }
+}
@@ -0,0 +1,104 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.weighing.config.WeighingProperties;
+import com.dongkuk.weighing.weighing.domain.WeighingStatus;
+import com.dongkuk.weighing.weighing.dto.WeighingStatisticsResponse;
+import com.dongkuk.weighing.weighing.event.WeighingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 계량 통계 캐시
+ *
+ * <p>대시보드가 주기적으로 호출하는 {@link WeighingService#getStatistics()} 결과를
+ * 짧은 TTL 동안 메모리에 보관한다. 단일 인스턴스 값이므로 별도 캐시 라이브러리 없이
+ * 원자적 참조로 관리한다.</p>
+ *
+ * <p>무효화 규칙:
+ * <ul>
+ *   <li>TTL({@code weighing.statistics.cache-ttl})이 지나면 다음 조회 시 다시 계산한다.</li>
+ *   <li>날짜가 바뀌면 TTL과 무관하게 다시 계산한다.</li>
+ *   <li>계량이 진행 중이 아닌 상태(완료/재계량/취소)로 바뀌면 커밋 이후 즉시 무효화한다.</li>
+ * </ul>
+ * 계산 도중 무효화가 일어나면 계산된 값은 저장하지 않아 무효화 이전 값이 남지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class WeighingStatisticsCache {
+
+    private final WeighingProperties weighingProperties;
+
+    private final AtomicReference<Entry> entry = new AtomicReference<>();
+
+    /** 무효화 세대 (무효화마다 증가) */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 유효한 캐시 값이 있으면 반환하고, 없으면 계산하여 저장한 뒤 반환한다.
+     *
+     * @param loader 통계 계산 함수
+     * @return 계량 통계
+     */
+    public WeighingStatisticsResponse get(Supplier<WeighingStatisticsResponse> loader) {
+        Duration ttl = weighingProperties.getStatistics().getCacheTtl();
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return loader.get();
+        }
+
+        LocalDate today = LocalDate.now();
+        long now = System.nanoTime();
+        Entry cached = entry.get();
+        if (cached != null && cached.isValid(today, now)) {
+            return cached.value();
+        }
+
+        long loadGeneration = generation.get();
+        WeighingStatisticsResponse value = loader.get();
+        // 계산 중 무효화되지 않은 경우에만 저장한다
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                entry.set(new Entry(value, today, now + ttl.toNanos()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 캐시를 무효화한다.
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        entry.set(null);
+    }
+
+    /**
+     * 계량 상태 변경을 커밋 이후에 반영하여, 완료 등 통계에 영향을 주는 변경이면 무효화한다.
+     * 진행 중 계량의 생성·공차 기록은 TTL 만료로 반영한다.
+     *
+     * @param event 계량 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeighingChanged(WeighingChangedEvent event) {
+        if (!WeighingStatus.IN_PROGRESS.name().equals(event.weighing().weighingStatus())) {
+            invalidate();
+        }
+    }
+
+    private record Entry(WeighingStatisticsResponse value, LocalDate day, long expiresAtNanos) {
+
+        boolean isValid(LocalDate today, long nowNanos) {
+            return day.equals(today) && nowNanos - expiresAtNanos < 0;
+        }
+    }
+}
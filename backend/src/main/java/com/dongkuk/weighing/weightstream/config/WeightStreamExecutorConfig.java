@@ -0,0 +1,40 @@
+package com.dongkuk.weighing.weightstream.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 실시간 중량 알림 실행기 설정
+ *
+ * 중량 스트림 수신(NIO 셀렉터) 스레드에서 발생한 안정 판정 전환 알림을 단일 작업자 스레드로 넘겨
+ * WebSocket/Redis 전송이 수신 스레드를 막지 않도록 한다. 작업자가 하나이므로 전환 순서가 유지되며,
+ * 대기열이 가득 차면 가장 오래된 알림을 버린다(최신 상태만 의미가 있다).
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Configuration
+public class WeightStreamExecutorConfig {
+
+    /** 실시간 중량 알림 실행기 빈 이름 */
+    public static final String WEIGHT_FEED_EXECUTOR = "weightFeedExecutor";
+
+    /** 대기 가능한 알림 수 */
+    private static final int QUEUE_CAPACITY = 1_000;
+
+    @Bean(name = WEIGHT_FEED_EXECUTOR)
+    public ThreadPoolTaskExecutor weightFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("weight-feed-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
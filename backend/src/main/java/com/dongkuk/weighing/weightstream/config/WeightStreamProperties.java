@@ -0,0 +1,84 @@
+package com.dongkuk.weighing.weightstream.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 중량 스트림 속성 설정
+ *
+ * application.yml의 weight-stream 접두사 설정 값을 바인딩하는 설정 클래스이다.
+ * 계량대 PC가 인디케이터 측정값을 전송하는 TCP 수신기(접속 허용 주소, 공유 비밀키 인증)와
+ * 계량대별 링 버퍼, WebSocket 재전송 주기, 서버 측 안정 판정 기본값, 계량별 중량 트레이스 저장 기준을 관리한다.
+ * 안정 판정 기준은 계량대 마스터({@code tb_scale})에 값이 없을 때만 기본값을 사용한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weight-stream")
+public class WeightStreamProperties {
+
+    /** TCP 수신기 사용 여부 */
+    private boolean enabled = false;
+
+    /** 수신 주소 (기본값은 루프백, 계량대 PC가 원격이면 내부망 주소로 지정) */
+    private String bindAddress = "127.0.0.1";
+
+    /** 수신 포트 (0이면 임의 포트) */
+    private int port = 9100;
+
+    /** 접속 허용 원격 IP 주소 목록 (비어 있으면 주소 제한 없이 인증만 수행) */
+    private List<String> allowedSources = new ArrayList<>();
+
+    /** 계량대 PC 인증용 공유 비밀키 (HMAC-SHA256, 수신기 사용 시 필수) */
+    private String sharedSecret = "";
+
+    /** 접속 후 인증 프레임을 기다리는 최대 시간 (밀리초) */
+    private long handshakeTimeoutMs = 5_000;
+
+    /** 동시 접속 가능한 계량대 PC 수 */
+    private int maxConnections = 32;
+
+    /** 수신 가능한 최대 계량대 ID (1 ~ maxScaleId) */
+    private int maxScaleId = 64;
+
+    /** 계량대별 링 버퍼 샘플 수 (2의 거듭제곱으로 올림) */
+    private int bufferCapacity = 1024;
+
+    /** WebSocket 재전송 주기 (밀리초, 250 → 4Hz) */
+    private long publishIntervalMs = 250;
+
+    /** 안정 판정 구간 샘플 수 기본값 (계량대 PC의 StabilityCount와 동일) */
+    private int stabilityWindowSize = 5;
+
+    /** 안정 판정 허용 편차(구간 최대 - 최소, kg) 기본값 */
+    private double stabilityToleranceKg = 0.5;
+
+    /** 안정 판정 허용 표준편차(kg) 기본값 (0이면 표준편차 조건 미적용) */
+    private double stabilityMaxStdDevKg = 0;
+
+    /** 계량 등록 시 안정 판정 결과를 유효한 것으로 보는 마지막 샘플 이후 경과 시간 (밀리초) */
+    private long stabilityMaxAgeMs = 2000;
+
+    /** 계량별 원시 중량 트레이스 저장 여부 */
+    private boolean traceEnabled = true;
+
+    /** 빈 계량대로 보는 중량 (kg). 이 값 미만이면 차량 진입 전/진출 후로 판단한다. */
+    private double traceEmptyThresholdKg = 200;
+
+    /** 중량 기록 시점에서 차량 진입 시점을 찾아 거슬러 올라가는 최대 시간 (밀리초) */
+    private long traceLookbackMs = 60_000;
+
+    /** 중량 기록 이후 차량 진출을 기다리는 최대 시간 (밀리초) */
+    private long traceMaxDurationMs = 120_000;
+
+    /** 진행 중 트레이스의 진출 확인 주기 (밀리초) */
+    private long tracePollIntervalMs = 500;
+}
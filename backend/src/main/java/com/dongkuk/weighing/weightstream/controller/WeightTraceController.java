@@ -0,0 +1,44 @@
+package com.dongkuk.weighing.weightstream.controller;
+
+import com.dongkuk.weighing.global.common.dto.ApiResponse;
+import com.dongkuk.weighing.weightstream.dto.WeightTraceResponse;
+import com.dongkuk.weighing.weightstream.service.WeightTraceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 계량 중량 트레이스 컨트롤러
+ *
+ * <p>계량 기록별로 저장된 원시 중량 샘플 열(차량 진입 → 정지 → 진출)을 해석하여
+ * 순중량 이의 제기 검토용 차트 데이터로 제공한다.</p>
+ *
+ * <p>Base URL: {@code /api/v1/weighings/{weighingId}/traces}</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeightTraceService
+ */
+@RestController
+@RequestMapping("/api/v1/weighings/{weighingId}/traces")
+@RequiredArgsConstructor
+public class WeightTraceController {
+
+    private final WeightTraceService weightTraceService;
+
+    /**
+     * 계량 기록의 중량 트레이스 목록을 조회한다.
+     *
+     * @param weighingId 계량 기록 ID
+     * @return 해석된 트레이스 목록 (총중량/공차중량 기록 순)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<WeightTraceResponse>>> getTraces(@PathVariable Long weighingId) {
+        return ResponseEntity.ok(ApiResponse.ok(weightTraceService.getTraces(weighingId)));
+    }
+}
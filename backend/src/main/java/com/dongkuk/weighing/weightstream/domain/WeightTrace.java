@@ -0,0 +1,80 @@
+package com.dongkuk.weighing.weightstream.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 중량 트레이스 엔티티
+ *
+ * <p>총중량/공차중량이 기록된 계량 한 건에 대해, 차량 진입부터 정지, 진출까지 실시간 중량 스트림으로
+ * 받은 원시 샘플 열을 {@link com.dongkuk.weighing.weightstream.service.WeightTraceCodec} 형식으로
+ * 압축하여 보관한다. 순중량 이의 제기 시 측정 과정을 재현하는 근거 자료로 사용한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see com.dongkuk.weighing.weightstream.service.WeightTraceRecorder
+ */
+@Entity
+@Table(name = "tb_weight_trace", indexes = {
+        @Index(name = "idx_weight_trace_weighing", columnList = "weighing_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeightTrace {
+
+    /** 트레이스 고유 ID (PK, 자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trace_id")
+    private Long traceId;
+
+    /** 계량 기록 ID (FK → tb_weighing) */
+    @Column(name = "weighing_id", nullable = false)
+    private Long weighingId;
+
+    /** 계량대 ID (FK → tb_scale) */
+    @Column(name = "scale_id", nullable = false)
+    private Long scaleId;
+
+    /** 중량 유형 (GROSS: 총중량, TARE: 공차중량) */
+    @Column(name = "weight_type", nullable = false, length = 10)
+    private String weightType;
+
+    /** 첫 샘플 측정 일시 */
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    /** 마지막 샘플 측정 일시 */
+    @Column(name = "ended_at", nullable = false)
+    private LocalDateTime endedAt;
+
+    /** 샘플 수 */
+    @Column(name = "sample_count", nullable = false)
+    private int sampleCount;
+
+    /** 압축된 샘플 열 */
+    @Column(name = "trace_data", nullable = false, length = 1_048_576)
+    private byte[] traceData;
+
+    /** 기록 일시 */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public WeightTrace(Long weighingId, Long scaleId, String weightType, LocalDateTime startedAt,
+                       LocalDateTime endedAt, int sampleCount, byte[] traceData) {
+        this.weighingId = weighingId;
+        this.scaleId = scaleId;
+        this.weightType = weightType;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.sampleCount = sampleCount;
+        this.traceData = traceData;
+        this.createdAt = LocalDateTime.now();
+    }
+}
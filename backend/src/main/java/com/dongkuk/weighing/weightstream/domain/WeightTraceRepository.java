@@ -0,0 +1,17 @@
+package com.dongkuk.weighing.weightstream.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 계량 중량 트레이스 리포지토리
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public interface WeightTraceRepository extends JpaRepository<WeightTrace, Long> {
+
+    /** 계량 기록의 트레이스를 기록 순으로 조회한다. */
+    List<WeightTrace> findByWeighingIdOrderByTraceIdAsc(Long weighingId);
+}
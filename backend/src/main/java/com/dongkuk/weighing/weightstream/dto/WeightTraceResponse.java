@@ -0,0 +1,36 @@
+package com.dongkuk.weighing.weightstream.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계량 중량 트레이스 응답 DTO
+ *
+ * 압축 저장된 원시 중량 샘플 열을 차트 표시용으로 해석한 응답 객체이다.
+ * 샘플은 시작 시각 기준 경과 시간과 중량의 두 배열로 전달한다.
+ *
+ * @param traceId 트레이스 ID
+ * @param weighingId 계량 기록 ID
+ * @param scaleId 계량대 ID
+ * @param weightType 중량 유형 (GROSS: 총중량, TARE: 공차중량)
+ * @param startedAt 첫 샘플 측정 일시
+ * @param endedAt 마지막 샘플 측정 일시
+ * @param sampleCount 샘플 수
+ * @param encodedBytes 압축 저장 크기 (바이트)
+ * @param offsetsMs 샘플별 시작 시각 기준 경과 시간 (밀리초)
+ * @param weights 샘플별 중량 (kg)
+ * @author 시스템
+ * @since 1.0
+ */
+public record WeightTraceResponse(
+        Long traceId,
+        Long weighingId,
+        Long scaleId,
+        String weightType,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        int sampleCount,
+        int encodedBytes,
+        long[] offsetsMs,
+        double[] weights
+) {
+}
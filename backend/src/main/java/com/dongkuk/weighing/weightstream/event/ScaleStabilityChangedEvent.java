@@ -0,0 +1,17 @@
+package com.dongkuk.weighing.weightstream.event;
+
+import com.dongkuk.weighing.weightstream.service.StabilityWindow;
+
+/**
+ * 계량대 안정/불안정 전환 이벤트
+ *
+ * <p>서버 측 안정 판정 결과가 바뀔 때 중량 스트림 수신 스레드에서 발행된다.
+ * 전환은 차량 진입/정지 시에만 발생하므로 샘플 수신 빈도와 무관하게 드물다.</p>
+ *
+ * @param scaleId 계량대 ID
+ * @param window  전환 시점의 구간 통계
+ * @author 시스템
+ * @since 1.0
+ */
+public record ScaleStabilityChangedEvent(Long scaleId, StabilityWindow window) {
+}
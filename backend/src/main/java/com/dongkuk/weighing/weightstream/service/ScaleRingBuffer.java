@@ -0,0 +1,97 @@
+package com.dongkuk.weighing.weightstream.service;
+
+/**
+ * 계량대 중량 샘플 링 버퍼
+ *
+ * <p>한 계량대의 최근 중량 샘플(측정 시각, 중량, 안정 여부)을 고정 크기 기본형 배열에 순환 기록한다.
+ * 샘플마다 객체를 만들지 않으며, 버퍼가 가득 차면 가장 오래된 샘플을 덮어쓴다.</p>
+ *
+ * <p>쓰기는 수신 스레드 하나만 수행한다. 읽는 쪽은 {@link #head()}를 먼저 읽고 그 이전 시퀀스의
+ * 샘플을 읽은 뒤, 읽는 동안 덮어쓰이지 않았는지 {@link #isAvailable(long)}로 다시 확인한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class ScaleRingBuffer {
+
+    private final long[] timestamps;
+    private final int[] weights;
+    private final boolean[] stable;
+    private final int mask;
+
+    /** 지금까지 기록된 샘플 수 (다음 기록 시퀀스). volatile 쓰기로 슬롯 내용을 함께 공개한다. */
+    private volatile long head;
+
+    /**
+     * @param capacity 샘플 수 (2의 거듭제곱으로 올림)
+     */
+    public ScaleRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.timestamps = new long[size];
+        this.weights = new int[size];
+        this.stable = new boolean[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * 샘플을 기록한다. 수신 스레드에서만 호출한다.
+     *
+     * @param timestamp   측정 시각 (epoch 밀리초)
+     * @param weightGrams 중량 (g)
+     * @param isStable    인디케이터 안정 신호
+     */
+    public void add(long timestamp, int weightGrams, boolean isStable) {
+        long seq = head;
+        int slot = (int) (seq & mask);
+        timestamps[slot] = timestamp;
+        weights[slot] = weightGrams;
+        stable[slot] = isStable;
+        head = seq + 1;
+    }
+
+    /** 지금까지 기록된 샘플 수 */
+    public long head() {
+        return head;
+    }
+
+    /** 버퍼 크기 */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 시퀀스의 샘플이 아직 덮어쓰이지 않았는지 확인한다.
+     *
+     * <p>{@code head - capacity} 시퀀스의 슬롯은 다음 기록({@code head})이 쓰는 슬롯이므로
+     * 기록 도중일 수 있어 읽을 수 없는 것으로 본다.</p>
+     *
+     * @param seq 샘플 시퀀스
+     * @return 읽을 수 있으면 true
+     */
+    public boolean isAvailable(long seq) {
+        long current = head;
+        return seq < current && current - seq < capacity();
+    }
+
+    /**
+     * 주어진 헤드 시점에 읽을 수 있는 가장 오래된 시퀀스를 반환한다.
+     *
+     * @param head {@link #head()}로 읽은 값
+     * @return {@link #isAvailable(long)}을 만족하는 가장 작은 시퀀스
+     */
+    public long oldestAvailable(long head) {
+        return Math.max(0, head - capacity() + 1);
+    }
+
+    public long timestampAt(long seq) {
+        return timestamps[(int) (seq & mask)];
+    }
+
+    public int weightAt(long seq) {
+        return weights[(int) (seq & mask)];
+    }
+
+    public boolean stableAt(long seq) {
+        return stable[(int) (seq & mask)];
+    }
+}
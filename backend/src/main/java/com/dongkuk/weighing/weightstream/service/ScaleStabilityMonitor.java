@@ -0,0 +1,139 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.master.domain.Scale;
+import com.dongkuk.weighing.master.domain.ScaleRepository;
+import com.dongkuk.weighing.master.event.ScaleStabilitySettingsChangedEvent;
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import com.dongkuk.weighing.weightstream.event.ScaleStabilityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 계량대별 실시간 안정 판정 관리자
+ *
+ * <p>중량 스트림 수신 스레드가 샘플마다 {@link #onSample}을 호출하면 계량대의
+ * {@link StabilityDetector}에 기록하고, 안정/불안정이 바뀔 때만 {@link ScaleStabilityChangedEvent}를 발행한다.
+ * 판정기는 계량대 ID를 인덱스로 하는 배열에 보관하므로 샘플 경로에서 박싱/할당이 없다.</p>
+ *
+ * <p>판정 기준은 계량대 마스터의 {@code stability_*} 값을 사용하고, 값이 없으면
+ * {@code weight-stream.stability-*} 기본값을 사용한다. 시작 시 전체 계량대를 읽고,
+ * 계량대 등록/수정이 커밋되면 해당 계량대의 판정기를 새 기준으로 교체한다(구간은 비워진다).</p>
+ *
+ * <p>메트릭: {@code weight.stream.stability.transitions} (카운터)</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ScaleStabilityMonitor {
+
+    private final WeightStreamProperties properties;
+    private final ScaleRepository scaleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter transitionCounter;
+    private final AtomicReferenceArray<StabilityDetector> detectors;
+
+    public ScaleStabilityMonitor(WeightStreamProperties properties, ScaleRepository scaleRepository,
+                                 ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.scaleRepository = scaleRepository;
+        this.eventPublisher = eventPublisher;
+        this.transitionCounter = meterRegistry.counter("weight.stream.stability.transitions");
+        this.detectors = new AtomicReferenceArray<>(properties.getMaxScaleId() + 1);
+    }
+
+    /**
+     * 샘플을 계량대 판정기에 기록한다. (중량 스트림 수신 스레드 전용)
+     *
+     * @param scaleId     계량대 ID (수신 범위 안으로 검증된 값)
+     * @param weightGrams 중량 (g)
+     * @param receivedAt  수신 시각 (epoch 밀리초)
+     */
+    public void onSample(int scaleId, int weightGrams, long receivedAt) {
+        StabilityDetector detector = detectors.get(scaleId);
+        if (detector == null) {
+            detectors.compareAndSet(scaleId, null, newDetector(null, null, null));
+            detector = detectors.get(scaleId);
+        }
+        if (detector.add(weightGrams, receivedAt)) {
+            transitionCounter.increment();
+            StabilityWindow window = detector.snapshot();
+            log.debug("계량대 안정 판정 전환: scaleId={}, stable={}, range={}g",
+                    scaleId, window.stable(), window.rangeGrams());
+            eventPublisher.publishEvent(new ScaleStabilityChangedEvent((long) scaleId, window));
+        }
+    }
+
+    /**
+     * 계량대의 최근 판정 구간 통계를 조회한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 구간 통계 (샘플이 없거나 마지막 샘플이 {@code stability-max-age-ms}보다 오래되었으면 비어 있음)
+     */
+    public Optional<StabilityWindow> currentWindow(Long scaleId) {
+        if (scaleId == null || scaleId <= 0 || scaleId >= detectors.length()) {
+            return Optional.empty();
+        }
+        StabilityDetector detector = detectors.get(scaleId.intValue());
+        if (detector == null) {
+            return Optional.empty();
+        }
+        StabilityWindow window = detector.snapshot();
+        if (window.sampleCount() == 0
+                || System.currentTimeMillis() - window.lastSampleAt() > properties.getStabilityMaxAgeMs()) {
+            return Optional.empty();
+        }
+        return Optional.of(window);
+    }
+
+    /** 시작 시 계량대 마스터의 판정 기준을 불러온다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSettings() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scaleRepository.findAll().forEach(this::configure);
+    }
+
+    /** 계량대 등록/수정 커밋 후 판정 기준을 반영한다. */
+    @TransactionalEventListener
+    public void onSettingsChanged(ScaleStabilitySettingsChangedEvent event) {
+        configure(event.scale());
+    }
+
+    /**
+     * 계량대의 판정기를 새 기준으로 교체한다.
+     *
+     * @param scale 계량대
+     */
+    void configure(Scale scale) {
+        Long scaleId = scale.getScaleId();
+        if (scaleId == null || scaleId <= 0 || scaleId >= detectors.length()) {
+            return;
+        }
+        StabilityDetector detector = newDetector(scale.getStabilityWindowSize(),
+                scale.getStabilityTolerance(), scale.getStabilityMaxStdDev());
+        detectors.set(scaleId.intValue(), detector);
+        log.info("계량대 안정 판정 기준 적용: scaleId={}, windowSize={}", scaleId, detector.windowSize());
+    }
+
+    private StabilityDetector newDetector(Integer windowSize, BigDecimal toleranceKg, BigDecimal maxStdDevKg) {
+        return new StabilityDetector(
+                windowSize != null ? windowSize : properties.getStabilityWindowSize(),
+                (int) Math.round((toleranceKg != null ? toleranceKg.doubleValue()
+                        : properties.getStabilityToleranceKg()) * 1000),
+                (maxStdDevKg != null ? maxStdDevKg.doubleValue() : properties.getStabilityMaxStdDevKg()) * 1000
+        );
+    }
+}
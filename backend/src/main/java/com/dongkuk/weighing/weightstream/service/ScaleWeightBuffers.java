@@ -0,0 +1,64 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 계량대별 중량 링 버퍼 저장소
+ *
+ * <p>계량대 ID를 배열 인덱스로 사용하여 링 버퍼를 보관한다. 조회 시 키 객체(박싱된 ID)를 만들지 않으므로
+ * 샘플 수신 경로에서 할당이 발생하지 않는다. 버퍼는 계량대의 첫 샘플 수신 시 한 번만 생성된다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Component
+public class ScaleWeightBuffers {
+
+    private final AtomicReferenceArray<ScaleRingBuffer> buffers;
+    private final int bufferCapacity;
+
+    public ScaleWeightBuffers(WeightStreamProperties properties) {
+        this.buffers = new AtomicReferenceArray<>(properties.getMaxScaleId() + 1);
+        this.bufferCapacity = properties.getBufferCapacity();
+    }
+
+    /**
+     * 계량대의 링 버퍼를 반환하고, 없으면 생성한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 링 버퍼 (수신 범위를 벗어난 ID이면 null)
+     */
+    public ScaleRingBuffer getOrCreate(int scaleId) {
+        if (!accepts(scaleId)) {
+            return null;
+        }
+        ScaleRingBuffer buffer = buffers.get(scaleId);
+        if (buffer == null) {
+            buffers.compareAndSet(scaleId, null, new ScaleRingBuffer(bufferCapacity));
+            buffer = buffers.get(scaleId);
+        }
+        return buffer;
+    }
+
+    /**
+     * 계량대의 링 버퍼를 반환한다.
+     *
+     * @param scaleId 계량대 ID
+     * @return 링 버퍼 (샘플을 받은 적이 없으면 null)
+     */
+    public ScaleRingBuffer get(int scaleId) {
+        return accepts(scaleId) ? buffers.get(scaleId) : null;
+    }
+
+    /** 수신 가능한 최대 계량대 ID */
+    public int maxScaleId() {
+        return buffers.length() - 1;
+    }
+
+    private boolean accepts(int scaleId) {
+        return scaleId > 0 && scaleId < buffers.length();
+    }
+}
@@ -0,0 +1,175 @@
+package com.dongkuk.weighing.weightstream.service;
+
+/**
+ * 계량대별 스트리밍 중량 안정 판정기
+ *
+ * <p>최근 {@code windowSize}개 샘플의 평균, 분산, 범위(최대 - 최소)를 샘플마다 O(1)로 갱신하고,
+ * 구간이 가득 찬 상태에서 범위와 표준편차가 허용값 이내이면 안정으로 판정한다.
+ * 계량대 PC의 {@code WaitForStableWeightAsync}(연속 N회 편차 이내)와 같은 기준을 서버에서 재현한다.</p>
+ *
+ * <ul>
+ *   <li>평균/분산: 슬라이딩 윈도우 Welford 갱신 (나가는 샘플과 들어오는 샘플로 한 번에 보정)</li>
+ *   <li>범위: 샘플 시퀀스를 담은 단조 덱(최대/최소) 두 개로 상각 O(1) 유지</li>
+ *   <li>모든 상태는 원시 타입 배열이므로 샘플마다 객체를 할당하지 않는다.</li>
+ * </ul>
+ *
+ * <p>샘플 기록은 중량 스트림 수신 스레드 하나에서만 호출되며, 계량 등록 등 다른 스레드의
+ * {@link #snapshot()} 조회와는 객체 모니터로 동기화한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see ScaleStabilityMonitor
+ */
+public class StabilityDetector {
+
+    private final int windowSize;
+    private final int toleranceGrams;
+    private final double maxStdDevGrams;
+
+    /** 구간 샘플 (시퀀스 % windowSize 위치에 기록) */
+    private final int[] weights;
+
+    /** 최대값 후보 시퀀스 덱 (앞쪽이 구간 최대) */
+    private final long[] maxDeque;
+
+    /** 최소값 후보 시퀀스 덱 (앞쪽이 구간 최소) */
+    private final long[] minDeque;
+
+    private int maxHead;
+    private int maxSize;
+    private int minHead;
+    private int minSize;
+
+    /** 지금까지 기록한 샘플 수 (다음 샘플의 시퀀스) */
+    private long sequence;
+
+    private double mean;
+    private double m2;
+    private boolean stable;
+    private long lastSampleAt;
+
+    /**
+     * @param windowSize     판정 구간 샘플 수 (2 이상)
+     * @param toleranceGrams 허용 범위 (g)
+     * @param maxStdDevGrams 허용 표준편차 (g, 0 이하이면 미적용)
+     */
+    public StabilityDetector(int windowSize, int toleranceGrams, double maxStdDevGrams) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("windowSize는 2 이상이어야 합니다: " + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.toleranceGrams = toleranceGrams;
+        this.maxStdDevGrams = maxStdDevGrams;
+        this.weights = new int[windowSize];
+        this.maxDeque = new long[windowSize];
+        this.minDeque = new long[windowSize];
+    }
+
+    /**
+     * 샘플을 기록하고 안정 판정을 갱신한다.
+     *
+     * @param weightGrams 중량 (g)
+     * @param receivedAt  수신 시각 (epoch 밀리초)
+     * @return 안정/불안정 판정이 바뀌었으면 true
+     */
+    public synchronized boolean add(int weightGrams, long receivedAt) {
+        long seq = sequence++;
+        int slot = (int) (seq % windowSize);
+
+        if (seq < windowSize) {
+            // 구간 채우는 중: 일반 Welford 누적
+            double delta = weightGrams - mean;
+            mean += delta / (seq + 1);
+            m2 += delta * (weightGrams - mean);
+        } else {
+            // 구간 이동: 나가는 샘플을 들어오는 샘플로 교체
+            int evicted = weights[slot];
+            double oldMean = mean;
+            mean += (double) (weightGrams - evicted) / windowSize;
+            m2 += (weightGrams - evicted) * (weightGrams - mean + evicted - oldMean);
+            if (m2 < 0) {
+                m2 = 0;
+            }
+        }
+        weights[slot] = weightGrams;
+        lastSampleAt = receivedAt;
+
+        pushMax(seq, weightGrams);
+        pushMin(seq, weightGrams);
+
+        boolean nowStable = evaluate();
+        boolean changed = nowStable != stable;
+        stable = nowStable;
+        return changed;
+    }
+
+    /**
+     * 현재 구간 통계를 반환한다.
+     *
+     * @return 구간 통계 (샘플을 받은 적이 없으면 sampleCount 0)
+     */
+    public synchronized StabilityWindow snapshot() {
+        int count = sampleCount();
+        return new StabilityWindow(
+                stable,
+                count,
+                mean,
+                count > 1 ? Math.sqrt(m2 / count) : 0,
+                count > 0 ? range() : 0,
+                lastSampleAt
+        );
+    }
+
+    /** 판정 구간 샘플 수 */
+    public int windowSize() {
+        return windowSize;
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    private boolean evaluate() {
+        if (sequence < windowSize || range() > toleranceGrams) {
+            return false;
+        }
+        return maxStdDevGrams <= 0 || m2 / windowSize <= maxStdDevGrams * maxStdDevGrams;
+    }
+
+    private int sampleCount() {
+        return (int) Math.min(sequence, windowSize);
+    }
+
+    private int range() {
+        return weightOf(maxDeque[maxHead]) - weightOf(minDeque[minHead]);
+    }
+
+    /** 시퀀스의 중량 (덱에 남은 시퀀스는 구간 안이므로 슬롯이 아직 덮어쓰이지 않았다) */
+    private int weightOf(long seq) {
+        return weights[(int) (seq % windowSize)];
+    }
+
+    /** 최대 덱: 구간 밖 시퀀스를 앞에서 빼고, 새 값 이하인 후보를 뒤에서 뺀 뒤 추가한다. */
+    private void pushMax(long seq, int weight) {
+        if (maxSize > 0 && maxDeque[maxHead] <= seq - windowSize) {
+            maxHead = (maxHead + 1) % windowSize;
+            maxSize--;
+        }
+        while (maxSize > 0 && weightOf(maxDeque[(maxHead + maxSize - 1) % windowSize]) <= weight) {
+            maxSize--;
+        }
+        maxDeque[(maxHead + maxSize) % windowSize] = seq;
+        maxSize++;
+    }
+
+    /** 최소 덱: 구간 밖 시퀀스를 앞에서 빼고, 새 값 이상인 후보를 뒤에서 뺀 뒤 추가한다. */
+    private void pushMin(long seq, int weight) {
+        if (minSize > 0 && minDeque[minHead] <= seq - windowSize) {
+            minHead = (minHead + 1) % windowSize;
+            minSize--;
+        }
+        while (minSize > 0 && weightOf(minDeque[(minHead + minSize - 1) % windowSize]) >= weight) {
+            minSize--;
+        }
+        minDeque[(minHead + minSize) % windowSize] = seq;
+        minSize++;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+
+/**
+ * 안정 판정 구간 통계 스냅샷
+ *
+ * @param stable       안정 판정 결과
+ * @param sampleCount  구간 샘플 수
+ * @param meanGrams    구간 평균 중량 (g)
+ * @param stdDevGrams  구간 표준편차 (g)
+ * @param rangeGrams   구간 범위 (최대 - 최소, g)
+ * @param lastSampleAt 마지막 샘플 수신 시각 (epoch 밀리초)
+ * @author 시스템
+ * @since 1.0
+ */
+public record StabilityWindow(
+        boolean stable,
+        int sampleCount,
+        double meanGrams,
+        double stdDevGrams,
+        int rangeGrams,
+        long lastSampleAt
+) {
+
+    /** 구간 평균 중량 (그램 미만 반올림) */
+    public Weight meanWeight() {
+        return Weight.ofGrams(Math.round(meanGrams));
+    }
+
+    /** 구간 표준편차 (그램 미만 반올림) */
+    public Weight stdDevWeight() {
+        return Weight.ofGrams(Math.round(stdDevGrams));
+    }
+
+    /** 구간 범위 */
+    public Weight rangeWeight() {
+        return Weight.ofGrams(rangeGrams);
+    }
+}
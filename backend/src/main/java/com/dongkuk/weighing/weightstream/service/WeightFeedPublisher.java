@@ -0,0 +1,139 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.websocket.dto.ScaleStabilityMessage;
+import com.dongkuk.weighing.websocket.dto.ScaleWeightMessage;
+import com.dongkuk.weighing.websocket.service.WebSocketNotificationService;
+import com.dongkuk.weighing.weightstream.config.WeightStreamExecutorConfig;
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import com.dongkuk.weighing.weightstream.event.ScaleStabilityChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 실시간 중량 WebSocket 재전송기
+ *
+ * <p>계량대별 링 버퍼를 재전송 주기({@code weight-stream.publish-interval-ms}, 기본 250ms = 4Hz)마다
+ * 확인하여, 직전 전송 이후 새 샘플이 있는 계량대만 요약 메시지를 {@code /topic/scale/{id}/weight}로
+ * 전송한다. 인디케이터 수신 빈도와 무관하게 클라이언트가 받는 메시지 수는 주기로 제한된다.</p>
+ *
+ * <p>서버 측 안정 판정 전환은 드물게 발생하므로 주기와 무관하게 {@code /topic/scale/{id}/stability}로
+ * 즉시 전송한다. 전환 이벤트는 중량 스트림 수신 스레드에서 발행되므로 전송은
+ * {@link WeightStreamExecutorConfig#WEIGHT_FEED_EXECUTOR} 작업자 스레드에서 수행한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeightStreamServer
+ * @see ScaleStabilityMonitor
+ */
+@Slf4j
+@Component
+public class WeightFeedPublisher {
+
+    private final ScaleWeightBuffers buffers;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final WeightStreamProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+
+    /** 계량대별 마지막으로 전송한 링 버퍼 시퀀스 (재전송 스레드 전용) */
+    private final long[] publishedHeads;
+
+    public WeightFeedPublisher(ScaleWeightBuffers buffers,
+                               WebSocketNotificationService webSocketNotificationService,
+                               WeightStreamProperties properties,
+                               @Qualifier(WeightStreamExecutorConfig.WEIGHT_FEED_EXECUTOR)
+                               ThreadPoolTaskExecutor executor) {
+        this.buffers = buffers;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.properties = properties;
+        this.executor = executor;
+        this.publishedHeads = new long[buffers.maxScaleId() + 1];
+    }
+
+    /**
+     * 새 샘플이 있는 계량대의 요약 중량을 전송한다.
+     */
+    @Scheduled(fixedRateString = "${weight-stream.publish-interval-ms:250}")
+    public void publish() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (int scaleId = 1; scaleId <= buffers.maxScaleId(); scaleId++) {
+            ScaleRingBuffer ring = buffers.get(scaleId);
+            if (ring == null) {
+                continue;
+            }
+            long head = ring.head();
+            long from = Math.max(publishedHeads[scaleId], ring.oldestAvailable(head));
+            if (from >= head) {
+                continue;
+            }
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (long seq = from; seq < head; seq++) {
+                int weight = ring.weightAt(seq);
+                min = Math.min(min, weight);
+                max = Math.max(max, weight);
+            }
+            long last = head - 1;
+            int weight = ring.weightAt(last);
+            boolean stable = ring.stableAt(last);
+            long timestamp = ring.timestampAt(last);
+            // 읽는 동안 구간 시작 샘플이 덮어쓰였으면 다음 주기에 최신 구간으로 다시 요약한다
+            if (!ring.isAvailable(from)) {
+                log.debug("중량 샘플 구간 덮어쓰기 감지, 다음 주기로 연기: scaleId={}", scaleId);
+                continue;
+            }
+            publishedHeads[scaleId] = head;
+
+            webSocketNotificationService.notifyScaleWeight(new ScaleWeightMessage(
+                    (long) scaleId,
+                    Weight.ofGrams(weight),
+                    stable,
+                    Weight.ofGrams(min),
+                    Weight.ofGrams(max),
+                    (int) (head - from),
+                    toLocalDateTime(timestamp)
+            ));
+        }
+    }
+
+    /**
+     * 안정/불안정 전환 전송을 작업자 스레드에 넘긴다. 수신 스레드에서는 전송하지 않는다.
+     *
+     * @param event 안정 판정 전환 이벤트
+     */
+    @EventListener
+    public void onStabilityChanged(ScaleStabilityChangedEvent event) {
+        StabilityWindow window = event.window();
+        ScaleStabilityMessage message = new ScaleStabilityMessage(
+                event.scaleId(),
+                window.stable(),
+                window.meanWeight(),
+                window.stdDevWeight(),
+                window.rangeWeight(),
+                window.sampleCount(),
+                toLocalDateTime(window.lastSampleAt())
+        );
+        executor.execute(() -> {
+            try {
+                webSocketNotificationService.notifyScaleStability(message);
+            } catch (RuntimeException e) {
+                log.warn("안정 판정 전환 전송 실패: scaleId={}, error={}", message.scaleId(), e.getMessage());
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
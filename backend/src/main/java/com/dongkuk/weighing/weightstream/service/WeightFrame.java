@@ -0,0 +1,138 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 중량 프레임 형식
+ *
+ * <p>계량대 PC가 TCP로 연속 전송하는 고정 길이(20바이트, 빅엔디언) 이진 프레임이다.</p>
+ *
+ * <p>접속 직후 서버는 16바이트 임의 값(챌린지)을 보내고, 계량대 PC는 측정 프레임보다 먼저
+ * 인증 프레임(40바이트)을 보낸다. 인증 값은 공유 비밀키로 계산한
+ * {@code HMAC-SHA256(챌린지 || 계량대 ID)}이며, 인증된 계량대 ID가 연결에 고정되어
+ * 이후 다른 계량대 ID의 측정 프레임은 받지 않는다.</p>
+ *
+ * <pre>
+ *  인증 프레임
+ *  오프셋  크기  내용
+ *  0       2     매직 (0x5746, "WF")
+ *  2       1     버전 (1)
+ *  3       1     플래그 (0x80: 인증)
+ *  4       4     계량대 ID (int)
+ *  8       32    HMAC-SHA256(챌린지 || 계량대 ID)
+ * </pre>
+ *
+ * <pre>
+ *  측정 프레임
+ *  오프셋  크기  내용
+ *  0       2     매직 (0x5746, "WF")
+ *  2       1     버전 (1)
+ *  3       1     플래그 (bit0: 인디케이터 안정 신호)
+ *  4       4     계량대 ID (int)
+ *  8       8     측정 시각 (epoch 밀리초, long)
+ *  16      4     중량 (g, int)
+ * </pre>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public final class WeightFrame {
+
+    /** 프레임 길이 (바이트) */
+    public static final int SIZE = 20;
+
+    /** 매직 ("WF") */
+    public static final short MAGIC = 0x5746;
+
+    /** 프레임 버전 */
+    public static final byte VERSION = 1;
+
+    /** 안정 신호 플래그 */
+    public static final byte FLAG_STABLE = 0x01;
+
+    /** 인증 프레임 플래그 */
+    public static final byte FLAG_HELLO = (byte) 0x80;
+
+    /** 서버 챌린지 길이 (바이트) */
+    public static final int CHALLENGE_SIZE = 16;
+
+    /** 인증 값 길이 (HMAC-SHA256, 바이트) */
+    public static final int MAC_SIZE = 32;
+
+    /** 인증 프레임 길이 (바이트) */
+    public static final int HELLO_SIZE = 8 + MAC_SIZE;
+
+    /** 인증 값 계산 알고리즘 */
+    public static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private WeightFrame() {
+    }
+
+    /**
+     * 프레임 하나를 버퍼에 기록한다. (송신 측 및 테스트용)
+     *
+     * @param buffer      기록할 버퍼
+     * @param scaleId     계량대 ID
+     * @param timestamp   측정 시각 (epoch 밀리초)
+     * @param weightGrams 중량 (g)
+     * @param stable      안정 신호
+     */
+    public static void encode(ByteBuffer buffer, int scaleId, long timestamp, int weightGrams, boolean stable) {
+        buffer.putShort(MAGIC)
+                .put(VERSION)
+                .put(stable ? FLAG_STABLE : 0)
+                .putInt(scaleId)
+                .putLong(timestamp)
+                .putInt(weightGrams);
+    }
+
+    /**
+     * 인증 프레임 하나를 버퍼에 기록한다. (송신 측 및 테스트용)
+     *
+     * @param buffer    기록할 버퍼
+     * @param scaleId   계량대 ID
+     * @param challenge 서버가 보낸 챌린지
+     * @param key       공유 비밀키
+     */
+    public static void encodeHello(ByteBuffer buffer, int scaleId, byte[] challenge, SecretKeySpec key) {
+        buffer.putShort(MAGIC)
+                .put(VERSION)
+                .put(FLAG_HELLO)
+                .putInt(scaleId)
+                .put(mac(key, challenge, scaleId));
+    }
+
+    /**
+     * 챌린지와 계량대 ID에 대한 인증 값을 계산한다.
+     *
+     * @param key       공유 비밀키
+     * @param challenge 서버 챌린지
+     * @param scaleId   계량대 ID
+     * @return HMAC-SHA256 값 ({@value #MAC_SIZE}바이트)
+     */
+    public static byte[] mac(SecretKeySpec key, byte[] challenge, int scaleId) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            mac.update(challenge);
+            mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(scaleId).array());
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("중량 스트림 인증 값 계산 실패", e);
+        }
+    }
+
+    /**
+     * 공유 비밀키 문자열로 인증 키를 만든다.
+     *
+     * @param sharedSecret 공유 비밀키 (UTF-8)
+     * @return HMAC 키
+     */
+    public static SecretKeySpec key(String sharedSecret) {
+        return new SecretKeySpec(sharedSecret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    }
+}
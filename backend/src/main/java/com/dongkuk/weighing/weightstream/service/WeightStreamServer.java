@@ -0,0 +1,410 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 중량 스트림 TCP 수신기
+ *
+ * <p>계량대 PC가 인디케이터에서 읽은 측정값을 {@link WeightFrame} 형식으로 연속 전송하면,
+ * 단일 NIO 셀렉터 스레드가 모든 연결을 읽어 계량대별 {@link ScaleRingBuffer}와
+ * {@link ScaleStabilityMonitor}(서버 측 안정 판정)에 기록한다.
+ * 별도 메시지 브로커 없이 애플리케이션 프로세스 안에서 동작한다.</p>
+ *
+ * <p>수신 규칙:
+ * <ul>
+ *   <li>{@code weight-stream.allowed-sources}에 없는 주소의 접속은 즉시 닫는다.</li>
+ *   <li>접속마다 임의 챌린지를 보내고, 공유 비밀키로 서명한 인증 프레임을
+ *       {@code weight-stream.handshake-timeout-ms} 안에 받지 못하거나 서명이 맞지 않으면 연결을 끊는다.
+ *       인증된 계량대 ID는 연결에 고정되며, 다른 계량대 ID의 측정 프레임을 받으면 연결을 끊는다.</li>
+ *   <li>연결마다 고정 크기 다이렉트 버퍼를 한 번만 할당하고, 프레임은 버퍼에서 바로 해석하여
+ *       링 버퍼에 기록하므로 샘플마다 객체를 할당하지 않는다.</li>
+ *   <li>매직/버전이 맞지 않는 프레임을 받으면 스트림 동기가 깨진 것으로 보고 연결을 끊는다.
+ *       송신 측은 재접속하여 프레임 경계부터 다시 전송한다.</li>
+ *   <li>수신 범위를 벗어난 계량대 ID로는 인증할 수 없다.</li>
+ *   <li>{@code weight-stream.max-connections}를 넘는 접속은 즉시 닫는다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭: {@code weight.stream.samples}, {@code weight.stream.rejected} (카운터),
+ * {@code weight.stream.connections} (현재 연결 수)</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeightFeedPublisher
+ */
+@Slf4j
+@Component
+public class WeightStreamServer implements SmartLifecycle {
+
+    /** 연결별 수신 버퍼 크기 (프레임 200개) */
+    private static final int READ_BUFFER_SIZE = WeightFrame.SIZE * 200;
+
+    /** 셀렉터 대기 시간 (밀리초) */
+    private static final long SELECT_TIMEOUT_MS = 1000;
+
+    private final WeightStreamProperties properties;
+    private final ScaleWeightBuffers buffers;
+    private final ScaleStabilityMonitor stabilityMonitor;
+    private final Counter samplesCounter;
+    private final Counter rejectedCounter;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final SecureRandom random = new SecureRandom();
+
+    /** 셀렉터 키 처리기 (select 호출마다 람다를 만들지 않도록 보관) */
+    private final Consumer<SelectionKey> keyHandler = this::handleKey;
+
+    private SecretKeySpec key;
+    private Set<InetAddress> allowedSources;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running;
+
+    public WeightStreamServer(WeightStreamProperties properties, ScaleWeightBuffers buffers,
+                              ScaleStabilityMonitor stabilityMonitor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffers = buffers;
+        this.stabilityMonitor = stabilityMonitor;
+        this.samplesCounter = meterRegistry.counter("weight.stream.samples");
+        this.rejectedCounter = meterRegistry.counter("weight.stream.rejected");
+        meterRegistry.gauge("weight.stream.connections", connections);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        if (!StringUtils.hasText(properties.getSharedSecret())) {
+            throw new IllegalStateException("중량 스트림 수신기에는 weight-stream.shared-secret 설정이 필요합니다");
+        }
+        key = WeightFrame.key(properties.getSharedSecret());
+        allowedSources = resolveAllowedSources();
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(new InetSocketAddress(properties.getBindAddress(), properties.getPort()));
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new IllegalStateException("중량 스트림 수신기 시작 실패: port=" + properties.getPort(), e);
+        }
+        running = true;
+        thread = new Thread(this::run, "weight-stream");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("중량 스트림 수신 시작: address={}:{}, maxScaleId={}, allowedSources={}",
+                properties.getBindAddress(), getLocalPort(), buffers.maxScaleId(),
+                allowedSources.isEmpty() ? "*" : allowedSources);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(SELECT_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("중량 스트림 수신 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 실제 수신 포트를 반환한다. (port=0 설정 시 할당된 포트)
+     *
+     * @return 수신 포트 (수신기가 열려 있지 않으면 -1)
+     */
+    public int getLocalPort() {
+        try {
+            return serverChannel != null && serverChannel.isOpen()
+                    ? ((InetSocketAddress) serverChannel.getLocalAddress()).getPort() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /** 셀렉터 루프 */
+    private void run() {
+        try {
+            while (running) {
+                selector.select(keyHandler, SELECT_TIMEOUT_MS);
+                closeExpiredHandshakes();
+            }
+        } catch (IOException e) {
+            log.error("중량 스트림 셀렉터 오류: {}", e.getMessage(), e);
+            running = false;
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+        } else if (key.isReadable()) {
+            read(key);
+        }
+    }
+
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            InetSocketAddress remote = (InetSocketAddress) channel.getRemoteAddress();
+            if (!allowedSources.isEmpty() && !allowedSources.contains(remote.getAddress())) {
+                log.warn("중량 스트림 허용되지 않은 주소, 연결 거절: remote={}", remote);
+                rejectedCounter.increment();
+                channel.close();
+                return;
+            }
+            if (connections.get() >= properties.getMaxConnections()) {
+                log.warn("중량 스트림 최대 접속 수 초과, 연결 거절: remote={}", remote);
+                channel.close();
+                return;
+            }
+            channel.configureBlocking(false);
+            Connection connection = new Connection(newChallenge(), System.currentTimeMillis());
+            ByteBuffer challenge = ByteBuffer.wrap(connection.challenge);
+            channel.write(challenge);
+            if (challenge.hasRemaining()) {
+                log.warn("중량 스트림 챌린지 전송 실패, 연결 거절: remote={}", remote);
+                channel.close();
+                return;
+            }
+            channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.incrementAndGet();
+            log.info("중량 스트림 연결: remote={}", remote);
+        } catch (IOException e) {
+            log.warn("중량 스트림 연결 수락 실패: {}", e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // 이미 닫힌 연결
+                }
+            }
+        }
+    }
+
+    private void read(SelectionKey key) {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (channel.read(connection.buffer) < 0) {
+                close(key, "연결 종료");
+                return;
+            }
+            String error = drainFrames(connection);
+            if (error != null) {
+                rejectedCounter.increment();
+                close(key, error);
+            }
+        } catch (IOException e) {
+            close(key, e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 완전한 프레임을 모두 해석하여 링 버퍼와 안정 판정기에 기록한다.
+     * 인증 전이면 인증 프레임을 먼저 확인한다. 남은 부분 프레임은 버퍼 앞으로 옮겨
+     * 다음 읽기와 이어 붙인다.
+     *
+     * @return 연결을 끊어야 하면 사유, 정상이면 null
+     */
+    private String drainFrames(Connection connection) {
+        ByteBuffer buffer = connection.buffer;
+        long receivedAt = System.currentTimeMillis();
+        buffer.flip();
+        if (connection.scaleId == 0) {
+            if (buffer.remaining() < WeightFrame.HELLO_SIZE) {
+                buffer.compact();
+                return null;
+            }
+            String error = authenticate(connection, buffer);
+            if (error != null) {
+                buffer.clear();
+                return error;
+            }
+        }
+        ScaleRingBuffer ring = connection.ring;
+        while (buffer.remaining() >= WeightFrame.SIZE) {
+            int pos = buffer.position();
+            if (buffer.getShort(pos) != WeightFrame.MAGIC || buffer.get(pos + 2) != WeightFrame.VERSION) {
+                buffer.clear();
+                return "프레임 형식 오류";
+            }
+            byte flags = buffer.get(pos + 3);
+            int scaleId = buffer.getInt(pos + 4);
+            if (scaleId != connection.scaleId || (flags & WeightFrame.FLAG_HELLO) != 0) {
+                buffer.clear();
+                return "인증된 계량대 ID와 다른 프레임: scaleId=" + scaleId;
+            }
+            long timestamp = buffer.getLong(pos + 8);
+            int weightGrams = buffer.getInt(pos + 16);
+            buffer.position(pos + WeightFrame.SIZE);
+
+            ring.add(timestamp, weightGrams, (flags & WeightFrame.FLAG_STABLE) != 0);
+            stabilityMonitor.onSample(scaleId, weightGrams, receivedAt);
+            samplesCounter.increment();
+        }
+        buffer.compact();
+        return null;
+    }
+
+    /**
+     * 인증 프레임을 확인하고 연결에 계량대 ID를 고정한다.
+     *
+     * @return 인증 실패 사유, 성공이면 null
+     */
+    private String authenticate(Connection connection, ByteBuffer buffer) {
+        int pos = buffer.position();
+        if (buffer.getShort(pos) != WeightFrame.MAGIC || buffer.get(pos + 2) != WeightFrame.VERSION
+                || buffer.get(pos + 3) != WeightFrame.FLAG_HELLO) {
+            return "인증 프레임 형식 오류";
+        }
+        int scaleId = buffer.getInt(pos + 4);
+        byte[] mac = new byte[WeightFrame.MAC_SIZE];
+        buffer.get(pos + 8, mac);
+        if (!MessageDigest.isEqual(mac, WeightFrame.mac(key, connection.challenge, scaleId))) {
+            return "인증 실패: scaleId=" + scaleId;
+        }
+        ScaleRingBuffer ring = buffers.getOrCreate(scaleId);
+        if (ring == null) {
+            return "수신 범위를 벗어난 계량대 ID: scaleId=" + scaleId;
+        }
+        buffer.position(pos + WeightFrame.HELLO_SIZE);
+        connection.scaleId = scaleId;
+        connection.ring = ring;
+        log.info("중량 스트림 인증: scaleId={}", scaleId);
+        return null;
+    }
+
+    /** 인증 대기 시간을 넘긴 연결을 닫는다. */
+    private void closeExpiredHandshakes() {
+        long deadline = System.currentTimeMillis() - properties.getHandshakeTimeoutMs();
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid() && key.attachment() instanceof Connection connection
+                    && connection.scaleId == 0 && connection.acceptedAt < deadline) {
+                rejectedCounter.increment();
+                close(key, "인증 시간 초과");
+            }
+        }
+    }
+
+    private byte[] newChallenge() {
+        byte[] challenge = new byte[WeightFrame.CHALLENGE_SIZE];
+        random.nextBytes(challenge);
+        return challenge;
+    }
+
+    private Set<InetAddress> resolveAllowedSources() {
+        Set<InetAddress> addresses = new HashSet<>();
+        for (String source : properties.getAllowedSources()) {
+            try {
+                addresses.add(InetAddress.getByName(source.trim()));
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException("중량 스트림 허용 주소를 해석할 수 없습니다: " + source, e);
+            }
+        }
+        return addresses;
+    }
+
+    private void close(SelectionKey key, String reason) {
+        key.cancel();
+        try {
+            SocketChannel channel = (SocketChannel) key.channel();
+            log.info("중량 스트림 연결 해제: remote={}, reason={}", channel.getRemoteAddress(), reason);
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+        connections.decrementAndGet();
+    }
+
+    /** 셀렉터와 모든 연결을 닫는다. */
+    private void closeQuietly() {
+        if (selector != null && selector.isOpen()) {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignored) {
+                    // 이미 닫힌 채널
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 셀렉터
+            }
+        }
+        if (serverChannel != null) {
+            try {
+                serverChannel.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 채널
+            }
+        }
+        connections.set(0);
+    }
+
+    /**
+     * 연결별 수신 상태 (셀렉터 스레드 전용)
+     */
+    private static final class Connection {
+
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private final byte[] challenge;
+        private final long acceptedAt;
+
+        /** 인증된 계량대 ID (0이면 인증 전) */
+        private int scaleId;
+        private ScaleRingBuffer ring;
+
+        private Connection(byte[] challenge, long acceptedAt) {
+            this.challenge = challenge;
+            this.acceptedAt = acceptedAt;
+        }
+    }
+}
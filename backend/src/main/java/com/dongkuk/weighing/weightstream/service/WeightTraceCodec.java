@@ -0,0 +1,153 @@
+package com.dongkuk.weighing.weightstream.service;
+
+/**
+ * 중량 트레이스 이진 형식
+ *
+ * <p>계량 한 건의 원시 샘플 열(측정 시각, 중량)을 압축한 형식이다. 모든 정수는 LEB128 가변 길이(varint)로,
+ * 부호 있는 값은 지그재그 변환 후 기록한다.</p>
+ *
+ * <pre>
+ *  헤더: 버전(1바이트) | 샘플 수 | 첫 시각(epoch 밀리초) | 첫 중량(g, 지그재그) | 중량 단위(g)
+ *  본문: 두 번째 샘플부터 다음 토큰의 반복
+ *        v &amp; 1 == 1 : 반복 토큰. 직전과 같은 간격·같은 중량 샘플이 (v &gt;&gt;&gt; 1)개 이어진다.
+ *        v &amp; 1 == 0 : 샘플 토큰. 시각 간격의 변화량(delta-of-delta) = 지그재그⁻¹(v &gt;&gt;&gt; 1),
+ *                      이어서 중량 변화량 / 중량 단위 (지그재그 varint)
+ * </pre>
+ *
+ * <p>20Hz 수신에서 시각 간격은 거의 일정하므로 delta-of-delta는 대부분 0이고, 인디케이터 눈금(예: 10kg)
+ * 단위로 변하는 중량은 변화량을 중량 단위(변화량의 최대공약수)로 나누어 1바이트에 담긴다.
+ * 정지 구간은 반복 토큰 하나로 줄어들어, 60초(1,200샘플) 트레이스가 수백 바이트 수준이 된다.</p>
+ *
+ * <p>해석은 {@link SampleConsumer} 콜백으로 원시 값을 넘기므로 샘플마다 객체를 할당하지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeightTraceEncoder
+ */
+public final class WeightTraceCodec {
+
+    /** 형식 버전 */
+    public static final byte VERSION = 1;
+
+    private WeightTraceCodec() {
+    }
+
+    /**
+     * 샘플 수신 콜백
+     */
+    @FunctionalInterface
+    public interface SampleConsumer {
+
+        /**
+         * @param index       샘플 순번 (0부터)
+         * @param timestamp   측정 시각 (epoch 밀리초)
+         * @param weightGrams 중량 (g)
+         */
+        void accept(int index, long timestamp, int weightGrams);
+    }
+
+    /**
+     * 트레이스의 샘플 수를 읽는다. (본문은 해석하지 않는다)
+     *
+     * @param data 트레이스
+     * @return 샘플 수
+     */
+    public static int sampleCount(byte[] data) {
+        checkVersion(data);
+        return (int) readVarint(data, new int[]{1});
+    }
+
+    /**
+     * 트레이스를 해석하여 샘플을 순서대로 전달한다.
+     *
+     * @param data     트레이스
+     * @param consumer 샘플 수신 콜백
+     * @return 샘플 수
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static int decode(byte[] data, SampleConsumer consumer) {
+        checkVersion(data);
+        // 읽기 위치 (varint 해석 메서드와 공유하는 1칸 배열, 해석당 한 번 할당)
+        int[] pos = {1};
+        int count = (int) readVarint(data, pos);
+        if (count == 0) {
+            return 0;
+        }
+        long timestamp = readVarint(data, pos);
+        int weight = (int) unzigzag(readVarint(data, pos));
+        int unit = (int) readVarint(data, pos);
+        consumer.accept(0, timestamp, weight);
+
+        long delta = 0;
+        int index = 1;
+        while (index < count) {
+            long token = readVarint(data, pos);
+            if ((token & 1) == 1) {
+                long run = token >>> 1;
+                if (run <= 0 || index + run > count) {
+                    throw new IllegalArgumentException("중량 트레이스 반복 길이 오류: " + run);
+                }
+                // 직전 샘플과 같은 간격, 같은 중량
+                for (long r = 0; r < run; r++) {
+                    timestamp += delta;
+                    consumer.accept(index++, timestamp, weight);
+                }
+            } else {
+                delta += unzigzag(token >>> 1);
+                timestamp += delta;
+                weight += (int) unzigzag(readVarint(data, pos)) * unit;
+                consumer.accept(index++, timestamp, weight);
+            }
+        }
+        if (pos[0] != data.length) {
+            throw new IllegalArgumentException("중량 트레이스 끝에 남은 데이터가 있습니다: " + (data.length - pos[0]));
+        }
+        return count;
+    }
+
+    // ─── varint / 지그재그 ───
+
+    /** 부호 있는 값을 지그재그 변환한다. (0, -1, 1, -2 → 0, 1, 2, 3) */
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * varint를 기록한다.
+     *
+     * @return 다음 기록 위치
+     */
+    static int writeVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    static long readVarint(byte[] data, int[] pos) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos[0] >= data.length) {
+                throw new IllegalArgumentException("중량 트레이스가 중간에 끝났습니다");
+            }
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("중량 트레이스 varint 길이 오류");
+    }
+
+    private static void checkVersion(byte[] data) {
+        if (data == null || data.length < 2 || data[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 중량 트레이스 형식입니다");
+        }
+    }
+}
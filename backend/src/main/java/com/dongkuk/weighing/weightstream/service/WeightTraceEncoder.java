@@ -0,0 +1,136 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import java.util.Arrays;
+
+import static com.dongkuk.weighing.weightstream.service.WeightTraceCodec.writeVarint;
+import static com.dongkuk.weighing.weightstream.service.WeightTraceCodec.zigzag;
+
+/**
+ * 중량 트레이스 부호화기
+ *
+ * <p>샘플을 {@link #add}로 모은 뒤 {@link #encode()}로 {@link WeightTraceCodec} 형식의 바이트 배열을 만든다.
+ * 중량 단위(변화량의 최대공약수)를 구하려고 샘플을 원시 타입 배열에 먼저 모으며, 배열과 출력 버퍼는
+ * {@link #reset()} 후에도 재사용하므로 반복 사용 시 할당은 결과 배열 하나뿐이다.</p>
+ *
+ * <p>스레드 안전하지 않다. 호출 측이 인스턴스를 한 스레드에서만 사용해야 한다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+public class WeightTraceEncoder {
+
+    /** 샘플 하나의 최대 부호화 길이 (시각 토큰 10바이트 + 중량 5바이트) */
+    private static final int MAX_SAMPLE_BYTES = 15;
+
+    /** 헤더 최대 길이 (버전 1 + 샘플 수 5 + 시각 10 + 중량 5 + 단위 5) */
+    private static final int MAX_HEADER_BYTES = 26;
+
+    private long[] timestamps;
+    private int[] weights;
+    private byte[] out;
+    private int count;
+
+    public WeightTraceEncoder() {
+        this(1024);
+    }
+
+    /**
+     * @param initialCapacity 초기 샘플 용량
+     */
+    public WeightTraceEncoder(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.timestamps = new long[capacity];
+        this.weights = new int[capacity];
+        this.out = new byte[MAX_HEADER_BYTES + capacity * MAX_SAMPLE_BYTES];
+    }
+
+    /** 모은 샘플을 비운다. (버퍼는 유지) */
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * 샘플을 추가한다.
+     *
+     * @param timestamp   측정 시각 (epoch 밀리초)
+     * @param weightGrams 중량 (g)
+     */
+    public void add(long timestamp, int weightGrams) {
+        if (count == timestamps.length) {
+            int capacity = count * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        timestamps[count] = timestamp;
+        weights[count] = weightGrams;
+        count++;
+    }
+
+    /** 모은 샘플 수 */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 모은 샘플을 부호화한다.
+     *
+     * @return 트레이스 바이트 배열
+     */
+    public byte[] encode() {
+        int required = MAX_HEADER_BYTES + count * MAX_SAMPLE_BYTES;
+        if (out.length < required) {
+            out = new byte[required];
+        }
+        int pos = 0;
+        out[pos++] = WeightTraceCodec.VERSION;
+        pos = writeVarint(out, pos, count);
+        if (count == 0) {
+            return Arrays.copyOf(out, pos);
+        }
+        int unit = weightUnit();
+        pos = writeVarint(out, pos, timestamps[0]);
+        pos = writeVarint(out, pos, zigzag(weights[0]));
+        pos = writeVarint(out, pos, unit);
+
+        long previousDelta = 0;
+        long run = 0;
+        for (int i = 1; i < count; i++) {
+            long delta = timestamps[i] - timestamps[i - 1];
+            long deltaOfDelta = delta - previousDelta;
+            int weightDelta = weights[i] - weights[i - 1];
+            previousDelta = delta;
+            if (deltaOfDelta == 0 && weightDelta == 0) {
+                run++;
+                continue;
+            }
+            if (run > 0) {
+                pos = writeVarint(out, pos, (run << 1) | 1);
+                run = 0;
+            }
+            pos = writeVarint(out, pos, zigzag(deltaOfDelta) << 1);
+            pos = writeVarint(out, pos, zigzag(weightDelta / unit));
+        }
+        if (run > 0) {
+            pos = writeVarint(out, pos, (run << 1) | 1);
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    /** 중량 변화량의 최대공약수 (변화가 없으면 1) */
+    private int weightUnit() {
+        int gcd = 0;
+        for (int i = 1; i < count && gcd != 1; i++) {
+            gcd = gcd(gcd, Math.abs(weights[i] - weights[i - 1]));
+        }
+        return gcd == 0 ? 1 : gcd;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
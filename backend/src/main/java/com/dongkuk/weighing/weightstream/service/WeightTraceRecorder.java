@@ -0,0 +1,191 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.weighing.event.WeighingWeightRecordedEvent;
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import com.dongkuk.weighing.weightstream.domain.WeightTrace;
+import com.dongkuk.weighing.weightstream.domain.WeightTraceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 계량별 원시 중량 트레이스 기록기
+ *
+ * <p>총중량/공차중량 기록이 커밋되면 해당 계량대의 링 버퍼에서 차량 진입 시점(빈 계량대 중량 미만이었던
+ * 마지막 샘플)을 찾아 트레이스를 시작하고, 차량이 진출하여 중량이 다시 빈 계량대 수준으로 떨어지면
+ * 진입 → 정지 → 진출 구간의 샘플을 {@link WeightTraceEncoder}로 압축하여 {@code tb_weight_trace}에 저장한다.</p>
+ *
+ * <p>진출이 {@code trace-max-duration-ms} 안에 확인되지 않거나 링 버퍼가 트레이스 시작 샘플을 덮어쓰기
+ * 직전이면 그 시점까지의 샘플로 저장한다. 같은 계량대에서 새 중량이 기록되면 이전 트레이스는 그 시점에서
+ * 마감한다. 저장은 모두 확인 주기 스케줄러 스레드에서 수행하므로 계량 요청 처리를 지연시키지 않는다.</p>
+ *
+ * @author 시스템
+ * @since 1.0
+ * @see WeightTraceCodec
+ */
+@Slf4j
+@Component
+public class WeightTraceRecorder {
+
+    /** 진행 중 트레이스의 끝 시퀀스 (미정) */
+    private static final long OPEN = -1;
+
+    private final ScaleWeightBuffers buffers;
+    private final WeightTraceRepository weightTraceRepository;
+    private final WeightStreamProperties properties;
+
+    /** 계량대별 진행 중 트레이스 */
+    private final Map<Long, PendingTrace> pending = new ConcurrentHashMap<>();
+
+    /** 새 중량 기록으로 마감된 트레이스 (다음 확인 주기에 저장) */
+    private final Queue<PendingTrace> closing = new ConcurrentLinkedQueue<>();
+
+    /** 부호화기 (버퍼 재사용, 확인 주기 스케줄러 스레드에서만 사용) */
+    private final WeightTraceEncoder encoder;
+
+    public WeightTraceRecorder(ScaleWeightBuffers buffers, WeightTraceRepository weightTraceRepository,
+                               WeightStreamProperties properties) {
+        this.buffers = buffers;
+        this.weightTraceRepository = weightTraceRepository;
+        this.properties = properties;
+        this.encoder = new WeightTraceEncoder(properties.getBufferCapacity());
+    }
+
+    /**
+     * 중량 기록 커밋 후 트레이스를 시작한다.
+     *
+     * @param event 계량 중량 기록 이벤트
+     */
+    @TransactionalEventListener
+    public void onWeightRecorded(WeighingWeightRecordedEvent event) {
+        if (!properties.isEnabled() || !properties.isTraceEnabled() || event.scaleId() == null) {
+            return;
+        }
+        ScaleRingBuffer ring = buffers.get(event.scaleId().intValue());
+        if (ring == null || ring.head() == 0) {
+            return;
+        }
+        PendingTrace trace = new PendingTrace(event.weighingId(), event.scaleId(), event.weightType(),
+                findEntry(ring), OPEN, System.currentTimeMillis());
+        PendingTrace previous = pending.put(event.scaleId(), trace);
+        if (previous != null) {
+            closing.add(previous.closeAt(ring.head()));
+        }
+    }
+
+    /**
+     * 진행 중 트레이스의 진출 여부를 확인하고, 끝난 트레이스를 저장한다.
+     */
+    @Scheduled(fixedDelayString = "${weight-stream.trace-poll-interval-ms:500}")
+    public void flush() {
+        PendingTrace closed;
+        while ((closed = closing.poll()) != null) {
+            finish(closed, buffers.get(closed.scaleId().intValue()), closed.endSeq());
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int emptyGrams = emptyThresholdGrams();
+        for (PendingTrace trace : pending.values()) {
+            ScaleRingBuffer ring = buffers.get(trace.scaleId().intValue());
+            long head = ring.head();
+            boolean exited = head - 1 > trace.startSeq() && ring.weightAt(head - 1) < emptyGrams;
+            boolean expired = now - trace.requestedAt() > properties.getTraceMaxDurationMs();
+            // 링 버퍼가 시작 샘플을 덮어쓰기 전에 (여유 1/8) 저장
+            boolean overflowing = head - trace.startSeq() >= ring.capacity() - ring.capacity() / 8;
+            if ((exited || expired || overflowing) && pending.remove(trace.scaleId(), trace)) {
+                finish(trace, ring, head);
+            }
+        }
+    }
+
+    // ─── 내부 헬퍼 메서드 ───
+
+    /**
+     * 가장 최근 샘플부터 거슬러 올라가며 빈 계량대 중량 미만인 샘플(차량 진입 직전)을 찾는다.
+     * 찾지 못하면 탐색 가능한 가장 오래된 샘플을 반환한다.
+     */
+    private long findEntry(ScaleRingBuffer ring) {
+        long head = ring.head();
+        long oldest = ring.oldestAvailable(head);
+        long since = ring.timestampAt(head - 1) - properties.getTraceLookbackMs();
+        int emptyGrams = emptyThresholdGrams();
+        long seq = head - 1;
+        while (seq > oldest) {
+            if (ring.weightAt(seq) < emptyGrams) {
+                return seq;
+            }
+            if (ring.timestampAt(seq - 1) < since) {
+                break;
+            }
+            seq--;
+        }
+        return seq;
+    }
+
+    /** [시작, 끝) 구간 샘플을 압축하여 저장한다. */
+    private void finish(PendingTrace trace, ScaleRingBuffer ring, long endSeq) {
+        long from = Math.max(trace.startSeq(), ring.oldestAvailable(endSeq));
+        encoder.reset();
+        for (long seq = from; seq < endSeq; seq++) {
+            encoder.add(ring.timestampAt(seq), ring.weightAt(seq));
+        }
+        if (encoder.size() == 0 || !ring.isAvailable(from)) {
+            log.warn("중량 트레이스 구간 유실, 저장 생략: weighingId={}, scaleId={}",
+                    trace.weighingId(), trace.scaleId());
+            return;
+        }
+        byte[] data = encoder.encode();
+        try {
+            weightTraceRepository.save(WeightTrace.builder()
+                    .weighingId(trace.weighingId())
+                    .scaleId(trace.scaleId())
+                    .weightType(trace.weightType())
+                    .startedAt(toLocalDateTime(ring.timestampAt(from)))
+                    .endedAt(toLocalDateTime(ring.timestampAt(endSeq - 1)))
+                    .sampleCount(encoder.size())
+                    .traceData(data)
+                    .build());
+            log.info("중량 트레이스 저장: weighingId={}, type={}, samples={}, bytes={}",
+                    trace.weighingId(), trace.weightType(), encoder.size(), data.length);
+        } catch (RuntimeException e) {
+            log.error("중량 트레이스 저장 실패: weighingId={}, error={}", trace.weighingId(), e.getMessage(), e);
+        }
+    }
+
+    private int emptyThresholdGrams() {
+        return (int) Math.round(properties.getTraceEmptyThresholdKg() * 1000);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 진행 중 트레이스
+     *
+     * @param weighingId  계량 기록 ID
+     * @param scaleId     계량대 ID
+     * @param weightType  중량 유형
+     * @param startSeq    시작 샘플 시퀀스 (차량 진입 직전)
+     * @param endSeq      끝 샘플 시퀀스 (제외, 진행 중이면 {@link #OPEN})
+     * @param requestedAt 중량 기록 시각 (epoch 밀리초)
+     */
+    private record PendingTrace(Long weighingId, Long scaleId, String weightType,
+                                long startSeq, long endSeq, long requestedAt) {
+
+        PendingTrace closeAt(long seq) {
+            return new PendingTrace(weighingId, scaleId, weightType, startSeq, seq, requestedAt);
+        }
+    }
+}
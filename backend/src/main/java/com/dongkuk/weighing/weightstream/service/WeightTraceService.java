@@ -0,0 +1,74 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weightstream.domain.WeightTrace;
+import com.dongkuk.weighing.weightstream.domain.WeightTraceRepository;
+import com.dongkuk.weighing.weightstream.dto.WeightTraceResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 계량 중량 트레이스 조회 서비스
+ *
+ * 계량 기록에 연결된 압축 트레이스를 해석하여 차트 표시용 배열로 변환한다.
+ *
+ * @author 시스템
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeightTraceService {
+
+    private final WeightTraceRepository weightTraceRepository;
+    private final WeighingRepository weighingRepository;
+
+    /**
+     * 계량 기록의 중량 트레이스 목록을 조회한다.
+     *
+     * @param weighingId 계량 기록 ID
+     * @return 해석된 트레이스 목록 (기록 순, 실시간 중량 스트림이 없던 계량이면 빈 목록)
+     * @throws BusinessException 계량 기록이 존재하지 않는 경우 (WEIGHING_001)
+     */
+    public List<WeightTraceResponse> getTraces(Long weighingId) {
+        if (!weighingRepository.existsById(weighingId)) {
+            throw new BusinessException(ErrorCode.WEIGHING_001);
+        }
+        return weightTraceRepository.findByWeighingIdOrderByTraceIdAsc(weighingId).stream()
+                .map(WeightTraceService::toResponse)
+                .toList();
+    }
+
+    /** 트레이스를 해석하여 응답 DTO로 변환한다. */
+    static WeightTraceResponse toResponse(WeightTrace trace) {
+        byte[] data = trace.getTraceData();
+        int count = WeightTraceCodec.sampleCount(data);
+        long[] offsets = new long[count];
+        double[] weights = new double[count];
+        long[] start = new long[1];
+        WeightTraceCodec.decode(data, (index, timestamp, weightGrams) -> {
+            if (index == 0) {
+                start[0] = timestamp;
+            }
+            offsets[index] = timestamp - start[0];
+            weights[index] = weightGrams / 1000.0;
+        });
+        return new WeightTraceResponse(
+                trace.getTraceId(),
+                trace.getWeighingId(),
+                trace.getScaleId(),
+                trace.getWeightType(),
+                trace.getStartedAt(),
+                trace.getEndedAt(),
+                count,
+                data.length,
+                offsets,
+                weights
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package com.dongkuk.weighing.dispatch.service;
+
+import com.dongkuk.weighing.dispatch.config.DispatchProperties;
+import com.dongkuk.weighing.dispatch.domain.Dispatch;
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.dispatch.dto.DispatchResponse;
+import com.dongkuk.weighing.dispatch.event.DispatchChangedEvent;
+import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodayDispatchIndexTest {
+
+    @InjectMocks
+    private TodayDispatchIndex index;
+
+    @Mock
+    private DispatchRepository dispatchRepository;
+
+    @Mock
+    private ClusterInvalidationRelay invalidationRelay;
+
+    @Spy
+    private DispatchProperties dispatchProperties = new DispatchProperties();
+
+    @Test
+    @DisplayName("당일 유효 배차는 차량별로 배차 ID 순 조회되며 DB를 조회하지 않는다")
+    void findActive_FromIndex() {
+        rebuildEmpty();
+        LocalDate today = LocalDate.now();
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(2L, 100L, today, "IN_PROGRESS")));
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(1L, 100L, today, "REGISTERED")));
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(3L, 100L, today.plusDays(1), "REGISTERED")));
+
+        assertThat(index.findActive(100L)).extracting(DispatchResponse::dispatchId).containsExactly(1L, 2L);
+        assertThat(index.findActive(200L)).isEmpty();
+        verify(dispatchRepository).findByDispatchDateAndDispatchStatusIn(eq(today), any());
+        verifyNoMoreInteractions(dispatchRepository);
+    }
+
+    @Test
+    @DisplayName("차량 변경, 완료/취소, 삭제 시 기존 차량의 인덱스에서 제거된다")
+    void onDispatchChanged_RemovesStaleEntries() {
+        rebuildEmpty();
+        LocalDate today = LocalDate.now();
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(1L, 100L, today, "REGISTERED")));
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(2L, 100L, today, "REGISTERED")));
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(3L, 100L, today, "REGISTERED")));
+
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(1L, 200L, today, "REGISTERED")));
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(2L, 100L, today, "COMPLETED")));
+        index.onDispatchChanged(DispatchChangedEvent.deleted(dispatch(3L, 100L, today, "REGISTERED")));
+
+        assertThat(index.findActive(100L)).isEmpty();
+        assertThat(index.findActive(200L)).extracting(DispatchResponse::dispatchId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 차량/일자/상태 조건으로 DB를 조회한다")
+    void findActive_BeforeRebuild_QueriesRepository() {
+        given(dispatchRepository.findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+                eq(100L), eq(LocalDate.now()), any())).willReturn(List.of());
+
+        assertThat(index.findActive(100L)).isEmpty();
+        verify(dispatchRepository).findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+                eq(100L), eq(LocalDate.now()), any());
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 배차 ID로 다른 인스턴스에 무효화를 발행한다")
+    void onDispatchChanged_PublishesInvalidation() {
+        rebuildEmpty();
+
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(1L, 100L, LocalDate.now(), "REGISTERED")));
+
+        verify(invalidationRelay).publish(TodayDispatchIndex.CACHE_NAME, 1L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화를 받으면 배차를 DB에서 다시 읽어 반영하거나 제거한다")
+    void reload_AppliesCommittedState() {
+        rebuildEmpty();
+        LocalDate today = LocalDate.now();
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(2L, 100L, today, "REGISTERED")));
+        given(dispatchRepository.findById(1L)).willReturn(Optional.of(entity(1L, 100L, today)));
+        given(dispatchRepository.findById(2L)).willReturn(Optional.empty());
+
+        index.reload(1L);
+        index.reload(2L);
+
+        assertThat(index.findActive(100L)).extracting(DispatchResponse::dispatchId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("중계를 사용하면 인덱스에 차량의 배차가 없을 때 DB로 확인한다")
+    void findActive_MissWithRelay_QueriesRepository() {
+        rebuildEmpty();
+        given(invalidationRelay.isEnabled()).willReturn(true);
+        given(dispatchRepository.findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+                eq(100L), eq(LocalDate.now()), any())).willReturn(List.of(entity(5L, 100L, LocalDate.now())));
+
+        assertThat(index.findActive(100L)).extracting(DispatchResponse::dispatchId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 강제 설정이면 인덱스가 있어도 DB를 조회한다")
+    void findActive_ForceDbLookup_QueriesRepository() {
+        rebuildEmpty();
+        index.onDispatchChanged(DispatchChangedEvent.changed(dispatch(1L, 100L, LocalDate.now(), "REGISTERED")));
+        dispatchProperties.getTodayIndex().setForceDbLookup(true);
+        given(dispatchRepository.findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+                eq(100L), eq(LocalDate.now()), any())).willReturn(List.of());
+
+        assertThat(index.findActive(100L)).isEmpty();
+        verify(dispatchRepository).findByVehicleIdAndDispatchDateAndDispatchStatusIn(
+                eq(100L), eq(LocalDate.now()), any());
+    }
+
+    private void rebuildEmpty() {
+        given(dispatchRepository.findByDispatchDateAndDispatchStatusIn(eq(LocalDate.now()), any()))
+                .willReturn(List.of());
+        index.rebuild();
+    }
+
+    private Dispatch entity(Long dispatchId, Long vehicleId, LocalDate date) {
+        Dispatch dispatch = Dispatch.builder()
+                .vehicleId(vehicleId)
+                .companyId(10L)
+                .itemType(ItemType.BY_PRODUCT)
+                .itemName("슬래그")
+                .dispatchDate(date)
+                .createdBy(1L)
+                .build();
+        ReflectionTestUtils.setField(dispatch, "dispatchId", dispatchId);
+        return dispatch;
+    }
+
+    private DispatchResponse dispatch(Long dispatchId, Long vehicleId, LocalDate date, String status) {
+        return new DispatchResponse(dispatchId, vehicleId, 10L, "BY_PRODUCT", "슬래그", date,
+                null, null, null, status, 1L, null, null);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dongkuk.weighing.export.service;
+
+import com.dongkuk.weighing.export.config.ExportProperties;
+import com.dongkuk.weighing.export.domain.ExportJob;
+import com.dongkuk.weighing.export.domain.ExportJobStatus;
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportJobServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private ThreadPoolTaskExecutor executor;
+    private ExportJobService exportJobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ExportProperties properties = new ExportProperties();
+        properties.setSpoolDir(spoolDir.toString());
+        properties.setRetention(Duration.ZERO);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+
+        exportJobService = new ExportJobService(List.of(new TextHandler()), executor, properties);
+        exportJobService.initSpoolDir();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("접수된 작업은 스풀 파일을 생성하고 완료 상태가 된다")
+    void submit_completes() throws Exception {
+        ExportJob job = exportJobService.submit("text", Map.of("line", "hello"), 1L);
+
+        awaitFinished(job);
+        assertThat(job.getStatus()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(job.getProgress().getProcessed()).isEqualTo(1);
+        assertThat(Files.readString(job.getFile(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(job.getFileSize()).isEqualTo(5);
+        assertThat(exportJobService.getCompletedJob(job.getJobId(), 1L, UserRole.MANAGER)).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("생성 중 예외가 발생하면 실패 상태가 되고 임시 파일은 남지 않는다")
+    void submit_fails() throws Exception {
+        ExportJob job = exportJobService.submit("text", Map.of("line", "fail"), 1L);
+
+        awaitFinished(job);
+        assertThat(job.getStatus()).isEqualTo(ExportJobStatus.FAILED);
+        try (var files = Files.list(spoolDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThatThrownBy(() -> exportJobService.getCompletedJob(job.getJobId(), 1L, UserRole.MANAGER))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPORT_003);
+    }
+
+    @Test
+    @DisplayName("시작 시 작업 ID 형식의 이전 스풀 파일만 삭제하고 다른 파일은 남긴다")
+    void initSpoolDir_deletesOnlySpoolFiles() throws IOException {
+        String jobId = "0f8fad5b-d9cb-469f-a165-70867728950e";
+        Path leftover = Files.writeString(spoolDir.resolve(jobId), "old");
+        Path leftoverPart = Files.writeString(spoolDir.resolve(jobId + ".part"), "old");
+        Path unrelated = Files.writeString(spoolDir.resolve("report.xlsx"), "keep");
+        Path unrelatedDir = Files.createDirectory(spoolDir.resolve("7c9e6679-7425-40de-944b-e07fc1f90ae7"));
+
+        exportJobService.initSpoolDir();
+
+        assertThat(leftover).doesNotExist();
+        assertThat(leftoverPart).doesNotExist();
+        assertThat(unrelated).exists();
+        assertThat(unrelatedDir).exists();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 유형은 접수를 거절한다")
+    void submit_unknownType() {
+        assertThatThrownBy(() -> exportJobService.submit("unknown", Map.of(), 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPORT_002);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없고 관리자는 조회할 수 있다")
+    void getJob_ownerOnly() throws Exception {
+        ExportJob job = exportJobService.submit("text", Map.of("line", "hello"), 1L);
+        awaitFinished(job);
+
+        assertThatThrownBy(() -> exportJobService.getJob(job.getJobId(), 2L, UserRole.MANAGER))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPORT_001);
+        assertThat(exportJobService.getJob(job.getJobId(), 2L, UserRole.ADMIN)).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 작업은 결과 파일과 함께 정리된다")
+    void removeExpiredJobs() throws Exception {
+        ExportJob job = exportJobService.submit("text", Map.of("line", "hello"), 1L);
+        awaitFinished(job);
+        Thread.sleep(5);
+
+        exportJobService.removeExpiredJobs();
+
+        assertThat(Files.exists(job.getFile())).isFalse();
+        assertThat(exportJobService.getJobs(1L)).isEmpty();
+    }
+
+    private void awaitFinished(ExportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /** line 파라미터를 그대로 기록하고, "fail"이면 기록 도중 실패하는 처리기 */
+    private static class TextHandler implements ExportJobHandler {
+
+        @Override
+        public String type() {
+            return "text";
+        }
+
+        @Override
+        public ExportTask prepare(Map<String, String> params) {
+            String line = params.get("line");
+            return new ExportTask("out.txt", "text/plain", (out, progress) -> {
+                out.write(line.getBytes(StandardCharsets.UTF_8));
+                if ("fail".equals(line)) {
+                    throw new IOException("기록 실패");
+                }
+                progress.advance(1);
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dongkuk.weighing.global.common.pagination;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private record Row(LocalDateTime createdAt, Long id) {}
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 원래 값으로 복원된다")
+    void encodeDecode_RoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123456000), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 첫 페이지(null)로 처리된다")
+    void decode_Blank() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 INVALID_CURSOR 예외")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 1건 더 조회되면 다음 커서는 페이지 마지막 행을 가리킨다")
+    void cursorSlice_HasNext() {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+        List<Row> rows = List.of(new Row(base, 3L), new Row(base, 2L), new Row(base.minusMinutes(1), 1L));
+
+        CursorSlice<Long> slice = CursorSlice.of(rows, 2, Row::createdAt, Row::id, Row::id, null);
+
+        assertThat(slice.content()).containsExactly(3L, 2L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(slice.nextCursor())).isEqualTo(new KeysetCursor(base, 2L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다")
+    void cursorSlice_LastPage() {
+        List<Row> rows = List.of(new Row(LocalDateTime.now(), 1L));
+
+        CursorSlice<Row> slice = CursorSlice.of(rows, 2, Row::createdAt, Row::id, Function.identity(), 10L);
+
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+        assertThat(slice.approximateTotal()).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,205 @@
+package com.dongkuk.weighing.global.common.search;
+
+import com.dongkuk.weighing.audit.domain.AuditLog;
+import com.dongkuk.weighing.audit.domain.AuditLogSpecifications;
+import com.dongkuk.weighing.dispatch.domain.Dispatch;
+import com.dongkuk.weighing.dispatch.domain.DispatchSpecifications;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.pagination.CursorSlice;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingSpecifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋(커서) 페이징 저장소 수준 테스트.
+ *
+ * <p>{@link SearchSpecifications#keysetBefore}로 만든 계량 기록/배차/감사 로그의 {@code after} 조건과
+ * {@link CursorSlice#of}를 실제 조회에 적용하여, 생성일시가 같은 행을 ID로 구분하는지,
+ * 페이지를 끝까지 넘겨도 중복되거나 빠지는 행이 없는지, 마지막 페이지의 {@code hasNext}/{@code nextCursor}와
+ * H2에서의 근사 건수를 확인한다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SearchQueryExecutor.class, DatabaseDialect.class})
+class KeysetPaginationTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 10, 9, 0);
+    private static final LocalDateTime T1 = T0.plusMinutes(1);
+    private static final LocalDateTime T2 = T0.plusMinutes(2);
+    private static final LocalDateTime T3 = T0.plusMinutes(3);
+
+    /** 입력 순서 (ID 순서가 생성일시 순서와 어긋나고, 같은 생성일시가 여러 번 나온다) */
+    private static final List<LocalDateTime> CREATED_ATS = List.of(T1, T3, T1, T0, T2, T1, T2);
+
+    @Autowired
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @Autowired
+    private DatabaseDialect databaseDialect;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Row> weighings = new ArrayList<>();
+    private final List<Row> dispatches = new ArrayList<>();
+    private final List<Row> auditLogs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (LocalDateTime createdAt : CREATED_ATS) {
+            Timestamp at = Timestamp.valueOf(createdAt);
+            jdbcTemplate.update("INSERT INTO tb_weighing (dispatch_id, scale_id, weighing_mode, weighing_step, " +
+                    "weighing_status, created_at, updated_at) VALUES (1, 1, 'LPR_AUTO', 'FIRST', 'IN_PROGRESS', ?, ?)", at, at);
+            weighings.add(new Row(createdAt, lastId("tb_weighing", "weighing_id")));
+            jdbcTemplate.update("INSERT INTO tb_dispatch (vehicle_id, company_id, item_type, item_name, dispatch_date, " +
+                    "dispatch_status, created_at, updated_at) VALUES (1, 1, 'BY_PRODUCT', '품목', ?, 'REGISTERED', ?, ?)",
+                    Date.valueOf(createdAt.toLocalDate()), at, at);
+            dispatches.add(new Row(createdAt, lastId("tb_dispatch", "dispatch_id")));
+            jdbcTemplate.update("INSERT INTO tb_audit_log (actor_id, action_type, entity_type, created_at) " +
+                    "VALUES (1, 'UPDATE', 'DISPATCH', ?)", at);
+            auditLogs.add(new Row(createdAt, lastId("tb_audit_log", "audit_log_id")));
+        }
+    }
+
+    @Test
+    @DisplayName("생성일시가 같은 행은 ID 역순으로 이어지며, 커서 행의 ID보다 작은 행부터 조회된다")
+    void keysetBefore_BreaksCreatedAtTieById() {
+        List<Long> tied = weighings.stream().filter(row -> row.createdAt().equals(T1))
+                .map(Row::id).sorted(Comparator.reverseOrder()).toList();
+        assertThat(tied).hasSize(3);
+
+        // 같은 생성일시 그룹의 가운데 행을 커서로 사용 (서비스와 같이 조회한 엔티티의 생성일시로 만든다)
+        WeighingRecord middle = searchQueryExecutor.findLimited(WeighingRecord.class,
+                (root, query, cb) -> cb.equal(root.get("weighingId"), tied.get(1)), Sort.unsorted(), 1).get(0);
+        KeysetCursor cursor = new KeysetCursor(middle.getCreatedAt(), middle.getWeighingId());
+        List<WeighingRecord> rows = searchQueryExecutor.findLimited(WeighingRecord.class,
+                WeighingSpecifications.after(cursor), WeighingSpecifications.KEYSET_SORT, 10);
+
+        assertThat(rows).extracting(WeighingRecord::getWeighingId)
+                .containsExactly(tied.get(2), idAt(weighings, T0));
+    }
+
+    @Test
+    @DisplayName("계량 기록: 어떤 페이지 크기로 넘겨도 모든 행이 (생성일시, ID) 역순으로 한 번씩만 조회된다")
+    void weighings_ScrollWithoutDuplicatesOrGaps() {
+        for (int size = 1; size <= CREATED_ATS.size() + 1; size++) {
+            assertThat(scrollAll(WeighingRecord.class, WeighingSpecifications::after, WeighingSpecifications.KEYSET_SORT,
+                    WeighingRecord::getCreatedAt, WeighingRecord::getWeighingId, size))
+                    .as("size=%d", size)
+                    .containsExactlyElementsOf(expectedOrder(weighings));
+        }
+    }
+
+    @Test
+    @DisplayName("배차/감사 로그: 같은 키셋 조건으로 모든 행이 한 번씩만 조회된다")
+    void dispatchesAndAuditLogs_ScrollWithoutDuplicatesOrGaps() {
+        for (int size = 1; size <= 3; size++) {
+            assertThat(scrollAll(Dispatch.class, DispatchSpecifications::after, DispatchSpecifications.KEYSET_SORT,
+                    Dispatch::getCreatedAt, Dispatch::getDispatchId, size))
+                    .as("dispatch size=%d", size)
+                    .containsExactlyElementsOf(expectedOrder(dispatches));
+            assertThat(scrollAll(AuditLog.class, AuditLogSpecifications::after, AuditLogSpecifications.KEYSET_SORT,
+                    AuditLog::getCreatedAt, AuditLog::getAuditLogId, size))
+                    .as("audit log size=%d", size)
+                    .containsExactlyElementsOf(expectedOrder(auditLogs));
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 hasNext=false, nextCursor=null이며, 페이지 크기와 남은 행 수가 같아도 마찬가지이다")
+    void lastPage_HasNoNextCursor() {
+        // 7건을 크기 7로 조회: 정확히 한 페이지
+        CursorSlice<Long> single = page(null, CREATED_ATS.size());
+        assertThat(single.content()).hasSize(CREATED_ATS.size());
+        assertThat(single.hasNext()).isFalse();
+        assertThat(single.nextCursor()).isNull();
+
+        // 크기 4: 첫 페이지는 다음 커서를 주고, 두 번째 페이지(3건)가 마지막
+        CursorSlice<Long> first = page(null, 4);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(first.nextCursor()).id()).isEqualTo(first.content().get(3));
+        CursorSlice<Long> last = page(first.nextCursor(), 4);
+        assertThat(last.content()).hasSize(3);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("H2에서는 근사 전체 건수를 추정하지 않는다 (null)")
+    void approximateTotal_IsNullOnH2() {
+        ApproximateRowCounter counter = new ApproximateRowCounter(jdbcTemplate, new ObjectMapper(), databaseDialect);
+
+        Long total = counter.estimate("tb_weighing", WeighingSpecifications.searchSql(null, null, null, null, null));
+
+        assertThat(databaseDialect.isPostgres()).isFalse();
+        assertThat(total).isNull();
+        assertThat(CursorSlice.of(List.of(), 20, row -> T0, row -> 1L, row -> row, total).approximateTotal()).isNull();
+    }
+
+    // ─── 헬퍼 ───
+
+    private CursorSlice<Long> page(String after, int size) {
+        List<WeighingRecord> rows = searchQueryExecutor.findLimited(WeighingRecord.class,
+                WeighingSpecifications.after(KeysetCursor.decode(after)), WeighingSpecifications.KEYSET_SORT, size + 1);
+        return CursorSlice.of(rows, size, WeighingRecord::getCreatedAt, WeighingRecord::getWeighingId,
+                WeighingRecord::getWeighingId, null);
+    }
+
+    /** 서비스의 scroll 메서드와 같은 방식으로 마지막 페이지까지 넘기며 ID를 모은다. */
+    private <E> List<Long> scrollAll(Class<E> type, Function<KeysetCursor, Specification<E>> after, Sort sort,
+                                     Function<E, LocalDateTime> createdAtOf, Function<E, Long> idOf, int size) {
+        List<Long> ids = new ArrayList<>();
+        String token = null;
+        for (int pages = 0; pages <= CREATED_ATS.size(); pages++) {
+            List<E> rows = searchQueryExecutor.findLimited(type, after.apply(KeysetCursor.decode(token)), sort, size + 1);
+            CursorSlice<Long> slice = CursorSlice.of(rows, size, createdAtOf, idOf, idOf, null);
+            assertThat(slice.content()).hasSizeLessThanOrEqualTo(size);
+            ids.addAll(slice.content());
+            if (!slice.hasNext()) {
+                assertThat(slice.nextCursor()).isNull();
+                return ids;
+            }
+            token = slice.nextCursor();
+        }
+        throw new AssertionError("페이지가 끝나지 않음: size=" + size);
+    }
+
+    private static List<Long> expectedOrder(List<Row> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparing(Row::createdAt).thenComparing(Row::id).reversed())
+                .map(Row::id)
+                .toList();
+    }
+
+    private static Long idAt(List<Row> rows, LocalDateTime createdAt) {
+        return rows.stream().filter(row -> row.createdAt().equals(createdAt)).findFirst().orElseThrow().id();
+    }
+
+    private Long lastId(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+    }
+
+    private record Row(LocalDateTime createdAt, Long id) {}
+}
@@ -0,0 +1,221 @@
+package com.dongkuk.weighing.global.common.search;
+
+import com.dongkuk.weighing.audit.domain.AuditActionType;
+import com.dongkuk.weighing.audit.domain.AuditLogRepository;
+import com.dongkuk.weighing.audit.domain.AuditLogSpecifications;
+import com.dongkuk.weighing.dispatch.domain.Dispatch;
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.dispatch.domain.DispatchSpecifications;
+import com.dongkuk.weighing.dispatch.domain.DispatchStatus;
+import com.dongkuk.weighing.dispatch.domain.ItemType;
+import com.dongkuk.weighing.global.common.pagination.KeysetCursor;
+import com.dongkuk.weighing.slip.domain.WeighingSlipRepository;
+import com.dongkuk.weighing.slip.domain.WeighingSlipSpecifications;
+import com.dongkuk.weighing.weighing.domain.WeighingMode;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingSpecifications;
+import com.dongkuk.weighing.weighing.domain.WeighingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.dongkuk.weighing.global.common.search.SqlCaptureInspector.whereClause;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 Specification이 지정된 필터에 대해서만 조건을 생성하는지 SQL로 검증한다.
+ * {@code (? IS NULL OR ...)} 형태의 범용 조건이 남아 있지 않아야 한다.
+ * SELECT 목록에는 모든 컬럼이 나오므로, 생성되지 않아야 할 조건은 WHERE 절에서만 확인한다.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.dongkuk.weighing.global.common.search.SqlCaptureInspector")
+@ActiveProfiles("test")
+@Import(SearchQueryExecutor.class)
+class SearchSpecificationSqlTest {
+
+    private static final LocalDateTime FROM = LocalDate.of(2026, 3, 1).atStartOfDay();
+    private static final LocalDateTime TO = LocalDate.of(2026, 3, 31).atTime(23, 59, 59);
+
+    @Autowired
+    private WeighingRepository weighingRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private WeighingSlipRepository slipRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptureInspector.clear();
+    }
+
+    @Nested
+    @DisplayName("계량 기록 검색")
+    class WeighingSearch {
+
+        @Test
+        @DisplayName("필터가 없으면 WHERE 절이 생성되지 않는다")
+        void noFilter() {
+            weighingRepository.findAll(
+                    WeighingSpecifications.search(null, null, null, null, null), PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("fromtb_weighing");
+            assertThat(sql).doesNotContain("where");
+        }
+
+        @Test
+        @DisplayName("기간 + 상태 필터는 해당 컬럼 조건만 생성한다")
+        void periodAndStatus() {
+            weighingRepository.findAll(
+                    WeighingSpecifications.search(FROM, TO, null, WeighingStatus.COMPLETED, null),
+                    PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("created_at>=?", "created_at<=?", "weighing_status=?");
+            assertThat(whereClause(sql)).doesNotContain("weighing_mode=?", "lpr_plate_number", "isnull");
+        }
+
+        @Test
+        @DisplayName("계량 모드 단독 필터")
+        void modeOnly() {
+            weighingRepository.findAll(
+                    WeighingSpecifications.search(null, null, WeighingMode.LPR_AUTO, null, null),
+                    PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("weighing_mode=?");
+            assertThat(whereClause(sql)).doesNotContain("created_at>=?", "weighing_status=?", "isnull");
+        }
+
+        @Test
+        @DisplayName("차량번호는 이스케이프된 LIKE 조건을 생성한다")
+        void plateNumber() {
+            weighingRepository.findAll(
+                    WeighingSpecifications.search(null, null, null, null, " 12가 "), PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("lpr_plate_numberlike?escape");
+            assertThat(whereClause(sql)).doesNotContain("created_at", "isnull");
+        }
+
+        @Test
+        @DisplayName("키셋 조회는 커서 조건과 (생성일시, ID) 역순 정렬을 생성하고 COUNT를 수행하지 않는다")
+        void keyset() {
+            searchQueryExecutor.findLimited(
+                    WeighingRecord.class,
+                    WeighingSpecifications.search(null, null, null, WeighingStatus.COMPLETED, null)
+                            .and(WeighingSpecifications.after(new KeysetCursor(TO, 100L))),
+                    WeighingSpecifications.KEYSET_SORT,
+                    21);
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("weighing_status=?", "created_at<=?", "created_at<?", "weighing_id<?");
+            assertThat(sql).containsPattern("orderby\\w+\\.created_atdesc,\\w+\\.weighing_iddesc");
+            assertThat(whereClause(sql)).doesNotContain("isnull");
+        }
+
+        @Test
+        @DisplayName("첫 페이지 키셋 조회는 커서 조건이 없다")
+        void keysetFirstPage() {
+            searchQueryExecutor.findLimited(
+                    WeighingRecord.class,
+                    WeighingSpecifications.search(null, null, null, null, null)
+                            .and(WeighingSpecifications.after(null)),
+                    WeighingSpecifications.KEYSET_SORT,
+                    21);
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).doesNotContain("where");
+            assertThat(sql).contains("created_atdesc");
+        }
+    }
+
+    @Nested
+    @DisplayName("배차 검색")
+    class DispatchSearch {
+
+        @Test
+        @DisplayName("품목 유형 + 상태 필터는 배차일자 조건을 생성하지 않는다")
+        void itemTypeAndStatus() {
+            dispatchRepository.findAll(
+                    DispatchSpecifications.search(null, null, ItemType.BY_PRODUCT, DispatchStatus.REGISTERED),
+                    PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("fromtb_dispatch", "item_type=?", "dispatch_status=?");
+            assertThat(whereClause(sql)).doesNotContain("dispatch_date", "isnull");
+        }
+
+        @Test
+        @DisplayName("당일 배차 조회는 배차일자 범위 조건만 생성한다")
+        void today() {
+            LocalDate today = LocalDate.now();
+            dispatchRepository.findAll(DispatchSpecifications.search(today, today, null, null));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("dispatch_date>=?", "dispatch_date<=?");
+            assertThat(whereClause(sql)).doesNotContain("item_type=?", "dispatch_status=?", "isnull");
+        }
+
+        @Test
+        @DisplayName("키셋 조회는 배차 ID 기준 커서 조건을 생성한다")
+        void keyset() {
+            searchQueryExecutor.findLimited(
+                    Dispatch.class,
+                    DispatchSpecifications.search(null, null, null, null)
+                            .and(DispatchSpecifications.after(new KeysetCursor(TO, 5L))),
+                    DispatchSpecifications.KEYSET_SORT,
+                    21);
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("created_at<=?", "dispatch_id<?");
+            assertThat(sql).containsPattern("orderby\\w+\\.created_atdesc,\\w+\\.dispatch_iddesc");
+        }
+    }
+
+    @Nested
+    @DisplayName("전표 / 감사 로그 검색")
+    class SlipAndAuditSearch {
+
+        @Test
+        @DisplayName("전표 기간 검색: 시작일만 지정하면 하한 조건만 생성한다")
+        void slipFromOnly() {
+            slipRepository.findAll(WeighingSlipSpecifications.period(FROM, null), PageRequest.of(0, 20));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("fromtb_weighing_slip", "created_at>=?");
+            assertThat(whereClause(sql)).doesNotContain("created_at<=?", "isnull");
+        }
+
+        @Test
+        @DisplayName("감사 로그: 수행자 + 작업유형 필터")
+        void auditActorAndAction() {
+            auditLogRepository.findAll(
+                    AuditLogSpecifications.search(1L, AuditActionType.LOGIN, null, null, null),
+                    PageRequest.of(0, 20, AuditLogSpecifications.DEFAULT_SORT));
+
+            String sql = SqlCaptureInspector.lastSelect();
+            assertThat(sql).contains("fromtb_audit_log", "actor_id=?", "action_type=?", "created_atdesc");
+            assertThat(whereClause(sql)).doesNotContain("entity_type=?", "created_at>=?", "isnull");
+        }
+    }
+}
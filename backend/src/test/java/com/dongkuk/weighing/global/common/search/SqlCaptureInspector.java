@@ -0,0 +1,51 @@
+package com.dongkuk.weighing.global.common.search;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 SQL 수집기.
+ * Hibernate가 실행하는 SQL을 기록하여 생성된 WHERE 절을 검증할 수 있게 한다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    /** 마지막으로 실행된 SELECT 문 (공백 제거, 소문자) */
+    static String lastSelect() {
+        synchronized (STATEMENTS) {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i).replaceAll("\\s+", "").toLowerCase();
+                if (sql.startsWith("select") && !sql.startsWith("selectcount(")) {
+                    return sql;
+                }
+            }
+            throw new AssertionError("실행된 SELECT 문이 없습니다");
+        }
+    }
+
+    /**
+     * SQL의 WHERE 절 (WHERE 이후 부분, WHERE가 없으면 빈 문자열).
+     * SELECT 목록의 컬럼명과 구분하여 조건 생성 여부를 확인할 때 사용한다.
+     */
+    static String whereClause(String sql) {
+        int where = sql.indexOf("where");
+        return where < 0 ? "" : sql.substring(where + "where".length());
+    }
+}
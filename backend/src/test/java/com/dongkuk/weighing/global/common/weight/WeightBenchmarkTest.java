@@ -0,0 +1,103 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중량 값 타입 벤치마크.
+ *
+ * <p>계량 통계/집계 경로에서 하는 연산(순중량 = 총중량 - 공차, 순중량 합계, 톤 환산)을
+ * 기존 {@link BigDecimal} 방식과 {@link Weight}(그램 단위 long) 방식으로 각각 수행하여
+ * 반복당 소요 시간과 스레드 할당량을 비교한다. 두 방식의 결과가 같은지도 확인한다.</p>
+ *
+ * <p>JIT 워밍업이 필요하므로 기본 빌드에서는 실행하지 않는다.
+ * {@code ./gradlew test -Pbenchmark=true --tests '*WeightBenchmarkTest'} 로 실행한다.</p>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WeightBenchmarkTest {
+
+    private static final int RECORDS = 100_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    @DisplayName("순중량 계산/합계/톤 환산: BigDecimal vs Weight")
+    void compareBigDecimalAndWeight() {
+        Random random = new Random(42);
+        BigDecimal[] grossDecimals = new BigDecimal[RECORDS];
+        BigDecimal[] tareDecimals = new BigDecimal[RECORDS];
+        Weight[] grossWeights = new Weight[RECORDS];
+        Weight[] tareWeights = new Weight[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            // NUMERIC(10, 2) 컬럼 값과 같은 0.01kg 단위
+            long grossCents = 1_500_000 + random.nextInt(3_000_000);
+            long tareCents = 700_000 + random.nextInt(800_000);
+            grossDecimals[i] = BigDecimal.valueOf(grossCents, 2);
+            tareDecimals[i] = BigDecimal.valueOf(tareCents, 2);
+            grossWeights[i] = Weight.ofGrams(grossCents * 10);
+            tareWeights[i] = Weight.ofGrams(tareCents * 10);
+        }
+
+        Supplier<Double> bigDecimal = () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = 0; i < RECORDS; i++) {
+                sum = sum.add(grossDecimals[i].subtract(tareDecimals[i]));
+            }
+            return sum.divide(BigDecimal.valueOf(1000), 3, RoundingMode.HALF_UP).doubleValue();
+        };
+        Supplier<Double> weight = () -> {
+            Weight sum = Weight.ZERO;
+            for (int i = 0; i < RECORDS; i++) {
+                sum = sum.plus(grossWeights[i].minus(tareWeights[i]));
+            }
+            return Math.round(sum.tons() * 1000) / 1000.0;
+        };
+
+        assertThat(weight.get()).isEqualTo(bigDecimal.get());
+
+        Result decimalResult = measure(bigDecimal);
+        Result weightResult = measure(weight);
+        log.info("records={}", RECORDS);
+        log.info("BigDecimal: msPerOp={}, bytesPerOp={}", String.format("%.3f", decimalResult.millis()), decimalResult.bytes());
+        log.info("Weight: msPerOp={}, bytesPerOp={}", String.format("%.3f", weightResult.millis()), weightResult.bytes());
+    }
+
+    private Result measure(Supplier<Double> task) {
+        double blackhole = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole += task.get();
+        }
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += task.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = allocatedBytes() - allocatedBefore;
+        assertThat(blackhole).isPositive();
+        return new Result(elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean) {
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private record Result(double millis, long bytes) {
+    }
+}
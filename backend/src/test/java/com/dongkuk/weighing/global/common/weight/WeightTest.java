@@ -0,0 +1,116 @@
+package com.dongkuk.weighing.global.common.weight;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("kg 문자열 해석")
+    class ParseKg {
+
+        @Test
+        @DisplayName("정수/소수 kg 값을 그램으로 변환한다")
+        void shouldParseDecimalKg() {
+            assertThat(Weight.parseKg("25300").grams()).isEqualTo(25_300_000L);
+            assertThat(Weight.parseKg("25300.5").grams()).isEqualTo(25_300_500L);
+            assertThat(Weight.parseKg("0.01").grams()).isEqualTo(10L);
+            assertThat(Weight.parseKg("+12.345").grams()).isEqualTo(12_345L);
+            assertThat(Weight.parseKg(".5").grams()).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("그램 미만은 BigDecimal HALF_UP 반올림과 같게 처리한다")
+        void shouldRoundHalfUpLikeBigDecimal() {
+            for (String text : new String[]{"12.3454", "12.3455", "12.34549", "-12.3455", "-0.0004", "1.2E3", "9.9995"}) {
+                assertThat(Weight.parseKg(text)).as(text).isEqualTo(Weight.ofKg(new BigDecimal(text)));
+            }
+        }
+
+        @Test
+        @DisplayName("숫자가 아니면 NumberFormatException")
+        void shouldRejectNonNumeric() {
+            assertThatThrownBy(() -> Weight.parseKg("12kg")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> Weight.parseKg("-")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> Weight.parseKg("1.2.3")).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("연산과 표현")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("총중량 - 공차중량 = 순중량 (그램 단위 정확 연산)")
+        void shouldSubtractExactly() {
+            Weight net = Weight.parseKg("25300.10").minus(Weight.parseKg("8500.20"));
+
+            assertThat(net).isEqualTo(Weight.parseKg("16799.9"));
+            assertThat(net.toBigDecimalKg()).isEqualByComparingTo("16799.90");
+            assertThat(Weight.ofKg(1L).minus(Weight.ofKg(2L)).isNegative()).isTrue();
+            assertThat(Weight.ofKg(3L).plus(Weight.ofKg(3L).negate())).isSameAs(Weight.ZERO);
+        }
+
+        @Test
+        @DisplayName("문자열 표현은 NUMERIC(10, 2) 컬럼 출력과 같다")
+        void shouldFormatLikeNumericColumn() {
+            assertThat(Weight.ofKg(25300L).toPlainString()).isEqualTo("25300.00");
+            assertThat(Weight.parseKg("8500.5").toPlainString()).isEqualTo("8500.50");
+            assertThat(Weight.parseKg("12.345").toPlainString()).isEqualTo("12.345");
+            assertThat(Weight.parseKg("0.005").toPlainString()).isEqualTo("0.005");
+            assertThat(Weight.parseKg("-3.07").toPlainString()).isEqualTo("-3.07");
+            assertThat(Weight.ZERO.toPlainString()).isEqualTo("0.00");
+        }
+
+        @Test
+        @DisplayName("톤/kg 실수 값")
+        void shouldConvertToDoubleUnits() {
+            assertThat(Weight.ofKg(25300L).tons()).isEqualTo(25.3);
+            assertThat(Weight.ofGrams(1_500L).kg()).isEqualTo(1.5);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON 직렬화")
+    class Json {
+
+        record Payload(Weight weight) {
+        }
+
+        @Test
+        @DisplayName("kg 단위 숫자로 직렬화하고 다시 읽으면 같은 값이다")
+        void shouldRoundTrip() throws Exception {
+            String json = objectMapper.writeValueAsString(new Payload(Weight.parseKg("25300.125")));
+
+            assertThat(json).isEqualTo("{\"weight\":25300.125}");
+            assertThat(objectMapper.readValue(json, Payload.class).weight()).isEqualTo(Weight.parseKg("25300.125"));
+        }
+
+        @Test
+        @DisplayName("정수/문자열/빈 문자열 입력")
+        void shouldReadIntegerAndStringInput() throws Exception {
+            assertThat(objectMapper.readValue("{\"weight\":25300}", Payload.class).weight())
+                    .isEqualTo(Weight.ofKg(25300L));
+            assertThat(objectMapper.readValue("{\"weight\":\"0.1\"}", Payload.class).weight().grams())
+                    .isEqualTo(100L);
+            assertThat(objectMapper.readValue("{\"weight\":\"\"}", Payload.class).weight()).isNull();
+        }
+
+        @Test
+        @DisplayName("숫자가 아닌 문자열은 InvalidFormatException")
+        void shouldRejectInvalidString() {
+            assertThatThrownBy(() -> objectMapper.readValue("{\"weight\":\"abc\"}", Payload.class))
+                    .isInstanceOf(InvalidFormatException.class);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.dongkuk.weighing.global.partition;
+
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.lpr.domain.LprCapture;
+import com.dongkuk.weighing.lpr.domain.LprCaptureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 단위 파티션 관리 작업 테스트.
+ *
+ * <p>PostgreSQL 컨테이너에서 Hibernate가 만든 일반 테이블을 파티션 테이블로 전환하고,
+ * 저장소 조회와 같은 조건의 실행 계획이 파티션 키 범위 밖의 월 파티션을 제외(프루닝)하는지,
+ * 보존 기간이 지난 파티션이 보관 스키마로 분리되는지 확인한다. Docker가 없으면 건너뛴다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionMaintenanceServiceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LprCaptureRepository lprCaptureRepository;
+
+    private PartitionJdbcRepository partitionJdbcRepository;
+    private PartitionProperties properties;
+    private PartitionMaintenanceService service;
+    private final YearMonth currentMonth = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        partitionJdbcRepository = new PartitionJdbcRepository(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+        properties = new PartitionProperties();
+        properties.setRetentionMonths(0);
+        service = new PartitionMaintenanceService(partitionJdbcRepository, properties, transactionManager);
+        service.maintain();
+    }
+
+    @Test
+    @DisplayName("빈 테이블은 파티션 테이블로 전환되고 이번 달부터 사전 생성 개월 수만큼 월 파티션이 생긴다")
+    void convertsAndPremakesPartitions() {
+        assertThat(partitionJdbcRepository.isPartitioned(PartitionedTable.WEIGHING)).isTrue();
+        assertThat(partitionJdbcRepository.isPartitioned(PartitionedTable.LPR_CAPTURE)).isTrue();
+        assertThat(partitionJdbcRepository.findPartitions(PartitionedTable.WEIGHING))
+                .extracting(PartitionJdbcRepository.PartitionInfo::name)
+                .contains(PartitionedTable.WEIGHING.defaultPartitionName(),
+                        PartitionedTable.WEIGHING.partitionName(currentMonth),
+                        PartitionedTable.WEIGHING.partitionName(currentMonth.plusMonths(properties.getPremakeMonths())));
+
+        // 파티션 테이블에도 IDENTITY 식별자로 저장된다.
+        LprCapture saved = lprCaptureRepository.save(LprCapture.builder()
+                .scaleId(1L).rawPlateNumber("12가3456").captureTimestamp(LocalDateTime.now()).build());
+        assertThat(saved.getCaptureId()).isNotNull();
+        assertThat(lprCaptureRepository.findById(saved.getCaptureId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("파티션 키 범위 조건이 있는 저장소 조회는 범위 밖의 월 파티션을 읽지 않는다")
+    void prunesPartitionsByKeyRange() {
+        YearMonth previousMonth = currentMonth.minusMonths(1);
+        inTransaction(() -> {
+            partitionJdbcRepository.createMonthlyPartition(PartitionedTable.WEIGHING, previousMonth);
+            partitionJdbcRepository.createMonthlyPartition(PartitionedTable.LPR_CAPTURE, previousMonth);
+        });
+        Timestamp monthStart = Timestamp.valueOf(currentMonth.atDay(1).atStartOfDay());
+        Timestamp monthEnd = Timestamp.valueOf(currentMonth.atEndOfMonth().atTime(23, 59, 59));
+
+        // WeighingRepository.countByStatusAndPeriod
+        String weighingPlan = explain("SELECT COUNT(*) FROM tb_weighing WHERE weighing_status = 'COMPLETED' " +
+                "AND created_at >= ? AND created_at <= ?", monthStart, monthEnd);
+        assertThat(weighingPlan).contains(PartitionedTable.WEIGHING.partitionName(currentMonth))
+                .doesNotContain(PartitionedTable.WEIGHING.partitionName(previousMonth))
+                .doesNotContain(PartitionedTable.WEIGHING.partitionName(currentMonth.plusMonths(1)));
+
+        // LprCaptureRepository.findRecentByScaleId
+        String capturePlan = explain("SELECT * FROM tb_lpr_capture WHERE scale_id = ? AND capture_timestamp > ? " +
+                "ORDER BY capture_timestamp DESC", 1L, monthStart);
+        assertThat(capturePlan).contains(PartitionedTable.LPR_CAPTURE.partitionName(currentMonth))
+                .doesNotContain(PartitionedTable.LPR_CAPTURE.partitionName(previousMonth));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 파티션은 분리되어 보관 스키마로 이동한다")
+    void archivesExpiredPartitions() {
+        YearMonth expiredMonth = currentMonth.minusMonths(3);
+        inTransaction(() -> partitionJdbcRepository.createMonthlyPartition(PartitionedTable.LPR_CAPTURE, expiredMonth));
+        LprCapture expired = lprCaptureRepository.save(LprCapture.builder()
+                .scaleId(1L).rawPlateNumber("34나5678").captureTimestamp(expiredMonth.atDay(10).atStartOfDay())
+                .build());
+
+        properties.setRetentionMonths(2);
+        service.maintain();
+
+        assertThat(partitionJdbcRepository.findPartitions(PartitionedTable.LPR_CAPTURE))
+                .extracting(PartitionJdbcRepository.PartitionInfo::name)
+                .doesNotContain(PartitionedTable.LPR_CAPTURE.partitionName(expiredMonth))
+                .contains(PartitionedTable.LPR_CAPTURE.partitionName(currentMonth));
+        assertThat(lprCaptureRepository.findById(expired.getCaptureId())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + properties.getArchiveSchema() + "." +
+                PartitionedTable.LPR_CAPTURE.partitionName(expiredMonth), Long.class)).isEqualTo(1L);
+    }
+
+    private String explain(String sql, Object... args) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        return String.join("\n", lines);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
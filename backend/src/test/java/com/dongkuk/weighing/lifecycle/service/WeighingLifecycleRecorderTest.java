@@ -0,0 +1,145 @@
+package com.dongkuk.weighing.lifecycle.service;
+
+import com.dongkuk.weighing.lifecycle.config.WeighingLifecycleExecutorConfig;
+import com.dongkuk.weighing.lifecycle.domain.WeighingLifecycleStage;
+import com.dongkuk.weighing.lifecycle.domain.WeighingTimelineEntryRepository;
+import com.dongkuk.weighing.lifecycle.dto.WeighingTimelineResponse;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계량 진행 단계 기록기 테스트.
+ *
+ * <p>LPR 촬영부터 출문까지 각 단계 이벤트를 별도 트랜잭션으로 발행하여, 커밋 후 작업자 스레드에서
+ * 타임라인이 연결을 따라 재구성되고 단계 전환 타이머가 계량대/계량 모드 태그로 기록되는지 확인한다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WeighingLifecycleRecorder.class, WeighingTimelineService.class, WeighingLifecycleExecutorConfig.class,
+        WeighingLifecycleRecorderTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WeighingLifecycleRecorderTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WeighingTimelineService timelineService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WeighingTimelineEntryRepository timelineRepository;
+
+    @Test
+    @DisplayName("LPR 촬영부터 출문까지 단계가 하나의 타임라인으로 연결되고 전환 시간이 메트릭으로 기록된다")
+    void recordsTimelineAndTimers() throws InterruptedException {
+        LocalDateTime capturedAt = LocalDateTime.now().minusSeconds(30);
+        publish(WeighingLifecycleEvent.lprCaptured(501L, 3L, capturedAt));
+        publish(WeighingLifecycleEvent.dispatchMatched(501L, 77L, 3L));
+        publish(WeighingLifecycleEvent.weighing(WeighingLifecycleStage.WEIGHING_CREATED, 9001L, 77L, 3L, "LPR_AUTO"));
+        publish(WeighingLifecycleEvent.weighing(WeighingLifecycleStage.TARE_RECORDED, 9001L, 77L, 3L, "LPR_AUTO"));
+        publish(WeighingLifecycleEvent.weighing(WeighingLifecycleStage.WEIGHING_COMPLETED, 9001L, 77L, 3L, "LPR_AUTO"));
+        publish(WeighingLifecycleEvent.gatePassed(9001L, 77L, LocalDateTime.now()));
+
+        WeighingTimelineResponse timeline = awaitTimeline(9001L, 6);
+
+        assertThat(timeline.stages()).extracting(WeighingTimelineResponse.StageItem::stage).containsExactly(
+                "LPR_CAPTURED", "DISPATCH_MATCHED", "WEIGHING_CREATED",
+                "TARE_RECORDED", "WEIGHING_COMPLETED", "GATE_PASSED");
+        assertThat(timeline.scaleId()).isEqualTo(3L);
+        assertThat(timeline.weighingMode()).isEqualTo("LPR_AUTO");
+        assertThat(timeline.totalMs()).isGreaterThanOrEqualTo(30_000L);
+        assertThat(timeline.stages().get(0).elapsedMs()).isNull();
+        assertThat(timeline.stages().get(1).elapsedMs()).isGreaterThanOrEqualTo(30_000L);
+
+        Timer matchToCreate = meterRegistry.find("weighing.lifecycle.transition")
+                .tags("from", "DISPATCH_MATCHED", "to", "WEIGHING_CREATED", "scale", "3", "mode", "LPR_AUTO")
+                .timer();
+        assertThat(matchToCreate).isNotNull();
+        assertThat(matchToCreate.count()).isEqualTo(1);
+        // 출문 단계는 계량대/모드를 직전 단계에서 이어받는다
+        assertThat(meterRegistry.find("weighing.lifecycle.transition")
+                .tags("to", "GATE_PASSED", "scale", "3", "mode", "LPR_AUTO").timer()).isNotNull();
+        assertThat(meterRegistry.find("weighing.lifecycle.total").tags("first", "LPR_CAPTURED").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 계량대에서 매칭된 배차는 계량 생성의 직전 단계로 연결하지 않는다")
+    void ignoresMatchFromOtherScale() throws InterruptedException {
+        publish(WeighingLifecycleEvent.lprCaptured(601L, 1L, LocalDateTime.now()));
+        publish(WeighingLifecycleEvent.dispatchMatched(601L, 88L, 1L));
+        publish(WeighingLifecycleEvent.weighing(WeighingLifecycleStage.WEIGHING_CREATED, 9002L, 88L, 2L, "MANUAL"));
+
+        WeighingTimelineResponse timeline = awaitTimeline(9002L, 1);
+
+        assertThat(timeline.stages()).extracting(WeighingTimelineResponse.StageItem::stage)
+                .containsExactly("WEIGHING_CREATED");
+    }
+
+    @Test
+    @DisplayName("롤백된 단계는 기록하지 않고, 기록 실패는 이후 단계 기록을 막지 않는다")
+    void skipsRolledBackAndSurvivesFailure() throws InterruptedException {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(
+                    WeighingLifecycleEvent.weighing(WeighingLifecycleStage.WEIGHING_CREATED, 9003L, null, 1L, "MANUAL"));
+            status.setRollbackOnly();
+        });
+        // 단계가 없는 이벤트는 작업자 스레드에서 실패하고 로그만 남는다
+        publish(new WeighingLifecycleEvent(null, 9003L, null, null, null, null, LocalDateTime.now()));
+        publish(WeighingLifecycleEvent.weighing(WeighingLifecycleStage.TARE_RECORDED, 9003L, null, 1L, "MANUAL"));
+
+        WeighingTimelineResponse timeline = awaitTimeline(9003L, 1);
+
+        assertThat(timeline.stages()).extracting(WeighingTimelineResponse.StageItem::stage)
+                .containsExactly("TARE_RECORDED");
+    }
+
+    private void publish(WeighingLifecycleEvent event) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    /** 작업자 스레드가 계량 기록의 단계를 기대한 수만큼 저장할 때까지 기다린다. */
+    private WeighingTimelineResponse awaitTimeline(Long weighingId, int expectedStages) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((timelineRepository.findByWeighingIdOrderByOccurredAtAscEntryIdAsc(weighingId).isEmpty()
+                || timelineService.getTimeline(weighingId).stages().size() < expectedStages)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return timelineService.getTimeline(weighingId);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
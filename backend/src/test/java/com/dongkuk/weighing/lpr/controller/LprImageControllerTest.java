@@ -0,0 +1,50 @@
+package com.dongkuk.weighing.lpr.controller;
+
+import com.dongkuk.weighing.global.common.exception.GlobalExceptionHandler;
+import com.dongkuk.weighing.lpr.config.LprImageProperties;
+import com.dongkuk.weighing.lpr.service.LprImageStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = LprImageController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*Security.*|.*Jwt.*|.*Cors.*"))
+@Import({GlobalExceptionHandler.class, LprImageExceptionHandler.class})
+class LprImageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LprImageStore lprImageStore;
+
+    @MockBean
+    private LprImageProperties lprImageProperties;
+
+    @Test
+    @DisplayName("POST /api/v1/lpr/images - 업로드 크기 초과는 LPR 전용 처리기가 LPR_003으로 응답")
+    void uploadTooLarge() throws Exception {
+        given(lprImageStore.store(any())).willThrow(new MaxUploadSizeExceededException(10));
+
+        mockMvc.perform(multipart("/api/v1/lpr/images")
+                        .file(new MockMultipartFile("file", "plate.jpg", "image/jpeg", new byte[]{1, 2, 3})))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("LPR_003"));
+    }
+}
@@ -0,0 +1,216 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.global.common.exception.BusinessException;
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.lpr.config.LprImageProperties;
+import com.dongkuk.weighing.lpr.service.LprImageStore.StoredImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LPR 이미지 저장소 테스트.
+ *
+ * <p>임시 디렉토리를 저장소로 사용하여 내용 주소 경로, 중복 제거, 형식/크기/픽셀 수 검증,
+ * 비동기 썸네일 생성과 이미지 ID 검증을 확인한다.</p>
+ */
+class LprImageStoreTest {
+
+    @TempDir
+    Path storageDir;
+
+    private LprImageProperties properties;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private LprImageStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new LprImageProperties();
+        properties.setStorageDir(storageDir.toString());
+        properties.setMaxUploadSize(DataSize.ofKilobytes(64));
+        properties.setThumbnailMaxWidth(40);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LprImageStore(executor, properties, meterRegistry);
+        store.initStorageDir();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미지는 SHA-256 해시 앞 4자리로 분산된 경로에 저장되고, 같은 내용은 한 번만 저장된다")
+    void store_ContentAddressedAndDeduplicated() throws Exception {
+        byte[] png = png(200, 100);
+
+        StoredImage first = store.store(new ByteArrayInputStream(png));
+        StoredImage second = store.store(new ByteArrayInputStream(png));
+
+        String hash = first.imageId().substring(0, 64);
+        assertThat(first.imageId()).matches("[0-9a-f]{64}\\.png");
+        assertThat(first.contentType()).isEqualTo("image/png");
+        assertThat(first.deduplicated()).isFalse();
+        assertThat(first.file()).isEqualTo(storageDir.resolve("originals")
+                .resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(first.imageId()));
+        assertThat(Files.readAllBytes(first.file())).isEqualTo(png);
+
+        assertThat(second.imageId()).isEqualTo(first.imageId());
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(meterRegistry.get("lpr.image.stored").tag("result", "new").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("lpr.image.stored").tag("result", "deduplicated").counter().count())
+                .isEqualTo(1.0);
+        assertThat(listFiles(storageDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("썸네일은 비동기로 최대 가로 크기 이하의 JPEG로 생성된다")
+    void store_CreatesThumbnailAsync() throws Exception {
+        StoredImage image = store.store(new ByteArrayInputStream(png(200, 100)));
+
+        Optional<StoredImage> thumbnail = awaitThumbnail(image.imageId());
+
+        assertThat(thumbnail).isPresent();
+        assertThat(thumbnail.get().contentType()).isEqualTo("image/jpeg");
+        assertThat(thumbnail.get().etag()).isNotEqualTo(image.etag());
+        BufferedImage decoded = ImageIO.read(thumbnail.get().file().toFile());
+        assertThat(decoded.getWidth()).isEqualTo(40);
+        assertThat(decoded.getHeight()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("JPEG/PNG 시그니처가 아닌 파일은 거절하고 임시 파일을 남기지 않는다")
+    void store_RejectsUnsupportedFormat() throws IOException {
+        byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(text)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.LPR_002));
+        assertThat(listFiles(storageDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 이미지는 거절한다")
+    void store_RejectsOversizedImage() throws IOException {
+        byte[] oversized = new byte[70 * 1024];
+        oversized[0] = (byte) 0xFF;
+        oversized[1] = (byte) 0xD8;
+        oversized[2] = (byte) 0xFF;
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(oversized)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.LPR_003));
+        assertThat(listFiles(storageDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시그니처만 맞고 헤더를 해석할 수 없는 이미지는 형식 오류로 거절한다")
+    void store_RejectsUndecodableImage() throws IOException {
+        byte[] corrupt = Arrays.copyOf(png(200, 100), 20);
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(corrupt)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.LPR_002));
+        assertThat(listFiles(storageDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더의 가로×세로가 픽셀 수 한도를 넘는 이미지는 디코딩하지 않고 거절한다")
+    void store_RejectsImageOverPixelLimit() throws IOException {
+        properties.setMaxPixels(10_000);
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(png(200, 100))))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.LPR_005));
+        assertThat(listFiles(storageDir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 원본이 픽셀 수 한도를 넘으면 썸네일을 만들지 않는다")
+    void findThumbnail_SkipsOriginalOverPixelLimit() throws Exception {
+        byte[] png = png(200, 100);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png));
+        Path original = storageDir.resolve("originals").resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4))
+                .resolve(hash + ".png");
+        Files.createDirectories(original.getParent());
+        Files.write(original, png);
+        properties.setMaxPixels(10_000);
+
+        assertThat(store.findThumbnail(hash + ".png")).isEmpty();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("lpr.image.thumbnail").tag("result", "skipped").counter().count() < 1.0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.get("lpr.image.thumbnail").tag("result", "skipped").counter().count())
+                .isEqualTo(1.0);
+        assertThat(store.findThumbnail(hash + ".png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않거나 저장되지 않은 이미지 ID는 찾을 수 없음으로 처리한다")
+    void getOriginal_RejectsInvalidOrMissingId() {
+        String[] invalidIds = {"../../etc/passwd", "ABC.png", "a".repeat(64) + ".gif", "a".repeat(64) + ".png"};
+
+        for (String imageId : invalidIds) {
+            assertThatThrownBy(() -> store.getOriginal(imageId))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.LPR_001));
+        }
+    }
+
+    private Optional<StoredImage> awaitThumbnail(String imageId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        Optional<StoredImage> thumbnail = store.findThumbnail(imageId);
+        while (thumbnail.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            thumbnail = store.findThumbnail(imageId);
+        }
+        return thumbnail;
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xFF0000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+}
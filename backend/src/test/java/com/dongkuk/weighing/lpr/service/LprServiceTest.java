@@ -0,0 +1,108 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.dispatch.dto.DispatchResponse;
+import com.dongkuk.weighing.dispatch.service.TodayDispatchIndex;
+import com.dongkuk.weighing.lpr.config.PlateMatchProperties;
+import com.dongkuk.weighing.lpr.domain.LprCapture;
+import com.dongkuk.weighing.lpr.domain.LprCaptureRepository;
+import com.dongkuk.weighing.lpr.dto.LprCaptureResponse;
+import com.dongkuk.weighing.lpr.dto.LprProcessRequest;
+import com.dongkuk.weighing.lpr.dto.LprProcessResponse;
+import com.dongkuk.weighing.master.domain.Vehicle;
+import com.dongkuk.weighing.master.domain.VehicleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LprServiceTest {
+
+    @Mock
+    private LprCaptureRepository captureRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private TodayDispatchIndex todayDispatchIndex;
+
+    @Mock
+    private VehiclePlateMatcher vehiclePlateMatcher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RecentLprCaptureWindow recentCaptureWindow;
+
+    private LprService lprService;
+
+    @BeforeEach
+    void setUp() {
+        lprService = new LprService(captureRepository, vehicleRepository, todayDispatchIndex, vehiclePlateMatcher,
+                new PlateMatchProperties(), eventPublisher, recentCaptureWindow, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("일괄 처리: AI 검증 결과를 저장 전에 반영하고 촬영 기록을 다시 조회하지 않고 배차를 매칭한다")
+    void processCapture_VerifiesAndMatchesInOneCall() {
+        LocalDateTime now = LocalDateTime.now();
+        Vehicle vehicle = mock(Vehicle.class);
+        given(vehicle.getVehicleId()).willReturn(7L);
+        given(recentCaptureWindow.isReady()).willReturn(true);
+        given(recentCaptureWindow.findDuplicate(any(), any(), any())).willReturn(Optional.empty());
+        given(captureRepository.save(any(LprCapture.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(vehicleRepository.findByPlateNumber("12가3456")).willReturn(Optional.of(vehicle));
+        given(todayDispatchIndex.findActive(7L)).willReturn(List.of(new DispatchResponse(
+                100L, 7L, 10L, "BY_PRODUCT", "슬래그", LocalDate.now(), null, null, null,
+                "REGISTERED", 1L, null, null)));
+
+        LprProcessResponse response = lprService.processCapture(new LprProcessRequest(
+                1L, "ENTRY", "/lpr/1.jpg", "12가3456", now, "12가3456", new BigDecimal("0.95")));
+
+        assertThat(response.duplicate()).isFalse();
+        assertThat(response.capture().verificationStatus()).isEqualTo("CONFIRMED");
+        assertThat(response.capture().matchedDispatchId()).isEqualTo(100L);
+        assertThat(response.match().matchResult()).isEqualTo("SINGLE_MATCH");
+        assertThat(response.match().matchMethod()).isEqualTo("EXACT");
+        verify(captureRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("일괄 처리: 중복 촬영이면 기존 촬영 결과만 반환하고 저장/매칭하지 않는다")
+    void processCapture_Duplicate() {
+        LocalDateTime now = LocalDateTime.now();
+        LprCaptureResponse existing = new LprCaptureResponse(5L, 1L, "/lpr/5.jpg", "12가3456", "12가3456",
+                new BigDecimal("0.95"), "CONFIRMED", now.minusSeconds(3), 100L, 7L, now.minusSeconds(3));
+        given(recentCaptureWindow.isReady()).willReturn(true);
+        given(recentCaptureWindow.findDuplicate(any(), any(), any())).willReturn(Optional.of(existing));
+
+        LprProcessResponse response = lprService.processCapture(new LprProcessRequest(
+                1L, "ENTRY", "/lpr/6.jpg", "12가3456", now, "12가3456", new BigDecimal("0.95")));
+
+        assertThat(response.duplicate()).isTrue();
+        assertThat(response.capture()).isEqualTo(existing);
+        assertThat(response.match()).isNull();
+        verify(captureRepository, never()).save(any());
+        verify(vehicleRepository, never()).findByPlateNumber(any());
+    }
+}
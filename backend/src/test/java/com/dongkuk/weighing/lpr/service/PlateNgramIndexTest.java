@@ -0,0 +1,83 @@
+package com.dongkuk.weighing.lpr.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlateNgramIndexTest {
+
+    private static final String HANGUL = "가나다라마거너더러머버서어저고노도로모보소오조구누두루무부수우주바사아자하허호배";
+
+    @Test
+    @DisplayName("OCR 혼동 기호(바/마, 영문 O/B)는 일반 오인식보다 가깝다")
+    void distance_ConfusionWeights() {
+        int[] plate = PlateSimilarity.symbols("12바3456");
+
+        assertThat(PlateSimilarity.distance(plate, PlateSimilarity.symbols("12마3456"), 100))
+                .isEqualTo(PlateSimilarity.CONFUSION_COST);
+        assertThat(PlateSimilarity.distance(plate, PlateSimilarity.symbols("I2바 34S6"), 100)).isZero();
+        assertThat(PlateSimilarity.distance(plate, PlateSimilarity.symbols("12바3458"), 100))
+                .isEqualTo(PlateSimilarity.EDIT_COST);
+        assertThat(PlateSimilarity.distance(plate, PlateSimilarity.symbols("12소3456"), 100))
+                .isEqualTo(2 * PlateSimilarity.EDIT_COST);
+    }
+
+    @Test
+    @DisplayName("허용 거리 이내 후보를 거리 순으로 반환한다")
+    void search_RankedByDistance() {
+        PlateNgramIndex index = PlateNgramIndex.build(Map.of(
+                1L, "12바3456",
+                2L, "12마3458",
+                3L, "98너7654",
+                4L, "서울12바3456"));
+
+        List<PlateNgramIndex.Match> matches = index.search("12마3456", 15, 5);
+
+        assertThat(matches).extracting(PlateNgramIndex.Match::vehicleId).containsExactly(1L, 2L);
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+        assertThat(index.search("12마3456", 15, 1)).hasSize(1);
+        assertThat(index.search("", 15, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2-gram 후보 선별 결과는 전수 비교 결과와 같다")
+    void search_SameAsBruteForce() {
+        Random random = new Random(7);
+        Map<Long, String> plates = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            plates.put(id, randomPlate(random));
+        }
+        PlateNgramIndex index = PlateNgramIndex.build(plates);
+
+        for (int i = 0; i < 500; i++) {
+            char[] read = plates.get(1L + random.nextInt(plates.size())).toCharArray();
+            int position = random.nextInt(read.length);
+            read[position] = Character.isDigit(read[position])
+                    ? (char) ('0' + random.nextInt(10)) : HANGUL.charAt(random.nextInt(HANGUL.length()));
+            String query = random.nextInt(3) == 0 ? new String(read, 0, read.length - 1) : new String(read);
+
+            int[] symbols = PlateSimilarity.symbols(query);
+            long expected = plates.values().stream()
+                    .filter(plate -> PlateSimilarity.distance(symbols, PlateSimilarity.symbols(plate), 15) <= 15)
+                    .count();
+            assertThat(index.search(query, 15, Integer.MAX_VALUE)).as(query).hasSize((int) expected);
+        }
+    }
+
+    private static String randomPlate(Random random) {
+        StringBuilder plate = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            plate.append(random.nextBoolean() ? "서울" : "부산");
+        }
+        return plate.append(random.nextBoolean() ? 10 + random.nextInt(90) : 100 + random.nextInt(900))
+                .append(HANGUL.charAt(random.nextInt(HANGUL.length())))
+                .append(String.format("%04d", random.nextInt(10_000)))
+                .toString();
+    }
+}
@@ -0,0 +1,107 @@
+package com.dongkuk.weighing.lpr.service;
+
+import com.dongkuk.weighing.lpr.domain.LprCapture;
+import com.dongkuk.weighing.lpr.domain.LprCaptureRepository;
+import com.dongkuk.weighing.lpr.dto.LprCaptureResponse;
+import com.dongkuk.weighing.lpr.event.LprCaptureChangedEvent;
+import com.dongkuk.weighing.master.domain.ScaleRepository;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecentLprCaptureWindowTest {
+
+    @InjectMocks
+    private RecentLprCaptureWindow window;
+
+    @Mock
+    private LprCaptureRepository captureRepository;
+
+    @Mock
+    private ScaleRepository scaleRepository;
+
+    @Mock
+    private ClusterInvalidationRelay invalidationRelay;
+
+    @Test
+    @DisplayName("중복 판정 간격 이내의 같은 차량번호 촬영 중 가장 최근 기록을 찾는다")
+    void findDuplicate_LatestWithinInterval() {
+        LocalDateTime now = LocalDateTime.now();
+        window.onCaptureChanged(event(1L, 10L, "12가3456", now.minusSeconds(20)));
+        window.onCaptureChanged(event(2L, 10L, "12가3456", now.minusSeconds(5)));
+        window.onCaptureChanged(event(3L, 10L, "34나5678", now.minusSeconds(2)));
+
+        assertThat(window.findDuplicate(10L, "12가3456", now.minusSeconds(10)))
+                .map(LprCaptureResponse::captureId).contains(2L);
+        assertThat(window.findDuplicate(10L, "12가3456", now.minusSeconds(3))).isEmpty();
+        assertThat(window.findDuplicate(20L, "12가3456", now.minusSeconds(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 촬영은 촬영 시각 기준이며 같은 촬영의 갱신 내용이 반영된다")
+    void findLatest_ByCaptureTimestamp() {
+        LocalDateTime now = LocalDateTime.now();
+        window.onCaptureChanged(event(2L, 10L, "12가3456", now));
+        window.onCaptureChanged(event(1L, 10L, "34나5678", now.minusSeconds(3)));
+        window.onCaptureChanged(new LprCaptureChangedEvent(new LprCaptureResponse(
+                2L, 10L, "/lpr/2.jpg", "12가3456", "12가3456", null, "CONFIRMED",
+                now, 500L, 600L, now)));
+
+        assertThat(window.findLatest(10L)).get()
+                .satisfies(latest -> {
+                    assertThat(latest.captureId()).isEqualTo(2L);
+                    assertThat(latest.matchedDispatchId()).isEqualTo(500L);
+                });
+        assertThat(window.findLatest(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 촬영은 중복 판정에서 제외되지만 최신 촬영은 유지된다")
+    void prune_KeepsLatest() {
+        LocalDateTime now = LocalDateTime.now();
+        window.onCaptureChanged(event(1L, 10L, "12가3456",
+                now.minusSeconds(RecentLprCaptureWindow.RETENTION_SECONDS + 30)));
+        window.onCaptureChanged(event(2L, 10L, "34나5678", now));
+
+        assertThat(window.findDuplicate(10L, "12가3456", LocalDateTime.MIN)).isEmpty();
+        assertThat(window.findLatest(10L)).map(LprCaptureResponse::captureId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("커밋된 촬영은 다른 인스턴스에 알리고, 다른 인스턴스의 촬영은 DB에서 다시 읽어 반영한다")
+    void invalidation_PublishesAndReloads() {
+        LocalDateTime now = LocalDateTime.now();
+        window.onCaptureChanged(event(1L, 10L, "12가3456", now.minusSeconds(5)));
+        verify(invalidationRelay).publish(RecentLprCaptureWindow.CACHE_NAME, 1L);
+
+        LprCapture remote = LprCapture.builder()
+                .scaleId(10L).lprImagePath("/lpr/2.jpg").rawPlateNumber("34나5678").captureTimestamp(now).build();
+        ReflectionTestUtils.setField(remote, "captureId", 2L);
+        given(captureRepository.findById(2L)).willReturn(Optional.of(remote));
+
+        window.reload(2L);
+
+        assertThat(window.findLatest(10L)).map(LprCaptureResponse::captureId).contains(2L);
+        assertThat(window.findDuplicate(10L, "34나5678", now.minusSeconds(10)))
+                .map(LprCaptureResponse::captureId).contains(2L);
+    }
+
+    private LprCaptureChangedEvent event(Long captureId, Long scaleId, String plate, LocalDateTime capturedAt) {
+        return new LprCaptureChangedEvent(new LprCaptureResponse(
+                captureId, scaleId, "/lpr/" + captureId + ".jpg", plate, null, null, "PENDING",
+                capturedAt, null, null, capturedAt));
+    }
+}
@@ -0,0 +1,135 @@
+package com.dongkuk.weighing.outbox.service;
+
+import com.dongkuk.weighing.outbox.config.OutboxProperties;
+import com.dongkuk.weighing.outbox.domain.OutboxEvent;
+import com.dongkuk.weighing.outbox.domain.OutboxEventRepository;
+import com.dongkuk.weighing.outbox.domain.OutboxEventStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> handled = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxProperties properties;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        properties.setMaxBackoff(Duration.ofSeconds(5));
+
+        OutboxEventHandler handler = new OutboxEventHandler() {
+            @Override
+            public String type() {
+                return "test";
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                if ("fail".equals(event.getPayload())) {
+                    throw new IllegalStateException("처리 실패");
+                }
+                handled.add(event.getPayload());
+            }
+        };
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(handler),
+                new TransactionTemplate(transactionManager), new ThreadPoolTaskExecutor(), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트를 처리기로 전달하고 완료 상태로 변경한다")
+    void drain_publishes() {
+        OutboxEvent event = event("ok");
+        givenDue(event);
+
+        int published = outboxRelay.drain();
+
+        assertThat(published).isEqualTo(1);
+        assertThat(handled).containsExactly("ok");
+        assertThat(event.getEventStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(event.getAttemptCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.events.published", "type", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 백오프 후 재시도하도록 다음 시도 시각을 미룬다")
+    void drain_schedulesRetry() {
+        OutboxEvent event = event("fail");
+        givenDue(event);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        LocalDateTime before = LocalDateTime.now();
+        int published = outboxRelay.drain();
+
+        assertThat(published).isZero();
+        assertThat(event.getEventStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getAttemptCount()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(1));
+        assertThat(event.getLastError()).contains("처리 실패");
+        assertThat(meterRegistry.counter("outbox.events.retried", "type", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 실패 상태로 변경한다")
+    void drain_exhaustsAttempts() {
+        OutboxEvent event = event("fail");
+        event.recordFailure("이전 실패", LocalDateTime.now());
+        event.recordFailure("이전 실패", LocalDateTime.now());
+        givenDue(event);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        outboxRelay.drain();
+
+        assertThat(event.getEventStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(event.getAttemptCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("outbox.events.failed", "type", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 두 배로 늘어나고 상한을 넘지 않는다")
+    void backoff() {
+        assertThat(outboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outboxRelay.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(outboxRelay.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(outboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(outboxRelay.backoff(30)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    private OutboxEvent event(String payload) {
+        return OutboxEvent.builder().eventType("test").aggregateId(10L).payload(payload).build();
+    }
+
+    private void givenDue(OutboxEvent event) {
+        given(outboxEventRepository.findDueIds(eq(OutboxEventStatus.PENDING), any(), any())).willReturn(List.of(1L));
+        given(outboxEventRepository.findForRelay(1L, OutboxEventStatus.PENDING)).willReturn(Optional.of(event));
+    }
+}
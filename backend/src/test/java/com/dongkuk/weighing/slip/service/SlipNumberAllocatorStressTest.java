@@ -0,0 +1,129 @@
+package com.dongkuk.weighing.slip.service;
+
+import com.dongkuk.weighing.slip.config.SlipProperties;
+import com.dongkuk.weighing.slip.domain.SlipSequenceJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계량표 번호 채번기 동시성 스트레스 테스트.
+ *
+ * <p>여러 스레드(및 여러 인스턴스를 흉내 낸 채번기 두 개)가 같은 일자의 번호를 동시에 수천 건
+ * 발급해도 중복이 없는지, 블록 크기 1에서는 번호 누락도 없는지 확인한다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SlipSequenceJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlipNumberAllocatorStressTest {
+
+    private static final int THREADS = 16;
+    private static final int ALLOCATIONS = 4_000;
+
+    @Autowired
+    private SlipSequenceJdbcRepository slipSequenceJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("동시 채번 시 번호가 중복되지 않고 블록 크기 1이면 빈 번호 없이 연속된다")
+    void concurrentAllocation_noDuplicatesNoGaps() throws Exception {
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        SlipNumberAllocator allocator = allocator(1);
+
+        List<String> numbers = allocateConcurrently(date, List.of(allocator));
+
+        assertThat(Set.copyOf(numbers)).hasSize(ALLOCATIONS);
+        assertThat(sequences(numbers)).isEqualTo(IntStream.rangeClosed(1, ALLOCATIONS).boxed().collect(Collectors.toSet()));
+        assertThat(numbers).allMatch(n -> n.startsWith("20260101-"));
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 블록 단위로 예약해도 번호가 중복되지 않는다")
+    void concurrentBlockAllocation_multipleInstances() throws Exception {
+        LocalDate date = LocalDate.of(2026, 1, 2);
+        int blockSize = 20;
+
+        List<String> numbers = allocateConcurrently(date, List.of(allocator(blockSize), allocator(blockSize)));
+
+        assertThat(Set.copyOf(numbers)).hasSize(ALLOCATIONS);
+        // 인스턴스마다 마지막 블록의 미사용 번호만큼만 누락될 수 있다
+        assertThat(sequences(numbers).stream().mapToInt(Integer::intValue).max().orElseThrow())
+                .isLessThanOrEqualTo(ALLOCATIONS + 2 * blockSize);
+    }
+
+    @Test
+    @DisplayName("그날의 카운터 행이 없으면 이미 발행된 계량표의 최대 번호 다음부터 발급한다")
+    void recoverFromIssuedSlips() {
+        LocalDate date = LocalDate.of(2026, 1, 3);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO tb_weighing_slip (weighing_id, dispatch_id, slip_number, slip_data, " +
+                "created_at, updated_at) VALUES (1, 1, '20260103-0042', '{}', ?, ?)", now, now);
+
+        SlipNumberAllocator allocator = allocator(1);
+
+        assertThat(allocator.allocate(date)).isEqualTo("20260103-0043");
+        // 재시작(새 채번기)해도 커밋된 카운터부터 이어서 발급한다
+        assertThat(allocator(1).allocate(date)).isEqualTo("20260103-0044");
+    }
+
+    private SlipNumberAllocator allocator(int blockSize) {
+        SlipProperties properties = new SlipProperties();
+        properties.setNumberBlockSize(blockSize);
+        return new SlipNumberAllocator(slipSequenceJdbcRepository, properties, transactionManager);
+    }
+
+    /** 채번기들에 번갈아 요청을 분배하여 동시에 발급한다. */
+    private List<String> allocateConcurrently(LocalDate date, List<SlipNumberAllocator> allocators) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>(ALLOCATIONS);
+        try {
+            for (int i = 0; i < ALLOCATIONS; i++) {
+                SlipNumberAllocator allocator = allocators.get(i % allocators.size());
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return allocator.allocate(date);
+                }));
+            }
+            start.countDown();
+            List<String> numbers = new ArrayList<>(ALLOCATIONS);
+            for (Future<String> future : futures) {
+                numbers.add(future.get());
+            }
+            return numbers;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Set<Integer> sequences(List<String> numbers) {
+        return numbers.stream().map(n -> Integer.parseInt(n.substring(9))).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,181 @@
+package com.dongkuk.weighing.statistics.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.master.domain.Company;
+import com.dongkuk.weighing.master.domain.CompanyRepository;
+import com.dongkuk.weighing.statistics.controller.StatisticsController;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository.DailyRow;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository.MonthlyRow;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.util.DefaultTempFileCreationStrategy;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 통계 엑셀 내보내기 테스트.
+ *
+ * <p>SXSSF 창 크기(100행)를 넘는 일별/월별 시트를 {@link StreamingResponseBody}로 기록한 뒤 POI로 다시 읽어
+ * 헤더, 데이터 행, 고정 컬럼 너비를 확인한다. 기록 중 실패해도 SXSSF 임시 파일이 남지 않는지 확인한다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 9, 30);
+    private static final int DAILY_ROWS = 250;
+
+    @Mock
+    private WeighingDailyAggJdbcRepository dailyAggRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    /** SXSSF 임시 파일을 만드는 디렉터리 */
+    @TempDir
+    Path poiTempDir;
+
+    @BeforeEach
+    void setUp() {
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy(poiTempDir.toFile()));
+        Company company = Company.builder().companyName("동국운송").build();
+        ReflectionTestUtils.setField(company, "companyId", 7L);
+        given(companyRepository.findAll()).willReturn(List.of(company));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy());
+    }
+
+    @Test
+    @DisplayName("일별/월별 시트를 스트리밍으로 기록하고, 다시 읽으면 헤더·행·고정 컬럼 너비가 그대로이다")
+    void exportToExcel_WritesAllSheets() throws IOException {
+        streamDailyRows();
+        doAnswer(invocation -> {
+            Consumer<MonthlyRow> consumer = invocation.getArgument(4);
+            consumer.accept(new MonthlyRow(2026, 1, 7L, "WASTE", 31, Weight.parseKg("1500.50")));
+            consumer.accept(new MonthlyRow(2026, 2, 99L, "EXPORT", 2, Weight.parseKg("80.00")));
+            return null;
+        }).when(dailyAggRepository).streamMonthly(any(), any(), any(), any(), any());
+        StreamingResponseBody body = exportBody("all");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(2);
+
+            Sheet daily = workbook.getSheet("일별 통계");
+            assertThat(texts(daily.getRow(0), 0, 6)).containsExactly("날짜", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)");
+            assertThat(daily.getLastRowNum()).isEqualTo(DAILY_ROWS);
+            Row first = daily.getRow(1);
+            assertThat(texts(first, 0, 3)).containsExactly("2026-01-01", "동국운송", "부산물");
+            assertThat(first.getCell(3).getNumericCellValue()).isEqualTo(1.0);
+            assertThat(first.getCell(4).getNumericCellValue()).isEqualTo(1000.0);
+            assertThat(first.getCell(5).getNumericCellValue()).isEqualTo(1.0);
+            assertThat(daily.getRow(DAILY_ROWS).getCell(0).getStringCellValue())
+                    .isEqualTo(FROM.plusDays(DAILY_ROWS - 1).toString());
+            assertThat(columnWidths(daily, 6)).containsExactly(12, 30, 12, 10, 18, 14);
+
+            Sheet monthly = workbook.getSheet("월별 통계");
+            assertThat(texts(monthly.getRow(0), 0, 7))
+                    .containsExactly("연도", "월", "업체명", "품목유형", "건수", "중량(kg)", "중량(톤)");
+            assertThat(monthly.getLastRowNum()).isEqualTo(2);
+            assertThat(monthly.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(2026.0);
+            assertThat(texts(monthly.getRow(1), 2, 4)).containsExactly("동국운송", "폐기물");
+            assertThat(monthly.getRow(1).getCell(5).getNumericCellValue()).isEqualTo(1500.5);
+            assertThat(texts(monthly.getRow(2), 2, 4)).containsExactly("알 수 없음", "반출");
+            assertThat(columnWidths(monthly, 7)).containsExactly(8, 6, 30, 12, 10, 18, 14);
+        }
+        assertThat(poiTempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록 도중 조회가 실패해도 SXSSF 임시 파일은 삭제된다")
+    void exportToExcel_DisposesTempFilesOnFailure() throws IOException {
+        streamDailyRows();
+        long[] tempFilesDuringExport = {0};
+        doAnswer(invocation -> {
+            tempFilesDuringExport[0] = poiTempFiles().size();
+            throw new DataAccessResourceFailureException("connection reset");
+        }).when(dailyAggRepository).streamMonthly(any(), any(), any(), any(), any());
+        StreamingResponseBody body = exportBody("all");
+
+        assertThatThrownBy(() -> body.writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // 일별 시트가 창 크기를 넘겨 임시 파일로 내보낸 상태에서 실패했다
+        assertThat(tempFilesDuringExport[0]).isPositive();
+        assertThat(poiTempFiles()).isEmpty();
+    }
+
+    // ─── 헬퍼 ───
+
+    private StreamingResponseBody exportBody(String type) {
+        ResponseEntity<StreamingResponseBody> response = new StatisticsController(statisticsService)
+                .exportToExcel(FROM, TO, null, null, type);
+        return response.getBody();
+    }
+
+    private void streamDailyRows() {
+        doAnswer(invocation -> {
+            Consumer<DailyRow> consumer = invocation.getArgument(4);
+            for (int i = 0; i < DAILY_ROWS; i++) {
+                consumer.accept(new DailyRow(FROM.plusDays(i), 7L, "BY_PRODUCT", i + 1, Weight.parseKg("1000.00")));
+            }
+            return null;
+        }).when(dailyAggRepository).streamDaily(any(), any(), any(), any(), any());
+    }
+
+    private static List<String> texts(Row row, int fromColumn, int toColumn) {
+        return Stream.iterate(fromColumn, i -> i + 1).limit(toColumn - fromColumn)
+                .map(i -> row.getCell(i).getStringCellValue())
+                .toList();
+    }
+
+    private static List<Integer> columnWidths(Sheet sheet, int columns) {
+        return Stream.iterate(0, i -> i + 1).limit(columns)
+                .map(i -> sheet.getColumnWidth(i) / 256)
+                .toList();
+    }
+
+    private List<Path> poiTempFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(poiTempDir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dongkuk.weighing.websocket.service;
+
+import com.dongkuk.weighing.websocket.config.WebSocketRelayProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import redis.embedded.RedisServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * WebSocket 클러스터 중계 테스트.
+ *
+ * <p>내장 Redis에 두 인스턴스(node-a, node-b)의 중계기를 연결하여, 한 인스턴스에서 보낸 메시지가
+ * 다른 인스턴스의 로컬 브로커로 같은 본문 그대로 전달되고 자기 인스턴스에는 중복 전송되지 않는지 확인한다.</p>
+ */
+class WebSocketClusterRelayTest {
+
+    private static final int REDIS_PORT = 6370;
+    private static final String CHANNEL = "test:websocket:relay";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpMessagingTemplate templateA;
+    private SimpMessagingTemplate templateB;
+    private SimpleMeterRegistry registryA;
+    private WebSocketClusterRelay relayA;
+
+    @BeforeAll
+    static void startRedis() {
+        try {
+            redisServer = new RedisServer(REDIS_PORT);
+            redisServer.start();
+        } catch (Exception e) {
+            // 다른 테스트에서 이미 실행 중일 수 있음
+        }
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        if (redisServer != null && redisServer.isActive()) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        templateA = mock(SimpMessagingTemplate.class);
+        templateB = mock(SimpMessagingTemplate.class);
+        registryA = new SimpleMeterRegistry();
+        relayA = relay("node-a", templateA, registryA);
+        relay("node-b", templateB, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 보낸 메시지는 다른 인스턴스의 로컬 브로커로 같은 본문 그대로 전달된다")
+    void send_RelaysToOtherNode() {
+        relayA.send("/topic/scale/1/weighing", Map.of("weighing_id", 10, "weighing_status", "COMPLETED"));
+
+        ArgumentCaptor<Message<?>> local = messageCaptor();
+        ArgumentCaptor<Message<?>> remote = messageCaptor();
+        verify(templateA).send(eq("/topic/scale/1/weighing"), local.capture());
+        verify(templateB, timeout(3000)).send(eq("/topic/scale/1/weighing"), remote.capture());
+        assertThat(new String((byte[]) remote.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo(new String((byte[]) local.getValue().getPayload(), StandardCharsets.UTF_8))
+                .contains("\"weighing_id\":10");
+    }
+
+    @Test
+    @DisplayName("자기 인스턴스가 발행한 중계 메시지는 로컬 브로커로 다시 전송하지 않는다")
+    void onMessage_SkipsOwnNode() {
+        relayA.send("/topic/scale-status", Map.of("scale_id", 1));
+
+        verify(templateB, timeout(3000)).send(eq("/topic/scale-status"), any(Message.class));
+        verify(templateA, after(500)).send(eq("/topic/scale-status"), any(Message.class));
+        assertThat(registryA.get("websocket.relay.skipped").counter().count()).isEqualTo(1.0);
+        assertThat(registryA.get("websocket.relay.published").counter().count()).isEqualTo(1.0);
+    }
+
+    private WebSocketClusterRelay relay(String nodeId, SimpMessagingTemplate template, SimpleMeterRegistry registry)
+            throws Exception {
+        WebSocketRelayProperties properties = new WebSocketRelayProperties();
+        properties.setEnabled(true);
+        properties.setChannel(CHANNEL);
+        properties.setNodeId(nodeId);
+        WebSocketClusterRelay relay = new WebSocketClusterRelay(template, new StringRedisTemplate(connectionFactory),
+                objectMapper, properties, registry);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return relay;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<Message<?>> messageCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Message.class);
+    }
+}
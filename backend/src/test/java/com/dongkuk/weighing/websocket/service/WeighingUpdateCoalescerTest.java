@@ -0,0 +1,97 @@
+package com.dongkuk.weighing.websocket.service;
+
+import com.dongkuk.weighing.dispatch.domain.DispatchRepository;
+import com.dongkuk.weighing.websocket.config.WeighingUpdatePublishProperties;
+import com.dongkuk.weighing.websocket.dto.WeighingUpdateMessage;
+import com.dongkuk.weighing.weighing.event.WeighingUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeighingUpdateCoalescerTest {
+
+    @Mock
+    private WebSocketNotificationService webSocketNotificationService;
+
+    @Mock
+    private DispatchRepository dispatchRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WeighingUpdatePublishProperties properties = new WeighingUpdatePublishProperties();
+    private WeighingUpdateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxPendingPerScale(2);
+        coalescer = new WeighingUpdateCoalescer(webSocketNotificationService, dispatchRepository, properties,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("전송 주기 전에는 전송하지 않고, 같은 계량의 업데이트는 마지막 상태만 계량대/업체 토픽으로 전송한다")
+    void flush_SendsLatestStatePerWeighing() {
+        given(dispatchRepository.findCompanyIdsByDispatchIds(Set.of(100L)))
+                .willReturn(List.<Object[]>of(new Object[]{100L, 7L}));
+        coalescer.onWeighingUpdated(new WeighingUpdatedEvent(1L, message(10L, "IN_PROGRESS")));
+        coalescer.onWeighingUpdated(new WeighingUpdatedEvent(1L, message(10L, "COMPLETED")));
+        coalescer.onWeighingUpdated(new WeighingUpdatedEvent(2L, message(20L, "IN_PROGRESS")));
+
+        verify(webSocketNotificationService, never()).notifyWeighingUpdate(any(), any(), any());
+        assertThat(meterRegistry.get("websocket.weighing.update.pending").gauge().value()).isEqualTo(2.0);
+
+        coalescer.flush();
+
+        ArgumentCaptor<WeighingUpdateMessage> captor = ArgumentCaptor.forClass(WeighingUpdateMessage.class);
+        verify(webSocketNotificationService).notifyWeighingUpdate(eq(1L), eq(7L), captor.capture());
+        verify(webSocketNotificationService).notifyWeighingUpdate(eq(2L), eq(7L), captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(WeighingUpdateMessage::weighingId, WeighingUpdateMessage::weighingStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(10L, "COMPLETED"),
+                        tuple(20L, "IN_PROGRESS"));
+        assertThat(meterRegistry.get("websocket.weighing.update.merged").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.weighing.update.sent").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("websocket.weighing.update.flush.latency").timer().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("websocket.weighing.update.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("계량대 버퍼 상한을 넘으면 가장 오래된 계량 업데이트를 버린다")
+    void submit_DropsEldestWhenFull() {
+        coalescer.submit(1L, message(10L, "IN_PROGRESS"));
+        coalescer.submit(1L, message(11L, "IN_PROGRESS"));
+        coalescer.submit(1L, message(12L, "IN_PROGRESS"));
+
+        coalescer.flush();
+
+        ArgumentCaptor<WeighingUpdateMessage> captor = ArgumentCaptor.forClass(WeighingUpdateMessage.class);
+        verify(webSocketNotificationService, times(2)).notifyWeighingUpdate(eq(1L), any(), captor.capture());
+        assertThat(captor.getAllValues()).extracting(WeighingUpdateMessage::weighingId).containsExactly(11L, 12L);
+        assertThat(meterRegistry.get("websocket.weighing.update.dropped").tag("reason", "overflow").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static WeighingUpdateMessage message(Long weighingId, String status) {
+        return new WeighingUpdateMessage(weighingId, 100L, status, "MANUAL",
+                null, null, null, "12가3456", LocalDateTime.now());
+    }
+}
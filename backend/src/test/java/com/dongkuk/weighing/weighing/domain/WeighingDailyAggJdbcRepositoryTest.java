@@ -0,0 +1,128 @@
+package com.dongkuk.weighing.weighing.domain;
+
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository.DailyRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계량 일별 집계 JDBC 저장소 테스트 (PostgreSQL).
+ *
+ * <p>PostgreSQL 컨테이너에서 {@code INSERT ... ON CONFLICT DO UPDATE} 경로가 같은 집계 키를 한 행에 누적하고,
+ * 재구성 결과가 같은 계량에 대한 증분 반영 결과와 같은지 확인한다. H2의 {@code MERGE} 경로는
+ * {@code WeighingDailyAggServiceTest}에서 확인한다. Docker가 없으면 건너뛴다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({WeighingDailyAggJdbcRepository.class, DatabaseDialect.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WeighingDailyAggJdbcRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String AGG_ROWS_SQL = "SELECT agg_date, scale_id, company_id, item_type, weighing_mode, " +
+            "completed_count, net_weight_sum FROM tb_weighing_daily_agg WHERE completed_count <> 0 " +
+            "ORDER BY agg_date, scale_id, company_id, item_type, weighing_mode";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private WeighingDailyAggJdbcRepository dailyAggRepository;
+
+    @Autowired
+    private DatabaseDialect databaseDialect;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tb_weighing_daily_agg");
+        jdbcTemplate.update("DELETE FROM tb_weighing");
+        jdbcTemplate.update("DELETE FROM tb_dispatch");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL에서는 ON CONFLICT로 같은 집계 키를 한 행에 누적하고, 재구성 결과가 증분 반영과 같다")
+    void increment_UpsertsAndMatchesRebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        long dispatchId = insertDispatch();
+        // 완료 3건(어제 1, 오늘 2)과 완료 후 재계량된 1건, 진행 중 1건
+        completed(dispatchId, yesterday.atTime(23, 59, 59), "LPR_AUTO", "15.00");
+        completed(dispatchId, today.atStartOfDay(), "LPR_AUTO", "17.25");
+        completed(dispatchId, today.atTime(10, 0), "LPR_AUTO", "12.75");
+        insertWeighing(dispatchId, today.atTime(11, 0), "LPR_AUTO", "9.00", "RE_WEIGHING");
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", 1, Weight.parseKg("9.00"));
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", -1, Weight.parseKg("9.00").negate());
+        insertWeighing(dispatchId, today.atTime(12, 0), "LPR_AUTO", null, "IN_PROGRESS");
+
+        assertThat(databaseDialect.isPostgres()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_weighing_daily_agg", Long.class)).isEqualTo(2);
+        assertThat(dailyAggRepository.findDaily(yesterday, today, null, null)).containsExactly(
+                new DailyRow(yesterday, 7L, "BY_PRODUCT", 1, Weight.parseKg("15.00")),
+                new DailyRow(today, 7L, "BY_PRODUCT", 2, Weight.parseKg("30.00")));
+
+        List<Map<String, Object>> incremental = jdbcTemplate.queryForList(AGG_ROWS_SQL);
+        int rebuilt = dailyAggRepository.rebuild(null, null);
+
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(AGG_ROWS_SQL)).isEqualTo(incremental);
+    }
+
+    private long insertDispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO tb_dispatch (vehicle_id, company_id, item_type, item_name, dispatch_date, " +
+                        "dispatch_status, created_at, updated_at) VALUES (1, 7, 'BY_PRODUCT', '품목', ?, 'IN_PROGRESS', ?, ?)",
+                Date.valueOf(now.toLocalDate()), Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return jdbcTemplate.queryForObject("SELECT MAX(dispatch_id) FROM tb_dispatch", Long.class);
+    }
+
+    /** 완료 계량을 저장하고 서비스와 같은 방식으로 집계에 반영한다. */
+    private void completed(long dispatchId, LocalDateTime createdAt, String mode, String netKg) {
+        insertWeighing(dispatchId, createdAt, mode, netKg, "COMPLETED");
+        dailyAggRepository.increment(createdAt.toLocalDate(), 1L, 7L, "BY_PRODUCT", mode, 1, Weight.parseKg(netKg));
+    }
+
+    private void insertWeighing(long dispatchId, LocalDateTime createdAt, String mode, String netKg, String status) {
+        jdbcTemplate.update("INSERT INTO tb_weighing (dispatch_id, scale_id, weighing_mode, weighing_step, " +
+                        "gross_weight, net_weight, weighing_status, created_at, updated_at) " +
+                        "VALUES (?, 1, ?, 'SECOND', 40.00, ?, ?, ?, ?)",
+                dispatchId, mode, netKg != null ? Weight.parseKg(netKg).toBigDecimalKg() : null, status,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+}
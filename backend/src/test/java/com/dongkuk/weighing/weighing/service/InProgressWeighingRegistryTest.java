@@ -0,0 +1,143 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.weighing.domain.WeighingMode;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingStatus;
+import com.dongkuk.weighing.weighing.domain.WeighingStep;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingChangedEvent;
+import com.dongkuk.weighing.websocket.service.ClusterInvalidationRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InProgressWeighingRegistryTest {
+
+    @InjectMocks
+    private InProgressWeighingRegistry registry;
+
+    @Mock
+    private WeighingRepository weighingRepository;
+
+    @Mock
+    private ClusterInvalidationRelay invalidationRelay;
+
+    @Test
+    @DisplayName("진행 중 계량은 계량대별로 최신순 조회된다")
+    void findByScaleId_LatestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now.minusMinutes(5)));
+        registry.onWeighingChanged(event(2L, 10L, "IN_PROGRESS", now));
+        registry.onWeighingChanged(event(3L, 20L, "IN_PROGRESS", now.minusMinutes(1)));
+
+        assertThat(registry.findByScaleId(10L))
+                .extracting(WeighingResponse::weighingId)
+                .containsExactly(2L, 1L);
+        assertThat(registry.findAll())
+                .extracting(WeighingResponse::weighingId)
+                .containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("완료 또는 재계량 상태로 변경되면 레지스트리에서 제거된다")
+    void onWeighingChanged_RemovesWhenNotInProgress() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now));
+        registry.onWeighingChanged(event(2L, 10L, "IN_PROGRESS", now));
+
+        registry.onWeighingChanged(event(1L, 10L, "COMPLETED", now));
+        registry.onWeighingChanged(event(2L, 10L, "RE_WEIGHING", now));
+
+        assertThat(registry.findByScaleId(10L)).isEmpty();
+        assertThat(registry.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 과거 버전 스냅샷은 무시되고, 완료된 계량을 되살리지 않는다")
+    void onWeighingChanged_IgnoresOlderVersions() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now, 2L));
+        registry.onWeighingChanged(event(1L, 20L, "IN_PROGRESS", now, 1L));
+        assertThat(registry.findByScaleId(10L)).extracting(WeighingResponse::version).containsExactly(2L);
+        assertThat(registry.findByScaleId(20L)).isEmpty();
+
+        registry.onWeighingChanged(event(1L, 10L, "COMPLETED", now, 3L));
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now, 2L));
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now, 3L));
+
+        assertThat(registry.findAll()).isEmpty();
+        verify(invalidationRelay, times(5)).publish(InProgressWeighingRegistry.CACHE_NAME, 1L);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 값으로 항목을 교체하고 DB에서 진행 중이 아닌 항목을 제거한다")
+    void rebuild_ReplacesEntries() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.onWeighingChanged(event(1L, 10L, "IN_PROGRESS", now, 5L));
+        registry.onWeighingChanged(event(2L, 10L, "IN_PROGRESS", now, 0L));
+        given(weighingRepository.findByWeighingStatusOrderByCreatedAtDesc(WeighingStatus.IN_PROGRESS))
+                .willReturn(List.of(record(1L, 30L, 6L)));
+
+        registry.rebuild();
+
+        assertThat(registry.findByScaleId(10L)).isEmpty();
+        assertThat(registry.findByScaleId(30L)).extracting(WeighingResponse::weighingId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화를 받으면 계량을 DB에서 다시 읽어 반영한다")
+    void reload_AppliesCommittedState() {
+        given(weighingRepository.findById(1L)).willReturn(Optional.of(record(1L, 10L, 0L)));
+
+        registry.reload(1L);
+
+        assertThat(registry.findByScaleId(10L)).extracting(WeighingResponse::weighingId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 계량대 조회 시 빈 목록 반환")
+    void findByScaleId_UnknownScale() {
+        assertThat(registry.findByScaleId(99L)).isEmpty();
+    }
+
+    private WeighingChangedEvent event(Long weighingId, Long scaleId, String status, LocalDateTime createdAt) {
+        return event(weighingId, scaleId, status, createdAt, 0L);
+    }
+
+    private WeighingChangedEvent event(Long weighingId, Long scaleId, String status, LocalDateTime createdAt,
+                                       Long version) {
+        return new WeighingChangedEvent(new WeighingResponse(
+                weighingId, 100L, scaleId, "LPR_AUTO", "FIRST",
+                Weight.ofKg(25000), null, null, "부산12가3456", null,
+                status, null, createdAt, createdAt, version));
+    }
+
+    private WeighingRecord record(Long weighingId, Long scaleId, Long version) {
+        WeighingRecord record = WeighingRecord.builder()
+                .dispatchId(100L)
+                .scaleId(scaleId)
+                .weighingMode(WeighingMode.LPR_AUTO)
+                .weighingStep(WeighingStep.FIRST)
+                .grossWeight(Weight.ofKg(25000))
+                .build();
+        ReflectionTestUtils.setField(record, "weighingId", weighingId);
+        ReflectionTestUtils.setField(record, "version", version);
+        return record;
+    }
+}
@@ -0,0 +1,164 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.exception.ErrorCode;
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.lifecycle.domain.WeighingLifecycleStage;
+import com.dongkuk.weighing.lifecycle.event.WeighingLifecycleEvent;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.weighing.config.WeighingProperties;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingMode;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingStep;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchItemResult;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchRequest;
+import com.dongkuk.weighing.weighing.dto.WeighingBatchResponse;
+import com.dongkuk.weighing.weighing.dto.WeighingCreateRequest;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.event.WeighingChangedEvent;
+import com.dongkuk.weighing.weighing.event.WeighingUpdatedEvent;
+import com.dongkuk.weighing.weighing.event.WeighingWeightRecordedEvent;
+import com.dongkuk.weighing.weightstream.service.ScaleStabilityMonitor;
+import com.dongkuk.weighing.weightstream.service.StabilityWindow;
+import com.dongkuk.weighing.websocket.dto.WeighingBatchUpdateMessage;
+import com.dongkuk.weighing.websocket.service.WebSocketNotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 계량 일괄 등록 서비스 테스트.
+ *
+ * <p>JDBC 배치로 저장된 항목마다 건별 등록과 동일한 후속 이벤트(중량 추적, 생애주기, 진행 중 계량 레지스트리)가
+ * 전체 스냅샷으로 발행되고, WebSocket 알림은 건별 업데이트 없이 계량대별 병합 메시지 한 건으로 전송되며,
+ * 스트림 안정 판정이 함께 저장되는지 확인한다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WeighingBatchService.class, WeighingService.class, WeighingJdbcRepository.class,
+        WeighingProperties.class, WeighingBatchServiceTest.ValidatorConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class WeighingBatchServiceTest {
+
+    @Autowired
+    private WeighingBatchService weighingBatchService;
+
+    @Autowired
+    private WeighingRepository weighingRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockBean
+    private InProgressWeighingRegistry inProgressWeighingRegistry;
+
+    @MockBean
+    private ApproximateRowCounter approximateRowCounter;
+
+    @MockBean
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @MockBean
+    private WeighingDailyAggService weighingDailyAggService;
+
+    @MockBean
+    private WeighingDailyAggJdbcRepository dailyAggRepository;
+
+    @MockBean
+    private WeighingStatisticsCache weighingStatisticsCache;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private ScaleStabilityMonitor scaleStabilityMonitor;
+
+    @MockBean
+    private WebSocketNotificationService webSocketNotificationService;
+
+    @Test
+    @DisplayName("일괄 등록 항목마다 후속 이벤트를 발행하고, WebSocket은 계량대별 병합 메시지 한 건만 전송한다")
+    void createWeighings_PublishesCreateEventsPerItem() {
+        given(scaleStabilityMonitor.currentWindow(anyLong())).willReturn(Optional.empty());
+        given(scaleStabilityMonitor.currentWindow(1L))
+                .willReturn(Optional.of(new StabilityWindow(true, 20, 30_000.0, 2.4, 8, System.currentTimeMillis())));
+
+        WeighingBatchResponse response = weighingBatchService.createWeighings(new WeighingBatchRequest(Arrays.asList(
+                item(1L, "30.5"), null, item(2L, "28.0"), item(1L, "31.0"))));
+
+        assertThat(response.successCount()).isEqualTo(3);
+        assertThat(response.results()).extracting(WeighingBatchItemResult::success).containsExactly(true, false, true, true);
+        assertThat(response.results().get(1).errorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR.name());
+        Long firstId = response.results().get(0).weighingId();
+        Long secondId = response.results().get(2).weighingId();
+        Long thirdId = response.results().get(3).weighingId();
+
+        List<WeighingResponse> changed = events.stream(WeighingChangedEvent.class)
+                .map(WeighingChangedEvent::weighing).toList();
+        assertThat(changed).extracting(WeighingResponse::weighingId).containsExactly(firstId, secondId, thirdId);
+        assertThat(changed).allSatisfy(snapshot -> {
+            assertThat(snapshot.version()).isZero();
+            assertThat(snapshot.createdAt()).isNotNull();
+            assertThat(snapshot.weighingStatus()).isEqualTo("IN_PROGRESS");
+        });
+        assertThat(events.stream(WeighingUpdatedEvent.class)).isEmpty();
+        assertThat(events.stream(WeighingWeightRecordedEvent.class)).extracting(WeighingWeightRecordedEvent::weighingId)
+                .containsExactly(firstId, secondId, thirdId);
+        assertThat(events.stream(WeighingLifecycleEvent.class)).extracting(WeighingLifecycleEvent::stage)
+                .containsOnly(WeighingLifecycleStage.WEIGHING_CREATED).hasSize(3);
+
+        ArgumentCaptor<WeighingBatchUpdateMessage> batches = ArgumentCaptor.forClass(WeighingBatchUpdateMessage.class);
+        verify(webSocketNotificationService, times(2)).notifyWeighingBatchUpdate(batches.capture());
+        assertThat(batches.getAllValues()).extracting(WeighingBatchUpdateMessage::scaleId).containsExactly(1L, 2L);
+        assertThat(batches.getAllValues().get(0).updates()).extracting(update -> update.weighingId())
+                .containsExactly(firstId, thirdId);
+        assertThat(batches.getAllValues().get(1).count()).isEqualTo(1);
+
+        WeighingRecord stable = weighingRepository.findById(firstId).orElseThrow();
+        assertThat(stable.getStreamStable()).isTrue();
+        assertThat(stable.getStreamMeanWeight()).isEqualTo(Weight.ofGrams(30_000));
+        assertThat(stable.getStreamSampleCount()).isEqualTo(20);
+        assertThat(weighingRepository.findById(secondId).orElseThrow().getStreamStable()).isNull();
+    }
+
+    private static WeighingCreateRequest item(Long scaleId, String kg) {
+        return new WeighingCreateRequest(100L + scaleId, scaleId, WeighingMode.LPR_AUTO, WeighingStep.FIRST,
+                Weight.parseKg(kg), "12가3456", null);
+    }
+
+    @TestConfiguration
+    static class ValidatorConfig {
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
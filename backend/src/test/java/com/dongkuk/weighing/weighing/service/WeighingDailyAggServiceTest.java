@@ -0,0 +1,265 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.global.partition.PartitionProperties;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository.DailyRow;
+import com.dongkuk.weighing.weighing.domain.WeighingMode;
+import com.dongkuk.weighing.weighing.domain.WeighingRecord;
+import com.dongkuk.weighing.weighing.domain.WeighingRepository;
+import com.dongkuk.weighing.weighing.domain.WeighingStep;
+import com.dongkuk.weighing.weighing.dto.ReWeighRequest;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.dto.WeighingTareRequest;
+import com.dongkuk.weighing.weightstream.service.ScaleStabilityMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 계량 일별 집계 서비스 테스트.
+ *
+ * <p>계량 완료와 재계량이 같은 트랜잭션에서 롤업을 증감하는지, H2의 {@code MERGE} 경로가 같은 집계 키를
+ * 한 행으로 누적하는지, 재구성 결과가 증분 반영 결과와 같은지 확인한다. 또한 보존 기간 이전 계량이
+ * 보관되어 원천 테이블에 없을 때, 기간을 지정하지 않은 재구성이 보관된 월의 집계 행을 지우지 않고
+ * 보존 기간 안쪽만 다시 계산하는지 확인한다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WeighingDailyAggService.class, WeighingDailyAggJdbcRepository.class, DatabaseDialect.class,
+        PartitionProperties.class, WeighingService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WeighingDailyAggServiceTest {
+
+    private static final int RETENTION_MONTHS = 12;
+
+    /** 재구성 결과와 비교할 집계 행 (건수 0인 행은 증분 반영에서만 남으므로 제외) */
+    private static final String AGG_ROWS_SQL = "SELECT agg_date, scale_id, company_id, item_type, weighing_mode, " +
+            "completed_count, net_weight_sum FROM tb_weighing_daily_agg WHERE completed_count <> 0 " +
+            "ORDER BY agg_date, scale_id, company_id, item_type, weighing_mode";
+
+    @Autowired
+    private WeighingDailyAggService weighingDailyAggService;
+
+    @Autowired
+    private WeighingDailyAggJdbcRepository dailyAggRepository;
+
+    @Autowired
+    private WeighingService weighingService;
+
+    @Autowired
+    private WeighingRepository weighingRepository;
+
+    @Autowired
+    private DatabaseDialect databaseDialect;
+
+    @Autowired
+    private PartitionProperties partitionProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private InProgressWeighingRegistry inProgressWeighingRegistry;
+
+    @MockBean
+    private ApproximateRowCounter approximateRowCounter;
+
+    @MockBean
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @MockBean
+    private WeighingStatisticsCache weighingStatisticsCache;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private ScaleStabilityMonitor scaleStabilityMonitor;
+
+    private long byProductDispatchId;
+    private long wasteDispatchId;
+
+    /**
+     * 증분 반영은 JVM 시각({@code createdAt.toLocalDate()})으로, 재구성은 저장된 시각({@code CAST(created_at AS DATE)})으로
+     * 집계 일자를 정하므로 JPA가 시각을 같은 타임존으로 저장하게 한다.
+     */
+    @DynamicPropertySource
+    static void jdbcTimeZone(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.jdbc.time_zone", () -> TimeZone.getDefault().getID());
+    }
+
+    @BeforeEach
+    void setUp() {
+        partitionProperties.setEnabled(true);
+        partitionProperties.setRetentionMonths(RETENTION_MONTHS);
+        byProductDispatchId = insertDispatch(7L, "BY_PRODUCT");
+        wasteDispatchId = insertDispatch(8L, "WASTE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tb_weighing_daily_agg");
+        jdbcTemplate.update("DELETE FROM tb_weighing");
+        jdbcTemplate.update("DELETE FROM tb_dispatch");
+    }
+
+    @Test
+    @DisplayName("계량 완료는 일별 집계에 +1건·+순중량, 완료된 계량의 재계량은 -1건·-순중량으로 반영된다")
+    void completeAndReWeigh_UpdateRollup() {
+        LocalDate today = LocalDate.now();
+        Long weighingId = complete(byProductDispatchId, 1L, WeighingMode.LPR_AUTO, today.atStartOfDay(), "30.00", "12.50");
+
+        assertThat(dailyAggRepository.findDaily(today, today, null, null))
+                .containsExactly(new DailyRow(today, 7L, "BY_PRODUCT", 1, Weight.parseKg("17.50")));
+
+        WeighingResponse reWeighed = weighingService.reWeigh(weighingId, new ReWeighRequest("중량 이의 제기"));
+
+        // 차감된 행은 건수 0으로 남고 조회에서는 제외된다
+        assertThat(dailyAggRepository.findDaily(today, today, null, null)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT net_weight_sum FROM tb_weighing_daily_agg " +
+                "WHERE completed_count = 0", BigDecimal.class)).isZero();
+
+        // 재계량으로 새로 만든 기록을 완료하면 다시 반영되고, 진행 중이던 기록의 재계량은 집계를 건드리지 않는다
+        weighingService.recordTareWeight(reWeighed.weighingId(), new WeighingTareRequest(Weight.parseKg("13.00")));
+        weighingService.completeWeighing(reWeighed.weighingId());
+        Long inProgressId = save(wasteDispatchId, 2L, WeighingMode.MANUAL, today.atStartOfDay(), "20.00");
+        weighingService.reWeigh(inProgressId, new ReWeighRequest("차량 정차 불량"));
+
+        assertThat(dailyAggRepository.findDaily(today, today, null, null))
+                .containsExactly(new DailyRow(today, 7L, "BY_PRODUCT", 1, Weight.parseKg("17.00")));
+    }
+
+    @Test
+    @DisplayName("H2에서는 MERGE로 같은 집계 키를 한 행에 누적하고, 키가 다르면 새 행을 만든다")
+    void increment_MergesSameKeyIntoOneRow() {
+        LocalDate today = LocalDate.now();
+
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", 1, Weight.parseKg("10.25"));
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", 1, Weight.parseKg("4.75"));
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", -1, Weight.parseKg("4.75").negate());
+        dailyAggRepository.increment(today, 1L, 7L, "BY_PRODUCT", "MANUAL", 1, Weight.parseKg("3.00"));
+
+        assertThat(databaseDialect.isPostgres()).isFalse();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(AGG_ROWS_SQL);
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting(row -> row.get("WEIGHING_MODE"), row -> ((Number) row.get("COMPLETED_COUNT")).longValue())
+                .containsExactly(tuple("LPR_AUTO", 1L), tuple("MANUAL", 1L));
+        assertThat(dailyAggRepository.findDaily(today, today, null, null))
+                .containsExactly(new DailyRow(today, 7L, "BY_PRODUCT", 2, Weight.parseKg("13.25")));
+    }
+
+    @Test
+    @DisplayName("원천 계량으로 재구성한 집계는 완료/재계량 증분 반영 결과와 같다")
+    void rebuild_MatchesIncrementalUpdates() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime lastNight = today.minusDays(1).atTime(23, 59, 59);
+        LocalDateTime midnight = today.atStartOfDay();
+
+        complete(byProductDispatchId, 1L, WeighingMode.LPR_AUTO, lastNight, "30.00", "10.00");
+        complete(byProductDispatchId, 1L, WeighingMode.LPR_AUTO, midnight, "31.00", "10.00");
+        complete(byProductDispatchId, 2L, WeighingMode.MOBILE_OTP, midnight, "25.50", "10.25");
+        Long reWeighedId = complete(wasteDispatchId, 1L, WeighingMode.MANUAL, midnight, "18.00", "9.00");
+        WeighingResponse reWeighed = weighingService.reWeigh(reWeighedId, new ReWeighRequest("계량값 오류"));
+        weighingService.recordTareWeight(reWeighed.weighingId(), new WeighingTareRequest(Weight.parseKg("9.50")));
+        weighingService.completeWeighing(reWeighed.weighingId());
+        save(wasteDispatchId, 2L, WeighingMode.MANUAL, midnight, "22.00");
+
+        List<Map<String, Object>> incremental = jdbcTemplate.queryForList(AGG_ROWS_SQL);
+        assertThat(incremental).hasSize(4);
+
+        int rebuilt = weighingDailyAggService.rebuild(null, null);
+
+        assertThat(rebuilt).isEqualTo(incremental.size());
+        assertThat(jdbcTemplate.queryForList(AGG_ROWS_SQL)).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("기간 없는 재구성은 보존 기간 이전(보관된 월)의 집계 행을 유지하고 보존 기간 안쪽만 다시 계산한다")
+    void rebuild_WithoutRange_KeepsArchivedMonths() {
+        LocalDate retentionStart = YearMonth.now().minusMonths(RETENTION_MONTHS).atDay(1);
+        LocalDate archivedDay = retentionStart.minusDays(1);
+        LocalDate liveDay = LocalDate.now();
+        // 원천 계량이 보관 스키마로 옮겨진 월의 집계 (tb_weighing에는 더 이상 없음)
+        dailyAggRepository.increment(archivedDay, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", 5, Weight.parseKg("75.00"));
+        // 보존 기간 안쪽의 어긋난 집계는 원천 데이터 기준으로 바로잡혀야 한다
+        dailyAggRepository.increment(liveDay, 1L, 7L, "BY_PRODUCT", "LPR_AUTO", 9, Weight.parseKg("99.00"));
+        insertCompletedWeighing(liveDay.atTime(9, 0), "15.00");
+
+        int rows = weighingDailyAggService.rebuild(null, null);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(dailyAggRepository.findDaily(archivedDay, archivedDay, null, null))
+                .containsExactly(new DailyRow(archivedDay, 7L, "BY_PRODUCT", 5, Weight.parseKg("75.00")));
+        assertThat(dailyAggRepository.findDaily(liveDay, liveDay, null, null))
+                .containsExactly(new DailyRow(liveDay, 7L, "BY_PRODUCT", 1, Weight.parseKg("15.00")));
+
+        // 보존 기간 이전을 명시해도 보관된 월의 집계는 지우지 않는다
+        assertThat(weighingDailyAggService.rebuild(archivedDay.minusYears(1), archivedDay)).isZero();
+        assertThat(dailyAggRepository.findDaily(archivedDay, archivedDay, null, null)).hasSize(1);
+    }
+
+    private long insertDispatch(Long companyId, String itemType) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO tb_dispatch (vehicle_id, company_id, item_type, item_name, dispatch_date, " +
+                        "dispatch_status, created_at, updated_at) VALUES (1, ?, ?, '품목', ?, 'IN_PROGRESS', ?, ?)",
+                companyId, itemType, Date.valueOf(now.toLocalDate()), Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return jdbcTemplate.queryForObject("SELECT MAX(dispatch_id) FROM tb_dispatch", Long.class);
+    }
+
+    private Long save(long dispatchId, Long scaleId, WeighingMode mode, LocalDateTime createdAt, String grossKg) {
+        WeighingRecord record = WeighingRecord.builder()
+                .dispatchId(dispatchId)
+                .scaleId(scaleId)
+                .weighingMode(mode)
+                .weighingStep(WeighingStep.FIRST)
+                .grossWeight(Weight.parseKg(grossKg))
+                .build();
+        record.setCreatedAtForDevData(createdAt);
+        return weighingRepository.save(record).getWeighingId();
+    }
+
+    private Long complete(long dispatchId, Long scaleId, WeighingMode mode, LocalDateTime createdAt,
+                          String grossKg, String tareKg) {
+        Long weighingId = save(dispatchId, scaleId, mode, createdAt, grossKg);
+        weighingService.recordTareWeight(weighingId, new WeighingTareRequest(Weight.parseKg(tareKg)));
+        weighingService.completeWeighing(weighingId);
+        return weighingId;
+    }
+
+    private void insertCompletedWeighing(LocalDateTime createdAt, String netKg) {
+        jdbcTemplate.update("INSERT INTO tb_weighing (dispatch_id, scale_id, weighing_mode, weighing_step, " +
+                        "gross_weight, tare_weight, net_weight, weighing_status, created_at, updated_at) " +
+                        "VALUES (?, 1, 'LPR_AUTO', 'SECOND', 30.00, 15.00, ?, 'COMPLETED', ?, ?)",
+                byProductDispatchId, Weight.parseKg(netKg).toBigDecimalKg(), Timestamp.valueOf(createdAt),
+                Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,89 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.export.service.ExportProgress;
+import com.dongkuk.weighing.weighing.domain.WeighingJdbcRepository;
+import com.dongkuk.weighing.weighing.dto.WeighingExportFormat;
+import com.dongkuk.weighing.weighing.dto.WeighingResponse;
+import com.dongkuk.weighing.weighing.dto.WeighingSearchCondition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class WeighingExportServiceTest {
+
+    @Mock
+    private WeighingJdbcRepository weighingJdbcRepository;
+
+    private WeighingExportService weighingExportService;
+
+    private final WeighingSearchCondition condition = new WeighingSearchCondition(null, null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        weighingExportService = new WeighingExportService(weighingJdbcRepository, objectMapper);
+
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 2, 9, 30);
+        willAnswer(invocation -> {
+            Consumer<WeighingResponse> consumer = invocation.getArgument(6);
+            consumer.accept(new WeighingResponse(1L, 10L, 1L, "MANUAL", "SECOND",
+                    Weight.ofKg(30000), Weight.ofKg(15000), Weight.ofKg(15000),
+                    "12가3456", null, "COMPLETED", null, createdAt, createdAt, null));
+            consumer.accept(new WeighingResponse(2L, 11L, 1L, "MANUAL", "FIRST",
+                    Weight.ofKg(28000), null, null,
+                    null, null, "RE_WEIGHING", "중량 오차, \"재측정\"", createdAt, createdAt, null));
+            return null;
+        }).given(weighingJdbcRepository).streamSearch(isNull(), isNull(), isNull(), isNull(), isNull(), any(), any());
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 행과 RFC 4180 규칙으로 이스케이프된 행을 기록한다")
+    void export_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportProgress progress = new ExportProgress();
+
+        weighingExportService.export(condition, WeighingExportFormat.CSV, out, progress);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("weighing_id,dispatch_id,scale_id");
+        assertThat(lines[1]).isEqualTo(
+                "1,10,1,MANUAL,SECOND,30000.00,15000.00,15000.00,12가3456,,COMPLETED,,2026-03-02T09:30,2026-03-02T09:30");
+        assertThat(lines[2]).contains(",RE_WEIGHING,\"중량 오차, \"\"재측정\"\"\",");
+        assertThat(progress.getProcessed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 행마다 snake_case JSON 객체 한 줄을 기록한다")
+    void export_ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        weighingExportService.export(condition, WeighingExportFormat.NDJSON, out, ExportProgress.NONE);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"weighing_id\":1,").contains("\"lpr_plate_number\":\"12가3456\"");
+        assertThat(lines[1]).startsWith("{\"weighing_id\":2,").endsWith("}");
+    }
+}
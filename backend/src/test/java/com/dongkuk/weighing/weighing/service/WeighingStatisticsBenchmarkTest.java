@@ -0,0 +1,306 @@
+package com.dongkuk.weighing.weighing.service;
+
+import com.dongkuk.weighing.global.common.pagination.ApproximateRowCounter;
+import com.dongkuk.weighing.global.common.search.SearchQueryExecutor;
+import com.dongkuk.weighing.global.common.util.DatabaseDialect;
+import com.dongkuk.weighing.outbox.service.OutboxService;
+import com.dongkuk.weighing.weighing.config.WeighingProperties;
+import com.dongkuk.weighing.weighing.domain.WeighingDailyAggJdbcRepository;
+import com.dongkuk.weighing.weighing.dto.DailyStatistics;
+import com.dongkuk.weighing.weighing.dto.WeighingStatisticsResponse;
+import com.dongkuk.weighing.weightstream.service.ScaleStabilityMonitor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계량 통계 조회 벤치마크.
+ *
+ * <p>합성 데이터(기본 100만 건, 최근 60일 분산)에 대해 기존 9개 개별 쿼리 방식과
+ * 단일 스캔 조건부 집계 + 일별 집계 롤업 방식, 그리고 TTL 캐시 적중 시의
+ * 쿼리 수와 지연 시간을 비교한다.</p>
+ *
+ * <p>통계 조회는 스프링이 구성한 {@link WeighingService}로 수행하며, 통계와 무관한 협력 객체는 목으로 대체한다.
+ * 변형별 쿼리 수와 평균 지연 시간은 로그로 남긴다.</p>
+ *
+ * <p>데이터 적재에 시간이 걸리므로 기본 빌드에서는 실행하지 않는다.
+ * {@code ./gradlew test -Pbenchmark=true [-Pbenchmark.rows=1000000] --tests '*WeighingStatisticsBenchmarkTest'}
+ * 로 실행한다.</p>
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WeighingService.class, WeighingStatisticsCache.class, WeighingProperties.class,
+        WeighingDailyAggJdbcRepository.class, DatabaseDialect.class, WeighingStatisticsBenchmarkTest.QueryCountConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WeighingStatisticsBenchmarkTest {
+
+    private static final int DAYS = 60;
+    private static final int DISPATCHES = 1_000;
+    private static final int CHUNK = 10_000;
+    private static final int ITERATIONS = 20;
+    private static final String[] ITEM_TYPES = {"BY_PRODUCT", "WASTE", "SUB_MATERIAL", "EXPORT"};
+    private static final String[] MODES = {"LPR_AUTO", "MOBILE_OTP", "MANUAL"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WeighingDailyAggJdbcRepository dailyAggRepository;
+
+    @Autowired
+    private WeighingService weighingService;
+
+    @Autowired
+    private WeighingStatisticsCache weighingStatisticsCache;
+
+    @Autowired
+    private WeighingProperties weighingProperties;
+
+    @MockBean
+    private InProgressWeighingRegistry inProgressWeighingRegistry;
+
+    @MockBean
+    private ApproximateRowCounter approximateRowCounter;
+
+    @MockBean
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @MockBean
+    private WeighingDailyAggService weighingDailyAggService;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private ScaleStabilityMonitor scaleStabilityMonitor;
+
+    private static boolean loaded;
+
+    /**
+     * 합성 데이터와 기존 방식 쿼리는 JdbcTemplate으로 JVM 기본 타임존 시각을 그대로 기록/조회하므로,
+     * JPA 쿼리의 시각 파라미터도 같은 타임존으로 바인딩되게 한다.
+     */
+    @DynamicPropertySource
+    static void jdbcTimeZone(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.jdbc.time_zone", () -> TimeZone.getDefault().getID());
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (!loaded) {
+            loadSyntheticData(Integer.getInteger("benchmark.rows", 1_000_000));
+            loaded = true;
+        }
+    }
+
+    @Test
+    @DisplayName("기존 9개 쿼리 대비 단일 스캔 집계와 캐시 적중 시 쿼리 수와 지연 시간")
+    void compare() {
+        Result before = measure("before (9 queries)", Duration.ZERO, this::legacyStatistics);
+        Result after = measure("after (conditional aggregation + rollup)", Duration.ZERO, weighingService::getStatistics);
+        Result cacheHit = measure("after (cache hit)", Duration.ofSeconds(10), weighingService::getStatistics);
+
+        for (Result result : List.of(before, after, cacheHit)) {
+            log.info("{}: queries={}, avgMs={}", result.name(), result.queriesPerCall(),
+                    String.format("%.2f", result.avgMillis()));
+        }
+
+        assertThat(before.queriesPerCall()).isEqualTo(9);
+        assertThat(after.queriesPerCall()).isEqualTo(2);
+        assertThat(cacheHit.queriesPerCall()).isZero();
+
+        // 두 방식의 결과가 동일해야 한다
+        useCacheTtl(Duration.ZERO);
+        WeighingStatisticsResponse legacy = legacyStatistics();
+        WeighingStatisticsResponse current = weighingService.getStatistics();
+        assertThat(current.todayTotalCount()).isEqualTo(legacy.todayTotalCount());
+        assertThat(current.todayCompletedCount()).isEqualTo(legacy.todayCompletedCount());
+        assertThat(current.todayInProgressCount()).isEqualTo(legacy.todayInProgressCount());
+        assertThat(current.monthTotalCount()).isEqualTo(legacy.monthTotalCount());
+        assertThat(current.monthTotalNetWeightTon()).isEqualTo(legacy.monthTotalNetWeightTon());
+        assertThat(current.countByItemType()).isEqualTo(legacy.countByItemType());
+        assertThat(current.countByWeighingMode()).isEqualTo(legacy.countByWeighingMode());
+        assertThat(current.dailyStatistics()).isEqualTo(legacy.dailyStatistics());
+    }
+
+    // ─── 측정 ───
+
+    private Result measure(String name, Duration cacheTtl, Supplier<WeighingStatisticsResponse> call) {
+        useCacheTtl(cacheTtl);
+        call.get(); // 워밍업 (캐시 적재 포함)
+        QueryCountConfig.COUNT.set(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(name, QueryCountConfig.COUNT.get() / ITERATIONS, elapsed / 1_000_000.0 / ITERATIONS);
+    }
+
+    private void useCacheTtl(Duration ttl) {
+        weighingProperties.getStatistics().setCacheTtl(ttl);
+        weighingStatisticsCache.invalidate();
+    }
+
+    /** 변경 전 getStatistics()의 9개 개별 쿼리를 그대로 재현한다. */
+    private WeighingStatisticsResponse legacyStatistics() {
+        LocalDate today = LocalDate.now();
+        Timestamp todayStart = Timestamp.valueOf(today.atStartOfDay());
+        Timestamp todayEnd = Timestamp.valueOf(today.atTime(LocalTime.MAX));
+        Timestamp monthStart = Timestamp.valueOf(today.withDayOfMonth(1).atStartOfDay());
+        Timestamp thirtyDaysAgo = Timestamp.valueOf(today.minusDays(30).atStartOfDay());
+        String period = " WHERE w.created_at >= ? AND w.created_at <= ?";
+        String completedSum = "SELECT COALESCE(SUM(w.net_weight), 0) FROM tb_weighing w" + period +
+                " AND w.weighing_status = 'COMPLETED'";
+        String statusCount = "SELECT COUNT(*) FROM tb_weighing w" + period + " AND w.weighing_status = ?";
+
+        long todayTotal = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_weighing w" + period, Long.class, todayStart, todayEnd);
+        long todayCompleted = jdbcTemplate.queryForObject(statusCount, Long.class, todayStart, todayEnd, "COMPLETED");
+        long todayInProgress = jdbcTemplate.queryForObject(statusCount, Long.class, todayStart, todayEnd, "IN_PROGRESS");
+        double todayNet = jdbcTemplate.queryForObject(completedSum, Double.class, todayStart, todayEnd);
+        long monthTotal = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_weighing w" + period, Long.class, monthStart, todayEnd);
+        double monthNet = jdbcTemplate.queryForObject(completedSum, Double.class, monthStart, todayEnd);
+
+        Map<String, Long> byItemType = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT d.item_type, COUNT(*) FROM tb_weighing w " +
+                        "JOIN tb_dispatch d ON w.dispatch_id = d.dispatch_id" + period + " GROUP BY d.item_type",
+                rs -> {
+                    byItemType.put(rs.getString(1), rs.getLong(2));
+                }, monthStart, todayEnd);
+        Map<String, Long> byMode = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT w.weighing_mode, COUNT(*) FROM tb_weighing w" + period + " GROUP BY w.weighing_mode",
+                rs -> {
+                    byMode.put(rs.getString(1), rs.getLong(2));
+                }, monthStart, todayEnd);
+        List<DailyStatistics> daily = jdbcTemplate.query(
+                "SELECT CAST(w.created_at AS DATE), COUNT(*), COALESCE(SUM(w.net_weight), 0) FROM tb_weighing w" +
+                        period + " AND w.weighing_status = 'COMPLETED' " +
+                        "GROUP BY CAST(w.created_at AS DATE) ORDER BY CAST(w.created_at AS DATE)",
+                (rs, i) -> new DailyStatistics(
+                        rs.getObject(1, LocalDate.class), rs.getLong(2), rs.getBigDecimal(3).doubleValue() / 1000.0),
+                thirtyDaysAgo, todayEnd);
+
+        return new WeighingStatisticsResponse(todayTotal, todayCompleted, todayInProgress, todayNet / 1000.0,
+                monthTotal, monthNet / 1000.0, byItemType, byMode, daily);
+    }
+
+    // ─── 합성 데이터 적재 ───
+
+    private void loadSyntheticData(int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> dispatches = new ArrayList<>(DISPATCHES);
+        for (int i = 0; i < DISPATCHES; i++) {
+            dispatches.add(new Object[]{(long) (i % 200) + 1, (long) (i % 50) + 1, ITEM_TYPES[i % ITEM_TYPES.length],
+                    "품목" + i, Date.valueOf(now.toLocalDate()), "IN_PROGRESS",
+                    Timestamp.valueOf(now), Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_dispatch (vehicle_id, company_id, item_type, item_name, " +
+                "dispatch_date, dispatch_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", dispatches);
+        long firstDispatchId = jdbcTemplate.queryForObject("SELECT MIN(dispatch_id) FROM tb_dispatch", Long.class);
+
+        // 최근 60일에 고르게 분산, 오늘 데이터는 현재 시각 이전으로 생성
+        long spanSeconds = Duration.ofDays(DAYS).toSeconds();
+        String insert = "INSERT INTO tb_weighing (dispatch_id, scale_id, weighing_mode, weighing_step, gross_weight, " +
+                "tare_weight, net_weight, weighing_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(CHUNK);
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds((long) i * spanSeconds / rows));
+            boolean completed = i % 10 < 8;
+            batch.add(new Object[]{firstDispatchId + i % DISPATCHES, (long) (i % 4) + 1, MODES[i % MODES.length],
+                    completed ? "SECOND" : "FIRST", 30_000 + i % 5_000, completed ? 15_000 : null,
+                    completed ? 15_000 + i % 5_000 : null, completed ? "COMPLETED" : (i % 10 == 8 ? "IN_PROGRESS" : "RE_WEIGHING"),
+                    createdAt, createdAt});
+            if (batch.size() == CHUNK) {
+                jdbcTemplate.batchUpdate(insert, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insert, batch);
+        }
+        dailyAggRepository.rebuild(null, null);
+    }
+
+    private record Result(String name, int queriesPerCall, double avgMillis) {
+    }
+
+    /** 실행된 JDBC 문장 수를 세기 위해 DataSource를 감싼다. */
+    @TestConfiguration
+    static class QueryCountConfig {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor queryCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(dataSource.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+                            COUNT.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
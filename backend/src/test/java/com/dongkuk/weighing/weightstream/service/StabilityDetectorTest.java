@@ -0,0 +1,111 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.global.common.weight.Weight;
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import com.dongkuk.weighing.weightstream.event.ScaleStabilityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StabilityDetectorTest {
+
+    @Test
+    @DisplayName("구간 평균/표준편차/범위는 매번 전체 구간을 다시 계산한 값과 같다")
+    void slidingStatisticsMatchRecomputation() {
+        int windowSize = 7;
+        StabilityDetector detector = new StabilityDetector(windowSize, 500, 0);
+        Random random = new Random(42);
+        List<Integer> samples = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            int weight = 25_000_000 + random.nextInt(20_000) - 10_000;
+            samples.add(weight);
+            detector.add(weight, i);
+
+            List<Integer> window = samples.subList(Math.max(0, samples.size() - windowSize), samples.size());
+            double mean = window.stream().mapToInt(Integer::intValue).average().orElseThrow();
+            double variance = window.stream().mapToDouble(w -> (w - mean) * (w - mean)).sum() / window.size();
+            int range = window.stream().mapToInt(Integer::intValue).max().orElseThrow()
+                    - window.stream().mapToInt(Integer::intValue).min().orElseThrow();
+
+            StabilityWindow snapshot = detector.snapshot();
+            assertThat(snapshot.sampleCount()).isEqualTo(window.size());
+            assertThat(snapshot.meanGrams()).isCloseTo(mean, within(1e-3));
+            assertThat(snapshot.stdDevGrams()).isCloseTo(Math.sqrt(variance), within(1e-3));
+            assertThat(snapshot.rangeGrams()).isEqualTo(range);
+        }
+    }
+
+    @Test
+    @DisplayName("구간이 가득 차고 범위가 허용 편차 이내일 때만 안정으로 전환하고, 흔들리면 불안정으로 전환한다")
+    void reportsTransitions() {
+        StabilityDetector detector = new StabilityDetector(5, 500, 0);
+
+        // 차량 진입 중 (중량 상승)
+        assertThat(detector.add(5_000_000, 0)).isFalse();
+        assertThat(detector.add(15_000_000, 1)).isFalse();
+
+        // 정지 후 허용 편차(0.5kg) 이내로 흔들림
+        int[] settled = {25_000_100, 25_000_300, 25_000_000, 25_000_200, 25_000_400};
+        List<Boolean> transitions = new ArrayList<>();
+        for (int weight : settled) {
+            transitions.add(detector.add(weight, 2));
+        }
+        assertThat(transitions).containsExactly(false, false, false, false, true);
+        assertThat(detector.snapshot().stable()).isTrue();
+        assertThat(detector.snapshot().rangeGrams()).isEqualTo(400);
+
+        // 허용 편차를 넘는 흔들림
+        assertThat(detector.add(25_001_000, 3)).isTrue();
+        assertThat(detector.snapshot().stable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("표준편차 기준이 설정되면 범위가 허용 이내여도 표준편차 초과 시 불안정으로 판정한다")
+    void appliesStdDevThreshold() {
+        StabilityDetector detector = new StabilityDetector(4, 1_000, 100);
+        for (int weight : new int[]{10_000_000, 10_000_400, 10_000_000, 10_000_400}) {
+            detector.add(weight, 0);
+        }
+
+        StabilityWindow snapshot = detector.snapshot();
+        assertThat(snapshot.stdDevGrams()).isCloseTo(200, within(1e-6));
+        assertThat(snapshot.stable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("안정 판정 관리자는 전환 시에만 이벤트를 발행하고, 오래된 구간은 조회하지 않는다")
+    void monitorPublishesTransitionsOnly() {
+        WeightStreamProperties properties = new WeightStreamProperties();
+        properties.setMaxScaleId(4);
+        properties.setStabilityWindowSize(3);
+        properties.setStabilityToleranceKg(0.5);
+        properties.setStabilityMaxAgeMs(60_000);
+        List<Object> events = new ArrayList<>();
+        ScaleStabilityMonitor monitor = new ScaleStabilityMonitor(properties, null, events::add,
+                new SimpleMeterRegistry());
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            monitor.onSample(2, 30_000_000 + (i % 2) * 100, now);
+        }
+
+        assertThat(events).hasSize(1);
+        ScaleStabilityChangedEvent event = (ScaleStabilityChangedEvent) events.get(0);
+        assertThat(event.scaleId()).isEqualTo(2L);
+        assertThat(event.window().stable()).isTrue();
+        assertThat(monitor.currentWindow(2L)).hasValueSatisfying(window ->
+                assertThat(window.meanWeight()).isEqualTo(Weight.ofGrams(30_000_067)));
+        assertThat(monitor.currentWindow(3L)).isEmpty();
+
+        monitor.onSample(3, 1_000, now - 120_000);
+        assertThat(monitor.currentWindow(3L)).isEmpty();
+    }
+}
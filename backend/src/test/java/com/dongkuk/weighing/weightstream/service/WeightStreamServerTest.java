@@ -0,0 +1,202 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import com.dongkuk.weighing.weightstream.config.WeightStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightStreamServerTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ScaleWeightBuffers buffers;
+    private WeightStreamServer server;
+
+    @BeforeEach
+    void setUp() {
+        WeightStreamProperties properties = new WeightStreamProperties();
+        properties.setEnabled(true);
+        properties.setBindAddress("127.0.0.1");
+        properties.setPort(0);
+        properties.setSharedSecret(SECRET);
+        properties.setHandshakeTimeoutMs(300);
+        properties.setMaxScaleId(8);
+        properties.setBufferCapacity(4);
+
+        buffers = new ScaleWeightBuffers(properties);
+        ScaleStabilityMonitor stabilityMonitor = new ScaleStabilityMonitor(properties, null, event -> { }, meterRegistry);
+        server = new WeightStreamServer(properties, buffers, stabilityMonitor, meterRegistry);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("인증 후 여러 번에 나뉘어 도착한 프레임도 계량대 링 버퍼에 순서대로 기록한다")
+    void receivesFramesAcrossReads() throws Exception {
+        ByteBuffer frames = ByteBuffer.allocate(WeightFrame.SIZE * 2);
+        WeightFrame.encode(frames, 1, 1_000L, 15_000_000, false);
+        WeightFrame.encode(frames, 1, 1_100L, 15_020_000, true);
+        frames.flip();
+
+        try (SocketChannel scale1 = connect(1, SECRET); SocketChannel scale2 = connect(2, SECRET)) {
+            // 두 번째 프레임 중간에서 끊어 전송
+            ByteBuffer first = frames.duplicate().limit(WeightFrame.SIZE + 7);
+            ByteBuffer rest = frames.duplicate().position(WeightFrame.SIZE + 7);
+            writeFully(scale1, first);
+            Thread.sleep(50);
+            writeFully(scale1, rest);
+
+            ByteBuffer other = ByteBuffer.allocate(WeightFrame.SIZE);
+            WeightFrame.encode(other, 2, 1_200L, 8_000_000, true);
+            writeFully(scale2, other.flip());
+
+            awaitTrue(() -> buffers.get(1).head() == 2 && buffers.get(2).head() == 1);
+        }
+
+        ScaleRingBuffer scale1 = buffers.get(1);
+        assertThat(scale1.weightAt(0)).isEqualTo(15_000_000);
+        assertThat(scale1.stableAt(0)).isFalse();
+        assertThat(scale1.timestampAt(1)).isEqualTo(1_100L);
+        assertThat(scale1.weightAt(1)).isEqualTo(15_020_000);
+        assertThat(scale1.stableAt(1)).isTrue();
+        assertThat(meterRegistry.counter("weight.stream.samples").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("인증된 계량대 ID와 다른 프레임을 받으면 연결을 끊는다")
+    void rejectsFramesForOtherScale() throws Exception {
+        try (SocketChannel channel = connect(1, SECRET)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WeightFrame.SIZE);
+            WeightFrame.encode(buffer, 2, 1_000L, 1_000, true);
+            writeFully(channel, buffer.flip());
+
+            assertDisconnected(channel);
+        }
+
+        assertThat(buffers.get(2)).isNull();
+        assertThat(meterRegistry.counter("weight.stream.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀키가 다르거나 범위를 벗어난 계량대 ID로 인증하면 연결을 끊는다")
+    void rejectsInvalidHandshake() throws Exception {
+        try (SocketChannel wrongSecret = connect(1, "other-secret");
+             SocketChannel outOfRange = connect(99, SECRET)) {
+            assertDisconnected(wrongSecret);
+            assertDisconnected(outOfRange);
+        }
+
+        assertThat(buffers.get(1)).isNull();
+        assertThat(meterRegistry.counter("weight.stream.rejected").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인증 프레임 없이 측정 프레임을 보내거나 인증 대기 시간을 넘기면 연결을 끊는다")
+    void rejectsUnauthenticatedConnection() throws Exception {
+        try (SocketChannel noHello = open(); SocketChannel idle = open()) {
+            readChallenge(noHello);
+            ByteBuffer frames = ByteBuffer.allocate(WeightFrame.SIZE * 2);
+            WeightFrame.encode(frames, 1, 1_000L, 1_000, true);
+            WeightFrame.encode(frames, 1, 1_100L, 1_000, true);
+            writeFully(noHello, frames.flip());
+
+            assertDisconnected(noHello);
+            readChallenge(idle);
+            assertDisconnected(idle);
+        }
+
+        assertThat(buffers.get(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 가장 오래된 샘플을 덮어쓴다")
+    void ringBufferWrapsAround() {
+        ScaleRingBuffer ring = new ScaleRingBuffer(3);
+        assertThat(ring.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 6; i++) {
+            ring.add(i, i * 10, false);
+        }
+
+        assertThat(ring.head()).isEqualTo(6);
+        assertThat(ring.isAvailable(1)).isFalse();
+        assertThat(ring.isAvailable(3)).isTrue();
+        assertThat(ring.weightAt(3)).isEqualTo(30);
+        assertThat(ring.weightAt(5)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("다음 기록이 덮어쓸 슬롯(head - capacity)의 샘플은 읽을 수 없는 것으로 본다")
+    void ringBufferBoundary() {
+        ScaleRingBuffer ring = new ScaleRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            ring.add(i, i * 10, false);
+        }
+
+        // head = 4: 시퀀스 0의 슬롯은 다음 기록(시퀀스 4)이 쓰는 슬롯이다
+        assertThat(ring.isAvailable(0)).isFalse();
+        assertThat(ring.isAvailable(1)).isTrue();
+        assertThat(ring.isAvailable(3)).isTrue();
+        assertThat(ring.isAvailable(4)).isFalse();
+        assertThat(ring.oldestAvailable(ring.head())).isEqualTo(1);
+        assertThat(ring.oldestAvailable(2)).isZero();
+    }
+
+    /** 접속하여 챌린지를 받고 인증 프레임을 보낸다. */
+    private SocketChannel connect(int scaleId, String secret) throws IOException {
+        SocketChannel channel = open();
+        ByteBuffer hello = ByteBuffer.allocate(WeightFrame.HELLO_SIZE);
+        WeightFrame.encodeHello(hello, scaleId, readChallenge(channel), WeightFrame.key(secret));
+        writeFully(channel, hello.flip());
+        return channel;
+    }
+
+    private SocketChannel open() throws IOException {
+        return SocketChannel.open(new InetSocketAddress("127.0.0.1", server.getLocalPort()));
+    }
+
+    private byte[] readChallenge(SocketChannel channel) throws IOException {
+        ByteBuffer challenge = ByteBuffer.allocate(WeightFrame.CHALLENGE_SIZE);
+        while (challenge.hasRemaining()) {
+            if (channel.read(challenge) < 0) {
+                throw new IOException("챌린지 수신 전 연결 종료");
+            }
+        }
+        return challenge.array();
+    }
+
+    /** 서버가 연결을 끊으면 스트림 끝(-1)을 읽는다. */
+    private void assertDisconnected(SocketChannel channel) throws IOException {
+        channel.socket().setSoTimeout(5_000);
+        assertThat(channel.socket().getInputStream().read()).isEqualTo(-1);
+    }
+
+    private void writeFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
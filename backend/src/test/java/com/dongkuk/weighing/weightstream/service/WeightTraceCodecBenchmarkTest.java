@@ -0,0 +1,87 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중량 트레이스 부호화/해석 벤치마크.
+ *
+ * <p>20Hz 60초(1,200샘플) 계량 트레이스를 반복 부호화/해석하여 연산당 지연 시간과
+ * 할당 바이트(스레드 할당 카운터 기준)를 측정한다. 부호화기는 재사용하므로 연산당 할당은
+ * 결과 배열 하나, 해석은 위치 배열 하나 수준이어야 한다.</p>
+ *
+ * <p>기본 빌드에서는 실행하지 않는다.
+ * {@code ./gradlew test -Pbenchmark=true --tests '*WeightTraceCodecBenchmarkTest'}로 실행한다.</p>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WeightTraceCodecBenchmarkTest {
+
+    private static final int SAMPLES = 1_200;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** 해석 결과를 소비하여 JIT가 해석 루프를 제거하지 못하게 한다. */
+    private long sink;
+
+    @Test
+    @DisplayName("1,200샘플 트레이스 부호화/해석 지연 시간과 할당량")
+    void encodeAndDecode() {
+        long[] timestamps = new long[SAMPLES];
+        int[] weights = new int[SAMPLES];
+        WeightTraceFixtures.typicalWeighing(timestamps, weights);
+        WeightTraceEncoder encoder = new WeightTraceEncoder(SAMPLES);
+        byte[] data = encode(encoder, timestamps, weights);
+        WeightTraceCodec.SampleConsumer consumer = (index, timestamp, weightGrams) -> sink += timestamp ^ weightGrams;
+
+        Result encode = measure(() -> encode(encoder, timestamps, weights));
+        Result decode = measure(() -> WeightTraceCodec.decode(data, consumer));
+
+        log.info("샘플 {}개, 압축 {}바이트 (원시 {}바이트)",
+                SAMPLES, data.length, SAMPLES * (Long.BYTES + Integer.BYTES));
+        log.info("encode: nsPerOp={}, bytesPerOp={}",
+                String.format("%.0f", encode.nanosPerOp()), String.format("%.1f", encode.bytesPerOp()));
+        log.info("decode: nsPerOp={}, bytesPerOp={}",
+                String.format("%.0f", decode.nanosPerOp()), String.format("%.1f", decode.bytesPerOp()));
+
+        // 연산당 할당은 결과 배열(헤더 16바이트 + 데이터) 또는 위치 배열 정도에 그쳐야 한다
+        assertThat(encode.bytesPerOp()).isLessThan(data.length + 64);
+        assertThat(decode.bytesPerOp()).isLessThan(64);
+        assertThat(sink).isNotZero();
+    }
+
+    private Result measure(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result((double) elapsed / ITERATIONS, (double) allocated / ITERATIONS);
+    }
+
+    private static byte[] encode(WeightTraceEncoder encoder, long[] timestamps, int[] weights) {
+        encoder.reset();
+        for (int i = 0; i < timestamps.length; i++) {
+            encoder.add(timestamps[i], weights[i]);
+        }
+        return encoder.encode();
+    }
+
+    private record Result(double nanosPerOp, double bytesPerOp) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightTraceCodecTest {
+
+    @Test
+    @DisplayName("부호화한 트레이스를 해석하면 원래 샘플 열과 같다")
+    void roundTrip() {
+        long[] timestamps = new long[2_000];
+        int[] weights = new int[2_000];
+        Random random = new Random(7);
+        long timestamp = 1_760_000_000_000L;
+        int weight = 0;
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamp += 45 + random.nextInt(11);
+            weight += (random.nextInt(5) - 2) * 20_000 + (i % 500 == 0 ? -3_333 : 0);
+            timestamps[i] = timestamp;
+            weights[i] = weight;
+        }
+
+        byte[] data = encode(timestamps, weights);
+
+        long[] decodedTimestamps = new long[timestamps.length];
+        int[] decodedWeights = new int[weights.length];
+        int count = WeightTraceCodec.decode(data, (index, ts, grams) -> {
+            decodedTimestamps[index] = ts;
+            decodedWeights[index] = grams;
+        });
+        assertThat(count).isEqualTo(timestamps.length);
+        assertThat(WeightTraceCodec.sampleCount(data)).isEqualTo(timestamps.length);
+        assertThat(decodedTimestamps).isEqualTo(timestamps);
+        assertThat(decodedWeights).isEqualTo(weights);
+    }
+
+    @Test
+    @DisplayName("20Hz 60초 계량 트레이스(진입 → 정지 → 진출)는 수백 바이트로 압축된다")
+    void compressesTypicalWeighing() {
+        long[] timestamps = new long[1_200];
+        int[] weights = new int[1_200];
+        WeightTraceFixtures.typicalWeighing(timestamps, weights);
+
+        byte[] data = encode(timestamps, weights);
+
+        assertThat(data.length).isLessThan(512);
+        int[] decoded = new int[weights.length];
+        WeightTraceCodec.decode(data, (index, ts, grams) -> decoded[index] = grams);
+        assertThat(decoded).isEqualTo(weights);
+    }
+
+    @Test
+    @DisplayName("빈 트레이스와 샘플 하나짜리 트레이스도 부호화/해석한다")
+    void edgeCases() {
+        assertThat(WeightTraceCodec.decode(encode(new long[0], new int[0]), (i, t, w) -> { })).isZero();
+
+        long[] seen = new long[2];
+        WeightTraceCodec.decode(encode(new long[]{1_000L}, new int[]{-500}), (i, t, w) -> {
+            seen[0] = t;
+            seen[1] = w;
+        });
+        assertThat(seen).containsExactly(1_000L, -500L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 잘린 트레이스는 해석하지 않는다")
+    void rejectsCorruptData() {
+        long[] timestamps = new long[100];
+        int[] weights = new int[100];
+        WeightTraceFixtures.typicalWeighing(timestamps, weights);
+        byte[] data = encode(timestamps, weights);
+
+        assertThatThrownBy(() -> WeightTraceCodec.decode(Arrays.copyOf(data, data.length - 1), (i, t, w) -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        byte[] wrongVersion = data.clone();
+        wrongVersion[0] = 9;
+        assertThatThrownBy(() -> WeightTraceCodec.decode(wrongVersion, (i, t, w) -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] encode(long[] timestamps, int[] weights) {
+        WeightTraceEncoder encoder = new WeightTraceEncoder(16);
+        for (int i = 0; i < timestamps.length; i++) {
+            encoder.add(timestamps[i], weights[i]);
+        }
+        return encoder.encode();
+    }
+}
@@ -0,0 +1,40 @@
+package com.dongkuk.weighing.weightstream.service;
+
+import java.util.Random;
+
+/**
+ * 중량 트레이스 테스트용 샘플 열 생성기
+ */
+final class WeightTraceFixtures {
+
+    private WeightTraceFixtures() {
+    }
+
+    /**
+     * 20Hz로 수신한 계량 한 건의 샘플 열을 만든다.
+     * 빈 계량대(5%) → 진입(4초) → 정지 구간(눈금 10kg, 가끔 한 눈금 흔들림) → 진출(4초) → 빈 계량대.
+     */
+    static void typicalWeighing(long[] timestamps, int[] weights) {
+        int n = timestamps.length;
+        int empty = n / 20;
+        int ramp = Math.min(80, n / 10);
+        int target = 25_000_000;
+        Random random = new Random(11);
+        long timestamp = 1_760_000_000_000L;
+        for (int i = 0; i < n; i++) {
+            timestamps[i] = timestamp;
+            timestamp += 50;
+            int weight;
+            if (i < empty || i >= n - empty) {
+                weight = 0;
+            } else if (i < empty + ramp) {
+                weight = target / ramp * (i - empty + 1);
+            } else if (i >= n - empty - ramp) {
+                weight = target / ramp * (n - empty - i - 1);
+            } else {
+                weight = target + (random.nextInt(40) == 0 ? 10_000 : 0);
+            }
+            weights[i] = weight / 10_000 * 10_000;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 /**
  * 범용 WebSocket 연결 훅
  *
- * STOMP over SockJS 프로토콜을 사용하여 /topic/weighing-updates 토픽을
- * 구독하는 간단한 범용 WebSocket 훅입니다.
+ * STOMP over SockJS 프로토콜을 사용하여 모든 계량대의 계량 업데이트 토픽
+ * (/topic/scale/{scaleId}/weighing)과 일괄 등록 병합 토픽(/topic/scale/{scaleId}/weighing-batch)을
+ * 패턴 구독하는 간단한 범용 WebSocket 훅입니다. 병합 메시지는 한 번의 FULL 갱신으로 전달됩니다.
  * 대시보드, 계량 현황, 모니터링 등의 페이지에서
  * 실시간 데이터 갱신 트리거로 사용됩니다.
  *
@@ -38,8 +39,8 @@ export function useWebSocket(onMessage?: (msg: WebSocketMessage) => void) {
       webSocketFactory: () => new SockJS('/ws'),
       reconnectDelay: 5000, // 연결 끊김 시 5초 후 재연결
       onConnect: () => {
-        // 계량 업데이트 토픽 구독 - 메시지 수신 시 콜백 호출
-        client.subscribe('/topic/weighing-updates', (message) => {
+        // 전체 계량대의 계량 업데이트 토픽 패턴 구독 - 메시지 수신 시 콜백 호출
+        client.subscribe('/topic/scale/*/weighing', (message) => {
           if (callbackRef.current && message.body) {
             try {
               const parsed = JSON.parse(message.body);
@@ -53,6 +54,17 @@ export function useWebSocket(onMessage?: (msg: WebSocketMessage) => void) {
             }
           }
         });
+
+        // 일괄 등록 병합 메시지 - 건수와 관계없이 한 번만 갱신 트리거
+        client.subscribe('/topic/scale/*/weighing-batch', (message) => {
+          if (callbackRef.current && message.body) {
+            try {
+              callbackRef.current({ type: 'FULL', data: JSON.parse(message.body) });
+            } catch {
+              /* JSON 파싱 에러 무시 */
+            }
+          }
+        });
       },
     });
 
@@ -4,12 +4,13 @@
  * STOMP over SockJS 프로토콜을 사용하여 계량소의 실시간 데이터를
  * 수신하는 커스텀 React 훅입니다.
  *
- * 구독하는 토픽:
- * - /topic/scale-status: 계량대 실시간 중량 데이터
- * - /topic/weighing-updates: 계량 프로세스 상태 변경
- * - /topic/device-status: 장치 연결 상태 변경
+ * 구독하는 토픽 (scaleId가 없으면 전체 계량대를 패턴 구독):
+ * - /topic/scale/{scaleId}/status: 계량대 실시간 중량 데이터
+ * - /topic/scale/{scaleId}/weighing: 계량 프로세스 상태 변경
+ * - /topic/scale/{scaleId}/weighing-batch: 일괄 등록된 계량 (건별 업데이트로 풀어서 전달)
+ * - /topic/device-status/{deviceType}: 장치 연결 상태 변경
  *
- * @param props - 각 토픽별 메시지 수신 콜백 함수
+ * @param props - 관제 대상 계량대 ID와 각 토픽별 메시지 수신 콜백 함수
  */
 
 import { useEffect, useRef, useCallback } from 'react';
@@ -18,11 +19,14 @@ import SockJS from 'sockjs-client';
 import type {
   ScaleStatusMessage,
   WeighingUpdateMessage,
+  WeighingBatchUpdateMessage,
   DeviceStatusMessage,
 } from '../types/weighingStation';
 
 /** 훅에 전달되는 콜백 프로퍼티 */
 interface UseWeighingStationSocketProps {
+  /** 관제 대상 계량대 ID (없으면 전체 계량대) */
+  scaleId?: number;
   /** 계량대 상태 메시지 수신 콜백 */
   onScaleStatus?: (msg: ScaleStatusMessage) => void;
   /** 계량 업데이트 메시지 수신 콜백 */
@@ -32,6 +36,7 @@ interface UseWeighingStationSocketProps {
 }
 
 export function useWeighingStationSocket({
+  scaleId,
   onScaleStatus,
   onWeighingUpdate,
   onDeviceStatus,
@@ -53,6 +58,9 @@ export function useWeighingStationSocket({
   const connect = useCallback(() => {
     if (clientRef.current?.active) return;
 
+    // 계량대 토픽 경로 구간 (계량대 미지정 시 전체 계량대 패턴)
+    const scaleSegment = scaleId != null ? String(scaleId) : '*';
+
     const client = new Client({
       // SockJS를 통한 WebSocket 연결 팩토리
       webSocketFactory: () => new SockJS('/ws'),
@@ -61,7 +69,7 @@ export function useWeighingStationSocket({
       heartbeatOutgoing: 10000,   // 클라이언트→서버 하트비트: 10초
       onConnect: () => {
         // 실시간 중량 데이터 구독
-        client.subscribe('/topic/scale-status', (message) => {
+        client.subscribe(`/topic/scale/${scaleSegment}/status`, (message) => {
           if (message.body) {
             try {
               const data = JSON.parse(message.body) as ScaleStatusMessage;
@@ -71,7 +79,7 @@ export function useWeighingStationSocket({
         });
 
         // 계량 상태 업데이트 구독
-        client.subscribe('/topic/weighing-updates', (message) => {
+        client.subscribe(`/topic/scale/${scaleSegment}/weighing`, (message) => {
           if (message.body) {
             try {
               const data = JSON.parse(message.body) as WeighingUpdateMessage;
@@ -80,8 +88,18 @@ export function useWeighingStationSocket({
           }
         });
 
-        // 장치 연결 상태 구독
-        client.subscribe('/topic/device-status', (message) => {
+        // 일괄 등록 병합 메시지 구독 - 건별 업데이트 콜백으로 풀어서 전달
+        client.subscribe(`/topic/scale/${scaleSegment}/weighing-batch`, (message) => {
+          if (message.body) {
+            try {
+              const data = JSON.parse(message.body) as WeighingBatchUpdateMessage;
+              data.updates.forEach((update) => callbacksRef.current.onWeighingUpdate?.(update));
+            } catch { /* JSON 파싱 에러 무시 */ }
+          }
+        });
+
+        // 장치 연결 상태 구독 (전체 장치 유형 패턴)
+        client.subscribe('/topic/device-status/*', (message) => {
           if (message.body) {
             try {
               const data = JSON.parse(message.body) as DeviceStatusMessage;
@@ -98,15 +116,16 @@ export function useWeighingStationSocket({
     // 연결 활성화 및 ref 저장
     client.activate();
     clientRef.current = client;
-  }, []);
+  }, [scaleId]);
 
-  // 컴포넌트 마운트 시 연결, 언마운트 시 정리
+  // 컴포넌트 마운트(또는 계량대 변경) 시 연결, 언마운트 시 정리
   useEffect(() => {
     connect();
     return () => {
       if (clientRef.current?.active) {
         clientRef.current.deactivate();
       }
+      clientRef.current = null;
     };
   }, [connect]);
 }
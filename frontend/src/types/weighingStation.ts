@@ -24,7 +24,7 @@ export type ConnectionStatus = 'ONLINE' | 'OFFLINE' | 'ERROR';
 // ─── WebSocket 메시지 타입 ───
 
 /**
- * 계량대 상태 WebSocket 메시지 (/topic/scale-status)
+ * 계량대 상태 WebSocket 메시지 (/topic/scale/{scaleId}/status)
  *
  * 계량대에서 실시간으로 전송되는 중량 데이터입니다.
  * 약 500ms 간격으로 현재 중량과 안정성 상태를 수신합니다.
@@ -46,7 +46,7 @@ export interface ScaleStatusMessage {
 }
 
 /**
- * 계량 업데이트 WebSocket 메시지 (/topic/weighing-updates)
+ * 계량 업데이트 WebSocket 메시지 (/topic/scale/{scaleId}/weighing)
  *
  * 계량 프로세스의 상태 변경(차량 감지, 계량 시작, 완료 등) 시
  * 서버에서 푸시되는 메시지입니다.
@@ -82,7 +82,25 @@ export interface WeighingUpdateMessage {
 }
 
 /**
- * 장치 상태 WebSocket 메시지 (/topic/device-status)
+ * 계량 일괄 업데이트 WebSocket 메시지 (/topic/scale/{scaleId}/weighing-batch)
+ *
+ * 오프라인 캐시 재전송 등으로 여러 계량이 한 번에 등록될 때
+ * 건별 메시지 대신 계량대별로 한 번 푸시되는 병합 메시지입니다.
+ *
+ * @property scaleId - 계량대 ID (계량대 미지정이면 null)
+ * @property count - 포함된 계량 업데이트 건수
+ * @property updates - 계량 업데이트 목록 (등록 순서)
+ * @property timestamp - 메시지 발생 시각
+ */
+export interface WeighingBatchUpdateMessage {
+  scaleId: number | null;
+  count: number;
+  updates: WeighingUpdateMessage[];
+  timestamp: string;
+}
+
+/**
+ * 장치 상태 WebSocket 메시지 (/topic/device-status/{deviceType})
  *
  * 계량소 장비(계량대, 전광판, 차단기, 네트워크)의
  * 연결 상태 변경 시 푸시되는 메시지입니다.
@@ -111,6 +111,27 @@ public class LocalCacheServiceTests : IAsyncLifetime, IDisposable
         Assert.Equal(1, remaining);
     }
 
+    [Fact]
+    public async Task SyncPendingRecordsAsync_SendsOneBatch_RetriesOnlyRejectedItems()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            await _cache.CacheRecordAsync(CreateTestRecord(dispatchId: i + 1));
+        }
+        var synced = new List<WeighingRecord>();
+        _cache.RecordSynced += (_, record) => synced.Add(record);
+
+        _stubApi.RejectedDispatchIds.Add(2);
+        await _cache.SyncPendingRecordsAsync();
+
+        Assert.Equal(new[] { 3 }, _stubApi.BatchSizes);
+        Assert.Equal(new long[] { 1, 3 }, synced.Select(r => r.DispatchId));
+        Assert.Equal(new long[] { 1000, 1002 }, synced.Select(r => r.WeighingId));
+        var pending = await _cache.GetPendingRecordsAsync();
+        Assert.Single(pending);
+        Assert.Equal(2, pending[0].Record.DispatchId);
+    }
+
     [Fact]
     public async Task MultipleCacheAndRetrieve_MaintainsDataIntegrity()
     {
@@ -148,26 +169,37 @@ public class LocalCacheServiceTests : IAsyncLifetime, IDisposable
 
     /// <summary>
     /// Stub ApiService that simulates network success/failure for testing.
-    /// Only CreateWeighingAsync is used by LocalCacheService sync.
+    /// Only CreateWeighingsAsync (batch endpoint) is used by LocalCacheService sync.
     /// </summary>
     private sealed class StubApiService : ApiService
     {
         public bool ShouldSucceed { get; set; } = true;
+        public HashSet<long> RejectedDispatchIds { get; } = new();
+        public List<int> BatchSizes { get; } = new();
 
         public StubApiService()
             : base(new ApiConfig { BaseUrl = "http://localhost:9999", LoginId = "test", Password = "test" }, scaleId: 1)
         {
         }
 
-        public new async Task<WeighingRecord?> CreateWeighingAsync(WeighingRecord record)
+        public override Task<WeighingBatchResponse?> CreateWeighingsAsync(IReadOnlyList<WeighingRecord> records)
         {
-            await Task.CompletedTask;
-            if (ShouldSucceed)
+            BatchSizes.Add(records.Count);
+            if (!ShouldSucceed)
             {
-                record.WeighingId = new Random().Next(1, 10000);
-                return record;
+                return Task.FromResult<WeighingBatchResponse?>(null);
             }
-            return null;
+
+            var results = records.Select((record, index) => RejectedDispatchIds.Contains(record.DispatchId)
+                ? new WeighingBatchItemResult { Index = index, Success = false, ErrorCode = "VALIDATION_ERROR" }
+                : new WeighingBatchItemResult { Index = index, Success = true, WeighingId = 1000 + index }).ToList();
+            return Task.FromResult<WeighingBatchResponse?>(new WeighingBatchResponse
+            {
+                TotalCount = records.Count,
+                SuccessCount = results.Count(r => r.Success),
+                FailureCount = results.Count(r => !r.Success),
+                Results = results
+            });
         }
     }
 }
@@ -0,0 +1,36 @@
+using WeighingCS.Services;
+
+namespace WeighingCS.Tests;
+
+/// <summary>
+/// WeightStreamSender 프레임 인코딩 단위 테스트.
+/// 백엔드 중량 스트림 수신기(WeightFrame)와 같은 바이트 배열을 만드는지 검증.
+/// </summary>
+public class WeightStreamSenderTests
+{
+    [Fact]
+    public void WriteFrame_WritesBigEndianLayout()
+    {
+        byte[] frame = new byte[WeightStreamSender.FrameSize];
+
+        WeightStreamSender.WriteFrame(frame, 3, 0x0102030405060708L, 15_020_000, isStable: true);
+
+        Assert.Equal(
+            Convert.FromHexString("57460101" + "00000003" + "0102030405060708" + "00E52FE0"),
+            frame);
+    }
+
+    [Fact]
+    public void BuildHello_SignsChallengeAndScaleIdWithSharedSecret()
+    {
+        byte[] challenge = Enumerable.Range(0, WeightStreamSender.ChallengeSize).Select(i => (byte)i).ToArray();
+
+        byte[] hello = WeightStreamSender.BuildHello(3, challenge, "test-secret");
+
+        // HMAC-SHA256("test-secret", challenge || 00000003)
+        Assert.Equal(
+            Convert.FromHexString("57460180" + "00000003" +
+                "d714add1694eedbb2f89d8ff6a81c4a2c2ba44d34adeeecf36abbadc6c2fc2e4"),
+            hello);
+    }
+}
@@ -20,6 +20,7 @@ public partial class MainForm : Form
     private ApiService? _api;
     private DisplayBoardService? _display;
     private BarrierService? _barrier;
+    private WeightStreamSender? _weightStream;
     private LocalCacheService? _cache;
     private WeighingProcessService? _process;
 
@@ -89,6 +90,7 @@ public partial class MainForm : Form
 
             _display?.Disconnect();
             _barrier?.Disconnect();
+            _weightStream?.Disconnect();
         }
         catch (Exception ex)
         {
@@ -129,11 +131,13 @@ public partial class MainForm : Form
         _api = new ApiService(_settings.Api, _settings.Scale.ScaleId);
         _display = new DisplayBoardService(_settings.DisplayBoard);
         _barrier = new BarrierService(_settings.Barrier);
+        _weightStream = new WeightStreamSender(_settings.WeightStream, _settings.Scale.ScaleId);
         _cache = new LocalCacheService(_settings.Database, _api);
         _process = new WeighingProcessService(_indicator, _api, _display, _barrier, _cache, _settings.Scale.ScaleId);
 
         // Wire service events
         _indicator.WeightReceived += OnWeightReceived;
+        _indicator.WeightReceived += (_, e) => _weightStream.Send(e.Weight, _indicator.IsStable);
         _indicator.WeightStabilized += OnWeightStabilized;
         _indicator.CommunicationError += OnIndicatorError;
         _indicator.ConnectionStateChanged += (_, connected) => InvokeUI(() =>
@@ -143,6 +147,10 @@ public partial class MainForm : Form
             headerBar.SetDeviceStatus(HeaderBar.DeviceType.Display, connected));
         _display.ErrorOccurred += (_, msg) => InvokeUI(() => AppendLog($"[전광판] {msg}"));
 
+        _weightStream.ConnectionStateChanged += (_, connected) => InvokeUI(() =>
+            AppendLog(connected ? "[중량 스트림] 서버 연결됨" : "[중량 스트림] 서버 연결 끊김"));
+        _weightStream.ErrorOccurred += (_, msg) => InvokeUI(() => AppendLog($"[중량 스트림] {msg}"));
+
         _barrier.ConnectionStateChanged += (_, connected) => InvokeUI(() =>
             headerBar.SetDeviceStatus(HeaderBar.DeviceType.Barrier, connected));
         _barrier.BarrierStateChanged += (_, open) => InvokeUI(() => AppendLog($"[차단기] {(open ? "열림" : "닫힘")}"));
@@ -324,6 +332,12 @@ public partial class MainForm : Form
             AppendLog($"차단기 연결 실패: {ex.Message}");
             headerBar.SetDeviceStatus(HeaderBar.DeviceType.Barrier, false);
         }
+
+        // Connect weight stream (failures are reported via ErrorOccurred and retried on the next reading)
+        if (_weightStream is not null && _settings.WeightStream.Enabled)
+        {
+            await _weightStream.ConnectAsync();
+        }
     }
 
     // -- Event wiring ---------------------------------------------------------
@@ -873,6 +887,7 @@ public partial class MainForm : Form
         _process?.Dispose();
         _cache?.Dispose();
         _barrier?.Dispose();
+        _weightStream?.Dispose();
         _display?.Dispose();
         _indicator?.Dispose();
         _api?.Dispose();
@@ -50,6 +50,24 @@ public class DeviceConnectionConfig
     public int Port { get; set; }
 }
 
+/// <summary>
+/// Backend weight-stream listener configuration (live indicator readings over TCP).
+/// </summary>
+public class WeightStreamConfig
+{
+    [JsonProperty("enabled")]
+    public bool Enabled { get; set; }
+
+    [JsonProperty("host")]
+    public string Host { get; set; } = "127.0.0.1";
+
+    [JsonProperty("port")]
+    public int Port { get; set; } = 9100;
+
+    [JsonProperty("sharedSecret")]
+    public string SharedSecret { get; set; } = "";
+}
+
 /// <summary>
 /// Local database configuration.
 /// </summary>
@@ -76,6 +94,9 @@ public class AppSettings
     [JsonProperty("Barrier")]
     public DeviceConnectionConfig Barrier { get; set; } = new();
 
+    [JsonProperty("WeightStream")]
+    public WeightStreamConfig WeightStream { get; set; } = new();
+
     [JsonProperty("Database")]
     public DatabaseConfig Database { get; set; } = new();
 }
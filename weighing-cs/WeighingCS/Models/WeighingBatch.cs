@@ -0,0 +1,51 @@
+using Newtonsoft.Json;
+
+namespace WeighingCS.Models;
+
+/// <summary>
+/// Batch create request for re-sending locally cached weighing records (POST /weighings/batch).
+/// </summary>
+public class WeighingBatchRequest
+{
+    [JsonProperty("records")]
+    public List<WeighingRecord> Records { get; set; } = new();
+}
+
+/// <summary>
+/// Batch create result. Items are stored in request order; a failed item does not block the others.
+/// </summary>
+public class WeighingBatchResponse
+{
+    [JsonProperty("totalCount")]
+    public int TotalCount { get; set; }
+
+    [JsonProperty("successCount")]
+    public int SuccessCount { get; set; }
+
+    [JsonProperty("failureCount")]
+    public int FailureCount { get; set; }
+
+    [JsonProperty("results")]
+    public List<WeighingBatchItemResult> Results { get; set; } = new();
+}
+
+/// <summary>
+/// Per-item batch result, matched to the request by <see cref="Index"/>.
+/// </summary>
+public class WeighingBatchItemResult
+{
+    [JsonProperty("index")]
+    public int Index { get; set; }
+
+    [JsonProperty("success")]
+    public bool Success { get; set; }
+
+    [JsonProperty("weighingId")]
+    public long? WeighingId { get; set; }
+
+    [JsonProperty("errorCode")]
+    public string? ErrorCode { get; set; }
+
+    [JsonProperty("errorMessage")]
+    public string? ErrorMessage { get; set; }
+}
@@ -9,7 +9,7 @@ namespace WeighingCS.Services;
 /// HTTP API client for the Spring Boot weighing backend.
 /// Handles JWT authentication, automatic token refresh, and typed response parsing.
 /// </summary>
-public sealed class ApiService : IDisposable
+public class ApiService : IDisposable
 {
     private const int MaxRetries = 3;
     private const int RetryDelayMs = 1000;
@@ -115,6 +115,17 @@ public sealed class ApiService : IDisposable
         return await PostAsync<WeighingRecord>("/weighings", record);
     }
 
+    /// <summary>
+    /// Creates several weighing records in one request (offline cache re-send).
+    /// Items are stored in order and reported individually.
+    /// </summary>
+    public virtual async Task<WeighingBatchResponse?> CreateWeighingsAsync(IReadOnlyList<WeighingRecord> records)
+    {
+        await EnsureAuthenticatedAsync();
+        return await PostAsync<WeighingBatchResponse>("/weighings/batch",
+            new WeighingBatchRequest { Records = records.ToList() });
+    }
+
     public async Task<WeighingRecord?> UpdateWeighingAsync(long weighingId, WeighingRecord record)
     {
         await EnsureAuthenticatedAsync();
@@ -13,6 +13,7 @@ public sealed class LocalCacheService : IDisposable
     private const int SyncIntervalMs = 10000; // 10 seconds
     private const int NetworkCheckIntervalMs = 15000; // 15 seconds
     private const int MaxRetryCount = 5;
+    private const int SyncBatchSize = 100; // records per POST /weighings/batch
 
     private readonly string _dbPath;
     private readonly string _connectionString;
@@ -232,34 +233,54 @@ public sealed class LocalCacheService : IDisposable
     }
 
     /// <summary>
-    /// Attempts to sync all pending records in FIFO order.
-    /// Stops on first failure to maintain ordering.
+    /// Syncs pending records in FIFO order through the batch endpoint, <see cref="SyncBatchSize"/> records per request.
+    /// The server stores items in request order and reports each one; failed items go through the retry/quarantine path.
+    /// Stops when a request fails as a whole (network or server error) so the rest stay queued in order.
     /// </summary>
     public async Task SyncPendingRecordsAsync()
     {
         var pending = await GetPendingRecordsAsync();
 
-        foreach (var (id, record) in pending)
+        for (int start = 0; start < pending.Count; start += SyncBatchSize)
         {
+            var chunk = pending.GetRange(start, Math.Min(SyncBatchSize, pending.Count - start));
+            WeighingBatchResponse? response;
             try
             {
-                var created = await _apiService.CreateWeighingAsync(record);
+                response = await _apiService.CreateWeighingsAsync(chunk.Select(p => p.Record).ToList());
+            }
+            catch (Exception ex)
+            {
+                await MarkRetryAsync(chunk[0].Id, ex.Message);
+                break; // FIFO: stop on failure
+            }
 
-                if (created is not null)
+            if (response is null)
+            {
+                await MarkRetryAsync(chunk[0].Id, "API returned null response");
+                break; // FIFO: stop on failure to preserve ordering
+            }
+
+            var synced = new List<(long Id, WeighingRecord Record)>();
+            foreach (var result in response.Results)
+            {
+                if (result.Index < 0 || result.Index >= chunk.Count) continue;
+                var (id, record) = chunk[result.Index];
+                if (result.Success)
                 {
-                    await MarkSyncedAsync(id);
-                    RecordSynced?.Invoke(this, created);
+                    record.WeighingId = result.WeighingId ?? 0;
+                    synced.Add((id, record));
                 }
                 else
                 {
-                    await MarkRetryAsync(id, "API returned null response");
-                    break; // FIFO: stop on failure to preserve ordering
+                    await MarkRetryAsync(id, $"[{result.ErrorCode}] {result.ErrorMessage}");
                 }
             }
-            catch (Exception ex)
+
+            await MarkSyncedAsync(synced.Select(s => s.Id));
+            foreach (var (_, record) in synced)
             {
-                await MarkRetryAsync(id, ex.Message);
-                break; // FIFO: stop on failure
+                RecordSynced?.Invoke(this, record);
             }
         }
 
@@ -267,15 +288,22 @@ public sealed class LocalCacheService : IDisposable
         PendingSyncCountChanged?.Invoke(this, remaining);
     }
 
-    private async Task MarkSyncedAsync(long id)
+    private async Task MarkSyncedAsync(IEnumerable<long> ids)
     {
         using var conn = new SQLiteConnection(_connectionString);
         await conn.OpenAsync();
+        using var tx = conn.BeginTransaction();
 
         const string sql = "UPDATE cached_weighings SET sync_status = 'SYNCED' WHERE id = @id";
-        using var cmd = new SQLiteCommand(sql, conn);
-        cmd.Parameters.AddWithValue("@id", id);
-        await cmd.ExecuteNonQueryAsync();
+        using var cmd = new SQLiteCommand(sql, conn, tx);
+        var idParam = cmd.Parameters.Add("@id", System.Data.DbType.Int64);
+        foreach (long id in ids)
+        {
+            idParam.Value = id;
+            await cmd.ExecuteNonQueryAsync();
+        }
+
+        tx.Commit();
     }
 
     private async Task MarkRetryAsync(long id, string error)
@@ -0,0 +1,199 @@
+using System.Buffers.Binary;
+using System.Net.Sockets;
+using System.Security.Cryptography;
+using System.Text;
+using WeighingCS.Models;
+
+namespace WeighingCS.Services;
+
+/// <summary>
+/// Streams every indicator reading to the backend weight-stream TCP listener.
+/// Performs the challenge/HMAC handshake on connect, then sends fixed 20-byte frames
+/// (magic/version/flags, scale id, epoch-ms timestamp, weight in grams; big-endian).
+/// Send failures drop the connection and a reconnect is attempted after a delay.
+/// </summary>
+public sealed class WeightStreamSender : IDisposable
+{
+    internal const int FrameSize = 20;
+    internal const int ChallengeSize = 16;
+    internal const int MacSize = 32;
+    internal const int HelloSize = 8 + MacSize;
+
+    private const ushort Magic = 0x5746;
+    private const byte Version = 1;
+    private const byte FlagStable = 0x01;
+    private const byte FlagHello = 0x80;
+
+    private const int ConnectTimeoutMs = 5000;
+    private const int ReconnectDelayMs = 5000;
+
+    private readonly WeightStreamConfig _config;
+    private readonly int _scaleId;
+    private readonly byte[] _frame = new byte[FrameSize];
+    private readonly object _sendLock = new();
+    private TcpClient? _client;
+    private NetworkStream? _stream;
+    private DateTime _nextReconnectAt = DateTime.MinValue;
+    private int _connecting;
+    private bool _disposed;
+
+    // -- Public state ---------------------------------------------------------
+
+    public bool IsConnected => _stream is not null;
+
+    // -- Events ---------------------------------------------------------------
+
+    public event EventHandler<bool>? ConnectionStateChanged;
+    public event EventHandler<string>? ErrorOccurred;
+
+    // -- Constructor -----------------------------------------------------------
+
+    public WeightStreamSender(WeightStreamConfig config, int scaleId)
+    {
+        _config = config ?? throw new ArgumentNullException(nameof(config));
+        _scaleId = scaleId;
+    }
+
+    // -- Connect / Disconnect --------------------------------------------------
+
+    public async Task ConnectAsync(CancellationToken cancellationToken = default)
+    {
+        if (_disposed) throw new ObjectDisposedException(nameof(WeightStreamSender));
+        if (!_config.Enabled) return;
+        if (Interlocked.Exchange(ref _connecting, 1) == 1) return;
+
+        TcpClient? client = null;
+        try
+        {
+            Disconnect();
+
+            client = new TcpClient { NoDelay = true };
+            using var cts = CancellationTokenSource.CreateLinkedTokenSource(cancellationToken);
+            cts.CancelAfter(ConnectTimeoutMs);
+
+            await client.ConnectAsync(_config.Host, _config.Port, cts.Token);
+            NetworkStream stream = client.GetStream();
+
+            byte[] challenge = new byte[ChallengeSize];
+            await stream.ReadExactlyAsync(challenge, cts.Token);
+            await stream.WriteAsync(BuildHello(_scaleId, challenge, _config.SharedSecret), cts.Token);
+
+            lock (_sendLock)
+            {
+                _client = client;
+                _stream = stream;
+            }
+            ConnectionStateChanged?.Invoke(this, true);
+        }
+        catch (Exception ex)
+        {
+            client?.Dispose();
+            _nextReconnectAt = DateTime.Now.AddMilliseconds(ReconnectDelayMs);
+            ErrorOccurred?.Invoke(this, $"Weight stream connection failed: {ex.Message}");
+            ConnectionStateChanged?.Invoke(this, false);
+        }
+        finally
+        {
+            Interlocked.Exchange(ref _connecting, 0);
+        }
+    }
+
+    public void Disconnect()
+    {
+        lock (_sendLock)
+        {
+            try
+            {
+                _stream?.Dispose();
+                _client?.Dispose();
+            }
+            catch
+            {
+                // Best-effort cleanup.
+            }
+            _stream = null;
+            _client = null;
+        }
+    }
+
+    // -- Sending ---------------------------------------------------------------
+
+    /// <summary>
+    /// Sends one reading. Called from the indicator read loop; never throws.
+    /// While disconnected, readings are dropped and a reconnect is started once the delay has passed.
+    /// </summary>
+    public void Send(decimal weightKg, bool isStable)
+    {
+        if (_disposed || !_config.Enabled) return;
+
+        if (!IsConnected)
+        {
+            if (DateTime.Now >= _nextReconnectAt)
+            {
+                _nextReconnectAt = DateTime.Now.AddMilliseconds(ReconnectDelayMs);
+                _ = ConnectAsync();
+            }
+            return;
+        }
+
+        lock (_sendLock)
+        {
+            if (_stream is null) return;
+            try
+            {
+                WriteFrame(_frame, _scaleId, DateTimeOffset.UtcNow.ToUnixTimeMilliseconds(),
+                    (int)Math.Round(weightKg * 1000m), isStable);
+                _stream.Write(_frame);
+            }
+            catch (Exception ex)
+            {
+                ErrorOccurred?.Invoke(this, $"Weight stream send failed: {ex.Message}");
+                _stream.Dispose();
+                _client?.Dispose();
+                _stream = null;
+                _client = null;
+                _nextReconnectAt = DateTime.Now.AddMilliseconds(ReconnectDelayMs);
+                ConnectionStateChanged?.Invoke(this, false);
+            }
+        }
+    }
+
+    // -- Frame encoding ----------------------------------------------------------
+
+    /// <summary>Writes a measurement frame (see the backend WeightFrame) into <paramref name="frame"/>.</summary>
+    internal static void WriteFrame(Span<byte> frame, int scaleId, long timestampMs, int weightGrams, bool isStable)
+    {
+        BinaryPrimitives.WriteUInt16BigEndian(frame, Magic);
+        frame[2] = Version;
+        frame[3] = isStable ? FlagStable : (byte)0;
+        BinaryPrimitives.WriteInt32BigEndian(frame[4..], scaleId);
+        BinaryPrimitives.WriteInt64BigEndian(frame[8..], timestampMs);
+        BinaryPrimitives.WriteInt32BigEndian(frame[16..], weightGrams);
+    }
+
+    /// <summary>Builds the handshake frame: HMAC-SHA256(secret, challenge || scaleId).</summary>
+    internal static byte[] BuildHello(int scaleId, byte[] challenge, string sharedSecret)
+    {
+        byte[] message = new byte[ChallengeSize + 4];
+        challenge.CopyTo(message, 0);
+        BinaryPrimitives.WriteInt32BigEndian(message.AsSpan(ChallengeSize), scaleId);
+        byte[] mac = HMACSHA256.HashData(Encoding.UTF8.GetBytes(sharedSecret), message);
+
+        byte[] hello = new byte[HelloSize];
+        BinaryPrimitives.WriteUInt16BigEndian(hello, Magic);
+        hello[2] = Version;
+        hello[3] = FlagHello;
+        BinaryPrimitives.WriteInt32BigEndian(hello.AsSpan(4), scaleId);
+        mac.CopyTo(hello, 8);
+        return hello;
+    }
+
+    // -- IDisposable -----------------------------------------------------------
+
+    public void Dispose()
+    {
+        if (_disposed) return;
+        _disposed = true;
+        Disconnect();
+    }
+}